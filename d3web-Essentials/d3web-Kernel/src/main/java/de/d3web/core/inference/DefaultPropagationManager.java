@@ -21,6 +21,7 @@
 package de.d3web.core.inference;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,8 +33,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import de.d3web.core.inference.condition.SessionConditionCache;
 import de.d3web.core.knowledge.InterviewObject;
 import de.d3web.core.knowledge.ValueObject;
 import de.d3web.core.session.Session;
@@ -53,19 +57,38 @@ public class DefaultPropagationManager implements PropagationManager {
 	private final Map<ValueObject, Value> globalPropagationEntries = new HashMap<>();
 	private final Map<InterviewObject, Value> globalInterviewPropagationEntries = new LinkedHashMap<>();
 
+	/**
+	 * Handles the propagation entries of one PSMethod. The handlers are created once and reused for each propagation
+	 * frame, as long as the PSMethods of the session do not change. Each handler knows its index within the handlers,
+	 * which is its position in the priority order of the PSMethods. The index is used to mark the handler in the {@link
+	 * #pendingHandlers} if it requires propagation.
+	 */
 	private class PSMethodHandler {
 
-		private boolean hasPropagated = false;
 		private final PSMethod psMethod;
+		private final int index;
+		private int propagations = 0;
 		private final Map<ValueObject, Value> propagationEntries = new HashMap<>();
 		private final Set<ValueObject> hazardPropagationEntries = new HashSet<>();
 		private final Map<InterviewObject, Value> interviewPropagationEntries = new LinkedHashMap<>();
 
-		public PSMethodHandler(PSMethod psMethod) {
+		public PSMethodHandler(PSMethod psMethod, int index) {
 			this.psMethod = psMethod;
+			this.index = index;
+		}
+
+		/**
+		 * Prepares this handler to be used for a new propagation frame.
+		 */
+		public void reset() {
+			this.propagations = 0;
+			this.propagationEntries.clear();
+			this.hazardPropagationEntries.clear();
+			this.interviewPropagationEntries.clear();
 		}
 
 		public void addPropagationEntry(ValueObject key, Value oldValue) {
+			pendingHandlers.set(index);
 			Value oldestValue = propagationEntries.get(key);
 			if (oldestValue == null) {
 				propagationEntries.put(key, oldValue);
@@ -84,6 +107,7 @@ public class DefaultPropagationManager implements PropagationManager {
 		}
 
 		public void addInterviewPropagationEntry(InterviewObject key, Value oldValue) {
+			pendingHandlers.set(index);
 			if (!interviewPropagationEntries.containsKey(key)) {
 				interviewPropagationEntries.put(key, oldValue);
 			}
@@ -93,18 +117,15 @@ public class DefaultPropagationManager implements PropagationManager {
 			return psMethod;
 		}
 
-		public boolean hasPropagated() {
-			return hasPropagated;
-		}
-
-		public boolean hasPropagationEntries() {
-			return !interviewPropagationEntries.isEmpty() || !propagationEntries.isEmpty();
-		}
-
 		public void propagate() {
+			// the handler is no longer pending, until new entries are added during its propagation
+			pendingHandlers.clear(index);
 			Collection<PropagationEntry> entries = convertMapsToEntries(propagationEntries,
 					hazardPropagationEntries, interviewPropagationEntries, true);
 
+			propagations++;
+			PropagationMetrics metrics = DefaultPropagationManager.this.metrics;
+			long start = (metrics == null) ? 0 : System.nanoTime();
 			try {
 				// inform the listeners
 				for (PropagationListener listener : listeners) {
@@ -119,33 +140,75 @@ public class DefaultPropagationManager implements PropagationManager {
 						getPSMethod().getClass(), e);
 			}
 			finally {
-				this.hasPropagated = true;
+				if (metrics != null) {
+					metrics.recordPropagation(psMethod, entries.size(), System.nanoTime() - start, propagations);
+				}
 			}
 		}
 	}
 
 	private final Session session;
-	private List<PSMethodHandler> psHandlers = null;
+	private List<? extends PSMethod> psMethods = null;
+	private PSMethodHandler[] psHandlers = null;
+	/**
+	 * The indexes of the handlers that require propagation, because they have new propagation entries or have not
+	 * propagated in the current frame yet. The handlers are ordered by their PSMethod's priority, so the next handler
+	 * to propagate is the first set bit.
+	 */
+	private final BitSet pendingHandlers = new BitSet();
+	private PropagationMetrics metrics = null;
 	private volatile boolean terminated = false;
+	private final SessionConditionCache conditionCache;
 	private int recursiveCounter = 0;
 	private long propagationTime;
 	private long timeOfNoReturn;
 
 	public DefaultPropagationManager(Session session) {
 		this.session = session;
+		this.conditionCache = new SessionConditionCache(session);
 		this.propagationTime = session.getCreationDate().getTime();
 		this.timeOfNoReturn = this.propagationTime;
 	}
 
+	/**
+	 * Creates a propagation manager for a fork of the session of the specified propagation manager, see {@link
+	 * Session#fork()}. The propagation index and times are continued from the specified propagation manager, the
+	 * listeners are not added.
+	 *
+	 * @param fork   the forked session
+	 * @param parent the propagation manager of the session the fork is created from
+	 */
+	public DefaultPropagationManager(Session fork, DefaultPropagationManager parent) {
+		this(fork);
+		this.propagationIndex = parent.propagationIndex;
+		this.propagationTime = parent.propagationTime;
+		this.timeOfNoReturn = parent.timeOfNoReturn;
+		setMetricsEnabled(parent.metrics != null);
+	}
+
 	private void initHandlers() {
-		this.psHandlers = new LinkedList<>();
-		for (PSMethod psMethod : session.getPSMethods()) {
-			psHandlers.add(new PSMethodHandler(psMethod));
+		// the session returns the PSMethods ordered by their priority,
+		// so we only create new handlers if the PSMethods have changed
+		List<? extends PSMethod> methods = session.getPSMethods();
+		if (psHandlers == null || !methods.equals(psMethods)) {
+			this.psMethods = methods;
+			this.psHandlers = new PSMethodHandler[methods.size()];
+			for (int i = 0; i < psHandlers.length; i++) {
+				psHandlers[i] = new PSMethodHandler(methods.get(i), i);
+			}
+		}
+		else {
+			for (PSMethodHandler handler : psHandlers) {
+				handler.reset();
+			}
 		}
+		// initially every handler has to propagate once
+		this.pendingHandlers.clear();
+		this.pendingHandlers.set(0, psHandlers.length);
 	}
 
 	private void destroyHandlers() {
-		this.psHandlers = null;
+		this.pendingHandlers.clear();
 	}
 
 	/**
@@ -255,7 +318,12 @@ public class DefaultPropagationManager implements PropagationManager {
 							checkTerminated();
 							propagationIndex++;
 							PostHookablePSMethod postHookablePSMethod = (PostHookablePSMethod) handler.getPSMethod();
+							PropagationMetrics metrics = this.metrics;
+							long start = (metrics == null) ? 0 : System.nanoTime();
 							postHookablePSMethod.postPropagate(session, entries);
+							if (metrics != null) {
+								metrics.recordPostPropagation(postHookablePSMethod, System.nanoTime() - start);
+							}
 						}
 					}
 					firstHandler = findNextHandler();
@@ -322,12 +390,8 @@ public class DefaultPropagationManager implements PropagationManager {
 	 * @created 17.11.2010
 	 */
 	private PSMethodHandler findNextHandler() {
-		for (PSMethodHandler handler : this.psHandlers) {
-			if (handler.hasPropagationEntries() || !handler.hasPropagated()) {
-				return handler;
-			}
-		}
-		return null;
+		int index = pendingHandlers.nextSetBit(0);
+		return (index < 0) ? null : psHandlers[index];
 	}
 
 	@Override
@@ -374,6 +438,8 @@ public class DefaultPropagationManager implements PropagationManager {
 	 */
 	@Override
 	public void propagate(ValueObject object, Value oldValue, PSMethod psMethod) {
+		// the value is already updated, so the cached conditions using the object are outdated now
+		conditionCache.notifyChange(object);
 		try {
 			// open propagation frame
 			openPropagation();
@@ -468,6 +534,28 @@ public class DefaultPropagationManager implements PropagationManager {
 		listeners.remove(listener);
 	}
 
+	@Override
+	public void setMetricsEnabled(boolean enabled) {
+		if (!enabled) {
+			this.metrics = null;
+		}
+		else if (this.metrics == null) {
+			this.metrics = new PropagationMetrics();
+		}
+	}
+
+	@Nullable
+	@Override
+	public PropagationMetrics getMetrics() {
+		return metrics;
+	}
+
+	@NotNull
+	@Override
+	public SessionConditionCache getConditionCache() {
+		return conditionCache;
+	}
+
 	@Override
 	public void terminate() {
 		this.terminated = true;
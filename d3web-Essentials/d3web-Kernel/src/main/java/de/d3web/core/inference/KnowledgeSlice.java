@@ -27,4 +27,14 @@ package de.d3web.core.inference;
  */
 public interface KnowledgeSlice {
 
+	/**
+	 * Freezes this knowledge slice, because the knowledge base it belongs to will not be modified any longer. The
+	 * slice may compact its data structures and precompute derived information, and should reject any further
+	 * modification by throwing an {@link IllegalStateException}. After this method has been called, the slice must be
+	 * safe to be read concurrently by multiple threads. The default implementation does nothing.
+	 *
+	 * @see de.d3web.core.knowledge.KnowledgeBase#freeze()
+	 */
+	default void freeze() {
+	}
 }
@@ -182,6 +182,14 @@ public class LoopTerminator implements SessionObjectSource<LoopStatus> {
 		return new LoopStatus(session);
 	}
 
+	@Override
+	public LoopStatus forkSessionObject(Session fork, LoopStatus original) {
+		// the counter is reset for each propagation, so only the termination is inherited
+		LoopStatus status = new LoopStatus(fork);
+		status.terminated = original.terminated;
+		return status;
+	}
+
 	/**
 	 * Pessimistic heuristic, how much propagation cycles are required in the
 	 * maximum to come to a stable state.
@@ -22,15 +22,17 @@ package de.d3web.core.inference;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.d3web.core.inference.condition.Condition;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionObjectSource;
 
 /**
  * @author jochen
@@ -41,8 +43,13 @@ import de.d3web.core.session.Session;
  */
 public abstract class PSMethodRulebased extends PSMethodAdapter {
 
-	private static final Map<Class<? extends PSMethodRulebased>, KnowledgeKind<RuleSet>> forwardKinds = new HashMap<>();
-	private static final Map<Class<? extends PSMethodRulebased>, KnowledgeKind<RuleSet>> backwardKinds = new HashMap<>();
+	private static final Map<Class<? extends PSMethodRulebased>, KnowledgeKind<RuleSet>> forwardKinds = new ConcurrentHashMap<>();
+	private static final Map<Class<? extends PSMethodRulebased>, KnowledgeKind<RuleSet>> backwardKinds = new ConcurrentHashMap<>();
+	private static final Set<Class<? extends PSMethodRulebased>> compiledClasses = ConcurrentHashMap.newKeySet();
+	// increased every time the compilation is switched, so the memory of running sessions is discarded
+	private static final AtomicInteger compileGeneration = new AtomicInteger();
+
+	private final SessionObjectSource<RuleNetwork.Memory> networkMemory = session -> new RuleNetwork.Memory();
 
 	public PSMethodRulebased(KnowledgeKind<RuleSet> forward, KnowledgeKind<RuleSet> backward) {
 		forwardKinds.put(getClass(), forward);
@@ -65,6 +72,49 @@ public abstract class PSMethodRulebased extends PSMethodAdapter {
 		return backward;
 	}
 
+	/**
+	 * Specifies if the rules of the specified problem solver class should be propagated by a compiled {@link
+	 * RuleNetwork}, instead of checking every rule of the changed objects by itself. The compiled network shares equal
+	 * conditions between the rules and only re-evaluates the conditions that depend on the changed objects. Both
+	 * variants derive the same results. By default, the rules are not compiled.
+	 *
+	 * @param clazz    the problem solver class to be compiled or interpreted
+	 * @param compiled true if the rules should be compiled, false if they should be interpreted
+	 * @created 18.10.2026
+	 */
+	public static void setCompiled(Class<? extends PSMethodRulebased> clazz, boolean compiled) {
+		boolean changed = compiled ? compiledClasses.add(clazz) : compiledClasses.remove(clazz);
+		if (changed) compileGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Returns if the rules of the specified problem solver class are propagated by a compiled {@link RuleNetwork}.
+	 *
+	 * @param clazz the problem solver class to check
+	 * @return true if the rules are compiled
+	 * @see #setCompiled(Class, boolean)
+	 */
+	public static boolean isCompiled(Class<? extends PSMethodRulebased> clazz) {
+		return compiledClasses.contains(clazz);
+	}
+
+	/**
+	 * If the rules of this problem solver are compiled, the specified changes are propagated through the {@link
+	 * RuleNetwork} of the session's knowledge base, otherwise nothing is done.
+	 *
+	 * @param session     the session to propagate the changes for
+	 * @param changes     the changes to be propagated
+	 * @param changedOnly if only the rules of entries that have actually changed should be checked
+	 * @return true if the changes have been propagated, false if the rules are not compiled
+	 */
+	protected final boolean propagateCompiled(Session session, Collection<PropagationEntry> changes, boolean changedOnly) {
+		if (!isCompiled(getClass())) return false;
+		RuleNetwork.Memory memory = session.getSessionObject(networkMemory);
+		memory.validate(session.getKnowledgeBase(), getForwardKind(getClass()), compileGeneration.get());
+		memory.propagate(session, changes, changedOnly);
+		return true;
+	}
+
 	/**
 	 * Check if TerminologyObject has rules connected with this problem-solver
 	 * and check them, if available
@@ -84,6 +134,7 @@ public abstract class PSMethodRulebased extends PSMethodAdapter {
 
 	@Override
 	public void propagate(Session session, Collection<PropagationEntry> changes) {
+		if (propagateCompiled(session, changes, true)) return;
 		// for rules we check all rules sequentially
 		for (PropagationEntry change : changes) {
 			if (!change.isStrategic() && change.hasChanged()) {
@@ -20,6 +20,9 @@
 
 package de.d3web.core.inference;
 
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.inference.condition.SessionConditionCache;
 import de.d3web.core.knowledge.InterviewObject;
 import de.d3web.core.knowledge.ValueObject;
 import de.d3web.core.session.Value;
@@ -283,4 +286,52 @@ public interface PropagationManager {
 	 * @created 14.02.2013
 	 */
 	void removeListener(PropagationListener listener);
+
+	/**
+	 * Enables or disables the collection of {@link PropagationMetrics} for this PropagationManager. Enabling the
+	 * metrics if they are already enabled does not reset them. If the metrics are disabled, there is no overhead in
+	 * propagation. By default, the metrics are not supported, and this method does nothing, so {@link
+	 * #isMetricsEnabled()} remains false and {@link #getMetrics()} returns null.
+	 *
+	 * @param enabled true to collect the metrics, false to stop collecting them
+	 * @created 18.10.2026
+	 */
+	default void setMetricsEnabled(boolean enabled) {
+	}
+
+	/**
+	 * Returns true if the {@link PropagationMetrics} are collected by this PropagationManager. This is false, if the
+	 * metrics have not been enabled, or if this PropagationManager does not support metrics at all.
+	 *
+	 * @return true if the metrics are collected
+	 * @created 18.10.2026
+	 */
+	default boolean isMetricsEnabled() {
+		return getMetrics() != null;
+	}
+
+	/**
+	 * Returns the collected {@link PropagationMetrics} of this PropagationManager, or null if the metrics are not
+	 * enabled.
+	 *
+	 * @return the propagation metrics
+	 * @created 18.10.2026
+	 */
+	@Nullable
+	default PropagationMetrics getMetrics() {
+		return null;
+	}
+
+	/**
+	 * Returns the condition cache of the session of this PropagationManager, or null if the condition cache is not
+	 * supported. The PropagationManager is responsible for invalidating the cached results, each time a value is
+	 * propagated. By default, the cache is not supported.
+	 *
+	 * @return the condition cache of the session
+	 * @created 18.10.2026
+	 */
+	@Nullable
+	default SessionConditionCache getConditionCache() {
+		return null;
+	}
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.inference;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects counters and timings of the propagation of a session for each {@link PSMethod}. The metrics are only
+ * collected if they are enabled for the {@link PropagationManager}, see {@link
+ * PropagationManager#setMetricsEnabled(boolean)}, otherwise no metrics are available at all.
+ * <p>
+ * The metrics are not synchronized, they are expected to be written by the thread propagating the session. Reading
+ * them from another thread may result in slightly outdated values.
+ *
+ * @created 18.10.2026
+ */
+public class PropagationMetrics {
+
+	private final Map<PSMethod, PSMethodMetrics> metrics = new LinkedHashMap<>();
+
+	/**
+	 * The metrics of a single {@link PSMethod}.
+	 */
+	public static final class PSMethodMetrics {
+
+		private final PSMethod psMethod;
+		private long propagations = 0;
+		private long propagationEntries = 0;
+		private long postPropagations = 0;
+		private long nanoTime = 0;
+		private int longestChain = 0;
+
+		private PSMethodMetrics(PSMethod psMethod) {
+			this.psMethod = psMethod;
+		}
+
+		public PSMethod getPSMethod() {
+			return psMethod;
+		}
+
+		/**
+		 * Returns the number of calls to {@link PSMethod#propagate(de.d3web.core.session.Session, Collection)}.
+		 */
+		public long getPropagations() {
+			return propagations;
+		}
+
+		/**
+		 * Returns the total number of {@link PropagationEntry}s handled by the calls to {@link
+		 * PSMethod#propagate(de.d3web.core.session.Session, Collection)}.
+		 */
+		public long getPropagationEntries() {
+			return propagationEntries;
+		}
+
+		/**
+		 * Returns the number of calls to {@link PostHookablePSMethod#postPropagate(de.d3web.core.session.Session,
+		 * Collection)}, if the solver is a {@link PostHookablePSMethod}, otherwise 0.
+		 */
+		public long getPostPropagations() {
+			return postPropagations;
+		}
+
+		/**
+		 * Returns the total wall time in nanoseconds spent in the propagation and post-propagation of the solver.
+		 */
+		public long getNanoTime() {
+			return nanoTime;
+		}
+
+		/**
+		 * Returns the highest number of propagations of the solver within one (top-level) propagation frame.
+		 */
+		public int getLongestChain() {
+			return longestChain;
+		}
+
+		@Override
+		public String toString() {
+			return psMethod.getClass().getSimpleName() + ": " + propagations + " propagations, "
+					+ propagationEntries + " entries, " + postPropagations + " post-propagations, "
+					+ (nanoTime / 1_000_000) + " ms, longest chain " + longestChain;
+		}
+	}
+
+	/**
+	 * Records a propagation of the specified solver.
+	 *
+	 * @param psMethod the solver that has propagated
+	 * @param entries  the number of propagation entries handled
+	 * @param nanoTime the time spent in the propagation
+	 * @param chain    the number of propagations of the solver in the current propagation frame, including this one
+	 */
+	void recordPropagation(PSMethod psMethod, int entries, long nanoTime, int chain) {
+		PSMethodMetrics item = getOrCreate(psMethod);
+		item.propagations++;
+		item.propagationEntries += entries;
+		item.nanoTime += nanoTime;
+		if (chain > item.longestChain) item.longestChain = chain;
+	}
+
+	/**
+	 * Records a post-propagation of the specified solver.
+	 *
+	 * @param psMethod the solver that has post-propagated
+	 * @param nanoTime the time spent in the post-propagation
+	 */
+	void recordPostPropagation(PSMethod psMethod, long nanoTime) {
+		PSMethodMetrics item = getOrCreate(psMethod);
+		item.postPropagations++;
+		item.nanoTime += nanoTime;
+	}
+
+	private PSMethodMetrics getOrCreate(PSMethod psMethod) {
+		return metrics.computeIfAbsent(psMethod, PSMethodMetrics::new);
+	}
+
+	/**
+	 * Returns the metrics of the specified solver, or null if the solver has not propagated since the metrics have
+	 * been enabled or reset.
+	 *
+	 * @param psMethod the solver to get the metrics for
+	 * @return the metrics of the solver
+	 */
+	public PSMethodMetrics getMetrics(PSMethod psMethod) {
+		return metrics.get(psMethod);
+	}
+
+	/**
+	 * Returns the metrics of all solvers that have propagated since the metrics have been enabled or reset, in the
+	 * order of their first propagation.
+	 *
+	 * @return the metrics of the solvers
+	 */
+	@NotNull
+	public Collection<PSMethodMetrics> getMetrics() {
+		return Collections.unmodifiableCollection(new ArrayList<>(metrics.values()));
+	}
+
+	/**
+	 * Resets all counters and timings of this metrics.
+	 */
+	public void reset() {
+		metrics.clear();
+	}
+
+	@Override
+	public String toString() {
+		List<String> lines = new ArrayList<>();
+		for (PSMethodMetrics item : metrics.values()) {
+			lines.add(item.toString());
+		}
+		return String.join("\n", lines);
+	}
+}
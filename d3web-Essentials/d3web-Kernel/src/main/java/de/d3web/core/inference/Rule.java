@@ -23,12 +23,16 @@ package de.d3web.core.inference;
 import java.util.Collection;
 
 import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.inference.condition.ConditionCache;
 import de.d3web.core.inference.condition.NoAnswerException;
 import de.d3web.core.inference.condition.UnknownAnswerException;
+import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionObjectSlot;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.CaseRuleComplex;
+import de.d3web.core.session.blackboard.FiredRules;
 
 /**
  * Abstract super class for all rules. <BR>
@@ -40,6 +44,31 @@ import de.d3web.core.session.blackboard.CaseRuleComplex;
  */
 public class Rule implements SessionObjectSource<CaseRuleComplex> {
 
+	/**
+	 * Source of the fired states of all rules of a session.
+	 */
+	private static final FiredRulesSource FIRED_RULES = new FiredRulesSource();
+
+	private static final class FiredRulesSource implements SessionObjectSource<FiredRules> {
+
+		private final SessionObjectSlot slot = new SessionObjectSlot();
+
+		@Override
+		public FiredRules createSessionObject(Session session) {
+			return new FiredRules();
+		}
+
+		@Override
+		public int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+			return slot.get(knowledgeBase);
+		}
+	}
+
+	/**
+	 * The slot of this rule within the {@link FiredRules} of the sessions.
+	 */
+	private final SessionObjectSlot firedSlot = new SessionObjectSlot(KnowledgeBase::createRuleSlot);
+
 	/**
 	 * A condition which must be true, if rule should fire (obligatory).
 	 */
@@ -93,9 +122,10 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 	 * </OL>
 	 */
 	public boolean canFire(Session session) throws UnknownAnswerException {
+		ConditionCache cache = session.getConditionCache();
 		try {
 			/* if an exception is available and it is true, then do not fire! */
-			if ((getException() != null) && getException().eval(session)) {
+			if ((getException() != null) && cache.eval(getException())) {
 				return false;
 			}
 
@@ -108,7 +138,7 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 		}
 
 		try {
-			return getCondition().eval(session);
+			return cache.eval(getCondition());
 		}
 		catch (NoAnswerException ex) {
 			/*
@@ -204,9 +234,22 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 	 * specified user session.
 	 */
 	public boolean hasFired(Session session) {
+		int slot = getFiredSlot(session);
+		if (slot >= 0) {
+			return session.getSessionObject(FIRED_RULES).hasFired(slot);
+		}
 		return (session.getSessionObject(this)).hasFired();
 	}
 
+	/**
+	 * Returns the slot of this rule within the {@link FiredRules} of the specified session, or -1 if the session has
+	 * no knowledge base. In the latter case, the fired state is stored in the {@link CaseRuleComplex} of the rule.
+	 */
+	private int getFiredSlot(Session session) {
+		KnowledgeBase knowledgeBase = session.getKnowledgeBase();
+		return (knowledgeBase == null) ? -1 : firedSlot.get(knowledgeBase);
+	}
+
 	/**
 	 * Checks if the rule has been fired (like hasFired()).
 	 */
@@ -325,6 +368,7 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 				if (rs.isEmpty()) {
 					nob.getKnowledgeStore().removeKnowledge(kind, rs);
 				}
+				nob.getKnowledgeBase().knowledgeModified();
 			}
 		}
 	}
@@ -368,6 +412,7 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 				rs.addRule(r);
 				nob.getKnowledgeStore().addKnowledge(kind, rs);
 			}
+			nob.getKnowledgeBase().knowledgeModified();
 		}
 	}
 
@@ -430,7 +475,13 @@ public class Rule implements SessionObjectSource<CaseRuleComplex> {
 	 * specified userCase.
 	 */
 	private void setFired(boolean newFired, Session session) {
-		(session.getSessionObject(this)).setFired(newFired);
+		int slot = getFiredSlot(session);
+		if (slot >= 0) {
+			session.getSessionObject(FIRED_RULES).setFired(slot, newFired);
+		}
+		else {
+			(session.getSessionObject(this)).setFired(newFired);
+		}
 	}
 
 	public void setProblemsolverContext(Class<? extends PSMethodRulebased> problemsolverContext) { // NOSONAR
@@ -0,0 +1,571 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.inference;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondMofN;
+import de.d3web.core.inference.condition.CondNonTerminalUnknown;
+import de.d3web.core.inference.condition.CondNot;
+import de.d3web.core.inference.condition.CondOr;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.inference.condition.ConditionCache.ConditionResult;
+import de.d3web.core.inference.condition.NoAnswerException;
+import de.d3web.core.inference.condition.UnknownAnswerException;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.KnowledgeStore;
+import de.d3web.core.knowledge.TerminologyManager;
+import de.d3web.core.knowledge.TerminologyObject;
+import de.d3web.core.session.Copyable;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.blackboard.SessionObject;
+
+/**
+ * Compiled representation of the forward rules of one {@link PSMethodRulebased} problem solver within a knowledge
+ * base. All conditions of the rules (including their exceptions and nested sub-conditions) are compiled into a network
+ * of nodes, where equal conditions are shared by one node. The results of the nodes are stored in a per-session
+ * {@link Memory}, and only the nodes that depend on a changed object are evaluated again. Thus a condition that is used
+ * by many rules is evaluated only once per change, instead of once per rule.
+ * <p>
+ * The well-known non-terminal conditions ({@link CondAnd}, {@link CondOr}, {@link CondNot}, {@link CondMofN} and
+ * {@link CondNonTerminalUnknown}) are compiled into dedicated nodes that combine the results of their sub-nodes. All
+ * other conditions are evaluated by their own {@link Condition#eval(Session)} method. As for the interpreted
+ * propagation, conditions are expected to only depend on their terminal objects.
+ * <p>
+ * The network is created once for each knowledge base and rule kind, and is stored in the {@link KnowledgeStore} of the
+ * knowledge base. It is recreated automatically if any rule of the knowledge base has been added or removed since the
+ * network has been created (see {@link KnowledgeBase#getModificationCount()}).
+ *
+ * @created 18.10.2026
+ */
+public final class RuleNetwork implements KnowledgeSlice {
+
+	private static final Node[] NO_NODES = new Node[0];
+	private static final RuleNode[] NO_RULES = new RuleNode[0];
+
+	private final long modificationCount;
+	private final KnowledgeBase knowledgeBase;
+	private final TerminologyManager manager;
+	private final Node[] nodes;
+	/**
+	 * The nodes that depend on a terminology object, indexed by the ordinal of the object.
+	 */
+	private final Node[][] nodesByOrdinal;
+	/**
+	 * The rules to be checked if a terminology object has been changed, indexed by the ordinal of the object.
+	 */
+	private final RuleNode[][] rulesByOrdinal;
+
+	/**
+	 * Per-session memory of the results of the condition nodes of a rule network. A node that has not been evaluated
+	 * since the last change of its terminal objects has no result in the memory.
+	 */
+	public static final class Memory implements SessionObject, Copyable<Memory> {
+
+		private RuleNetwork network = null;
+		private int generation = 0;
+		private ConditionResult[] results = null;
+
+		/**
+		 * Ensures that this memory is based on the current rule network of the specified knowledge base and rule kind.
+		 * If the network has been outdated, or the memory has been created for an other generation, the memory is
+		 * cleared.
+		 */
+		void validate(KnowledgeBase knowledgeBase, KnowledgeKind<RuleSet> forward, int generation) {
+			if (network == null || network.isOutdated() || this.generation != generation) {
+				this.network = getNetwork(knowledgeBase, forward);
+				this.generation = generation;
+				this.results = new ConditionResult[network.nodes.length];
+			}
+		}
+
+		void propagate(Session session, Collection<PropagationEntry> changes, boolean changedOnly) {
+			network.propagate(session, this, changes, changedOnly);
+		}
+
+		private void invalidate(Node[] nodes) {
+			for (Node node : nodes) {
+				results[node.index] = null;
+			}
+		}
+
+		@Override
+		public Memory copy() {
+			// the network is immutable, only the memorized results are copied
+			Memory copy = new Memory();
+			copy.network = network;
+			copy.generation = generation;
+			copy.results = (results == null) ? null : results.clone();
+			return copy;
+		}
+	}
+
+	/**
+	 * Node of the network, representing one distinct condition.
+	 */
+	private abstract static class Node {
+
+		final int index;
+		final Condition condition;
+
+		Node(int index, Condition condition) {
+			this.index = index;
+			this.condition = condition;
+		}
+
+		final ConditionResult eval(Session session, Memory memory) {
+			ConditionResult result = memory.results[index];
+			if (result == null) {
+				result = evaluate(session, memory);
+				memory.results[index] = result;
+			}
+			return result;
+		}
+
+		abstract ConditionResult evaluate(Session session, Memory memory);
+	}
+
+	/**
+	 * Node for all conditions that are not compiled, they are evaluated by the condition itself.
+	 */
+	private static final class AlphaNode extends Node {
+
+		AlphaNode(int index, Condition condition) {
+			super(index, condition);
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			try {
+				return condition.eval(session) ? ConditionResult.TRUE : ConditionResult.FALSE;
+			}
+			catch (NoAnswerException e) {
+				return ConditionResult.UNDEFINED;
+			}
+			catch (UnknownAnswerException e) {
+				return ConditionResult.UNKNOWN;
+			}
+		}
+	}
+
+	/**
+	 * Node equivalent to {@link CondAnd#eval(Session)}.
+	 */
+	private static final class AndNode extends Node {
+
+		private final Node[] terms;
+
+		AndNode(int index, Condition condition, Node[] terms) {
+			super(index, condition);
+			this.terms = terms;
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			boolean wasNoAnswer = false;
+			boolean wasUnknownAnswer = false;
+			for (Node term : terms) {
+				ConditionResult result = term.eval(session, memory);
+				if (result == ConditionResult.FALSE) return ConditionResult.FALSE;
+				if (result == ConditionResult.UNDEFINED) wasNoAnswer = true;
+				if (result == ConditionResult.UNKNOWN) wasUnknownAnswer = true;
+			}
+			if (wasNoAnswer) return ConditionResult.UNDEFINED;
+			if (wasUnknownAnswer) return ConditionResult.UNKNOWN;
+			return ConditionResult.TRUE;
+		}
+	}
+
+	/**
+	 * Node equivalent to {@link CondOr#eval(Session)}.
+	 */
+	private static final class OrNode extends Node {
+
+		private final Node[] terms;
+
+		OrNode(int index, Condition condition, Node[] terms) {
+			super(index, condition);
+			this.terms = terms;
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			boolean wasNoAnswer = false;
+			boolean wasUnknownAnswer = false;
+			for (Node term : terms) {
+				ConditionResult result = term.eval(session, memory);
+				if (result == ConditionResult.TRUE) return ConditionResult.TRUE;
+				if (result == ConditionResult.UNDEFINED) wasNoAnswer = true;
+				if (result == ConditionResult.UNKNOWN) wasUnknownAnswer = true;
+			}
+			if (wasNoAnswer) return ConditionResult.UNDEFINED;
+			if (wasUnknownAnswer) return ConditionResult.UNKNOWN;
+			return ConditionResult.FALSE;
+		}
+	}
+
+	/**
+	 * Node equivalent to {@link CondNot#eval(Session)}.
+	 */
+	private static final class NotNode extends Node {
+
+		private final Node operand;
+
+		NotNode(int index, Condition condition, Node operand) {
+			super(index, condition);
+			this.operand = operand;
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			ConditionResult result = operand.eval(session, memory);
+			if (result == ConditionResult.TRUE) return ConditionResult.FALSE;
+			if (result == ConditionResult.FALSE) return ConditionResult.TRUE;
+			return result;
+		}
+	}
+
+	/**
+	 * Node equivalent to {@link CondMofN#eval(Session)}.
+	 */
+	private static final class MofNNode extends Node {
+
+		private final Node[] terms;
+		private final int min;
+		private final int max;
+
+		MofNNode(int index, CondMofN condition, Node[] terms) {
+			super(index, condition);
+			this.terms = terms;
+			this.min = condition.getMin();
+			this.max = condition.getMax();
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			int trueTillNow = 0;
+			boolean wasNoAnswer = false;
+			for (Node term : terms) {
+				ConditionResult result = term.eval(session, memory);
+				if (result == ConditionResult.TRUE) {
+					trueTillNow++;
+					if (trueTillNow > max) return ConditionResult.FALSE;
+				}
+				else if (result == ConditionResult.UNDEFINED) {
+					wasNoAnswer = true;
+				}
+			}
+			if (trueTillNow >= min) return ConditionResult.TRUE;
+			if (wasNoAnswer) return ConditionResult.UNDEFINED;
+			return ConditionResult.FALSE;
+		}
+	}
+
+	/**
+	 * Node equivalent to {@link CondNonTerminalUnknown#eval(Session)}.
+	 */
+	private static final class UnknownNode extends Node {
+
+		private final Node[] terms;
+
+		UnknownNode(int index, Condition condition, Node[] terms) {
+			super(index, condition);
+			this.terms = terms;
+		}
+
+		@Override
+		ConditionResult evaluate(Session session, Memory memory) {
+			boolean wasNoAnswer = false;
+			for (Node term : terms) {
+				ConditionResult result = term.eval(session, memory);
+				if (result == ConditionResult.UNKNOWN) return ConditionResult.TRUE;
+				if (result == ConditionResult.UNDEFINED) wasNoAnswer = true;
+			}
+			return wasNoAnswer ? ConditionResult.UNDEFINED : ConditionResult.FALSE;
+		}
+	}
+
+	/**
+	 * Compiled rule, equivalent to {@link Rule#check(Session)}, but using the nodes of the network to evaluate the
+	 * condition and exception of the rule.
+	 */
+	private static final class RuleNode {
+
+		private final Rule rule;
+		private final Node condition;
+		private final Node exception;
+		/**
+		 * The nodes that depend on the objects modified by the action of the rule
+		 */
+		private Node[] actionNodes = NO_NODES;
+
+		RuleNode(Rule rule, Node condition, Node exception) {
+			this.rule = rule;
+			this.condition = condition;
+			this.exception = exception;
+		}
+
+		void check(Session session, Memory memory) {
+			if (condition == null) {
+				// not compiled, so use the rule's own behaviour
+				rule.check(session);
+			}
+			else {
+				boolean hasFired = rule.hasFired(session);
+				boolean canFire = canFire(session, memory);
+				if (hasFired && canFire) {
+					rule.update(session);
+				}
+				else if (hasFired) {
+					rule.undo(session);
+				}
+				else if (canFire) {
+					rule.doIt(session);
+				}
+				else {
+					// nothing has been changed
+					return;
+				}
+			}
+			// the values changed by the action have to be re-evaluated by the succeeding rules
+			memory.invalidate(actionNodes);
+		}
+
+		private boolean canFire(Session session, Memory memory) {
+			// if an exception is available and it is true, then do not fire,
+			// if it could not be tested, we treat it like there is no exception
+			if (exception != null && exception.eval(session, memory) == ConditionResult.TRUE) {
+				return false;
+			}
+			// the condition must be true, if it could not be tested, the rule cannot fire
+			return condition.eval(session, memory) == ConditionResult.TRUE;
+		}
+	}
+
+	private RuleNetwork(KnowledgeBase knowledgeBase, KnowledgeKind<RuleSet> forward) {
+		// read the modification count before building, so concurrent modifications are detected afterwards
+		this.modificationCount = knowledgeBase.getModificationCount();
+		this.knowledgeBase = knowledgeBase;
+		this.manager = knowledgeBase.getManager();
+
+		Map<Condition, Node> compiled = new HashMap<>();
+		Map<Rule, RuleNode> rules = new IdentityHashMap<>();
+		List<RuleNode[]> rulesByOrdinal = new ArrayList<>();
+		for (TerminologyObject object : manager.getAllTerminologyObjects()) {
+			RuleSet ruleSet = object.getKnowledgeStore().getKnowledge(forward);
+			if (ruleSet == null) continue;
+			Collection<Rule> objectRules = ruleSet.getRules();
+			RuleNode[] ruleNodes = new RuleNode[objectRules.size()];
+			int i = 0;
+			for (Rule rule : objectRules) {
+				RuleNode ruleNode = rules.get(rule);
+				if (ruleNode == null) {
+					ruleNode = compile(rule, compiled);
+					rules.put(rule, ruleNode);
+				}
+				ruleNodes[i++] = ruleNode;
+			}
+			set(rulesByOrdinal, manager.getOrdinal(object), ruleNodes);
+		}
+
+		// index the nodes by the objects they depend on
+		this.nodes = compiled.values().toArray(NO_NODES);
+		List<List<Node>> nodesByOrdinal = new ArrayList<>();
+		for (Node node : nodes) {
+			for (TerminologyObject object : node.condition.getTerminalObjects()) {
+				int ordinal = manager.getOrdinal(object);
+				List<Node> list = get(nodesByOrdinal, ordinal);
+				if (list == null) {
+					list = new ArrayList<>();
+					set(nodesByOrdinal, ordinal, list);
+				}
+				list.add(node);
+			}
+		}
+		this.nodesByOrdinal = new Node[nodesByOrdinal.size()][];
+		for (int i = 0; i < this.nodesByOrdinal.length; i++) {
+			List<Node> list = nodesByOrdinal.get(i);
+			this.nodesByOrdinal[i] = (list == null) ? NO_NODES : list.toArray(NO_NODES);
+		}
+		this.rulesByOrdinal = new RuleNode[rulesByOrdinal.size()][];
+		for (int i = 0; i < this.rulesByOrdinal.length; i++) {
+			RuleNode[] ruleNodes = rulesByOrdinal.get(i);
+			this.rulesByOrdinal[i] = (ruleNodes == null) ? NO_RULES : ruleNodes;
+		}
+
+		// finally connect the actions with the nodes that depend on the modified objects
+		for (RuleNode ruleNode : rules.values()) {
+			PSAction action = ruleNode.rule.getAction();
+			if (action == null || action.getBackwardObjects() == null) continue;
+			List<Node> actionNodes = new ArrayList<>();
+			for (TerminologyObject object : action.getBackwardObjects()) {
+				for (Node node : getNodes(object)) {
+					actionNodes.add(node);
+				}
+			}
+			ruleNode.actionNodes = actionNodes.toArray(NO_NODES);
+		}
+	}
+
+	private static <T> T get(List<T> list, int index) {
+		return (index < list.size()) ? list.get(index) : null;
+	}
+
+	private static <T> void set(List<T> list, int index, T value) {
+		while (list.size() <= index) list.add(null);
+		list.set(index, value);
+	}
+
+	private static RuleNode compile(Rule rule, Map<Condition, Node> compiled) {
+		Condition condition = rule.getCondition();
+		// do not compile rules with a special check behaviour
+		if (condition == null || rule.getClass() != Rule.class) {
+			return new RuleNode(rule, null, null);
+		}
+		Condition exception = rule.getException();
+		return new RuleNode(rule, compile(condition, compiled),
+				(exception == null) ? null : compile(exception, compiled));
+	}
+
+	private static Node compile(Condition condition, Map<Condition, Node> compiled) {
+		Node node = compiled.get(condition);
+		if (node != null) return node;
+
+		// we only compile non-terminal conditions where we know the exact behaviour,
+		// so subclasses or other (custom) non-terminal conditions are evaluated as they are
+		// (the sub-conditions are compiled first, so the index of the node is the next free one afterwards)
+		Class<?> type = condition.getClass();
+		if (type == CondAnd.class) {
+			Node[] terms = compile(((CondAnd) condition).getTerms(), compiled);
+			node = new AndNode(compiled.size(), condition, terms);
+		}
+		else if (type == CondOr.class) {
+			Node[] terms = compile(((CondOr) condition).getTerms(), compiled);
+			node = new OrNode(compiled.size(), condition, terms);
+		}
+		else if (type == CondNot.class) {
+			Node operand = compile(((CondNot) condition).getOperand(), compiled);
+			node = new NotNode(compiled.size(), condition, operand);
+		}
+		else if (type == CondMofN.class) {
+			CondMofN mofN = (CondMofN) condition;
+			Node[] terms = compile(mofN.getTerms(), compiled);
+			node = new MofNNode(compiled.size(), mofN, terms);
+		}
+		else if (type == CondNonTerminalUnknown.class) {
+			Node[] terms = compile(((CondNonTerminalUnknown) condition).getTerms(), compiled);
+			node = new UnknownNode(compiled.size(), condition, terms);
+		}
+		else {
+			node = new AlphaNode(compiled.size(), condition);
+		}
+		compiled.put(condition, node);
+		return node;
+	}
+
+	private static Node[] compile(List<Condition> terms, Map<Condition, Node> compiled) {
+		Node[] nodes = new Node[terms.size()];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = compile(terms.get(i), compiled);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Returns true if the knowledge of the network's knowledge base has been modified since this network has been
+	 * created. The network of a frozen knowledge base is never outdated, because its rules cannot be modified any
+	 * longer.
+	 */
+	boolean isOutdated() {
+		return modificationCount != knowledgeBase.getModificationCount() && !manager.isFrozen();
+	}
+
+	private Node[] getNodes(TerminologyObject object) {
+		int ordinal = manager.getOrdinal(object);
+		return (ordinal < nodesByOrdinal.length) ? nodesByOrdinal[ordinal] : NO_NODES;
+	}
+
+	private RuleNode[] getRules(TerminologyObject object) {
+		int ordinal = manager.getOrdinal(object);
+		return (ordinal < rulesByOrdinal.length) ? rulesByOrdinal[ordinal] : NO_RULES;
+	}
+
+	private void propagate(Session session, Memory memory, Collection<PropagationEntry> changes, boolean changedOnly) {
+		// first forget the results that depend on any of the changed objects,
+		// including strategic changes and changes that have been reverted in the meantime
+		for (PropagationEntry change : changes) {
+			memory.invalidate(getNodes(change.getObject()));
+		}
+		// then check the rules of the changed objects
+		for (PropagationEntry change : changes) {
+			if (change.isStrategic()) continue;
+			if (changedOnly && !change.hasChanged()) continue;
+			for (RuleNode rule : getRules(change.getObject())) {
+				rule.check(session, memory);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of distinct condition nodes of this network.
+	 *
+	 * @return the number of nodes
+	 */
+	public int getNodeCount() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the rule network of the specified knowledge base for the rules of the specified forward knowledge kind.
+	 * If there is no such network, or the network is outdated, a new network is created and stored in the knowledge
+	 * base. For a frozen knowledge base, the network is created only once and never gets outdated.
+	 *
+	 * @param knowledgeBase the knowledge base to get the network for
+	 * @param forward       the forward knowledge kind of the rules
+	 * @return the current rule network
+	 */
+	public static RuleNetwork getNetwork(KnowledgeBase knowledgeBase, KnowledgeKind<RuleSet> forward) {
+		KnowledgeKind<RuleNetwork> kind = new KnowledgeKind<>(forward + ".NETWORK", RuleNetwork.class);
+		if (knowledgeBase.isFrozen()) {
+			// the rules of a frozen knowledge base cannot be modified, so the network never gets outdated
+			return knowledgeBase.getDerivedKnowledge(kind, () -> new RuleNetwork(knowledgeBase, forward));
+		}
+		synchronized (knowledgeBase) {
+			KnowledgeStore store = knowledgeBase.getKnowledgeStore();
+			RuleNetwork network = store.getKnowledge(kind);
+			if (network != null && !network.isOutdated()) return network;
+			if (network != null) store.removeKnowledge(kind, network);
+			network = new RuleNetwork(knowledgeBase, forward);
+			store.addKnowledge(kind, network);
+			return network;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RuleNetwork[" + nodes.length + " nodes]";
+	}
+}
@@ -21,6 +21,7 @@ package de.d3web.core.inference;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import com.denkbares.collections.IdentitySet;
 
@@ -33,13 +34,15 @@ public class RuleSet implements KnowledgeSlice {
 
 	// rules that equal are entered into the set, but the same rule
 	// (reference-identity) will not be inserted twice
-	private final Collection<Rule> rules = IdentitySet.newIdentityHashSet();
+	private Collection<Rule> rules = IdentitySet.newIdentityHashSet();
+	private boolean frozen = false;
 
 	public Collection<Rule> getRules() {
-		return Collections.unmodifiableCollection(rules);
+		return frozen ? rules : Collections.unmodifiableCollection(rules);
 	}
 
 	public void removeRule(Rule r) {
+		checkNotFrozen();
 		rules.remove(r);
 	}
 
@@ -56,9 +59,25 @@ public class RuleSet implements KnowledgeSlice {
 	 */
 	public void addRule(Rule r) {
 		if (r == null) throw new NullPointerException();
+		checkNotFrozen();
 		rules.add(r);
 	}
 
+	/**
+	 * Replaces the identity set of the rules by a compact immutable list and rejects any further modification of this
+	 * rule set.
+	 */
+	@Override
+	public void freeze() {
+		if (frozen) return;
+		rules = List.of(rules.toArray(new Rule[0]));
+		frozen = true;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) throw new IllegalStateException("rule set is frozen and cannot be modified");
+	}
+
 	@Override
 	public String toString() {
 		return rules.toString();
@@ -88,6 +88,11 @@ public class CondDState extends TerminalCondition {
 		return session.getBlackboard().getRating(solution).hasState(solutionState);
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	public Solution getSolution() {
 		return solution;
 	}
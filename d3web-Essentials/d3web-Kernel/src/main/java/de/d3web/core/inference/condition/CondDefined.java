@@ -70,4 +70,9 @@ public class CondDefined extends TerminalCondition {
 		}
 		return false;
 	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
 }
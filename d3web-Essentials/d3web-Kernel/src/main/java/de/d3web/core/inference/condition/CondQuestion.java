@@ -72,6 +72,14 @@ public abstract class CondQuestion extends TerminalCondition {
 		return value;
 	}
 
+	/**
+	 * The question conditions only depend on the value of the question, so they are cacheable.
+	 */
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	/**
 	 * Returns the question that is constrained by this condition.
 	 * 
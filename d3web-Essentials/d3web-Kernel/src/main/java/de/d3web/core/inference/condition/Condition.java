@@ -69,6 +69,19 @@ public interface Condition {
 	 */
 	Collection<? extends TerminologyObject> getTerminalObjects();
 
+	/**
+	 * Returns true if the result of this condition only depends on the values of its terminal objects in the
+	 * blackboard of the session. Then the result may be cached until the value of any terminal object changes, see
+	 * {@link SessionConditionCache}. Conditions that depend on any other state, e.g. the interview agenda or the
+	 * protocol, must return false, which is the default.
+	 *
+	 * @return if the result of this condition may be cached
+	 * @created 18.10.2026
+	 */
+	default boolean isCacheable() {
+		return false;
+	}
+
 	/**
 	 * Compares this condition with another condition.
 	 * 
@@ -52,6 +52,11 @@ public final class ConditionTrue extends TerminalCondition {
 		return true;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		return "true";
@@ -18,6 +18,7 @@
  */
 package de.d3web.core.inference.condition;
 
+import de.d3web.core.inference.condition.ConditionCache.ConditionResult;
 import de.d3web.core.session.Session;
 
 /**
@@ -46,6 +47,45 @@ public class Conditions {
 		}
 	}
 
+	/**
+	 * Returns true, if the condition evaluates to true, using the specified cache. In all other cases,
+	 * including unknown or undefined, false is returned.
+	 *
+	 * @param condition specified Condition
+	 * @param cache the cache to evaluate the condition, e.g. {@link Session#getConditionCache()}
+	 * @return if the condition evaluates to true
+	 * @created 18.10.2026
+	 */
+	public static boolean isTrue(Condition condition, ConditionCache cache) {
+		return cache.getResult(condition) == ConditionResult.TRUE;
+	}
+
+	/**
+	 * Returns true, if the condition evaluates to false, using the specified cache. In all other cases,
+	 * including unknown or undefined, false is returned.
+	 *
+	 * @param condition specified Condition
+	 * @param cache the cache to evaluate the condition, e.g. {@link Session#getConditionCache()}
+	 * @return if the condition evaluates to false
+	 * @created 18.10.2026
+	 */
+	public static boolean isFalse(Condition condition, ConditionCache cache) {
+		return cache.getResult(condition) == ConditionResult.FALSE;
+	}
+
+	/**
+	 * Returns true, if the condition evaluates to undefined, using the specified cache. In all other
+	 * cases, including unknown, false is returned.
+	 *
+	 * @param condition specified Condition
+	 * @param cache the cache to evaluate the condition, e.g. {@link Session#getConditionCache()}
+	 * @return if the condition evaluates to undefined
+	 * @created 18.10.2026
+	 */
+	public static boolean isUndefined(Condition condition, ConditionCache cache) {
+		return cache.getResult(condition) == ConditionResult.UNDEFINED;
+	}
+
 	/**
 	 * Returns true, if the condition evaluates to false. In all other cases, including unknown or
 	 * undefined, false is returned.
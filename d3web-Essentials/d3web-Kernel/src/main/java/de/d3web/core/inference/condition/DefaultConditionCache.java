@@ -70,6 +70,13 @@ public class DefaultConditionCache implements ConditionCache {
 	}
 
 	protected ConditionResult evalToResult(Condition condition) {
+		return evaluate(condition, session);
+	}
+
+	/**
+	 * Evaluates the specified condition for the specified session, without using any cache.
+	 */
+	static ConditionResult evaluate(Condition condition, Session session) {
 		try {
 			return condition.eval(session) ? ConditionResult.TRUE : ConditionResult.FALSE;
 		}
@@ -48,6 +48,7 @@ public abstract class NonTerminalCondition implements Condition {
 	// cached transient values
 	private final int hash;
 	private List<TerminologyObject> terminals = null;
+	private Boolean cacheable = null;
 
 	/**
 	 * Creates a new non-terminal condition with the specified sub-conditions.
@@ -87,6 +88,17 @@ public abstract class NonTerminalCondition implements Condition {
 		}
 	}
 
+	/**
+	 * A non-terminal condition is cacheable if all of its sub-conditions are cacheable.
+	 */
+	@Override
+	public boolean isCacheable() {
+		if (cacheable == null) {
+			cacheable = terms.stream().allMatch(Condition::isCacheable);
+		}
+		return cacheable;
+	}
+
 	/**
 	 * Returns the list of {@link Condition} instances enclosed in this {@link NonTerminalCondition}.
 	 *
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.inference.condition;
+
+import de.d3web.core.inference.PropagationManager;
+import de.d3web.core.session.Session;
+
+/**
+ * Condition cache that lives as long as its session. The cached results are invalidated by the {@link
+ * PropagationManager} of the session, each time the value of a terminal object of a cached condition changes. So the
+ * cache can be used at any time, by any problem solver, and across multiple propagation frames.
+ * <p>
+ * Only conditions that are {@link Condition#isCacheable() cacheable} are cached, all other conditions are evaluated
+ * every time they are requested. The cache counts its hits and misses, to verify its effectiveness.
+ *
+ * @created 18.10.2026
+ */
+public class SessionConditionCache extends RetractableConditionCache {
+
+	private long requests = 0;
+	private long misses = 0;
+	private long uncached = 0;
+
+	public SessionConditionCache(Session session) {
+		super(session);
+	}
+
+	@Override
+	public ConditionResult getResult(Condition condition) {
+		if (!condition.isCacheable()) {
+			uncached++;
+			return evaluate(condition, getSession());
+		}
+		requests++;
+		return super.getResult(condition);
+	}
+
+	@Override
+	protected ConditionResult evalToResult(Condition condition) {
+		misses++;
+		return super.evalToResult(condition);
+	}
+
+	/**
+	 * Returns the number of requests of cacheable conditions, that have been answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return requests - misses;
+	}
+
+	/**
+	 * Returns the number of requests of cacheable conditions, that required the condition to be evaluated.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of requests of conditions that are not cacheable, so they have been evaluated each time.
+	 *
+	 * @return the number of requests bypassing the cache
+	 */
+	public long getUncachedCount() {
+		return uncached;
+	}
+
+	/**
+	 * Returns the ratio of the cache hits to all requests of cacheable conditions, or 0 if there was no such request.
+	 *
+	 * @return the hit rate, between 0 and 1
+	 */
+	public double getHitRate() {
+		return (requests == 0) ? 0 : getHitCount() / (double) requests;
+	}
+
+	/**
+	 * Resets the hit and miss counters of this cache, the cached results are not affected.
+	 */
+	public void resetCounters() {
+		requests = 0;
+		misses = 0;
+		uncached = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "SessionConditionCache[hits: " + getHitCount() + ", misses: " + misses + ", uncached: " + uncached + "]";
+	}
+}
@@ -32,15 +32,24 @@ import de.d3web.core.inference.KnowledgeSlice;
  */
 public class DefaultKnowledgeStore implements KnowledgeStore {
 
-	private final Map<KnowledgeKind<?>, KnowledgeSlice> entries = new HashMap<>();
+	private static final KnowledgeKind<?>[] NO_KINDS = new KnowledgeKind<?>[0];
+	private static final KnowledgeSlice[] NO_SLICES = new KnowledgeSlice[0];
+
+	private Map<KnowledgeKind<?>, KnowledgeSlice> entries = new HashMap<>();
+
+	// compact storage of the entries, used after the store has been frozen
+	private KnowledgeKind<?>[] frozenKinds = null;
+	private KnowledgeSlice[] frozenSlices = null;
 
 	@Override
 	public void addKnowledge(KnowledgeKind<?> kind, KnowledgeSlice slice) {
+		checkNotFrozen();
 		entries.put(kind, slice);
 	}
 
 	@Override
 	public void removeKnowledge(KnowledgeKind<?> kind, KnowledgeSlice slice) {
+		checkNotFrozen();
 		if (getKnowledge(kind) != slice) {
 			throw new IllegalArgumentException("Slice " + slice + " not contained with KnowledgeKind " + kind);
 		}
@@ -49,11 +58,41 @@ public class DefaultKnowledgeStore implements KnowledgeStore {
 
 	@Override
 	public <T extends KnowledgeSlice> T getKnowledge(KnowledgeKind<T> kind) {
-		return kind.getClazz().cast(entries.get(kind));
+		if (frozenKinds == null) {
+			return kind.getClazz().cast(entries.get(kind));
+		}
+		// the stores usually contain only a few entries, so a linear search is sufficient
+		for (int i = 0; i < frozenKinds.length; i++) {
+			if (frozenKinds[i].equals(kind)) return kind.getClazz().cast(frozenSlices[i]);
+		}
+		return null;
 	}
 
 	@Override
 	public KnowledgeSlice[] getKnowledge() {
+		if (frozenSlices != null) return frozenSlices.clone();
 		return entries.values().toArray(new KnowledgeSlice[0]);
 	}
+
+	@Override
+	public void freeze() {
+		if (frozenKinds != null) return;
+		KnowledgeKind<?>[] kinds = entries.isEmpty() ? NO_KINDS : new KnowledgeKind<?>[entries.size()];
+		KnowledgeSlice[] slices = entries.isEmpty() ? NO_SLICES : new KnowledgeSlice[entries.size()];
+		int index = 0;
+		for (Map.Entry<KnowledgeKind<?>, KnowledgeSlice> entry : entries.entrySet()) {
+			kinds[index] = entry.getKey();
+			slices[index] = entry.getValue();
+			index++;
+		}
+		frozenSlices = slices;
+		frozenKinds = kinds;
+		entries = null;
+	}
+
+	private void checkNotFrozen() {
+		if (frozenKinds != null) {
+			throw new IllegalStateException("knowledge store is frozen and cannot be modified");
+		}
+	}
 }
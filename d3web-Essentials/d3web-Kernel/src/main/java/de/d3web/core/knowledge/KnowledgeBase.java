@@ -29,6 +29,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -84,6 +88,15 @@ public class KnowledgeBase implements NamedObject {
 	private final KnowledgeStore knowledgeStore = new DefaultKnowledgeStore();
 
 	private boolean initializedPSMethods = false;
+	private volatile boolean completedPSMethods = false;
+
+	private volatile boolean frozen = false;
+	private final Map<KnowledgeKind<?>, KnowledgeSlice> derivedKnowledge = new ConcurrentHashMap<>();
+
+	private final AtomicInteger sessionObjectSlots = new AtomicInteger();
+	private final AtomicInteger ruleSlots = new AtomicInteger();
+	// counts the modifications of the knowledge, to detect outdated knowledge derived from it
+	private final AtomicLong modifications = new AtomicLong();
 
 	/**
 	 * @return the unique identifier of this KnowledgeBase instance.
@@ -100,6 +113,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 15.04.2010
 	 */
 	public void setId(String id) {
+		checkNotFrozen();
 		kbID = id;
 	}
 
@@ -214,6 +228,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 15.04.2010
 	 */
 	public void setInitQuestions(List<? extends QASet> initQuestions) {
+		checkNotFrozen();
 		this.initQuestions.clear();
 		Integer priority = 1;
 		for (QASet qaSet : initQuestions) {
@@ -234,6 +249,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 25.10.2010
 	 */
 	public boolean addInitQuestion(QASet qaset, int priority) {
+		checkNotFrozen();
 		boolean alreadyused = this.initQuestions.values().contains(priority);
 		this.initQuestions.put(qaset, priority);
 		return alreadyused;
@@ -247,6 +263,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 25.10.2010
 	 */
 	public boolean removeInitQuestion(QASet qaset) {
+		checkNotFrozen();
 		if (this.initQuestions.keySet().contains(qaset)) {
 			this.initQuestions.remove(qaset);
 			return true;
@@ -275,6 +292,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 15.04.2010
 	 */
 	public void addResouce(Resource resource) {
+		checkNotFrozen();
 		this.resouces.add(resource);
 	}
 
@@ -286,6 +304,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 16.03.2011
 	 */
 	public void removeResouce(Resource resource) {
+		checkNotFrozen();
 		this.resouces.remove(resource);
 	}
 
@@ -296,6 +315,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 16.03.2011
 	 */
 	public void clearResouces() {
+		checkNotFrozen();
 		this.resouces.clear();
 	}
 
@@ -362,6 +382,7 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 15.04.2010
 	 */
 	public void addPSConfig(PSConfig psConfig) {
+		checkNotFrozen();
 		if (psConfig == null) return;
 		PSMethod psMethod = psConfig.getPsMethod();
 
@@ -382,10 +403,12 @@ public class KnowledgeBase implements NamedObject {
 	 * @created 15.04.2010
 	 */
 	public void removePSConfig(PSConfig psConfig) {
+		checkNotFrozen();
 		psConfigs.remove(psConfig);
 	}
 
 	public void setRootQASet(QASet rootQASet) {
+		checkNotFrozen();
 		this.rootQASet = rootQASet;
 		if (!manager.getQASets().contains(rootQASet)) {
 			manager.putTerminologyObject(rootQASet);
@@ -393,6 +416,7 @@ public class KnowledgeBase implements NamedObject {
 	}
 
 	public void setRootSolution(Solution rootSolution) {
+		checkNotFrozen();
 		this.rootSolution = rootSolution;
 		if (!manager.getSolutions().contains(rootSolution)) {
 			manager.putTerminologyObject(rootSolution);
@@ -432,13 +456,154 @@ public class KnowledgeBase implements NamedObject {
 		return knowledgeStore;
 	}
 
+	/**
+	 * Creates a new unique slot number for a {@link de.d3web.core.session.SessionObjectSource}, used by the sessions
+	 * of this knowledge base to store the source's session object in a dense array. The slots are numbered
+	 * consecutively, starting with 0.
+	 *
+	 * @return the newly created slot
+	 * @see de.d3web.core.session.SessionObjectSlot
+	 */
+	public int createSessionObjectSlot() {
+		return sessionObjectSlots.getAndIncrement();
+	}
+
+	/**
+	 * Returns the number of slots created by {@link #createSessionObjectSlot()} so far.
+	 *
+	 * @return the number of session object slots
+	 */
+	public int getSessionObjectSlotCount() {
+		return sessionObjectSlots.get();
+	}
+
+	/**
+	 * Creates a new unique slot number for a {@link de.d3web.core.inference.Rule}, used by the sessions of this
+	 * knowledge base to store the fired state of the rule in a bit set. The slots are numbered consecutively, starting
+	 * with 0.
+	 *
+	 * @return the newly created slot
+	 */
+	public int createRuleSlot() {
+		return ruleSlots.getAndIncrement();
+	}
+
+	/**
+	 * Signals that the knowledge of this knowledge base has been modified, e.g. a rule has been added or removed. This
+	 * increases the {@link #getModificationCount() modification count}, so structures derived from the knowledge, e.g. a
+	 * compiled rule network, can detect that they are outdated. The modifications of other knowledge bases do not affect
+	 * this knowledge base.
+	 *
+	 * @created 18.10.2026
+	 */
+	public void knowledgeModified() {
+		modifications.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of modifications of the knowledge of this knowledge base, see {@link #knowledgeModified()}.
+	 * If the count has not changed, the knowledge has not been modified in the meantime.
+	 *
+	 * @return the modification count of this knowledge base
+	 * @created 18.10.2026
+	 */
+	public long getModificationCount() {
+		return modifications.get();
+	}
+
+	/**
+	 * Freezes this knowledge base, signalling that neither the knowledge base nor its terminology and knowledge will be
+	 * modified any longer, e.g. after the knowledge base has been loaded. The plugged problem-solvers are initialized,
+	 * the terminology, all knowledge stores and all knowledge slices are frozen (see {@link KnowledgeSlice#freeze()}),
+	 * so they can compact their data structures and precompute derived information, e.g. the tree indexes of the
+	 * terminology objects. Afterwards, any attempt to modify the knowledge base is rejected by an {@link
+	 * IllegalStateException}.
+	 * <p>
+	 * The frozen knowledge base can be used by many sessions concurrently, without any synchronization. Make sure to
+	 * call this method before the knowledge base is shared with other threads. Calling this method for a knowledge
+	 * base that is already frozen has no effect.
+	 *
+	 * @created 18.10.2026
+	 */
+	public synchronized void freeze() {
+		if (frozen) return;
+		initPluggedPSMethods();
+		manager.freeze();
+		freeze(knowledgeStore);
+		for (TerminologyObject object : manager.getAllTerminologyObjects()) {
+			freeze(object.getKnowledgeStore());
+		}
+		frozen = true;
+	}
+
+	private static void freeze(KnowledgeStore store) {
+		for (KnowledgeSlice slice : store.getKnowledge()) {
+			slice.freeze();
+		}
+		store.freeze();
+	}
+
+	/**
+	 * Returns true if this knowledge base has been frozen and cannot be modified any longer.
+	 *
+	 * @return if the knowledge base is frozen
+	 * @see #freeze()
+	 * @created 18.10.2026
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Throws an {@link IllegalStateException} if this knowledge base has been frozen. This method is intended to be
+	 * called by all methods that modify the knowledge base.
+	 *
+	 * @throws IllegalStateException if the knowledge base is frozen
+	 * @created 18.10.2026
+	 */
+	public void checkNotFrozen() {
+		if (frozen) {
+			throw new IllegalStateException("The knowledge base is frozen and cannot be modified: " + kbID);
+		}
+	}
+
+	/**
+	 * Returns some knowledge that is derived from the knowledge of this knowledge base, e.g. a compiled version of some
+	 * rules. If there is no such knowledge yet, it is created using the specified supplier. Unlike the {@link
+	 * #getKnowledgeStore() knowledge store}, the derived knowledge can also be created after the knowledge base has
+	 * been frozen. It is safe to call this method concurrently, but the supplier may be called multiple times.
+	 *
+	 * @param kind     the kind of the derived knowledge
+	 * @param supplier the supplier to create the derived knowledge if not available yet
+	 * @return the derived knowledge
+	 * @created 18.10.2026
+	 */
+	public <T extends KnowledgeSlice> T getDerivedKnowledge(KnowledgeKind<T> kind, Supplier<? extends T> supplier) {
+		KnowledgeSlice knowledge = derivedKnowledge.get(kind);
+		if (knowledge == null) {
+			knowledge = supplier.get();
+			KnowledgeSlice concurrent = derivedKnowledge.putIfAbsent(kind, knowledge);
+			if (concurrent != null) knowledge = concurrent;
+		}
+		return kind.getClazz().cast(knowledge);
+	}
+
 	/**
 	 * Initializes and adds all plugged PSMethods to this knowledge base when called. Only the first call of this method
 	 * on the knowledge base will have an effect, repeated calls will return without further change.
 	 */
-	public synchronized void initPluggedPSMethods() {
-		if (initializedPSMethods) return;
-		initializedPSMethods = true;
+	public void initPluggedPSMethods() {
+		// fast path without locking, the plugged methods are usually initialized only once for many sessions
+		if (completedPSMethods) return;
+		synchronized (this) {
+			if (initializedPSMethods) return;
+			initializedPSMethods = true;
+			addPluggedPSMethods();
+			completedPSMethods = true;
+		}
+	}
+
+	private void addPluggedPSMethods() {
 		// get PluginConfiguration
 		PluginConfig pc = PluginConfig.getPluginConfig(this);
 		// add plugged PS with default config, only if none instance of this
@@ -101,4 +101,16 @@ public interface KnowledgeStore {
 	 * @created 06.05.2011
 	 */
 	KnowledgeSlice[] getKnowledge();
+
+	/**
+	 * Freezes this store, because the knowledge base it belongs to will not be modified any longer. Afterwards, the
+	 * store should reject any call to {@link #addKnowledge(KnowledgeKind, KnowledgeSlice)} and {@link
+	 * #removeKnowledge(KnowledgeKind, KnowledgeSlice)} by throwing an {@link IllegalStateException}, and must be safe
+	 * to be read concurrently by multiple threads. The contained knowledge slices are frozen separately. The default
+	 * implementation does nothing.
+	 *
+	 * @see KnowledgeBase#freeze()
+	 */
+	default void freeze() {
+	}
 }
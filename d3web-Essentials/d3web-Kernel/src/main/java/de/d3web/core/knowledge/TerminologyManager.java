@@ -19,14 +19,17 @@
 package de.d3web.core.knowledge;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.denkbares.strings.NumberAwareComparator;
+import de.d3web.core.knowledge.terminology.AbstractTerminologyObject;
 import de.d3web.core.knowledge.terminology.NamedObject;
 import de.d3web.core.knowledge.terminology.QASet;
 import de.d3web.core.knowledge.terminology.QContainer;
@@ -57,15 +60,32 @@ public class TerminologyManager {
 					Integer::compareTo);
 
 	/**
-	 * Hashes the objects for names (unique name assumption required)
+	 * Hashes the objects for names (unique name assumption required). The map is read without any locking, the rare
+	 * modifications are synchronized on the knowledge base.
 	 */
-	private final Map<String, TerminologyObject> objectNameMap = new HashMap<>();
+	private final Map<String, TerminologyObject> objectNameMap = new ConcurrentHashMap<>();
 	private final KnowledgeBase kb;
 
+	/**
+	 * Counter for the dense ordinals of the terminology objects of the knowledge base
+	 */
+	private final AtomicInteger ordinalCounter = new AtomicInteger();
+
 	// some fields for cached and useful information
 	private final transient TreeIndexer solutionIndexer = new TreeIndexer();
 	private final transient TreeIndexer questionIndexer = new TreeIndexer();
-	private final transient Map<Class<?>, List<TerminologyObject>> typeCache = new HashMap<>();
+	/**
+	 * Cached objects for each requested type. Instead of clearing the cache on modifications, it is replaced by a new
+	 * empty one, so readers that concurrently created an entry for the old terminology only write to the discarded
+	 * cache.
+	 */
+	private transient volatile Map<Class<?>, List<TerminologyObject>> typeCache = new ConcurrentHashMap<>();
+
+	/**
+	 * The precomputed tree indexes of all objects, addressed by their ordinal, or null if the terminology has not been
+	 * frozen (yet).
+	 */
+	private transient volatile int[] frozenTreeIndexes = null;
 
 	/**
 	 * Creates a new manager for the specified {@link KnowledgeBase} instance.
@@ -91,18 +111,16 @@ public class TerminologyManager {
 		}
 
 		synchronized (kb) {
-			// rebuild indexes for that object type
-			objectNameMap.compute(object.getName(), (name, previous) -> {
-				// if there is an other object already added, signal error
-				if (previous != null && previous != object) {
-					throw new IllegalArgumentException("TerminologyObject cannot be added, " +
-							"an Object with the same name is already contained in the knowledge base: " + object);
-				}
-				// otherwise add the object and rebuild the index
-				clearIndexer(object);
-				typeCache.clear();
-				return object;
-			});
+			checkNotFrozen();
+			TerminologyObject previous = objectNameMap.putIfAbsent(object.getName(), object);
+			// if there is an other object already added, signal error
+			if (previous != null && previous != object) {
+				throw new IllegalArgumentException("TerminologyObject cannot be added, " +
+						"an Object with the same name is already contained in the knowledge base: " + object);
+			}
+			// otherwise rebuild the indexes for that object type
+			clearIndexer(object);
+			typeCache = new ConcurrentHashMap<>();
 		}
 	}
 
@@ -120,9 +138,10 @@ public class TerminologyManager {
 		}
 
 		synchronized (kb) {
-			clearIndexer(object);
-			typeCache.clear();
+			checkNotFrozen();
 			objectNameMap.remove(object.getName());
+			clearIndexer(object);
+			typeCache = new ConcurrentHashMap<>();
 		}
 	}
 
@@ -161,18 +180,23 @@ public class TerminologyManager {
 	 * @return list of all TerminologyObjects of a certain type contained in this KnowledgeBase
 	 */
 	public <T extends TerminologyObject> List<T> getObjects(Class<T> clazz) {
-		synchronized (kb) {
-			//noinspection unchecked
-			return (List<T>) typeCache.computeIfAbsent(clazz, _class -> {
-				List<T> questions = new ArrayList<>();
-				for (NamedObject o : objectNameMap.values()) {
-					if (clazz.isInstance(o)) {
-						questions.add(clazz.cast(o));
-					}
+		// read the cache first, so that a concurrent modification replaces the cache
+		// only after the modified terminology is visible to us
+		Map<Class<?>, List<TerminologyObject>> cache = typeCache;
+		List<TerminologyObject> objects = cache.get(clazz);
+		if (objects == null) {
+			List<TerminologyObject> questions = new ArrayList<>();
+			for (NamedObject o : objectNameMap.values()) {
+				if (clazz.isInstance(o)) {
+					questions.add(clazz.cast(o));
 				}
-				return Collections.unmodifiableList(questions);
-			});
+			}
+			objects = Collections.unmodifiableList(questions);
+			List<TerminologyObject> concurrent = cache.putIfAbsent(clazz, objects);
+			if (concurrent != null) objects = concurrent;
 		}
+		//noinspection unchecked
+		return (List<T>) objects;
 	}
 
 	/**
@@ -203,9 +227,8 @@ public class TerminologyManager {
 	 * <code>null</code> if none found
 	 */
 	public TerminologyObject search(String name) {
-		synchronized (kb) {
-			return objectNameMap.get(name);
-		}
+		if (name == null) return null;
+		return objectNameMap.get(name);
 	}
 
 	/**
@@ -294,9 +317,100 @@ public class TerminologyManager {
 	 * @created 17.03.2013
 	 */
 	public int getTreeIndex(TerminologyObject object) {
+		int[] indexes = frozenTreeIndexes;
+		if (indexes != null && object instanceof AbstractTerminologyObject && object.getKnowledgeBase() == kb) {
+			int ordinal = ((AbstractTerminologyObject) object).getOrdinal();
+			if (ordinal < indexes.length) return indexes[ordinal];
+		}
 		return getIndexer(object).getIndex(object);
 	}
 
+	/**
+	 * Creates a new ordinal for a terminology object that is created for the {@link KnowledgeBase} of this manager.
+	 * The ordinals are dense, starting with 0, and are never reused, even if an object is removed from the knowledge
+	 * base again.
+	 * <p>
+	 * Do not call this method directly, it is called by the constructor of the terminology objects.
+	 *
+	 * @return the newly created ordinal
+	 * @created 18.10.2026
+	 */
+	public int createOrdinal() {
+		return ordinalCounter.getAndIncrement();
+	}
+
+	/**
+	 * Returns the dense ordinal of the specified object within the knowledge base. The ordinal is assigned when the
+	 * object is created and remains stable afterwards. Therefore it can be used to address session specific
+	 * information of the object in flat arrays instead of hash maps, see {@link #getOrdinalCount()} for the required
+	 * size of such an array.
+	 *
+	 * @param object the object to get the ordinal for
+	 * @return the ordinal of the object
+	 * @throws IllegalArgumentException if the object does not provide an ordinal
+	 * @created 18.10.2026
+	 */
+	public int getOrdinal(TerminologyObject object) {
+		if (object instanceof AbstractTerminologyObject) {
+			return ((AbstractTerminologyObject) object).getOrdinal();
+		}
+		throw new IllegalArgumentException("TerminologyObject does not provide an ordinal: " + object);
+	}
+
+	/**
+	 * Returns the number of ordinals that have been created for this knowledge base so far. Each ordinal returned by
+	 * {@link #getOrdinal(TerminologyObject)} is lower than this number. Note that the number may increase if new
+	 * objects are added to the knowledge base.
+	 *
+	 * @return the number of ordinals created
+	 * @created 18.10.2026
+	 */
+	public int getOrdinalCount() {
+		return ordinalCounter.get();
+	}
+
+	/**
+	 * Freezes the terminology of the knowledge base. The tree indexes and the lists of the commonly requested object
+	 * types are precomputed, and any further call of {@link #putTerminologyObject(TerminologyObject)} or {@link
+	 * #remove(TerminologyObject)} is rejected by an {@link IllegalStateException}.
+	 * <p>
+	 * Do not call this method directly, use {@link KnowledgeBase#freeze()}.
+	 *
+	 * @created 18.10.2026
+	 */
+	public void freeze() {
+		synchronized (kb) {
+			if (frozenTreeIndexes != null) return;
+			int[] indexes = new int[getOrdinalCount()];
+			for (TerminologyObject object : objectNameMap.values()) {
+				if (object instanceof AbstractTerminologyObject) {
+					indexes[((AbstractTerminologyObject) object).getOrdinal()] = getIndexer(object).getIndex(object);
+				}
+			}
+			for (Class<? extends TerminologyObject> type : Arrays.asList(TerminologyObject.class,
+					Solution.class, QASet.class, QContainer.class, Question.class)) {
+				getObjects(type);
+			}
+			frozenTreeIndexes = indexes;
+		}
+	}
+
+	/**
+	 * Returns true if the terminology has been frozen and cannot be modified any longer.
+	 *
+	 * @return if the terminology is frozen
+	 * @created 18.10.2026
+	 */
+	public boolean isFrozen() {
+		return frozenTreeIndexes != null;
+	}
+
+	private void checkNotFrozen() {
+		if (frozenTreeIndexes != null) {
+			throw new IllegalStateException("The terminology of the knowledge base is frozen and cannot be modified");
+		}
+	}
+
 	private void clearIndexer(TerminologyObject object) {
 		getIndexer(object).clear();
 	}
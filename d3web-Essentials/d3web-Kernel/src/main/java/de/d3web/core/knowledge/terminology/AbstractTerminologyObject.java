@@ -73,6 +73,11 @@ public abstract class AbstractTerminologyObject extends AbstractNamedObject impl
 
 	private final KnowledgeStore knowledgeStore = new DefaultKnowledgeStore();
 
+	/**
+	 * The dense ordinal of this object within its knowledge base.
+	 */
+	private final int ordinal;
+
 	private static final int BOUNDARY = 10;
 
 	/**
@@ -91,6 +96,7 @@ public abstract class AbstractTerminologyObject extends AbstractNamedObject impl
 			throw new NullPointerException("Name of an id object must not be null");
 		}
 		this.knowledgeBase = kb;
+		this.ordinal = kb.getManager().createOrdinal();
 		kb.getManager().putTerminologyObject(this);
 	}
 
@@ -124,6 +130,7 @@ public abstract class AbstractTerminologyObject extends AbstractNamedObject impl
 		if (parent.getKnowledgeBase() != child.getKnowledgeBase()) {
 			throw new IllegalArgumentException("Knowledge base beetween parent and child differs");
 		}
+		parent.getKnowledgeBase().checkNotFrozen();
 		parent.children.add(pos, child);
 		if (parent.childrenSet == null) {
 			if (parent.children.size() > BOUNDARY) {
@@ -151,8 +158,22 @@ public abstract class AbstractTerminologyObject extends AbstractNamedObject impl
 		return knowledgeBase;
 	}
 
+	/**
+	 * Returns the dense ordinal of this object within its knowledge base. The ordinal is assigned once when the
+	 * object is created and remains stable for the lifetime of the object. Use {@link
+	 * de.d3web.core.knowledge.TerminologyManager#getOrdinal(TerminologyObject)} to access the ordinal of any
+	 * terminology object.
+	 *
+	 * @return the ordinal of this object
+	 * @created 18.10.2026
+	 */
+	public int getOrdinal() {
+		return ordinal;
+	}
+
 	private static boolean removeParentChildLink(AbstractTerminologyObject parent,
 			AbstractTerminologyObject child) {
+		parent.getKnowledgeBase().checkNotFrozen();
 		child.parents.remove(parent);
 		if (parent.childrenSet != null) {
 			parent.childrenSet.remove(child);
@@ -21,6 +21,7 @@
 package de.d3web.core.session;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
@@ -38,6 +39,7 @@ import de.d3web.core.inference.PSConfig;
 import de.d3web.core.inference.PSMethod;
 import de.d3web.core.inference.PropagationManager;
 import de.d3web.core.knowledge.InfoStore;
+import de.d3web.core.knowledge.InfoStoreUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.session.blackboard.Blackboard;
 import de.d3web.core.session.blackboard.DefaultBlackboard;
@@ -61,6 +63,18 @@ public class DefaultSession implements Session {
 	private final DefaultPropagationManager propagationController;
 
 	private final Map<SessionObjectSource<?>, SessionObject> dynamicStore;
+	/**
+	 * Session objects of the sources that provide a slot for the knowledge base of this session, indexed by the slot.
+	 * The array grows on demand, see {@link SessionObjectSource#getSessionObjectSlot(KnowledgeBase)}.
+	 */
+	private SessionObject[] slottedStore = new SessionObject[0];
+
+	/**
+	 * Session objects of the session this session has been forked from, that have not been accessed by this session
+	 * yet. They are forked on the first access, see {@link SessionObjectSource#forkSessionObject}.
+	 */
+	private final Map<SessionObjectSource<?>, SessionObject> inheritedStore;
+	private final SessionObject[] inheritedSlottedStore;
 
 	private final Protocol protocol;
 	private final Blackboard blackboard;
@@ -89,9 +103,11 @@ public class DefaultSession implements Session {
 
 		// create blackboard and register as listener to get fact changed
 		// notifications
-		this.blackboard = new DefaultBlackboard(this);
+		this.blackboard = new DefaultBlackboard(this, SessionFactory.getFactStorageFactory());
 
 		this.dynamicStore = new HashMap<>();
+		this.inheritedStore = new HashMap<>();
+		this.inheritedSlottedStore = new SessionObject[0];
 		// add problem-solving methods used for this case
 		this.usedPSMethods = new TreeSet<>(new PSMethodComparator());
 		this.propagationController = new DefaultPropagationManager(this);
@@ -109,6 +125,50 @@ public class DefaultSession implements Session {
 		addPlugedPSMethods(knowledgebase, psMethodFilter);
 	}
 
+	/**
+	 * Creates a fork of the specified session, see {@link Session#fork()}. The problem solvers are not initialized
+	 * again, the fork continues with the state of the specified session.
+	 *
+	 * @param parent the session to create the fork of
+	 */
+	protected DefaultSession(DefaultSession parent) {
+		if (parent.getPropagationManager().isInPropagation()) {
+			throw new IllegalStateException("session cannot be forked during propagation");
+		}
+		if (!(parent.blackboard instanceof DefaultBlackboard)) {
+			throw new UnsupportedOperationException("blackboard cannot be forked: " + parent.blackboard.getClass().getName());
+		}
+		this.created = parent.created;
+		this.kb = parent.kb;
+		this.name = parent.name;
+		// copying the entries touches this session, so restore the date afterwards
+		InfoStoreUtil.copyEntries(parent.infoStore, this.infoStore);
+		this.edited = parent.edited;
+
+		this.blackboard = ((DefaultBlackboard) parent.blackboard).fork(this);
+		if (parent.protocol instanceof DefaultProtocol) {
+			this.protocol = new DefaultProtocol((DefaultProtocol) parent.protocol);
+		}
+		else {
+			this.protocol = new DefaultProtocol();
+			this.protocol.addEntries(parent.protocol.getProtocolHistory());
+		}
+
+		// the session objects are forked on demand, so only remember the existing ones
+		this.dynamicStore = new HashMap<>();
+		this.inheritedStore = new HashMap<>(parent.inheritedStore);
+		this.inheritedStore.putAll(parent.dynamicStore);
+		this.inheritedSlottedStore = Arrays.copyOf(parent.slottedStore,
+				Math.max(parent.slottedStore.length, parent.inheritedSlottedStore.length));
+		for (int i = 0; i < parent.inheritedSlottedStore.length; i++) {
+			if (inheritedSlottedStore[i] == null) inheritedSlottedStore[i] = parent.inheritedSlottedStore[i];
+		}
+
+		this.usedPSMethods = new TreeSet<>(new PSMethodComparator());
+		this.usedPSMethods.addAll(parent.usedPSMethods);
+		this.propagationController = new DefaultPropagationManager(this, parent.propagationController);
+	}
+
 	/**
 	 * Adds the PSMethods from Plugins
 	 *
@@ -217,15 +277,62 @@ public class DefaultSession implements Session {
 	 */
 	@Override
 	public <T extends SessionObject> T getSessionObject(SessionObjectSource<T> objectSource) {
+		int slot = (kb == null) ? -1 : objectSource.getSessionObjectSlot(kb);
+		if (slot >= 0) {
+			return getSlottedSessionObject(objectSource, slot);
+		}
 		@SuppressWarnings("unchecked")
 		T sessionObject = (T) dynamicStore.get(objectSource);
 		if (sessionObject == null) {
-			sessionObject = objectSource.createSessionObject(this);
+			sessionObject = createSessionObject(objectSource, inheritedStore.remove(objectSource));
 			dynamicStore.put(objectSource, sessionObject);
 		}
 		return sessionObject;
 	}
 
+	private <T extends SessionObject> T createSessionObject(SessionObjectSource<T> objectSource, SessionObject inherited) {
+		if (inherited == null) return objectSource.createSessionObject(this);
+		@SuppressWarnings("unchecked")
+		T original = (T) inherited;
+		return objectSource.forkSessionObject(this, original);
+	}
+
+	private <T extends SessionObject> T getSlottedSessionObject(SessionObjectSource<T> objectSource, int slot) {
+		if (slot >= slottedStore.length) {
+			// grow to all slots known so far, to avoid growing again for each new source
+			slottedStore = Arrays.copyOf(slottedStore, Math.max(slot + 1, kb.getSessionObjectSlotCount()));
+		}
+		@SuppressWarnings("unchecked")
+		T sessionObject = (T) slottedStore[slot];
+		if (sessionObject == null) {
+			// objects created before the source provided its slot are moved to the slot, instead of being lost
+			@SuppressWarnings("unchecked")
+			T existing = (T) dynamicStore.remove(objectSource);
+			if (existing != null) {
+				LOGGER.warn("session object of " + objectSource + " has been created without a slot, " +
+						"the source should provide a stable slot for knowledge base " + kb.getId());
+				sessionObject = existing;
+			}
+			else {
+				SessionObject inherited = null;
+				if (slot < inheritedSlottedStore.length) {
+					inherited = inheritedSlottedStore[slot];
+					inheritedSlottedStore[slot] = null;
+				}
+				if (inherited == null) {
+					inherited = inheritedStore.remove(objectSource);
+					if (inherited != null) {
+						LOGGER.warn("session object of " + objectSource + " has been forked without a slot, " +
+								"the source should provide a stable slot for knowledge base " + kb.getId());
+					}
+				}
+				sessionObject = createSessionObject(objectSource, inherited);
+			}
+			slottedStore[slot] = sessionObject;
+		}
+		return sessionObject;
+	}
+
 	/**
 	 * @return knowledge base used in the case.
 	 */
@@ -259,6 +366,11 @@ public class DefaultSession implements Session {
 		return propagationController;
 	}
 
+	@Override
+	public DefaultSession fork() {
+		return SessionFactory.createFork(this);
+	}
+
 	// ******************** event notification ********************
 
 	@Override
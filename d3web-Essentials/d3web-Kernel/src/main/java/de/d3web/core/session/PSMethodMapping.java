@@ -46,6 +46,12 @@ public class PSMethodMapping implements SessionObject, SessionObjectSource<PSMet
 		return new PSMethodMapping(psMethods);
 	}
 
+	@Override
+	public PSMethodMapping forkSessionObject(Session fork, PSMethodMapping original) {
+		// the mapping is never modified and the fork uses the same solvers
+		return original;
+	}
+
 	/**
 	 * Provides the instance of the {@link PSMethod} used in the session of this {@link SessionObject} and where the
 	 * class name matches the given class name. If no such {@link PSMethod} exists in the session, <tt>null</tt> is
@@ -22,8 +22,14 @@ package de.d3web.core.session;
 
 import java.util.List;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import de.d3web.core.inference.PSMethod;
 import de.d3web.core.inference.PropagationManager;
+import de.d3web.core.inference.PropagationMetrics;
+import de.d3web.core.inference.condition.ConditionCache;
+import de.d3web.core.inference.condition.NoConditionCache;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.terminology.QContainer;
 import de.d3web.core.knowledge.terminology.Question;
@@ -97,6 +103,56 @@ public interface Session extends SessionHeader {
 	 */
 	PropagationManager getPropagationManager();
 
+	/**
+	 * Returns the metrics of the propagation of this session, counting the
+	 * propagations and the time spent in each {@link PSMethod}. The metrics
+	 * are only available if they have been enabled for the propagation
+	 * manager, see {@link PropagationManager#setMetricsEnabled(boolean)} and
+	 * {@link SessionFactory#setPropagationMetricsEnabled(boolean)}, otherwise
+	 * null is returned. Use {@link PropagationMetrics#reset()} to reset them.
+	 *
+	 * @return the propagation metrics of this session
+	 * @created 18.10.2026
+	 */
+	@Nullable
+	default PropagationMetrics getPropagationMetrics() {
+		return getPropagationManager().getMetrics();
+	}
+
+	/**
+	 * Returns the condition cache of this session. The cache can be used by any {@link PSMethod} to evaluate
+	 * conditions, the cached results are invalidated automatically when the values of the session change. If the
+	 * propagation manager does not support a condition cache, a cache is returned that evaluates the conditions every
+	 * time.
+	 *
+	 * @return the condition cache of this session
+	 * @created 18.10.2026
+	 */
+	@NotNull
+	default ConditionCache getConditionCache() {
+		ConditionCache cache = getPropagationManager().getConditionCache();
+		return (cache == null) ? new NoConditionCache(this) : cache;
+	}
+
+	/**
+	 * Creates a fork of this session, e.g. to evaluate what would happen if some further facts are entered. The fork
+	 * initially has the same facts, protocol and session objects as this session, but it shares them with this session
+	 * instead of copying them. The facts and session objects are only copied when they are accessed by the fork, so
+	 * the fork is cheap to create. Afterwards the fork and this session are independent from each other, the fork may
+	 * also be used on another thread.
+	 * <p>
+	 * <b>Note:</b> This session must not be modified as long as the fork is in use, otherwise the fork may see the
+	 * modifications of this session.
+	 *
+	 * @return the fork of this session
+	 * @throws UnsupportedOperationException if this session cannot be forked
+	 * @throws IllegalStateException         if this session is in propagation
+	 * @created 18.10.2026
+	 */
+	default Session fork() {
+		throw new UnsupportedOperationException("session cannot be forked: " + getClass().getName());
+	}
+
 	// -----------------------from here on old stuff, TODO: remove?
 
 	/**
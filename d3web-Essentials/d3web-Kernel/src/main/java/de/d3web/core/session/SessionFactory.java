@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
 import de.d3web.abstraction.inference.PSMethodAbstraction;
 import de.d3web.core.inference.PSMethod;
@@ -33,6 +34,7 @@ import de.d3web.core.inference.PSMethodInit;
 import de.d3web.core.inference.PropagationListener;
 import de.d3web.core.inference.SessionTerminatedException;
 import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.session.blackboard.FactStorageFactory;
 import de.d3web.indication.inference.PSMethodStrategic;
 import de.d3web.indication.inference.PSMethodUserSelected;
 import de.d3web.scoring.inference.PSMethodHeuristic;
@@ -57,6 +59,10 @@ public final class SessionFactory {
 
 	private static final Collection<PropagationListener> propagationListeners = new LinkedList<>();
 
+	private static FactStorageFactory factStorageFactory = FactStorageFactory.HASHED;
+
+	private static boolean propagationMetricsEnabled = false;
+
 	private SessionFactory() { // enforce noninstantiability
 	}
 
@@ -118,6 +124,9 @@ public final class SessionFactory {
 		for (PropagationListener propagationListener : propagationListeners) {
 			defaultSession.getPropagationManager().addListener(propagationListener);
 		}
+		if (propagationMetricsEnabled) {
+			defaultSession.getPropagationManager().setMetricsEnabled(true);
+		}
 		try {
 			defaultSession.initPSMethods();
 		}
@@ -127,6 +136,26 @@ public final class SessionFactory {
 		return defaultSession;
 	}
 
+	/**
+	 * Factory-method that creates a fork of the specified session, see
+	 * {@link Session#fork()}. The propagation listeners of this factory are
+	 * added to the fork, but the problem solvers are not initialized again.
+	 * 
+	 * @created 18.10.2026
+	 * @param parent the session to create the fork of
+	 * @return the forked session
+	 */
+	public static DefaultSession createFork(DefaultSession parent) {
+		DefaultSession fork = new DefaultSession(parent);
+		for (PropagationListener propagationListener : propagationListeners) {
+			fork.getPropagationManager().addListener(propagationListener);
+		}
+		if (propagationMetricsEnabled) {
+			fork.getPropagationManager().setMetricsEnabled(true);
+		}
+		return fork;
+	}
+
 	/**
 	 * Factory-method that creates instances of Session.
 	 * 
@@ -159,6 +188,44 @@ public final class SessionFactory {
 		propagationListeners.add(propagationListener);
 	}
 
+	/**
+	 * Defines the factory used to create the fact storages of the blackboard for
+	 * each created Session. By default {@link FactStorageFactory#HASHED} is
+	 * used. For large knowledge bases {@link FactStorageFactory#DENSE} may be
+	 * used to access the facts by the ordinals of the terminology objects
+	 * instead of hashing them.
+	 * 
+	 * @created 18.10.2026
+	 * @param factory the factory to create the fact storages
+	 */
+	public static void setFactStorageFactory(FactStorageFactory factory) {
+		factStorageFactory = Objects.requireNonNull(factory);
+	}
+
+	/**
+	 * Returns the factory used to create the fact storages of the blackboard
+	 * for each created Session.
+	 * 
+	 * @created 18.10.2026
+	 * @return the factory to create the fact storages
+	 */
+	public static FactStorageFactory getFactStorageFactory() {
+		return factStorageFactory;
+	}
+
+	/**
+	 * Defines if the {@link de.d3web.core.inference.PropagationMetrics} are
+	 * collected for each session created in this factory. The metrics are
+	 * enabled before the initialization of the {@link PSMethod}s. Sessions
+	 * that already have been created are not affected.
+	 * 
+	 * @created 18.10.2026
+	 * @param enabled true if the metrics should be collected
+	 */
+	public static void setPropagationMetricsEnabled(boolean enabled) {
+		propagationMetricsEnabled = enabled;
+	}
+
 	/**
 	 * Removes a {@link PropagationListener} from being added to each created
 	 * Session
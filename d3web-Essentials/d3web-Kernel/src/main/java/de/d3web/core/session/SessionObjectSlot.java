@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.session;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+import de.d3web.core.knowledge.KnowledgeBase;
+
+/**
+ * Holds the dense slot numbers of an object within the knowledge bases it is used in. The slot is created lazily when
+ * it is first requested for a knowledge base, and remains stable for the lifetime of that knowledge base. The slot of
+ * the first knowledge base is accessed without any lookup, the slots of any other knowledge base require a short
+ * linear search. This is usually no limitation, because most objects (e.g. rules or models) belong to exactly one
+ * knowledge base, and the objects shared by multiple knowledge bases (e.g. problem solver singletons) are only used by
+ * a few of them.
+ * <p>
+ * The knowledge bases are only weakly referenced, so objects shared by multiple knowledge bases do not prevent the
+ * knowledge bases from being garbage collected. The slots of collected knowledge bases are removed when a new slot is
+ * created.
+ *
+ * @created 18.10.2026
+ */
+public final class SessionObjectSlot {
+
+	private static final Assignment[] NO_ASSIGNMENTS = new Assignment[0];
+
+	private static final class Assignment {
+
+		private final WeakReference<KnowledgeBase> knowledgeBase;
+		private final int slot;
+
+		private Assignment(KnowledgeBase knowledgeBase, int slot) {
+			this.knowledgeBase = new WeakReference<>(knowledgeBase);
+			this.slot = slot;
+		}
+	}
+
+	private final ToIntFunction<KnowledgeBase> allocator;
+	private volatile Assignment[] assignments = NO_ASSIGNMENTS;
+
+	/**
+	 * Creates a new slot holder, using the session object slots of the knowledge base (see {@link
+	 * KnowledgeBase#createSessionObjectSlot()}).
+	 */
+	public SessionObjectSlot() {
+		this(KnowledgeBase::createSessionObjectSlot);
+	}
+
+	/**
+	 * Creates a new slot holder, using the specified function to create a new slot for a knowledge base.
+	 *
+	 * @param allocator the function to create a new slot
+	 */
+	public SessionObjectSlot(ToIntFunction<KnowledgeBase> allocator) {
+		this.allocator = allocator;
+	}
+
+	/**
+	 * Returns the slot of this holder within the specified knowledge base. If there is no slot for the knowledge base
+	 * yet, it is created.
+	 *
+	 * @param knowledgeBase the knowledge base to get the slot for
+	 * @return the slot within the knowledge base
+	 */
+	public int get(KnowledgeBase knowledgeBase) {
+		int slot = find(assignments, knowledgeBase);
+		return (slot >= 0) ? slot : assign(knowledgeBase);
+	}
+
+	private static int find(Assignment[] assignments, KnowledgeBase knowledgeBase) {
+		for (Assignment assignment : assignments) {
+			if (assignment.knowledgeBase.get() == knowledgeBase) return assignment.slot;
+		}
+		return -1;
+	}
+
+	private synchronized int assign(KnowledgeBase knowledgeBase) {
+		Assignment[] current = assignments;
+		int slot = find(current, knowledgeBase);
+		if (slot >= 0) return slot;
+		slot = allocator.applyAsInt(knowledgeBase);
+		// copy on write, dropping the slots of the collected knowledge bases
+		Assignment[] next = new Assignment[current.length + 1];
+		int size = 0;
+		for (Assignment assignment : current) {
+			if (assignment.knowledgeBase.get() != null) next[size++] = assignment;
+		}
+		next[size++] = new Assignment(knowledgeBase, slot);
+		assignments = Arrays.copyOf(next, size);
+		return slot;
+	}
+}
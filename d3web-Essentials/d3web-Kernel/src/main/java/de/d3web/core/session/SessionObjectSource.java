@@ -20,6 +20,7 @@
 
 package de.d3web.core.session;
 
+import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.session.blackboard.SessionObject;
 
 /**
@@ -41,4 +42,43 @@ public interface SessionObjectSource<T extends SessionObject> {
 	 * @return the created session object for this instance
 	 */
 	T createSessionObject(Session session);
+
+	/**
+	 * Returns the dense slot number of this source within the specified knowledge base, or -1 if this source has no
+	 * such slot. Sessions may use the slot to store the session object of this source in an array instead of a hash
+	 * map. Once a slot has been returned for a knowledge base, it must not change during the lifetime of that knowledge
+	 * base. Frequently accessed sources should use a {@link SessionObjectSlot} to provide their slot.
+	 *
+	 * @param knowledgeBase the knowledge base of the session accessing the session object
+	 * @return the slot of this source, or -1 if there is no slot
+	 */
+	default int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+		return -1;
+	}
+
+	/**
+	 * Creates the session object for a forked session, based on the session object of the session the fork has been
+	 * created from, see {@link Session#fork()}. The created object must reflect the state of the original object, but
+	 * both objects must be independent of each other. The original object must not be modified, because it still
+	 * belongs to the original session.
+	 * <p>
+	 * <b>Do not call this method directly.</b> It is called by the {@link Session} implementations when the fork
+	 * accesses the session object of this source for the first time. By default, the original object is copied if it
+	 * is {@link Copyable}, otherwise the session object cannot be forked. Sources of session objects that are referring
+	 * to their session should overwrite this method.
+	 *
+	 * @param fork     the forked session the object is created for
+	 * @param original the session object of the session the fork has been created from
+	 * @return the created session object for the forked session
+	 * @throws UnsupportedOperationException if the session object cannot be forked
+	 * @created 18.10.2026
+	 */
+	default T forkSessionObject(Session fork, T original) {
+		if (original instanceof Copyable) {
+			@SuppressWarnings("unchecked")
+			T copy = ((Copyable<T>) original).copy();
+			return copy;
+		}
+		throw new UnsupportedOperationException("session object cannot be forked: " + original.getClass().getName());
+	}
 }
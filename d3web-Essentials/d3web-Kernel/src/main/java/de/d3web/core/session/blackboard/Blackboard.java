@@ -80,6 +80,54 @@ public interface Blackboard {
 	 */
 	void removeValueFact(Fact fact) throws SessionTerminatedException;
 
+	/**
+	 * Adds multiple value facts to this blackboard, within a single propagation frame. The resulting state is the same
+	 * as adding the facts one by one in the order of the collection, using {@link #addValueFact(Fact)}, but
+	 * implementations may notify the listeners only once per changed object and append the protocol entries at once.
+	 *
+	 * @param facts the facts to be added
+	 * @throws SessionTerminatedException if the session has been terminated manually and any further propagation is
+	 *                                    prevented. The exception is only thrown if this method is not called inside a
+	 *                                    opened propagation frame. In this case the exception is thrown when the
+	 *                                    propagation will be committed using {@link PropagationManager#commitPropagation()}
+	 */
+	default void addValueFacts(Collection<? extends Fact> facts) throws SessionTerminatedException {
+		PropagationManager propagationManager = getSession().getPropagationManager();
+		try {
+			propagationManager.openPropagation();
+			for (Fact fact : facts) {
+				addValueFact(fact);
+			}
+		}
+		finally {
+			propagationManager.commitPropagation();
+		}
+	}
+
+	/**
+	 * Removes multiple value facts from this blackboard, within a single propagation frame. The resulting state is the
+	 * same as removing the facts one by one in the order of the collection, using {@link #removeValueFact(Fact)}, but
+	 * implementations may notify the listeners only once per changed object and append the protocol entries at once.
+	 *
+	 * @param facts the facts to be removed
+	 * @throws SessionTerminatedException if the session has been terminated manually and any further propagation is
+	 *                                    prevented. The exception is only thrown if this method is not called inside a
+	 *                                    opened propagation frame. In this case the exception is thrown when the
+	 *                                    propagation will be committed using {@link PropagationManager#commitPropagation()}
+	 */
+	default void removeValueFacts(Collection<? extends Fact> facts) throws SessionTerminatedException {
+		PropagationManager propagationManager = getSession().getPropagationManager();
+		try {
+			propagationManager.openPropagation();
+			for (Fact fact : facts) {
+				removeValueFact(fact);
+			}
+		}
+		finally {
+			propagationManager.commitPropagation();
+		}
+	}
+
 	/**
 	 * Removes all value facts with the specified source from this blackboard for the specified terminology object. If
 	 * no such fact exists in the blackboard, this method has no effect.
@@ -21,6 +21,7 @@
 package de.d3web.core.session.blackboard;
 
 import de.d3web.core.inference.Rule;
+import de.d3web.core.session.Copyable;
 
 /**
  * Stores the dynamic, user specific values for a RuleComplex object. It
@@ -31,7 +32,7 @@ import de.d3web.core.inference.Rule;
  * @author Christian Betz, joba
  * @see Rule
  */
-public class CaseRuleComplex implements SessionObject {
+public class CaseRuleComplex implements SessionObject, Copyable<CaseRuleComplex> {
 
 	private boolean fired = false;
 
@@ -59,4 +60,11 @@ public class CaseRuleComplex implements SessionObject {
 	public void setFired(boolean fired) {
 		this.fired = fired;
 	}
+
+	@Override
+	public CaseRuleComplex copy() {
+		CaseRuleComplex copy = new CaseRuleComplex();
+		copy.fired = fired;
+		return copy;
+	}
 }
\ No newline at end of file
@@ -22,8 +22,10 @@ package de.d3web.core.session.blackboard;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -42,6 +44,7 @@ import de.d3web.core.knowledge.terminology.Solution;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.Value;
 import de.d3web.core.session.protocol.FactProtocolEntry;
+import de.d3web.core.session.protocol.ProtocolEntry;
 import de.d3web.core.session.values.UndefinedValue;
 
 /**
@@ -58,6 +61,15 @@ public class DefaultBlackboard implements Blackboard {
 
 	private boolean sourceRecording = true;
 
+	/**
+	 * Collects the listener notifications and protocol entries while adding or removing multiple facts, to process
+	 * them at once after all facts have been added or removed.
+	 */
+	private static final class FactBatch {
+		private final Set<TerminologyObject> changedObjects = new LinkedHashSet<>();
+		private final List<ProtocolEntry> protocolEntries = new ArrayList<>();
+	}
+
 	@Override
 	public boolean isSourceRecording() {
 		return sourceRecording;
@@ -74,9 +86,20 @@ public class DefaultBlackboard implements Blackboard {
 	 * @param session the session the blackboard is created for
 	 */
 	public DefaultBlackboard(Session session) {
+		this(session, FactStorageFactory.HASHED);
+	}
+
+	/**
+	 * Creates a new Blackboard for the specified xps session, using the specified factory to create the fact
+	 * storages.
+	 *
+	 * @param session        the session the blackboard is created for
+	 * @param storageFactory the factory to create the value and interview storage
+	 */
+	public DefaultBlackboard(Session session, FactStorageFactory storageFactory) {
 		this.session = session;
-		this.valueStorage = new DefaultFactStorage();
-		this.interviewStorage = new DefaultFactStorage();
+		this.valueStorage = storageFactory.createFactStorage(session.getKnowledgeBase());
+		this.interviewStorage = storageFactory.createFactStorage(session.getKnowledgeBase());
 	}
 
 	/**
@@ -91,6 +114,23 @@ public class DefaultBlackboard implements Blackboard {
 		this.interviewStorage = factStoragesToShare.interviewStorage;
 	}
 
+	/**
+	 * Creates a new blackboard for a fork of the session of this blackboard, see {@link Session#fork()}. The created
+	 * blackboard initially has the facts of this blackboard, but all changes to the created blackboard will not affect
+	 * this one. The listeners of this blackboard are not added to the created blackboard.
+	 *
+	 * @param fork the forked session to create the blackboard for
+	 * @return the blackboard of the forked session
+	 * @created 18.10.2026
+	 */
+	public DefaultBlackboard fork(Session fork) {
+		DefaultBlackboard blackboard = new DefaultBlackboard(fork, this);
+		blackboard.valueStorage = ForkedFactStorage.fork(valueStorage);
+		blackboard.interviewStorage = ForkedFactStorage.fork(interviewStorage);
+		blackboard.sourceRecording = sourceRecording;
+		return blackboard;
+	}
+
 	@NotNull
 	@Override
 	public Session getSession() {
@@ -99,7 +139,30 @@ public class DefaultBlackboard implements Blackboard {
 
 	@Override
 	public void addValueFact(Fact fact) {
+		addValueFact(fact, null);
+	}
 
+	@Override
+	public void addValueFacts(Collection<? extends Fact> facts) {
+		FactBatch batch = new FactBatch();
+		PropagationManager propagationManager = session.getPropagationManager();
+		try {
+			propagationManager.openPropagation();
+			for (Fact fact : facts) {
+				addValueFact(fact, batch);
+			}
+		}
+		finally {
+			try {
+				commitBatch(batch);
+			}
+			finally {
+				propagationManager.commitPropagation();
+			}
+		}
+	}
+
+	private void addValueFact(Fact fact, @Nullable FactBatch batch) {
 		TerminologyObject terminologyObject = fact.getTerminologyObject();
 		PSMethod psMethod = fact.getPSMethod();
 
@@ -108,18 +171,38 @@ public class DefaultBlackboard implements Blackboard {
 		if (UndefinedValue.isUndefinedValue(fact.getValue())) {
 			Fact oldFact = this.getValueStorage().getFact(terminologyObject, psMethod, fact.getSource());
 			if (oldFact != null) {
-				removeValueFact(oldFact);
+				removeValueFact(oldFact, batch);
 			}
 			return;
 		}
 
 		Value oldValue = getValue((ValueObject) terminologyObject);
 		this.getValueStorage().add(fact);
-		propagate(terminologyObject, oldValue, fact.getPSMethod().hasType(Type.source));
+		propagate(terminologyObject, oldValue, fact.getPSMethod().hasType(Type.source), batch);
 
 		if (shouldWriteToProtocol(psMethod)) {
-			getSession().getProtocol()
-					.addEntry(new FactProtocolEntry(session.getPropagationManager().getPropagationTime(), fact));
+			addProtocolEntry(new FactProtocolEntry(session.getPropagationManager().getPropagationTime(), fact), batch);
+		}
+	}
+
+	private void addProtocolEntry(ProtocolEntry entry, @Nullable FactBatch batch) {
+		if (batch == null) {
+			getSession().getProtocol().addEntry(entry);
+		}
+		else {
+			batch.protocolEntries.add(entry);
+		}
+	}
+
+	/**
+	 * Adds the collected protocol entries and notifies the listeners once for each changed object.
+	 */
+	private void commitBatch(FactBatch batch) {
+		if (!batch.protocolEntries.isEmpty()) {
+			getSession().getProtocol().addEntries(batch.protocolEntries);
+		}
+		for (TerminologyObject object : batch.changedObjects) {
+			notifyListeners(object);
 		}
 	}
 
@@ -132,7 +215,7 @@ public class DefaultBlackboard implements Blackboard {
 	/**
 	 * Propagates if the value of the terminology object has changed
 	 */
-	private void propagate(TerminologyObject terminologyObject, Value oldValue, boolean force) {
+	private void propagate(TerminologyObject terminologyObject, Value oldValue, boolean force, @Nullable FactBatch batch) {
 		PropagationManager propagationManager = session.getPropagationManager();
 		if (force) {
 			propagationManager.forcePropagate((ValueObject) terminologyObject, oldValue);
@@ -140,6 +223,15 @@ public class DefaultBlackboard implements Blackboard {
 		else {
 			propagationManager.propagate((ValueObject) terminologyObject, oldValue);
 		}
+		if (batch == null) {
+			notifyListeners(terminologyObject);
+		}
+		else {
+			batch.changedObjects.add(terminologyObject);
+		}
+	}
+
+	private void notifyListeners(TerminologyObject terminologyObject) {
 		for (BlackboardListener listener : listeners) {
 			listener.factsChanged(terminologyObject);
 		}
@@ -174,9 +266,33 @@ public class DefaultBlackboard implements Blackboard {
 
 	@Override
 	public void removeValueFact(Fact fact) {
+		removeValueFact(fact, null);
+	}
+
+	@Override
+	public void removeValueFacts(Collection<? extends Fact> facts) {
+		FactBatch batch = new FactBatch();
+		PropagationManager propagationManager = session.getPropagationManager();
+		try {
+			propagationManager.openPropagation();
+			for (Fact fact : facts) {
+				removeValueFact(fact, batch);
+			}
+		}
+		finally {
+			try {
+				commitBatch(batch);
+			}
+			finally {
+				propagationManager.commitPropagation();
+			}
+		}
+	}
+
+	private void removeValueFact(Fact fact, @Nullable FactBatch batch) {
 		Value oldValue = getValue((ValueObject) fact.getTerminologyObject());
 		this.getValueStorage().remove(fact);
-		propagate(fact.getTerminologyObject(), oldValue, false);
+		propagate(fact.getTerminologyObject(), oldValue, false, batch);
 
 		if (shouldWriteToProtocol(fact.getPSMethod())) {
 			// we create an entry setting undefined for object, source and ps-method, which is equivalent
@@ -185,7 +301,7 @@ public class DefaultBlackboard implements Blackboard {
 					fact.getSource(), fact.getPSMethod());
 			final FactProtocolEntry entry = new FactProtocolEntry(session.getPropagationManager()
 					.getPropagationTime(), protocolFact);
-			getSession().getProtocol().addEntry(entry);
+			addProtocolEntry(entry, batch);
 		}
 	}
 
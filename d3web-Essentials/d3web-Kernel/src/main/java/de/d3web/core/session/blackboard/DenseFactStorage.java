@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.session.blackboard;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jetbrains.annotations.NotNull;
+
+import de.d3web.core.inference.PSMethod;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyManager;
+import de.d3web.core.knowledge.TerminologyObject;
+
+/**
+ * This class handles a dynamic set of {@link FactAggregator}s, stored in a flat array that is indexed by the ordinals
+ * of the terminology objects (see {@link TerminologyManager#getOrdinal(TerminologyObject)}). Compared to the {@link
+ * DefaultFactStorage}, accessing the facts of an object requires no hash lookup, and the storage does not grow with
+ * the number of valued objects. The array is allocated once for the size of the knowledge base's terminology, and
+ * only grows if new objects are added to the knowledge base after the storage has been created.
+ * <p>
+ * <b>Note:<br>
+ * This class is for internal purpose only. Until you do not provide an own blackboard implementation, do not use this
+ * class directly! </b>
+ *
+ * @created 18.10.2026
+ */
+public class DenseFactStorage implements FactStorage {
+
+	private final TerminologyManager manager;
+	private TerminologyObject[] objects;
+	private FactAggregator[] mediators;
+	private int size = 0;
+
+	/**
+	 * Creates a new empty storage for the terminology objects of the specified knowledge base.
+	 *
+	 * @param knowledgeBase the knowledge base to create the storage for
+	 */
+	public DenseFactStorage(KnowledgeBase knowledgeBase) {
+		this.manager = knowledgeBase.getManager();
+		int capacity = manager.getOrdinalCount();
+		this.objects = new TerminologyObject[capacity];
+		this.mediators = new FactAggregator[capacity];
+	}
+
+	/**
+	 * Copy constructor to create a deep copy of the specified instance.
+	 *
+	 * @param source the source instance to be copied
+	 */
+	private DenseFactStorage(DenseFactStorage source) {
+		this.manager = source.manager;
+		this.objects = source.objects.clone();
+		this.mediators = new FactAggregator[source.mediators.length];
+		this.size = source.size;
+		for (int i = 0; i < mediators.length; i++) {
+			FactAggregator aggregator = source.mediators[i];
+			if (aggregator != null) {
+				this.mediators[i] = aggregator.copy();
+			}
+		}
+	}
+
+	/**
+	 * Returns a newly created deep copy of this object for building a fully working copy of the current session.
+	 *
+	 * @return a deep copy of this object
+	 */
+	@Override
+	public DenseFactStorage copy() {
+		// use copy constructor
+		return new DenseFactStorage(this);
+	}
+
+	/**
+	 * Returns the {@link FactAggregator} for a specified terminology object, or null if there is no such aggregator.
+	 * If the ordinal of the object is used by an other object, e.g. an object of an other knowledge base, null is
+	 * returned as well.
+	 */
+	private FactAggregator getExistingAggregator(TerminologyObject termObject) {
+		int ordinal = manager.getOrdinal(termObject);
+		return (ordinal < mediators.length && objects[ordinal] == termObject) ? mediators[ordinal] : null;
+	}
+
+	/**
+	 * Returns the {@link FactAggregator} for a specified terminology object. If no such aggregator exists yet, a new
+	 * one is created (lazy).
+	 *
+	 * @param termObject the object to access the aggregator for
+	 * @return the aggregator for the object
+	 * @throws IllegalArgumentException if the ordinal of the object is already used by an other object
+	 */
+	private FactAggregator getAggregator(TerminologyObject termObject) {
+		int ordinal = manager.getOrdinal(termObject);
+		if (ordinal >= mediators.length) {
+			// the terminology has grown since this storage has been created
+			int capacity = Math.max(ordinal + 1, manager.getOrdinalCount());
+			this.objects = Arrays.copyOf(objects, capacity);
+			this.mediators = Arrays.copyOf(mediators, capacity);
+		}
+		FactAggregator aggregator = mediators[ordinal];
+		if (aggregator == null) {
+			aggregator = new FactAggregator();
+			mediators[ordinal] = aggregator;
+			objects[ordinal] = termObject;
+			size++;
+		}
+		else if (objects[ordinal] != termObject) {
+			throw new IllegalArgumentException("object " + termObject + " has the same ordinal as " +
+					objects[ordinal] + ", it may be part of an other knowledge base");
+		}
+		return aggregator;
+	}
+
+	private void removeAggregator(TerminologyObject termObject) {
+		int ordinal = manager.getOrdinal(termObject);
+		if (ordinal < mediators.length && mediators[ordinal] != null && objects[ordinal] == termObject) {
+			mediators[ordinal] = null;
+			objects[ordinal] = null;
+			size--;
+		}
+	}
+
+	@Override
+	public Fact getMergedFact(TerminologyObject termObject) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			return aggregator.getMergedFact();
+		}
+		return null;
+	}
+
+	@Override
+	public Collection<Fact> getAllFacts(TerminologyObject termObject) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			return Collections.unmodifiableCollection(aggregator.getAllFacts());
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Fact getMergedFact(TerminologyObject termObject, PSMethod psMethod) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			return aggregator.getMergedFact(psMethod);
+		}
+		return null;
+	}
+
+	@Override
+	public Fact getFact(TerminologyObject termObject, PSMethod psMethod, Object source) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			return aggregator.getFact(psMethod, source);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean hasFact(TerminologyObject termObject) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		return aggregator != null && !aggregator.isEmpty();
+	}
+
+	@Override
+	public boolean hasFact(TerminologyObject termObject, PSMethod method) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		return aggregator != null && aggregator.hasFacts(method);
+	}
+
+	@Override
+	public void add(Fact fact) {
+		getAggregator(fact.getTerminologyObject()).addFact(fact);
+	}
+
+	@Override
+	public void remove(Fact fact) {
+		TerminologyObject terminologyObject = fact.getTerminologyObject();
+		FactAggregator aggregator = getExistingAggregator(terminologyObject);
+		if (aggregator != null) {
+			aggregator.removeFact(fact);
+			// check if the aggregator has become empty remove it
+			if (aggregator.isEmpty()) {
+				removeAggregator(terminologyObject);
+			}
+		}
+	}
+
+	@Override
+	public void remove(TerminologyObject termObject, Object source) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			aggregator.removeFactsBySource(source);
+			// check if the aggregator has become empty remove it
+			if (aggregator.isEmpty()) {
+				removeAggregator(termObject);
+			}
+		}
+	}
+
+	@Override
+	public void remove(TerminologyObject termObject) {
+		removeAggregator(termObject);
+	}
+
+	@Override
+	public Collection<TerminologyObject> getValuedObjects() {
+		return new ValuedObjects();
+	}
+
+	@Override
+	public Collection<PSMethod> getContributingPSMethods(TerminologyObject termObject) {
+		FactAggregator aggregator = getExistingAggregator(termObject);
+		if (aggregator != null) {
+			return aggregator.getContributingPSMethods();
+		}
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Live view of the valued objects of this storage, in the order of their ordinals.
+	 */
+	private class ValuedObjects extends AbstractCollection<TerminologyObject> {
+
+		@NotNull
+		@Override
+		public Iterator<TerminologyObject> iterator() {
+			return new Iterator<TerminologyObject>() {
+
+				private int next = seek(0);
+
+				private int seek(int index) {
+					while (index < objects.length && objects[index] == null) index++;
+					return index;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return next < objects.length;
+				}
+
+				@Override
+				public TerminologyObject next() {
+					if (!hasNext()) throw new NoSuchElementException();
+					TerminologyObject result = objects[next];
+					next = seek(next + 1);
+					return result;
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof TerminologyObject)) return false;
+			int ordinal = manager.getOrdinal((TerminologyObject) o);
+			return ordinal < objects.length && objects[ordinal] == o;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -25,7 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +39,10 @@ import de.d3web.core.session.Copyable;
  * This class organizes the facts of one type for one terminology object. It is capable to merge different opinions
  * (facts from different solvers) to one final value of the terminology object.
  * <p>
+ * As most objects only have a single fact (e.g. a question answered by the user), the aggregator stores a single fact
+ * inline, without allocating any collection. Only if a second source contributes a fact, the facts are stored in a map
+ * keyed by their source. The merged facts of the particular solvers are cached until a fact of that solver changes.
+ * <p>
  * <b>Note:<br>
  * This class is for internal purpose only. Until you do not provide an own blackboard implementation, do not use this
  * class directly! </b>
@@ -47,25 +51,41 @@ import de.d3web.core.session.Copyable;
  */
 public final class FactAggregator implements Copyable<FactAggregator> {
 
-	private final List<Fact> facts;
+	/**
+	 * The only fact of this aggregator, if there is exactly one fact and the facts have not been upgraded to be
+	 * stored in {@link #factsBySource}.
+	 */
+	private Fact singleFact;
+	/**
+	 * The facts of this aggregator, keyed by their source, in the order they have been added. The map is only created
+	 * if a second source contributes a fact, otherwise it is null.
+	 */
+	private LinkedHashMap<Object, Fact> factsBySource;
+	/**
+	 * Cache for the merged facts of the particular solvers. Only used if the facts are stored in {@link
+	 * #factsBySource}.
+	 */
+	private Map<PSMethod, Fact> mergedFactsByPSMethod;
 	private Fact mergedFact;
 
 	public FactAggregator() {
-		this.facts = new ArrayList<>();
+		this.singleFact = null;
+		this.factsBySource = null;
 		this.mergedFact = null;
 	}
 
 	/**
 	 * Creates a new fact aggregator for the specified facts.
 	 * <p>
-	 * Note: This method assumes that there are not multiple facts for the same source. This is not explicitly tested.
-	 * If this is not sure, use default constructor and add the facts afterwards.
+	 * Note: If there are multiple facts for the same source, only the last one of them will be aggregated.
 	 *
 	 * @param facts the facts to be aggregated
 	 */
 	public FactAggregator(Collection<Fact> facts) {
-		this.facts = new ArrayList<>(facts);
-		this.mergedFact = null;
+		this();
+		for (Fact fact : facts) {
+			addFact(fact);
+		}
 	}
 
 	/**
@@ -74,7 +94,10 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @param source the source instance to be copied
 	 */
 	private FactAggregator(FactAggregator source) {
-		this.facts = new ArrayList<>(source.facts);
+		this.singleFact = source.singleFact;
+		this.factsBySource = (source.factsBySource == null) ? null : new LinkedHashMap<>(source.factsBySource);
+		this.mergedFactsByPSMethod = (source.mergedFactsByPSMethod == null)
+				? null : new HashMap<>(source.mergedFactsByPSMethod);
 		this.mergedFact = source.mergedFact;
 	}
 
@@ -91,10 +114,27 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @param fact the fact to be added
 	 */
 	public void addFact(Fact fact) {
-		// first make sure that the source remains unique
-		removeFactsBySource(fact.getSource());
-		this.facts.add(fact);
-		invalidate();
+		Object source = fact.getSource();
+		if (factsBySource == null) {
+			// fast path: replace or set the single fact
+			if (singleFact == null || source.equals(singleFact.getSource())) {
+				this.singleFact = fact;
+				invalidate();
+				return;
+			}
+			// otherwise upgrade to be keyed by source
+			this.factsBySource = new LinkedHashMap<>();
+			this.factsBySource.put(singleFact.getSource(), singleFact);
+			this.singleFact = null;
+		}
+		// first make sure that the source remains unique,
+		// and the new fact is appended as the latest one
+		Fact previous = factsBySource.remove(source);
+		factsBySource.put(source, fact);
+		if (previous != null) {
+			invalidate(previous.getPSMethod());
+		}
+		invalidate(fact.getPSMethod());
 	}
 
 	/**
@@ -103,15 +143,25 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @param fact the fact to be removed
 	 */
 	public void removeFact(Fact fact) {
-		this.facts.remove(fact);
-		invalidate();
+		if (factsBySource == null) {
+			if (fact.equals(singleFact)) {
+				this.singleFact = null;
+				invalidate();
+			}
+		}
+		else if (factsBySource.remove(fact.getSource(), fact)) {
+			invalidate(fact.getPSMethod());
+			compact();
+		}
 	}
 
 	/**
 	 * Removes all facts from this aggregator.
 	 */
 	public void clear() {
-		this.facts.clear();
+		this.singleFact = null;
+		this.factsBySource = null;
+		this.mergedFactsByPSMethod = null;
 		invalidate();
 	}
 
@@ -121,15 +171,18 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @param source the source to remove facts for
 	 */
 	public void removeFactsBySource(Object source) {
-		Iterator<Fact> iterator = facts.iterator();
-		while (iterator.hasNext()) {
-			Fact fact = iterator.next();
-			if (source.equals(fact.getSource())) {
-				iterator.remove();
+		if (factsBySource == null) {
+			if (singleFact != null && source.equals(singleFact.getSource())) {
+				this.singleFact = null;
 				invalidate();
-				// source can only be found once (!),
-				// because source is unique
-				break;
+			}
+		}
+		else {
+			// source can only be found once (!), because source is unique
+			Fact previous = factsBySource.remove(source);
+			if (previous != null) {
+				invalidate(previous.getPSMethod());
+				compact();
 			}
 		}
 	}
@@ -152,60 +205,60 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @return the merged fact
 	 */
 	public Collection<Fact> getAllFacts() {
-		return Collections.unmodifiableList(facts);
+		if (factsBySource != null) {
+			return Collections.unmodifiableCollection(factsBySource.values());
+		}
+		return (singleFact == null) ? Collections.emptyList() : Collections.singletonList(singleFact);
 	}
 
 	private void invalidate() {
 		this.mergedFact = null;
 	}
 
-	private void mergeFacts() {
-		// do nothing if we do not have any facts
-		if (facts.isEmpty()) {
-			return;
+	private void invalidate(PSMethod psMethod) {
+		this.mergedFact = null;
+		if (mergedFactsByPSMethod != null) {
+			mergedFactsByPSMethod.remove(psMethod);
 		}
+	}
 
-		// use the one fact if there is only one
-		if (facts.size() == 1) {
-			this.mergedFact = this.facts.get(0);
-			return;
+	/**
+	 * Downgrades to the inline representation, if there is at most one fact left after removing facts.
+	 */
+	private void compact() {
+		if (factsBySource.size() <= 1) {
+			Iterator<Fact> iterator = factsBySource.values().iterator();
+			this.singleFact = iterator.hasNext() ? iterator.next() : null;
+			this.factsBySource = null;
+			this.mergedFactsByPSMethod = null;
 		}
+	}
 
-		// merge the facts if they are all of the same problem solver
-		// (normal case for solutions)
-		boolean hasUniquePSMethod = true;
-		PSMethod psm = facts.get(0).getPSMethod();
-		for (int i = 1; i < facts.size(); i++) {
-			if (facts.get(i).getPSMethod() != psm) {
-				hasUniquePSMethod = false;
-				break;
-			}
+	private void mergeFacts() {
+		// use the one fact if there is only one
+		// (or do nothing if we do not have any facts)
+		if (factsBySource == null) {
+			this.mergedFact = singleFact;
+			return;
 		}
 
-		if (hasUniquePSMethod) {
+		// merge the facts by their problem solver
+		// (usually only one for solutions, using the cache)
+		Collection<PSMethod> psMethods = getContributingPSMethods();
+		if (psMethods.size() == 1) {
 			// if we have only one PSMethod, merge all facts by this one
-			this.mergedFact = psm.mergeFacts(facts.toArray(new Fact[0]));
+			this.mergedFact = getMergedFact(psMethods.iterator().next());
 			return;
 		}
 
 		// otherwise we have to do the complex merge operation
-		// so we build a set of fact collections
-		Map<PSMethod, Collection<Fact>> factBoxes = new HashMap<>();
-		for (Fact fact : this.facts) {
-			PSMethod key = fact.getPSMethod();
-			factBoxes.computeIfAbsent(key, k -> new ArrayList<>()).add(fact);
-		}
-		// and collect them to single facts
-		List<Fact> mergedFacts = new ArrayList<>();
-		for (Collection<Fact> box : factBoxes.values()) {
-			Fact[] factArray = box.toArray(new Fact[0]);
-			Fact newMergedFact = (factArray.length == 1)
-					? factArray[0] // if we only have one, no merge is required
-					: factArray[0].getPSMethod().mergeFacts(factArray);
-			mergedFacts.add(newMergedFact);
+		// so we collect the (cached) merged facts of each solver
+		List<Fact> mergedFacts = new ArrayList<>(psMethods.size());
+		for (PSMethod psMethod : psMethods) {
+			mergedFacts.add(getMergedFact(psMethod));
 		}
 		// and find best of them, depending on the value type
-		Object exampleValue = this.facts.get(0).getValue();
+		Object exampleValue = factsBySource.values().iterator().next().getValue();
 		if (exampleValue instanceof Rating) {
 			this.mergedFact = mergeSolutionFacts(mergedFacts);
 		}
@@ -266,7 +319,7 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @return whether the aggregator is empty
 	 */
 	public boolean isEmpty() {
-		return this.facts.isEmpty();
+		return factsBySource == null && singleFact == null;
 	}
 
 	/**
@@ -277,7 +330,10 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @return whether the aggregator is empty
 	 */
 	public boolean isEmpty(PSMethod psMethod) {
-		for (Fact f : facts) {
+		if (factsBySource == null) {
+			return singleFact == null || !singleFact.getPSMethod().equals(psMethod);
+		}
+		for (Fact f : factsBySource.values()) {
 			if (f.getPSMethod().equals(psMethod)) {
 				return false;
 			}
@@ -296,13 +352,31 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	}
 
 	/**
-	 * Merges and returns all facts of one psmethod
+	 * Merges and returns all facts of one psmethod. The merged fact is cached until a fact of the specified solver is
+	 * added or removed.
 	 *
 	 * @return merged Fact
 	 */
 	public Fact getMergedFact(PSMethod psMethod) {
-		List<Fact> psmfacts = new LinkedList<>();
-		for (Fact f : facts) {
+		if (factsBySource == null) {
+			return (singleFact != null && singleFact.getPSMethod().equals(psMethod)) ? singleFact : null;
+		}
+		if (mergedFactsByPSMethod == null) {
+			mergedFactsByPSMethod = new HashMap<>();
+		}
+		Fact cached = mergedFactsByPSMethod.get(psMethod);
+		if (cached == null) {
+			cached = mergeFacts(psMethod);
+			if (cached != null) {
+				mergedFactsByPSMethod.put(psMethod, cached);
+			}
+		}
+		return cached;
+	}
+
+	private Fact mergeFacts(PSMethod psMethod) {
+		List<Fact> psmfacts = new ArrayList<>();
+		for (Fact f : factsBySource.values()) {
 			if (f.getPSMethod().equals(psMethod)) {
 				psmfacts.add(f);
 			}
@@ -325,10 +399,9 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	}
 
 	public Fact getFact(PSMethod psmethod, Object source) {
-		for (Fact fact : facts) {
-			if (source.equals(fact.getSource()) && psmethod.equals(fact.getPSMethod())) {
-				return fact;
-			}
+		Fact fact = (factsBySource == null) ? singleFact : factsBySource.get(source);
+		if (fact != null && source.equals(fact.getSource()) && psmethod.equals(fact.getPSMethod())) {
+			return fact;
 		}
 		return null;
 	}
@@ -341,8 +414,11 @@ public final class FactAggregator implements Copyable<FactAggregator> {
 	 * @created 02.09.2011
 	 */
 	public Collection<PSMethod> getContributingPSMethods() {
+		if (factsBySource == null) {
+			return (singleFact == null) ? Collections.emptySet() : Collections.singleton(singleFact.getPSMethod());
+		}
 		Set<PSMethod> result = new HashSet<>();
-		for (Fact fact : facts) {
+		for (Fact fact : factsBySource.values()) {
 			result.add(fact.getPSMethod());
 		}
 		return result;
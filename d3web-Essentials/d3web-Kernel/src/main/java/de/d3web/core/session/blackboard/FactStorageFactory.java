@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.session.blackboard;
+
+import de.d3web.core.knowledge.KnowledgeBase;
+
+/**
+ * Factory to create the {@link FactStorage}s of a {@link DefaultBlackboard}. The factory to be used for new sessions
+ * can be configured in the {@link de.d3web.core.session.SessionFactory}.
+ *
+ * @created 18.10.2026
+ */
+@FunctionalInterface
+public interface FactStorageFactory {
+
+	/**
+	 * Creates hash based storages ({@link DefaultFactStorage}), growing with the number of valued objects.
+	 */
+	FactStorageFactory HASHED = knowledgeBase -> new DefaultFactStorage();
+
+	/**
+	 * Creates array based storages ({@link DenseFactStorage}), indexed by the ordinals of the terminology objects.
+	 */
+	FactStorageFactory DENSE = DenseFactStorage::new;
+
+	/**
+	 * Creates a new, empty fact storage for a session of the specified knowledge base.
+	 *
+	 * @param knowledgeBase the knowledge base of the session
+	 * @return the newly created storage
+	 */
+	FactStorage createFactStorage(KnowledgeBase knowledgeBase);
+}
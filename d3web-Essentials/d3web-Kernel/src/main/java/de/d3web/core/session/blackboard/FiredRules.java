@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+
+package de.d3web.core.session.blackboard;
+
+import java.util.BitSet;
+
+import de.d3web.core.inference.Rule;
+import de.d3web.core.session.Copyable;
+
+/**
+ * Stores the fired state of all rules of a session in one bit set, indexed by the slot of the rules (see {@link
+ * de.d3web.core.knowledge.KnowledgeBase#createRuleSlot()}). It replaces the {@link CaseRuleComplex} per rule, for all
+ * rules that have a slot in the knowledge base of the session.
+ *
+ * @created 18.10.2026
+ * @see Rule#hasFired(de.d3web.core.session.Session)
+ */
+public class FiredRules implements SessionObject, Copyable<FiredRules> {
+
+	private final BitSet fired = new BitSet();
+
+	/**
+	 * Returns the fired state of the rule with the specified slot.
+	 *
+	 * @param slot the slot of the rule
+	 * @return true if the rule has fired
+	 */
+	public boolean hasFired(int slot) {
+		return fired.get(slot);
+	}
+
+	/**
+	 * Sets the fired state of the rule with the specified slot.
+	 *
+	 * @param slot  the slot of the rule
+	 * @param fired the new fired state
+	 */
+	public void setFired(int slot, boolean fired) {
+		this.fired.set(slot, fired);
+	}
+
+	/**
+	 * Returns the number of rules that have currently fired.
+	 *
+	 * @return the number of fired rules
+	 */
+	public int getFiredCount() {
+		return fired.cardinality();
+	}
+
+	@Override
+	public FiredRules copy() {
+		FiredRules copy = new FiredRules();
+		copy.fired.or(fired);
+		return copy;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import de.d3web.core.inference.PSMethod;
+import de.d3web.core.knowledge.TerminologyObject;
+
+/**
+ * Fact storage of a forked session, that initially provides the facts of the fact storage of the original session.
+ * All changes to this fact storage will not affect the original one.
+ * <p>
+ * When an object is accessed for the first time, its facts are copied from the original storage into an own {@link
+ * FactAggregator}. Thus the original storage is only read, but never modified, not even by the caches of its
+ * aggregators. This allows to use the fork on another thread, as long as the original storage is not modified.
+ *
+ * @created 18.10.2026
+ */
+public class ForkedFactStorage implements FactStorage {
+
+	private final FactStorage original;
+	private final Map<TerminologyObject, FactAggregator> mediators;
+
+	/**
+	 * Creates a fact storage that initially has the facts of the specified storage.
+	 *
+	 * @param original the storage of the original session
+	 */
+	public ForkedFactStorage(FactStorage original) {
+		this(original, new HashMap<>());
+	}
+
+	private ForkedFactStorage(FactStorage original, Map<TerminologyObject, FactAggregator> mediators) {
+		this.original = original;
+		this.mediators = mediators;
+	}
+
+	/**
+	 * Creates a fact storage for a forked session that initially has the facts of the specified storage. If the
+	 * storage is already forked, the fork is based on the same original storage, instead of stacking the forks.
+	 *
+	 * @param storage the storage of the session to be forked
+	 * @return the fact storage of the forked session
+	 */
+	public static ForkedFactStorage fork(FactStorage storage) {
+		return (storage instanceof ForkedFactStorage)
+				? ((ForkedFactStorage) storage).copy()
+				: new ForkedFactStorage(storage);
+	}
+
+	@Override
+	public ForkedFactStorage copy() {
+		Map<TerminologyObject, FactAggregator> copy = new HashMap<>();
+		mediators.forEach((object, aggregator) -> copy.put(object, aggregator.copy()));
+		return new ForkedFactStorage(original, copy);
+	}
+
+	private FactAggregator getAggregator(TerminologyObject termObject) {
+		return mediators.computeIfAbsent(termObject,
+				object -> new FactAggregator(original.getAllFacts(object)));
+	}
+
+	@Override
+	public Fact getMergedFact(TerminologyObject termObject) {
+		return getAggregator(termObject).getMergedFact();
+	}
+
+	@Override
+	public Collection<Fact> getAllFacts(TerminologyObject termObject) {
+		return Collections.unmodifiableCollection(getAggregator(termObject).getAllFacts());
+	}
+
+	@Override
+	public Fact getMergedFact(TerminologyObject termObject, PSMethod psMethod) {
+		return getAggregator(termObject).getMergedFact(psMethod);
+	}
+
+	@Override
+	public Fact getFact(TerminologyObject termObject, PSMethod psMethod, Object source) {
+		return getAggregator(termObject).getFact(psMethod, source);
+	}
+
+	@Override
+	public boolean hasFact(TerminologyObject termObject) {
+		return !getAggregator(termObject).isEmpty();
+	}
+
+	@Override
+	public boolean hasFact(TerminologyObject termObject, PSMethod method) {
+		return getAggregator(termObject).hasFacts(method);
+	}
+
+	@Override
+	public void add(Fact fact) {
+		getAggregator(fact.getTerminologyObject()).addFact(fact);
+	}
+
+	@Override
+	public void remove(Fact fact) {
+		getAggregator(fact.getTerminologyObject()).removeFact(fact);
+	}
+
+	@Override
+	public void remove(TerminologyObject termObject, Object source) {
+		getAggregator(termObject).removeFactsBySource(source);
+	}
+
+	@Override
+	public void remove(TerminologyObject termObject) {
+		// we cannot remove the aggregator, so we overwrite it with an empty one
+		mediators.put(termObject, new FactAggregator());
+	}
+
+	@Override
+	public Collection<TerminologyObject> getValuedObjects() {
+		Set<TerminologyObject> result = new HashSet<>(original.getValuedObjects());
+		mediators.forEach((object, aggregator) -> {
+			if (aggregator.isEmpty()) {
+				result.remove(object);
+			}
+			else {
+				result.add(object);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public Collection<PSMethod> getContributingPSMethods(TerminologyObject termObject) {
+		return getAggregator(termObject).getContributingPSMethods();
+	}
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -16,7 +17,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -27,11 +28,13 @@ import com.denkbares.plugin.Extension;
 import com.denkbares.plugin.PluginManager;
 import com.denkbares.utils.Pair;
 import de.d3web.core.extensions.KernelExtensionPoints;
+import de.d3web.core.inference.PropagationManager;
 import de.d3web.core.knowledge.InfoStore;
 import de.d3web.core.knowledge.InfoStoreUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.protocol.FactProtocolEntry;
 import de.d3web.core.session.protocol.Protocol;
 import de.d3web.core.session.protocol.ProtocolEntry;
 
@@ -294,6 +297,7 @@ public class SessionBuilder {
 		return session;
 	}
 
+	@SuppressWarnings("rawtypes")
 	private void replayProtocol() {
 		// we need a list for each date, because there can be multiple equal entries at the same date,
 		// and we want them all and in the same order as in the original protocol
@@ -301,19 +305,74 @@ public class SessionBuilder {
 		for (ProtocolEntry entry : protocol) {
 			groups.computeIfAbsent(entry.getDate(), k -> new ArrayList<>()).add(entry);
 		}
+		if (executors.isEmpty()) return;
 
+		// the executors an entry is routed to only depend on the entry class (and the solver of facts),
+		// so we determine them once for each kind of entry, instead of testing each entry against each executor
+		List<Pair<ProtocolExecutor, Class>> slots = new ArrayList<>(executors);
+		Map<Pair<Class<?>, String>, int[]> routes = new HashMap<>();
 		for (Map.Entry<Date, List<ProtocolEntry>> entry : groups.entrySet()) {
-			executors.forEach(pair -> {
-				// replay the recorded indications
-				List<ProtocolEntry> matches = entry.getValue().stream()
-						.filter(pair.getB()::isInstance).collect(Collectors.toList());
-				if (!matches.isEmpty()) {
-					//noinspection unchecked
-					pair.getA().handle(this, entry.getKey(), matches);
+			@SuppressWarnings("unchecked")
+			List<ProtocolEntry>[] partitions = new List[slots.size()];
+			for (ProtocolEntry protocolEntry : entry.getValue()) {
+				int[] route = routes.computeIfAbsent(getRouteKey(protocolEntry), key -> route(slots, protocolEntry));
+				for (int index : route) {
+					if (partitions[index] == null) partitions[index] = new ArrayList<>();
+					partitions[index].add(protocolEntry);
+				}
+			}
+			replayEntries(slots, entry.getKey(), partitions);
+			session.touch(entry.getKey());
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void replayEntries(List<Pair<ProtocolExecutor, Class>> slots, Date date, List<ProtocolEntry>[] partitions) {
+		PropagationManager propagation = session.getPropagationManager();
+		boolean open = false;
+		try {
+			for (int i = 0; i < slots.size(); i++) {
+				if (partitions[i] == null) continue;
+				// subsequent fact executors only add facts, so they share a single propagation frame,
+				// but any other executor may rely on the facts being propagated before
+				ProtocolExecutor executor = slots.get(i).getA();
+				boolean facts = executor instanceof FactProtocolExecutor;
+				if (facts && !open) {
+					propagation.openPropagation(date.getTime());
+					open = true;
+				}
+				else if (!facts && open) {
+					open = false;
+					propagation.commitPropagation();
 				}
-				session.touch(entry.getKey());
-			});
+				executor.handle(this, date, partitions[i]);
+			}
+		}
+		finally {
+			if (open) propagation.commitPropagation();
+		}
+	}
+
+	private static Pair<Class<?>, String> getRouteKey(ProtocolEntry entry) {
+		String solver = (entry instanceof FactProtocolEntry) ? ((FactProtocolEntry) entry).getSolvingMethodClassName() : null;
+		return new Pair<>(entry.getClass(), solver);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static int[] route(List<Pair<ProtocolExecutor, Class>> slots, ProtocolEntry entry) {
+		return IntStream.range(0, slots.size()).filter(i -> accepts(slots.get(i), entry)).toArray();
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static boolean accepts(Pair<ProtocolExecutor, Class> slot, ProtocolEntry entry) {
+		if (!slot.getB().isInstance(entry)) return false;
+		// the plain fact executors will ignore the facts of all other solvers anyway,
+		// sub-classes may decide differently, so they get all the entries of their class
+		if (slot.getA().getClass() == FactProtocolExecutor.class && entry instanceof FactProtocolEntry) {
+			String solver = ((FactProtocolExecutor<?>) slot.getA()).getSolverClass().getName();
+			return solver.equals(((FactProtocolEntry) entry).getSolvingMethodClassName());
 		}
+		return true;
 	}
 
 	public void warn(String message) {
@@ -19,58 +19,140 @@
 
 package de.d3web.core.session.protocol;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Default implementation of Protocol
+ * <p>
+ * The entries are stored sorted by their dates, together with a primitive array of their timestamps, so entries with
+ * monotonic dates are appended in constant time and the entries of a time range are found by binary search without
+ * accessing the entries and their dates. For each requested entry class, a sub-index is created and maintained by the
+ * appends. The sub-index only stores the positions of the matching entries within the entries of the protocol, so it
+ * requires only a few bytes per matching entry.
+ * <p>
+ * Unlike former versions, the returned lists are not live views of the protocol, but immutable snapshots, that are not
+ * affected by later modifications of the protocol. The entries are neither interned nor swapped to disk.
  *
  * @author Joachim Baumeister (denkbares GmbH)
  */
 public class DefaultProtocol implements Protocol {
 
-	private final List<ProtocolEntry> entries = new ArrayList<>();
+	private final EntryList entries = new EntryList();
+	private final Map<Class<?>, IndexList> entriesByClass = new HashMap<>();
 
 	public DefaultProtocol() {
 	}
 
+	/**
+	 * Creates a new protocol with the entries of the specified protocol, e.g. for a forked session. The entries are
+	 * shared with the specified protocol, until one of both protocols is modified.
+	 *
+	 * @param protocol the protocol to create a copy of
+	 */
+	public DefaultProtocol(DefaultProtocol protocol) {
+		this.entries.share(protocol.entries);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned list is an immutable snapshot of the current entries, it is not a live view of this protocol. Later
+	 * added or removed entries are not visible in the returned list, the history has to be requested again instead.
+	 */
 	@Override
 	public List<ProtocolEntry> getProtocolHistory() {
-		return Collections.unmodifiableList(this.entries);
+		return this.entries.snapshot(0, this.entries.size);
 	}
 
 	@Override
 	public void addEntry(ProtocolEntry entry) {
 		Objects.requireNonNull(entry);
-		int index = this.entries.size();
-		// if the stored entry is later, we reduce the index to store at
-		for (; index > 0; index--) {
-			// so break if stored one is not after that the one to be insert
-			if (!entries.get(index - 1).getDate().after(entry.getDate())) break;
+		long time = entry.getDate().getTime();
+		// if there are stored entries that are later, we store before them
+		int index = this.entries.upperBound(time);
+		if (index == this.entries.size) {
+			append(entry);
+		}
+		else {
+			this.entries.insert(index, entry);
+			this.entriesByClass.clear();
+		}
+	}
+
+	private void append(ProtocolEntry entry) {
+		this.entries.append(entry);
+		int index = this.entries.size - 1;
+		for (Map.Entry<Class<?>, IndexList> view : this.entriesByClass.entrySet()) {
+			if (view.getKey().isInstance(entry)) view.getValue().append(index);
 		}
-		this.entries.add(index, entry);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned list is an immutable snapshot of the current entries, see {@link #getProtocolHistory()}.
+	 */
 	@Override
 	public <T extends ProtocolEntry> List<T> getProtocolHistory(Class<T> filterClass) {
-		ArrayList<T> result = new ArrayList<>(this.entries.size());
-		for (ProtocolEntry entry : this.entries) {
-			if (filterClass.isInstance(entry)) {
-				result.add(filterClass.cast(entry));
-			}
+		if (filterClass == ProtocolEntry.class) return this.entries.snapshot(0, this.entries.size);
+		IndexList list = getIndexList(filterClass);
+		return list.snapshot(this.entries, 0, list.size);
+	}
+
+	@Override
+	public <T extends ProtocolEntry> List<T> getEntries(Date from, Date to, Class<T> filterClass) {
+		if (filterClass == ProtocolEntry.class) {
+			int start = (from == null) ? 0 : this.entries.lowerBound(from.getTime());
+			int end = (to == null) ? this.entries.size : this.entries.lowerBound(to.getTime());
+			return this.entries.snapshot(start, Math.max(start, end));
 		}
-		return Collections.unmodifiableList(result);
+		IndexList list = getIndexList(filterClass);
+		int start = (from == null) ? 0 : list.lowerBound(this.entries, from.getTime());
+		int end = (to == null) ? list.size : list.lowerBound(this.entries, to.getTime());
+		return list.snapshot(this.entries, start, Math.max(start, end));
+	}
+
+	private IndexList getIndexList(Class<?> filterClass) {
+		return this.entriesByClass.computeIfAbsent(filterClass, key -> {
+			IndexList list = new IndexList();
+			for (int i = 0; i < this.entries.size; i++) {
+				if (key.isInstance(this.entries.entries[i])) list.append(i);
+			}
+			return list;
+		});
 	}
 
 	@Override
 	public void addEntries(Collection<? extends ProtocolEntry> entries) {
+		// append all entries as long as they are in chronological order, otherwise sort only once,
+		// the sort is stable, so the order is the same as adding the entries one by one
+		List<ProtocolEntry> unsorted = null;
 		for (ProtocolEntry entry : entries) {
 			if (entry == null) continue;
-			addEntry(entry);
+			long time = entry.getDate().getTime();
+			if (unsorted == null && this.entries.upperBound(time) == this.entries.size) {
+				append(entry);
+				continue;
+			}
+			if (unsorted == null) unsorted = new ArrayList<>(getProtocolHistory());
+			unsorted.add(entry);
+		}
+		if (unsorted != null) {
+			unsorted.sort(Comparator.comparing(ProtocolEntry::getDate));
+			clear();
+			for (ProtocolEntry entry : unsorted) {
+				this.entries.append(entry);
+			}
 		}
 	}
 
@@ -82,14 +164,191 @@ public class DefaultProtocol implements Protocol {
 	@Override
 	public void clear() {
 		this.entries.clear();
+		this.entriesByClass.clear();
 	}
 
 	@Override
 	public boolean removeEntry(ProtocolEntry entry) {
-		// search from end, because we usually edit the last entries
-		int index = entries.lastIndexOf(entry);
+		// equal entries usually have the same date, so search the entries of that date first,
+		// and from the end, because we usually edit the last entries
+		int index = -1;
+		if (entry != null) {
+			long time = entry.getDate().getTime();
+			index = this.entries.lastIndexOf(entry, this.entries.lowerBound(time), this.entries.upperBound(time));
+		}
+		if (index == -1) index = this.entries.lastIndexOf(entry, 0, this.entries.size);
 		if (index == -1) return false;
-		entries.remove(index);
+		this.entries.remove(index);
+		this.entriesByClass.clear();
 		return true;
 	}
+
+	/**
+	 * Array based list of entries, sorted by their dates, with a parallel array of the timestamps of the entries. The
+	 * entry array may be shared with snapshots, so it is only modified beyond the size of the shared snapshots,
+	 * otherwise it is copied before. If the arrays are shared with another list, they are copied before any
+	 * modification.
+	 */
+	private static final class EntryList {
+
+		private ProtocolEntry[] entries = new ProtocolEntry[16];
+		private long[] times = new long[16];
+		private int size = 0;
+		private boolean shared = false;
+		private boolean aliased = false;
+
+		long time(int index) {
+			return times[index];
+		}
+
+		/**
+		 * Returns the index of the first entry later than the specified time.
+		 */
+		int upperBound(long time) {
+			// fast path for appending entries in chronological order
+			if (size == 0 || time(size - 1) <= time) return size;
+			int low = 0, high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (time(mid) <= time) low = mid + 1;
+				else high = mid;
+			}
+			return low;
+		}
+
+		/**
+		 * Returns the index of the first entry not earlier than the specified time.
+		 */
+		int lowerBound(long time) {
+			int low = 0, high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (time(mid) < time) low = mid + 1;
+				else high = mid;
+			}
+			return low;
+		}
+
+		int lastIndexOf(Object entry, int from, int to) {
+			for (int i = to - 1; i >= from; i--) {
+				if (Objects.equals(entry, entries[i])) return i;
+			}
+			return -1;
+		}
+
+		void share(EntryList other) {
+			entries = other.entries;
+			times = other.times;
+			size = other.size;
+			shared = other.shared = true;
+			aliased = other.aliased = true;
+		}
+
+		void append(ProtocolEntry entry) {
+			if (aliased || size == entries.length) resize(Math.max(16, size * 2));
+			times[size] = entry.getDate().getTime();
+			entries[size++] = entry;
+		}
+
+		void insert(int index, ProtocolEntry entry) {
+			if (shared || aliased || size == entries.length) resize(Math.max(entries.length, size * 2));
+			System.arraycopy(entries, index, entries, index + 1, size - index);
+			System.arraycopy(times, index, times, index + 1, size - index);
+			entries[index] = entry;
+			times[index] = entry.getDate().getTime();
+			size++;
+		}
+
+		void remove(int index) {
+			if (shared || aliased) resize(entries.length);
+			System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+			System.arraycopy(times, index + 1, times, index, size - index - 1);
+			entries[--size] = null;
+		}
+
+		void clear() {
+			entries = new ProtocolEntry[16];
+			times = new long[16];
+			size = 0;
+			shared = false;
+			aliased = false;
+		}
+
+		private void resize(int capacity) {
+			entries = Arrays.copyOf(entries, capacity);
+			times = Arrays.copyOf(times, capacity);
+			shared = false;
+			aliased = false;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> List<T> snapshot(int from, int to) {
+			shared = true;
+			return (List<T>) new Snapshot(entries, null, from, to);
+		}
+	}
+
+	/**
+	 * Sorted positions of the entries of a specific class within the entry list. The positions are only appended, the
+	 * list is discarded if the positions of the entries change, so the array can be shared with snapshots.
+	 */
+	private static final class IndexList {
+
+		private int[] indexes = new int[16];
+		private int size = 0;
+
+		void append(int index) {
+			if (size == indexes.length) indexes = Arrays.copyOf(indexes, size * 2);
+			indexes[size++] = index;
+		}
+
+		/**
+		 * Returns the position of the first entry not earlier than the specified time.
+		 */
+		int lowerBound(EntryList entries, long time) {
+			int low = 0, high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (entries.time(indexes[mid]) < time) low = mid + 1;
+				else high = mid;
+			}
+			return low;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> List<T> snapshot(EntryList entries, int from, int to) {
+			entries.shared = true;
+			return (List<T>) new Snapshot(entries.entries, indexes, from, to);
+		}
+	}
+
+	/**
+	 * Immutable view of a range of entries, either directly or through the positions of a sub-index.
+	 */
+	private static final class Snapshot extends AbstractList<ProtocolEntry> implements RandomAccess {
+
+		private final ProtocolEntry[] entries;
+		private final int[] indexes;
+		private final int from;
+		private final int to;
+
+		private Snapshot(ProtocolEntry[] entries, int[] indexes, int from, int to) {
+			this.entries = entries;
+			this.indexes = indexes;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public ProtocolEntry get(int index) {
+			Objects.checkIndex(index, size());
+			int position = from + index;
+			return entries[(indexes == null) ? position : indexes[position]];
+		}
+
+		@Override
+		public int size() {
+			return to - from;
+		}
+	}
 }
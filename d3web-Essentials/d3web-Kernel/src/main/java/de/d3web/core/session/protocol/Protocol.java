@@ -18,7 +18,10 @@
  */
 package de.d3web.core.session.protocol;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import de.d3web.core.session.Session;
@@ -36,7 +39,9 @@ import de.d3web.core.session.Session;
 public interface Protocol {
 
 	/**
-	 * Return the list of all protocol entries in a chronological order.
+	 * Return the list of all protocol entries in a chronological order. The returned list may be an immutable snapshot
+	 * instead of a live view (e.g. for {@link DefaultProtocol}), so later modifications of the protocol are not
+	 * necessarily visible in the returned list.
 	 * 
 	 * @return all protocol entries in a chronological order
 	 */
@@ -52,6 +57,29 @@ public interface Protocol {
 	 */
 	<T extends ProtocolEntry> List<T> getProtocolHistory(Class<T> filterClass);
 
+	/**
+	 * Return the list of all protocol entries of a certain class within the
+	 * specified time range in a chronological order. The range includes the
+	 * entries of the from date, but excludes the entries of the to date. If
+	 * any of the dates is null, the range is open on that side.
+	 * 
+	 * @created 18.10.2026
+	 * @param from the start of the range (inclusive), or null
+	 * @param to the end of the range (exclusive), or null
+	 * @param filterClass the class of the entries to be returned
+	 * @return the matching protocol entries in a chronological order
+	 */
+	default <T extends ProtocolEntry> List<T> getEntries(Date from, Date to, Class<T> filterClass) {
+		List<T> result = new ArrayList<>();
+		for (T entry : getProtocolHistory(filterClass)) {
+			Date date = entry.getDate();
+			if ((from == null || !date.before(from)) && (to == null || date.before(to))) {
+				result.add(entry);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
 	/**
 	 * Append a new protocol entry to the {@link Protocol}. The protocol takes
 	 * care that the entries are kept in a chronological order.
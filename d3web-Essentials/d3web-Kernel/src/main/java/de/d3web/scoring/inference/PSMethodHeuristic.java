@@ -87,6 +87,7 @@ public final class PSMethodHeuristic extends PSMethodRulebased {
 	 */
 	@Override
 	public void propagate(Session session, Collection<PropagationEntry> changes) {
+		if (propagateCompiled(session, changes, false)) return;
 		for (PropagationEntry change : changes) {
 			// do not handle strategic changes
 			if (!change.isStrategic()) checkRulesFor(session, change.getObject());
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.condition.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.CondNumLess;
+import de.d3web.core.inference.condition.CondSolutionConfirmed;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.inference.condition.ConditionCache.ConditionResult;
+import de.d3web.core.inference.condition.SessionConditionCache;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+
+/**
+ * Tests the invalidation and the counters of the {@link SessionConditionCache}.
+ *
+ * @created 18.10.2026
+ */
+public class SessionConditionCacheTest {
+
+	private QuestionNum question;
+	private Solution solution;
+	private Session session;
+	private SessionConditionCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		question = new QuestionNum(kb.getRootQASet(), "question");
+		solution = new Solution(kb.getRootSolution(), "solution");
+		session = SessionFactory.createSession(kb);
+		cache = session.getPropagationManager().getConditionCache();
+		cache.resetCounters();
+	}
+
+	@Test
+	public void invalidation() {
+		assertSame(cache, session.getConditionCache());
+		Condition condition = new CondAnd(new CondNumGreater(question, 5.0), new CondNumLess(question, 10.0));
+		assertTrue(condition.isCacheable());
+
+		assertEquals(ConditionResult.UNDEFINED, cache.getResult(condition));
+		assertEquals(ConditionResult.UNDEFINED, cache.getResult(condition));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+
+		// changing the value of the question invalidates the cached result
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(7)));
+		assertEquals(ConditionResult.TRUE, cache.getResult(condition));
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(12)));
+		assertEquals(ConditionResult.FALSE, cache.getResult(condition));
+		assertEquals(ConditionResult.FALSE, cache.getResult(condition));
+		assertEquals(3, cache.getMissCount());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(0.4, cache.getHitRate(), 0.0001);
+	}
+
+	@Test
+	public void uncacheable() {
+		// the user rating is not the merged value of the solution, so the condition is evaluated each time
+		Condition condition = new CondSolutionConfirmed(solution);
+		assertFalse(condition.isCacheable());
+		assertFalse(new CondAnd(condition, new CondNumGreater(question, 5.0)).isCacheable());
+		cache.getResult(condition);
+		cache.getResult(condition);
+		assertEquals(2, cache.getUncachedCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getHitCount());
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Simple benchmark reporting the number of propagations per second of a session. Each propagation sets one of some
+ * numeric questions, that are used by a few heuristic rules. Thus, the propagation is dominated by the overhead of the
+ * propagation manager itself. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class PropagationBenchmark {
+
+	private static final int QUESTIONS = 100;
+	private static final int RULES_PER_QUESTION = 5;
+	private static final int PROPAGATIONS = 500_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<QuestionNum> questions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			QuestionNum question = new QuestionNum(kb.getRootQASet(), "question" + i);
+			questions.add(question);
+			for (int r = 0; r < RULES_PER_QUESTION; r++) {
+				Solution solution = new Solution(kb.getRootSolution(), "solution" + i + "_" + r);
+				RuleFactory.createHeuristicPSRule(solution, Score.P5, new CondNumGreater(question, (double) r));
+			}
+		}
+
+		for (int run = 0; run < 5; run++) {
+			Session session = SessionFactory.createSession(kb);
+			long start = System.nanoTime();
+			for (int i = 0; i < PROPAGATIONS; i++) {
+				QuestionNum question = questions.get(i % QUESTIONS);
+				session.getBlackboard().addValueFact(
+						FactFactory.createUserEnteredFact(question, new NumValue(i % (RULES_PER_QUESTION + 2))));
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%,d propagations/s%n", (long) (PROPAGATIONS / seconds));
+		}
+	}
+}
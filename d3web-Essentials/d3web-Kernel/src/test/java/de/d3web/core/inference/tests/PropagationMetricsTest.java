@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.tests;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.PropagationMetrics;
+import de.d3web.core.inference.PropagationMetrics.PSMethodMetrics;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Basic test for {@link PropagationMetrics}
+ *
+ * @created 18.10.2026
+ */
+public class PropagationMetricsTest {
+
+	@After
+	public void tearDown() {
+		SessionFactory.setPropagationMetricsEnabled(false);
+	}
+
+	@Test
+	public void test() throws IOException {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		QuestionNum question = new QuestionNum(kb, "question");
+		Solution solution = new Solution(kb, "solution");
+		RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(question, 5.0));
+
+		// disabled by default
+		Session session = SessionFactory.createSession(kb);
+		Assert.assertNull(session.getPropagationMetrics());
+
+		SessionFactory.setPropagationMetricsEnabled(true);
+		session = SessionFactory.createSession(kb);
+		PropagationMetrics metrics = session.getPropagationMetrics();
+		Assert.assertNotNull(metrics);
+		Assert.assertTrue(session.getPropagationManager().isMetricsEnabled());
+		metrics.reset();
+		Assert.assertTrue(metrics.getMetrics().isEmpty());
+
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(10)));
+		PSMethodMetrics heuristic = metrics.getMetrics(PSMethodHeuristic.getInstance());
+		Assert.assertNotNull(heuristic);
+		// the solver propagates the question change and its own solution rating
+		Assert.assertTrue(heuristic.getPropagations() >= 1);
+		Assert.assertTrue(heuristic.getPropagationEntries() >= 1);
+		Assert.assertTrue(heuristic.getLongestChain() >= 1);
+		Assert.assertTrue(heuristic.getLongestChain() <= heuristic.getPropagations());
+
+		session.getPropagationManager().setMetricsEnabled(false);
+		Assert.assertFalse(session.getPropagationManager().isMetricsEnabled());
+		Assert.assertNull(session.getPropagationMetrics());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.Rule;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Simple benchmark reporting the throughput of {@link Rule#check(Session)} and the heap used per session, for a
+ * knowledge base with 50k rules. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class RuleCheckBenchmark {
+
+	private static final int QUESTIONS = 100;
+	private static final int RULES = 50_000;
+	private static final int SESSIONS = 50;
+	private static final int CHECKS = 10_000_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<QuestionNum> questions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			questions.add(new QuestionNum(kb.getRootQASet(), "question" + i));
+		}
+		List<Rule> rules = new ArrayList<>(RULES);
+		for (int i = 0; i < RULES; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			QuestionNum question = questions.get(i % QUESTIONS);
+			rules.add(RuleFactory.createHeuristicPSRule(solution, Score.P3, new CondNumGreater(question, 5.0)));
+		}
+
+		for (int run = 0; run < 3; run++) {
+			// heap: answer every question, so every rule is checked and half of them have fired
+			Runtime runtime = Runtime.getRuntime();
+			System.gc();
+			long before = runtime.totalMemory() - runtime.freeMemory();
+			List<Session> sessions = new ArrayList<>(SESSIONS);
+			for (int s = 0; s < SESSIONS; s++) {
+				Session session = SessionFactory.createSession(kb);
+				for (int i = 0; i < QUESTIONS; i++) {
+					session.getBlackboard().addValueFact(
+							FactFactory.createUserEnteredFact(questions.get(i), new NumValue((i % 2) * 10)));
+				}
+				sessions.add(session);
+			}
+			System.gc();
+			long footprint = (runtime.totalMemory() - runtime.freeMemory() - before) / SESSIONS;
+
+			// throughput: check the rules of the first session, without any changes
+			Session session = sessions.get(0);
+			long start = System.nanoTime();
+			for (int i = 0; i < CHECKS; i++) {
+				rules.get(i % RULES).check(session);
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%,d checks/s, %,d bytes/session%n", (long) (CHECKS / seconds), footprint);
+		}
+	}
+}
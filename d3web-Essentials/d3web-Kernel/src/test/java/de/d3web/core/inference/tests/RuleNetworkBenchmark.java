@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.PSMethodRulebased;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.CondNumLess;
+import de.d3web.core.inference.condition.CondOr;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Simple benchmark comparing the throughput of the interpreted and the compiled heuristic rules. A few popular
+ * questions are used by many rules with shared sub-conditions, so every answer of a popular question checks some
+ * hundred rules. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class RuleNetworkBenchmark {
+
+	private static final int QUESTIONS = 20;
+	private static final int SOLUTIONS = 2_000;
+	private static final int RULES_PER_SOLUTION = 5;
+	private static final int PROPAGATIONS = 50_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<QuestionNum> questions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			questions.add(new QuestionNum(kb.getRootQASet(), "question" + i));
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < SOLUTIONS; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			for (int r = 0; r < RULES_PER_SOLUTION; r++) {
+				RuleFactory.createHeuristicPSRule(solution, Score.P3, new CondOr(
+						new CondAnd(createCondition(random, questions), createCondition(random, questions)),
+						createCondition(random, questions)));
+			}
+		}
+
+		for (int run = 0; run < 5; run++) {
+			benchmark("interpreted", false, kb, questions);
+			benchmark("compiled   ", true, kb, questions);
+		}
+	}
+
+	private static Condition createCondition(Random random, List<QuestionNum> questions) {
+		// only a few distinct thresholds, so the conditions are shared between many rules
+		QuestionNum question = questions.get(random.nextInt(questions.size()));
+		double threshold = random.nextInt(10);
+		return random.nextBoolean()
+				? new CondNumGreater(question, threshold)
+				: new CondNumLess(question, threshold);
+	}
+
+	private static void benchmark(String name, boolean compiled, KnowledgeBase kb, List<QuestionNum> questions) {
+		PSMethodRulebased.setCompiled(PSMethodHeuristic.class, compiled);
+		Session session = SessionFactory.createSession(kb);
+		long start = System.nanoTime();
+		for (int i = 0; i < PROPAGATIONS; i++) {
+			QuestionNum question = questions.get(i % QUESTIONS);
+			session.getBlackboard().addValueFact(
+					FactFactory.createUserEnteredFact(question, new NumValue((i * 7) % 11)));
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%s: %,d propagations/s%n", name, (long) (PROPAGATIONS / seconds));
+	}
+}
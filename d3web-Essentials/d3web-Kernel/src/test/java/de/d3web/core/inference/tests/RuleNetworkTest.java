@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.inference.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.abstraction.formula.FormulaNumber;
+import de.d3web.abstraction.inference.PSMethodAbstraction;
+import de.d3web.core.inference.PSMethodRulebased;
+import de.d3web.core.inference.RuleNetwork;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondDState;
+import de.d3web.core.inference.condition.CondKnown;
+import de.d3web.core.inference.condition.CondMofN;
+import de.d3web.core.inference.condition.CondNonTerminalUnknown;
+import de.d3web.core.inference.condition.CondNot;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.CondNumLess;
+import de.d3web.core.inference.condition.CondOr;
+import de.d3web.core.inference.condition.CondUnknown;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.Blackboard;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.core.session.values.Unknown;
+import de.d3web.indication.inference.PSMethodStrategic;
+import de.d3web.indication.inference.PSMethodUserSelected;
+import de.d3web.scoring.HeuristicRating;
+import de.d3web.scoring.Score;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Checks that the compiled {@link RuleNetwork} derives the same results as the interpreted rule propagation, using a
+ * randomly created knowledge base with shared sub-conditions.
+ *
+ * @created 18.10.2026
+ */
+public class RuleNetworkTest {
+
+	private static final List<Class<? extends PSMethodRulebased>> SOLVERS = Arrays.asList(
+			PSMethodHeuristic.class, PSMethodAbstraction.class, PSMethodStrategic.class);
+	private static final Score[] SCORES = { Score.P5, Score.P4, Score.P3, Score.N4, Score.N5, Score.N7 };
+
+	private KnowledgeBase kb;
+	private final List<QuestionNum> inputs = new ArrayList<>();
+	private final List<QuestionNum> abstractions = new ArrayList<>();
+	private final List<Solution> solutions = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		for (int i = 0; i < 10; i++) {
+			inputs.add(new QuestionNum(kb.getRootQASet(), "input" + i));
+		}
+		for (int i = 0; i < 3; i++) {
+			abstractions.add(new QuestionNum(kb.getRootQASet(), "abstraction" + i));
+		}
+		for (int i = 0; i < 15; i++) {
+			solutions.add(new Solution(kb.getRootSolution(), "solution" + i));
+		}
+
+		Random random = new Random(4711);
+		List<Condition> inputConditions = new ArrayList<>();
+		for (QuestionNum input : inputs) {
+			inputConditions.add(new CondNumGreater(input, (double) random.nextInt(10)));
+			inputConditions.add(new CondNumLess(input, (double) random.nextInt(10)));
+			inputConditions.add(new CondKnown(input));
+			inputConditions.add(new CondUnknown(input));
+		}
+		// abstractions only depend on the inputs
+		for (int i = 0; i < 20; i++) {
+			QuestionNum abstraction = abstractions.get(i % abstractions.size());
+			RuleFactory.createSetValueRule(abstraction, new FormulaNumber((double) i),
+					createCondition(random, inputConditions), random.nextInt(4) == 0
+							? createCondition(random, inputConditions) : null);
+		}
+		// solutions depend on inputs, abstractions and previous solutions (but without cycles)
+		List<Condition> conditions = new ArrayList<>(inputConditions);
+		for (QuestionNum abstraction : abstractions) {
+			conditions.add(new CondNumGreater(abstraction, (double) random.nextInt(20)));
+		}
+		for (int i = 0; i < solutions.size(); i++) {
+			Solution solution = solutions.get(i);
+			for (int r = 0; r < 5; r++) {
+				RuleFactory.createHeuristicPSRule(solution, SCORES[random.nextInt(SCORES.length)],
+						createCondition(random, conditions));
+			}
+			conditions.add(new CondDState(solution, Rating.State.ESTABLISHED));
+			conditions.add(new CondDState(solution, Rating.State.SUGGESTED));
+		}
+		for (QuestionNum input : inputs) {
+			RuleFactory.createIndicationRule(input, createCondition(random, inputConditions));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		for (Class<? extends PSMethodRulebased> solver : SOLVERS) {
+			PSMethodRulebased.setCompiled(solver, false);
+		}
+	}
+
+	/**
+	 * Creates a condition, reusing the existing conditions, and adds the created condition to the existing ones.
+	 */
+	private static Condition createCondition(Random random, List<Condition> conditions) {
+		Condition term1 = conditions.get(random.nextInt(conditions.size()));
+		Condition term2 = conditions.get(random.nextInt(conditions.size()));
+		Condition term3 = conditions.get(random.nextInt(conditions.size()));
+		Condition condition;
+		switch (random.nextInt(6)) {
+			case 0:
+				condition = new CondAnd(term1, term2);
+				break;
+			case 1:
+				condition = new CondOr(term1, term2, term3);
+				break;
+			case 2:
+				condition = new CondNot(term1);
+				break;
+			case 3:
+				condition = new CondMofN(Arrays.asList(term1, term2, term3), 2, 2);
+				break;
+			case 4:
+				condition = new CondNonTerminalUnknown(Arrays.asList(term1, term2));
+				break;
+			default:
+				condition = term1;
+		}
+		conditions.add(condition);
+		return condition;
+	}
+
+	@Test
+	public void sameResults() {
+		List<String> interpreted = runScenario();
+		for (Class<? extends PSMethodRulebased> solver : SOLVERS) {
+			PSMethodRulebased.setCompiled(solver, true);
+			assertTrue(PSMethodRulebased.isCompiled(solver));
+		}
+		List<String> compiled = runScenario();
+		assertEquals(interpreted, compiled);
+
+		// equal conditions are shared by the network
+		RuleNetwork network = RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD);
+		assertTrue(network.getNodeCount() > 0);
+		assertSame(network, RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD));
+	}
+
+	@Test
+	public void modifiedRules() {
+		PSMethodRulebased.setCompiled(PSMethodHeuristic.class, true);
+		RuleNetwork network = RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD);
+		Session session = SessionFactory.createSession(kb);
+		QuestionNum input = inputs.get(0);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(input, new NumValue(5)));
+
+		// adding a rule outdates the network, so the new rule is used by the running session
+		Solution solution = new Solution(kb.getRootSolution(), "late");
+		RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(input, 5.0));
+		assertNotSame(network, RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD));
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(input, new NumValue(6)));
+		assertTrue(session.getBlackboard().getRating(solution).hasState(Rating.State.ESTABLISHED));
+	}
+
+	@Test
+	public void otherKnowledgeBase() {
+		PSMethodRulebased.setCompiled(PSMethodHeuristic.class, true);
+		RuleNetwork network = RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD);
+		Session session = SessionFactory.createSession(kb);
+		QuestionNum input = inputs.get(0);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(input, new NumValue(5)));
+
+		// modifying the rules of an other knowledge base does not outdate the network of this knowledge base
+		KnowledgeBase other = KnowledgeBaseUtils.createKnowledgeBase();
+		QuestionNum otherInput = new QuestionNum(other.getRootQASet(), "input");
+		Solution otherSolution = new Solution(other.getRootSolution(), "solution");
+		RuleNetwork otherNetwork = RuleNetwork.getNetwork(other, PSMethodHeuristic.FORWARD);
+		long modifications = kb.getModificationCount();
+		RuleFactory.createHeuristicPSRule(otherSolution, Score.P7, new CondNumGreater(otherInput, 5.0));
+		assertEquals(modifications, kb.getModificationCount());
+		assertSame(network, RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD));
+		assertNotSame(otherNetwork, RuleNetwork.getNetwork(other, PSMethodHeuristic.FORWARD));
+
+		// the running session still uses the same network
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(input, new NumValue(6)));
+		assertSame(network, RuleNetwork.getNetwork(kb, PSMethodHeuristic.FORWARD));
+	}
+
+	/**
+	 * Runs a random sequence of answers and retractions and returns a snapshot of the derived values after each step.
+	 */
+	private List<String> runScenario() {
+		Random random = new Random(42);
+		Session session = SessionFactory.createSession(kb);
+		Blackboard blackboard = session.getBlackboard();
+		List<String> snapshots = new ArrayList<>();
+		for (int step = 0; step < 300; step++) {
+			QuestionNum input = inputs.get(random.nextInt(inputs.size()));
+			int action = random.nextInt(10);
+			if (action == 0) {
+				blackboard.removeValueFact(input, PSMethodUserSelected.getInstance());
+			}
+			else if (action == 1) {
+				blackboard.addValueFact(FactFactory.createUserEnteredFact(input, Unknown.getInstance()));
+			}
+			else {
+				blackboard.addValueFact(FactFactory.createUserEnteredFact(input, new NumValue(random.nextInt(10))));
+			}
+			StringBuilder snapshot = new StringBuilder();
+			for (Solution solution : solutions) {
+				Rating rating = blackboard.getRating(solution);
+				snapshot.append(solution.getName()).append('=').append(rating);
+				if (rating instanceof HeuristicRating) {
+					snapshot.append('(').append(((HeuristicRating) rating).getScore()).append(')');
+				}
+				snapshot.append('\n');
+			}
+			for (QuestionNum abstraction : abstractions) {
+				snapshot.append(abstraction.getName()).append('=').append(blackboard.getValue(abstraction)).append('\n');
+			}
+			for (QuestionNum question : inputs) {
+				snapshot.append(question.getName()).append('=').append(blackboard.getIndication(question)).append('\n');
+			}
+			snapshots.add(snapshot.toString());
+		}
+		return snapshots;
+	}
+}
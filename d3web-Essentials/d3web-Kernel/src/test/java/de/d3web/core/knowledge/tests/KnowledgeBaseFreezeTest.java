@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.knowledge.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.Rule;
+import de.d3web.core.inference.RuleSet;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyManager;
+import de.d3web.core.knowledge.TerminologyObject;
+import de.d3web.core.knowledge.terminology.QContainer;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Tests the freezing of a {@link KnowledgeBase}.
+ *
+ * @created 18.10.2026
+ */
+public class KnowledgeBaseFreezeTest {
+
+	private KnowledgeBase kb;
+	private QContainer container;
+	private QuestionNum question;
+	private Solution solution;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		container = new QContainer(kb.getRootQASet(), "container");
+		question = new QuestionNum(container, "question");
+		solution = new Solution(kb.getRootSolution(), "solution");
+		RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(question, 5.0));
+	}
+
+	@Test
+	public void terminology() {
+		TerminologyManager manager = kb.getManager();
+		List<Integer> indexes = new ArrayList<>();
+		for (TerminologyObject object : manager.getAllTerminologyObjects()) {
+			indexes.add(manager.getTreeIndex(object));
+		}
+		kb.freeze();
+		assertTrue(kb.isFrozen());
+		assertTrue(manager.isFrozen());
+
+		// the lookups are still available, the tree indexes are unchanged
+		assertSame(question, manager.search("question"));
+		assertEquals(2, manager.getSolutions().size());
+		List<Integer> frozenIndexes = new ArrayList<>();
+		for (TerminologyObject object : manager.getAllTerminologyObjects()) {
+			frozenIndexes.add(manager.getTreeIndex(object));
+		}
+		assertEquals(indexes, frozenIndexes);
+
+		// but the terminology cannot be modified any longer
+		assertRejected(() -> new Solution(kb.getRootSolution(), "other"));
+		assertRejected(() -> question.destroy());
+		assertRejected(() -> kb.addInitQuestion(container, 1));
+		assertEquals(2, manager.getSolutions().size());
+
+		// freezing again has no effect
+		kb.freeze();
+		assertTrue(kb.isFrozen());
+	}
+
+	@Test
+	public void knowledge() {
+		kb.freeze();
+		RuleSet rules = question.getKnowledgeStore().getKnowledge(PSMethodHeuristic.FORWARD);
+		assertEquals(1, rules.getRules().size());
+		Rule rule = rules.getRules().iterator().next();
+		assertRejected(() -> rules.removeRule(rule));
+		assertRejected(() -> RuleFactory.createHeuristicPSRule(solution, Score.N7, new CondNumGreater(question, 7.0)));
+		assertRejected(() -> question.getKnowledgeStore().removeKnowledge(PSMethodHeuristic.FORWARD, rules));
+		assertEquals(1, rules.getRules().size());
+
+		// sessions of the frozen knowledge base work as usual
+		Session session = SessionFactory.createSession(kb);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(6)));
+		assertTrue(session.getBlackboard().getRating(solution).hasState(Rating.State.ESTABLISHED));
+	}
+
+	private static void assertRejected(Runnable modification) {
+		try {
+			modification.run();
+			fail("modification of frozen knowledge base has not been rejected");
+		}
+		catch (IllegalStateException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.knowledge.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyManager;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+
+/**
+ * Simple benchmark reporting how the throughput of the {@link TerminologyManager} lookups scales with the number of
+ * threads sharing one knowledge base. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class TerminologyLookupBenchmark {
+
+	private static final int OBJECTS = 10_000;
+	private static final int LOOKUPS = 5_000_000;
+	private static final int[] THREADS = { 1, 2, 4, 8, 16 };
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < OBJECTS; i++) {
+			names.add(new QuestionNum(kb.getRootQASet(), "question" + i).getName());
+			names.add(new Solution(kb.getRootSolution(), "solution" + i).getName());
+		}
+
+		for (int run = 0; run < 3; run++) {
+			for (int threads : THREADS) {
+				benchmark(kb.getManager(), names, threads);
+			}
+		}
+	}
+
+	private static void benchmark(TerminologyManager manager, List<String> names, int threads) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicLong found = new AtomicLong();
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int offset = t * 7919;
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				}
+				catch (InterruptedException e) {
+					return;
+				}
+				long count = 0;
+				for (int i = 0; i < LOOKUPS; i++) {
+					// mix of name lookups and type cache lookups, as done by session replay
+					if (manager.search(names.get((offset + i) % names.size())) != null) count++;
+					if (i % 100 == 0) count += manager.getQuestions().size();
+				}
+				found.addAndGet(count);
+			});
+			worker.start();
+			workers.add(worker);
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		double seconds = (System.nanoTime() - begin) / 1e9;
+		System.out.printf("%2d threads: %,d lookups/s (%d)%n",
+				threads, (long) (threads * (long) LOOKUPS / seconds), found.get() % 10);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyObject;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.Blackboard;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Checks that adding and removing facts in a batch results in the same session state as adding and removing them one
+ * by one.
+ *
+ * @created 18.10.2026
+ */
+public class BatchFactTest {
+
+	private static final long TIME = 1000000;
+
+	private KnowledgeBase kb;
+	private final List<QuestionNum> questions = new ArrayList<>();
+	private final List<Solution> solutions = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		for (int i = 0; i < 10; i++) {
+			QuestionNum question = new QuestionNum(kb.getRootQASet(), "question" + i);
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(question, 5.0));
+			questions.add(question);
+			solutions.add(solution);
+		}
+	}
+
+	@Test
+	public void sameState() {
+		List<Fact> facts = new ArrayList<>();
+		for (int i = 0; i < questions.size(); i++) {
+			facts.add(FactFactory.createUserEnteredFact(questions.get(i), new NumValue(i)));
+		}
+		// the first question is answered twice, so the second fact replaces the first one
+		facts.add(FactFactory.createUserEnteredFact(questions.get(0), new NumValue(42)));
+		List<Fact> removed = facts.subList(5, 8);
+
+		Session sequential = SessionFactory.createSession(kb);
+		List<TerminologyObject> sequentialChanges = record(sequential);
+		sequential.getPropagationManager().openPropagation(TIME);
+		facts.forEach(sequential.getBlackboard()::addValueFact);
+		removed.forEach(sequential.getBlackboard()::removeValueFact);
+		sequential.getPropagationManager().commitPropagation();
+
+		Session batch = SessionFactory.createSession(kb);
+		List<TerminologyObject> batchChanges = record(batch);
+		batch.getPropagationManager().openPropagation(TIME);
+		batch.getBlackboard().addValueFacts(facts);
+		batch.getBlackboard().removeValueFacts(removed);
+		batch.getPropagationManager().commitPropagation();
+
+		for (int i = 0; i < questions.size(); i++) {
+			assertEquals(sequential.getBlackboard().getValue(questions.get(i)),
+					batch.getBlackboard().getValue(questions.get(i)));
+			assertEquals(sequential.getBlackboard().getRating(solutions.get(i)).getState(),
+					batch.getBlackboard().getRating(solutions.get(i)).getState());
+		}
+		assertEquals(sequential.getProtocol().getProtocolHistory(), batch.getProtocol().getProtocolHistory());
+
+		// the listeners are notified only once per changed question and batch
+		assertEquals(sequential.getBlackboard().getValuedObjects().size(),
+				batch.getBlackboard().getValuedObjects().size());
+		assertEquals(facts.size() + removed.size(), sequentialChanges.size());
+		assertEquals(questions.size() + removed.size(), batchChanges.size());
+	}
+
+	/**
+	 * Records the changed questions, the changes of the derived solutions are not of interest here.
+	 */
+	private static List<TerminologyObject> record(Session session) {
+		List<TerminologyObject> changes = new ArrayList<>();
+		Blackboard blackboard = session.getBlackboard();
+		blackboard.addBlackboardListner(object -> {
+			if (object instanceof QuestionNum) changes.add(object);
+		});
+		return changes;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Simple benchmark comparing the import of many findings into a new session, adding the facts one by one versus
+ * adding them as a batch. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class BulkFactImportBenchmark {
+
+	private static final int QUESTIONS = 200;
+	private static final int SESSIONS = 2_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<Fact> facts = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			QuestionNum question = new QuestionNum(kb.getRootQASet(), "question" + i);
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			RuleFactory.createHeuristicPSRule(solution, Score.P3, new CondNumGreater(question, 5.0));
+			facts.add(FactFactory.createUserEnteredFact(question, new NumValue(i % 10)));
+		}
+
+		for (int run = 0; run < 5; run++) {
+			long start = System.nanoTime();
+			for (int s = 0; s < SESSIONS; s++) {
+				Session session = SessionFactory.createSession(kb);
+				for (Fact fact : facts) {
+					session.getBlackboard().addValueFact(fact);
+				}
+			}
+			report("sequential", start);
+
+			start = System.nanoTime();
+			for (int s = 0; s < SESSIONS; s++) {
+				Session session = SessionFactory.createSession(kb);
+				session.getBlackboard().addValueFacts(facts);
+			}
+			report("batch     ", start);
+		}
+	}
+
+	private static void report(String name, long start) {
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%s: %,d sessions/s%n", name, (long) (SESSIONS / seconds));
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyManager;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.DenseFactStorage;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.blackboard.FactStorageFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.core.session.values.UndefinedValue;
+import de.d3web.indication.inference.PSMethodUserSelected;
+
+/**
+ * Tests the ordinal based {@link DenseFactStorage}.
+ *
+ * @created 18.10.2026
+ */
+public class DenseFactStorageTest {
+
+	private KnowledgeBase kb;
+	private QuestionNum num1;
+	private QuestionNum num2;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		num1 = new QuestionNum(kb.getRootQASet(), "num1");
+		num2 = new QuestionNum(kb.getRootQASet(), "num2");
+	}
+
+	@After
+	public void tearDown() {
+		SessionFactory.setFactStorageFactory(FactStorageFactory.HASHED);
+	}
+
+	@Test
+	public void ordinals() {
+		TerminologyManager manager = kb.getManager();
+		HashSet<Integer> ordinals = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			int ordinal = manager.getOrdinal(solution);
+			assertTrue(ordinal < manager.getOrdinalCount());
+			assertTrue(ordinals.add(ordinal));
+		}
+		// removing an object does not change the ordinals of the other ones
+		int ordinal = manager.getOrdinal(num2);
+		num1.destroy();
+		assertEquals(ordinal, manager.getOrdinal(num2));
+	}
+
+	@Test
+	public void addAndRemove() {
+		DenseFactStorage storage = new DenseFactStorage(kb);
+		Fact fact1 = createFact(num1, 1);
+		storage.add(fact1);
+		assertEquals(fact1, storage.getMergedFact(num1));
+		assertTrue(storage.hasFact(num1));
+		assertFalse(storage.hasFact(num2));
+		assertNull(storage.getMergedFact(num2));
+		assertEquals(1, storage.getValuedObjects().size());
+		assertTrue(storage.getValuedObjects().contains(num1));
+
+		// same source overwrites the existing fact
+		Fact fact2 = createFact(num1, 2);
+		storage.add(fact2);
+		assertEquals(fact2, storage.getMergedFact(num1));
+		assertEquals(1, storage.getAllFacts(num1).size());
+
+		storage.remove(fact2);
+		assertFalse(storage.hasFact(num1));
+		assertTrue(storage.getValuedObjects().isEmpty());
+	}
+
+	@Test
+	public void growingTerminology() {
+		DenseFactStorage storage = new DenseFactStorage(kb);
+		QuestionNum lateQuestion = new QuestionNum(kb.getRootQASet(), "late");
+		Fact fact = createFact(lateQuestion, 3);
+		assertNull(storage.getMergedFact(lateQuestion));
+		storage.add(fact);
+		storage.add(createFact(num1, 1));
+		assertEquals(fact, storage.getMergedFact(lateQuestion));
+		assertEquals(new HashSet<>(Arrays.asList(num1, lateQuestion)), new HashSet<>(storage.getValuedObjects()));
+	}
+
+	@Test
+	public void foreignObjects() {
+		// the objects of the other knowledge base are created in the same order, so they have the same ordinals
+		KnowledgeBase other = KnowledgeBaseUtils.createKnowledgeBase();
+		QuestionNum foreign1 = new QuestionNum(other.getRootQASet(), "num1");
+		QuestionNum foreign2 = new QuestionNum(other.getRootQASet(), "num2");
+		assertEquals(kb.getManager().getOrdinal(num1), other.getManager().getOrdinal(foreign1));
+
+		DenseFactStorage storage = new DenseFactStorage(kb);
+		Fact fact1 = createFact(num1, 1);
+		storage.add(fact1);
+		assertNull(storage.getMergedFact(foreign1));
+		assertFalse(storage.hasFact(foreign1));
+		assertTrue(storage.getAllFacts(foreign1).isEmpty());
+		assertFalse(storage.getValuedObjects().contains(foreign1));
+
+		// removing the foreign object does not remove the facts of the object with the same ordinal
+		storage.remove(foreign1);
+		assertEquals(fact1, storage.getMergedFact(num1));
+
+		// the facts of the foreign objects cannot be stored
+		try {
+			storage.add(createFact(foreign1, 2));
+			fail("facts of foreign objects must not be added");
+		}
+		catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertEquals(fact1, storage.getMergedFact(num1));
+		assertFalse(storage.hasFact(foreign2));
+	}
+
+	@Test
+	public void copy() {
+		DenseFactStorage storage = new DenseFactStorage(kb);
+		Fact fact1 = createFact(num1, 1);
+		storage.add(fact1);
+
+		DenseFactStorage copy = storage.copy();
+		Fact fact2 = createFact(num2, 2);
+		copy.add(fact2);
+		copy.remove(num1);
+
+		assertEquals(fact1, storage.getMergedFact(num1));
+		assertFalse(storage.hasFact(num2));
+		assertFalse(copy.hasFact(num1));
+		assertEquals(fact2, copy.getMergedFact(num2));
+	}
+
+	@Test
+	public void session() {
+		SessionFactory.setFactStorageFactory(FactStorageFactory.DENSE);
+		Session session = SessionFactory.createSession(kb);
+		session.getBlackboard().addValueFact(createFact(num1, 42));
+		assertEquals(new NumValue(42), session.getBlackboard().getValue(num1));
+		assertEquals(UndefinedValue.getInstance(), session.getBlackboard().getValue(num2));
+		assertEquals(1, session.getBlackboard().getAnsweredQuestions().size());
+	}
+
+	private static Fact createFact(QuestionNum question, double value) {
+		return FactFactory.createFact(question, new NumValue(value),
+				PSMethodUserSelected.getInstance(), PSMethodUserSelected.getInstance());
+	}
+}
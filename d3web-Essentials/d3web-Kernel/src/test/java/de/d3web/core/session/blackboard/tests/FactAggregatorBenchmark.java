@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactAggregator;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.indication.inference.PSMethodUserSelected;
+import de.d3web.scoring.HeuristicRating;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Simple benchmark of adding and merging facts in a {@link FactAggregator}: a single user entered fact for a question,
+ * and dozens of heuristic scores for one solution, as created by the ActionHeuristicPS of many rules. This is not a
+ * unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class FactAggregatorBenchmark {
+
+	private static final int RULES = 48;
+	private static final int ITERATIONS = 5_000_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		QuestionNum question = new QuestionNum(kb.getRootQASet(), "question");
+		Solution solution = new Solution(kb.getRootSolution(), "solution");
+
+		Fact[] userFacts = new Fact[16];
+		for (int i = 0; i < userFacts.length; i++) {
+			userFacts[i] = FactFactory.createFact(question, new NumValue(i),
+					PSMethodUserSelected.getInstance(), PSMethodUserSelected.getInstance());
+		}
+		Fact[] scoreFacts = new Fact[RULES];
+		for (int i = 0; i < RULES; i++) {
+			scoreFacts[i] = FactFactory.createFact(solution, new HeuristicRating(i % 2 == 0 ? 10 : 20),
+					"rule" + i, PSMethodHeuristic.getInstance());
+		}
+
+		for (int run = 0; run < 3; run++) {
+			// single fact of the user
+			long start = System.nanoTime();
+			FactAggregator aggregator = new FactAggregator();
+			for (int i = 0; i < ITERATIONS; i++) {
+				aggregator.addFact(userFacts[i % userFacts.length]);
+				aggregator.getMergedFact(PSMethodUserSelected.getInstance());
+				aggregator.getMergedFact();
+			}
+			report("single user fact", start);
+
+			// many heuristic scores, replacing one score per iteration,
+			// but reading the merged score several times
+			start = System.nanoTime();
+			aggregator = new FactAggregator();
+			for (Fact fact : scoreFacts) {
+				aggregator.addFact(fact);
+			}
+			for (int i = 0; i < ITERATIONS / 10; i++) {
+				aggregator.addFact(scoreFacts[i % RULES]);
+				for (int read = 0; read < 5; read++) {
+					aggregator.getMergedFact(PSMethodHeuristic.getInstance());
+					aggregator.getMergedFact();
+				}
+			}
+			report("heuristic scores", start);
+		}
+	}
+
+	private static void report(String name, long start) {
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%s: %.3f s%n", name, seconds);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactAggregator;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.indication.inference.PSMethodUserSelected;
+import de.d3web.scoring.HeuristicRating;
+import de.d3web.scoring.inference.PSMethodHeuristic;
+
+/**
+ * Tests the single fact and the source keyed representation of the {@link FactAggregator}.
+ *
+ * @created 18.10.2026
+ */
+public class FactAggregatorTest {
+
+	private Solution solution;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		solution = new Solution(kb.getRootSolution(), "solution");
+	}
+
+	@Test
+	public void singleFact() {
+		FactAggregator aggregator = new FactAggregator();
+		Fact fact1 = createHeuristicFact("rule1", 10);
+		aggregator.addFact(fact1);
+		assertSame(fact1, aggregator.getMergedFact());
+		assertSame(fact1, aggregator.getMergedFact(PSMethodHeuristic.getInstance()));
+		assertNull(aggregator.getMergedFact(PSMethodUserSelected.getInstance()));
+		assertEquals(1, aggregator.getAllFacts().size());
+
+		// same source replaces the fact
+		Fact fact2 = createHeuristicFact("rule1", 20);
+		aggregator.addFact(fact2);
+		assertSame(fact2, aggregator.getMergedFact());
+		assertSame(fact2, aggregator.getFact(PSMethodHeuristic.getInstance(), "rule1"));
+
+		aggregator.removeFactsBySource("rule1");
+		assertTrue(aggregator.isEmpty());
+		assertNull(aggregator.getMergedFact());
+	}
+
+	@Test
+	public void heuristicScores() {
+		FactAggregator aggregator = new FactAggregator();
+		for (int i = 0; i < 10; i++) {
+			aggregator.addFact(createHeuristicFact("rule" + i, 5));
+		}
+		assertEquals(10, aggregator.getAllFacts().size());
+		assertScore(50, aggregator.getMergedFact());
+		assertScore(50, aggregator.getMergedFact(PSMethodHeuristic.getInstance()));
+
+		// changing one source must invalidate the cached merge
+		aggregator.addFact(createHeuristicFact("rule3", 15));
+		assertEquals(10, aggregator.getAllFacts().size());
+		assertScore(60, aggregator.getMergedFact(PSMethodHeuristic.getInstance()));
+		assertScore(60, aggregator.getMergedFact());
+
+		// removing all but one source returns the remaining fact again
+		for (int i = 1; i < 10; i++) {
+			aggregator.removeFactsBySource("rule" + i);
+		}
+		Fact remaining = aggregator.getFact(PSMethodHeuristic.getInstance(), "rule0");
+		assertSame(remaining, aggregator.getMergedFact());
+	}
+
+	@Test
+	public void mixedSolvers() {
+		FactAggregator aggregator = new FactAggregator();
+		aggregator.addFact(createHeuristicFact("rule1", 10));
+		aggregator.addFact(createHeuristicFact("rule2", 10));
+		Fact userFact = FactFactory.createFact(solution, new Rating(Rating.State.EXCLUDED),
+				PSMethodUserSelected.getInstance(), PSMethodUserSelected.getInstance());
+		aggregator.addFact(userFact);
+		assertEquals(2, aggregator.getContributingPSMethods().size());
+		assertScore(20, aggregator.getMergedFact(PSMethodHeuristic.getInstance()));
+		assertSame(userFact, aggregator.getMergedFact());
+
+		FactAggregator copy = aggregator.copy();
+		copy.removeFact(userFact);
+		assertSame(userFact, aggregator.getMergedFact());
+		assertScore(20, copy.getMergedFact());
+	}
+
+	private void assertScore(double expected, Fact fact) {
+		assertEquals(expected, ((HeuristicRating) fact.getValue()).getScore(), 0.001);
+	}
+
+	private Fact createHeuristicFact(String source, double score) {
+		return FactFactory.createFact(solution, new HeuristicRating(score), source, PSMethodHeuristic.getInstance());
+	}
+}
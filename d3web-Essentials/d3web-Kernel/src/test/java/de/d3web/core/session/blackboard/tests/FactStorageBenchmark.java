@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.blackboard.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.blackboard.FactStorage;
+import de.d3web.core.session.blackboard.FactStorageFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.indication.inference.PSMethodUserSelected;
+
+/**
+ * Simple benchmark comparing the read throughput and the per-session footprint of the hash based and the ordinal
+ * based fact storage on a knowledge base with 20k questions. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class FactStorageBenchmark {
+
+	private static final int OBJECTS = 20_000;
+	private static final int SESSIONS = 200;
+	private static final int READS = 20_000_000;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<Fact> facts = new ArrayList<>(OBJECTS);
+		for (int i = 0; i < OBJECTS; i++) {
+			QuestionNum question = new QuestionNum(kb.getRootQASet(), "question" + i);
+			facts.add(FactFactory.createFact(question, new NumValue(i),
+					PSMethodUserSelected.getInstance(), PSMethodUserSelected.getInstance()));
+		}
+
+		// warm up both variants, then measure
+		for (int run = 0; run < 3; run++) {
+			benchmark("hashed", FactStorageFactory.HASHED, kb, facts);
+			benchmark("dense ", FactStorageFactory.DENSE, kb, facts);
+		}
+	}
+
+	private static void benchmark(String name, FactStorageFactory factory, KnowledgeBase kb, List<Fact> facts) {
+		// footprint: create some sessions, where every second object is valued
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long before = runtime.totalMemory() - runtime.freeMemory();
+		List<FactStorage> storages = new ArrayList<>(SESSIONS);
+		for (int i = 0; i < SESSIONS; i++) {
+			FactStorage storage = factory.createFactStorage(kb);
+			for (int f = 0; f < facts.size(); f += 2) {
+				storage.add(facts.get(f));
+			}
+			storages.add(storage);
+		}
+		System.gc();
+		long footprint = (runtime.totalMemory() - runtime.freeMemory() - before) / SESSIONS;
+
+		// throughput: read merged facts of valued and non-valued objects
+		FactStorage storage = storages.get(0);
+		long start = System.nanoTime();
+		int found = 0;
+		for (int i = 0; i < READS; i++) {
+			if (storage.getMergedFact(facts.get(i % OBJECTS).getTerminologyObject()) != null) found++;
+		}
+		long time = System.nanoTime() - start;
+
+		System.out.printf("%s: %,d reads/s, %,d bytes/session (%d hits)%n",
+				name, (long) (READS / (time / 1e9)), footprint, found);
+	}
+}
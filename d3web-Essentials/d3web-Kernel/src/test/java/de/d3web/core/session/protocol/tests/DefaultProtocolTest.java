@@ -36,6 +36,7 @@ import de.d3web.core.session.blackboard.FactFactory;
 import de.d3web.core.session.protocol.DefaultProtocol;
 import de.d3web.core.session.protocol.FactProtocolEntry;
 import de.d3web.core.session.protocol.ProtocolEntry;
+import de.d3web.core.session.protocol.TextProtocolEntry;
 import de.d3web.core.session.values.NumValue;
 import de.d3web.core.session.values.TextValue;
 
@@ -91,4 +92,96 @@ public class DefaultProtocolTest {
 		assertThat(defaultProtocolUnderTest.getProtocolHistory().size(), is(1));
 		assertThat(defaultProtocolUnderTest.getProtocolHistory().contains(entry), is(false));
 	}
+
+	@Test
+	public void testChronologicalOrder() {
+		FactProtocolEntry earlier = new FactProtocolEntry(new Date(now.getTime() - 1000), numFact);
+		FactProtocolEntry later = new FactProtocolEntry(new Date(now.getTime() + 1000), numFact);
+		TextProtocolEntry text = new TextProtocolEntry(now, "text");
+		defaultProtocolUnderTest.addEntry(later);
+		defaultProtocolUnderTest.addEntry(earlier);
+		defaultProtocolUnderTest.addEntry(text);
+
+		List<ProtocolEntry> history = defaultProtocolUnderTest.getProtocolHistory();
+		assertThat(history.size(), is(5));
+		assertThat(history.get(0), is((ProtocolEntry) earlier));
+		assertThat(history.get(3), is((ProtocolEntry) text));
+		assertThat(history.get(4), is((ProtocolEntry) later));
+		assertThat(defaultProtocolUnderTest.getProtocolHistory(FactProtocolEntry.class).size(), is(4));
+		assertThat(defaultProtocolUnderTest.getProtocolHistory(TextProtocolEntry.class).size(), is(1));
+	}
+
+	@Test
+	public void testTimeRange() {
+		FactProtocolEntry later = new FactProtocolEntry(new Date(now.getTime() + 1000), numFact);
+		defaultProtocolUnderTest.addEntry(later);
+		defaultProtocolUnderTest.addEntry(new TextProtocolEntry(new Date(now.getTime() + 1000), "text"));
+
+		assertThat(defaultProtocolUnderTest.getEntries(now, null, ProtocolEntry.class).size(), is(4));
+		assertThat(defaultProtocolUnderTest.getEntries(null, now, ProtocolEntry.class).size(), is(0));
+		assertThat(defaultProtocolUnderTest.getEntries(now, later.getDate(), FactProtocolEntry.class).size(), is(2));
+		List<FactProtocolEntry> facts =
+				defaultProtocolUnderTest.getEntries(later.getDate(), null, FactProtocolEntry.class);
+		assertThat(facts.size(), is(1));
+		assertThat(facts.get(0), is(later));
+	}
+
+	@Test
+	public void testTimeRangeAfterModifications() {
+		FactProtocolEntry earlier = new FactProtocolEntry(new Date(now.getTime() - 1000), numFact);
+		FactProtocolEntry later = new FactProtocolEntry(new Date(now.getTime() + 1000), numFact);
+		defaultProtocolUnderTest.addEntry(later);
+		DefaultProtocol copy = new DefaultProtocol(defaultProtocolUnderTest);
+
+		// the timestamps are moved together with the inserted and removed entries
+		defaultProtocolUnderTest.addEntry(earlier);
+		defaultProtocolUnderTest.removeEntry(new FactProtocolEntry(now, numFact));
+		assertThat(defaultProtocolUnderTest.getEntries(null, now, ProtocolEntry.class), is(List.of(earlier)));
+		assertThat(defaultProtocolUnderTest.getEntries(now, later.getDate(), ProtocolEntry.class),
+				is(List.of(new FactProtocolEntry(now, textFact))));
+		assertThat(defaultProtocolUnderTest.getEntries(later.getDate(), null, ProtocolEntry.class), is(List.of(later)));
+
+		// the copy is not affected by the modifications
+		assertThat(copy.getEntries(null, now, ProtocolEntry.class).size(), is(0));
+		assertThat(copy.getEntries(now, later.getDate(), ProtocolEntry.class).size(), is(2));
+	}
+
+	@Test
+	public void testSnapshot() {
+		List<ProtocolEntry> history = defaultProtocolUnderTest.getProtocolHistory();
+		List<FactProtocolEntry> facts = defaultProtocolUnderTest.getProtocolHistory(FactProtocolEntry.class);
+		defaultProtocolUnderTest.addEntry(new FactProtocolEntry(new Date(now.getTime() - 1000), numFact));
+		defaultProtocolUnderTest.removeEntry(new FactProtocolEntry(now, textFact));
+		defaultProtocolUnderTest.addEntry(new FactProtocolEntry(new Date(now.getTime() + 1000), numFact));
+
+		assertThat(history.size(), is(2));
+		assertThat(history.get(1), is((ProtocolEntry) new FactProtocolEntry(now, textFact)));
+		assertThat(facts.size(), is(2));
+		assertThat(defaultProtocolUnderTest.getProtocolHistory().size(), is(3));
+	}
+
+	@Test
+	public void testClassViews() {
+		TextProtocolEntry text1 = new TextProtocolEntry(new Date(now.getTime() + 1000), "text1");
+		TextProtocolEntry text2 = new TextProtocolEntry(new Date(now.getTime() + 2000), "text2");
+		TextProtocolEntry text0 = new TextProtocolEntry(new Date(now.getTime() - 1000), "text0");
+		defaultProtocolUnderTest.addEntry(text1);
+		List<TextProtocolEntry> texts = defaultProtocolUnderTest.getProtocolHistory(TextProtocolEntry.class);
+
+		// appended entries are added to the class view, without affecting the snapshot
+		defaultProtocolUnderTest.addEntry(new FactProtocolEntry(new Date(now.getTime() + 2000), numFact));
+		defaultProtocolUnderTest.addEntry(text2);
+		assertThat(texts, is(List.of(text1)));
+		assertThat(defaultProtocolUnderTest.getProtocolHistory(TextProtocolEntry.class), is(List.of(text1, text2)));
+		assertThat(defaultProtocolUnderTest.getEntries(text2.getDate(), null, TextProtocolEntry.class),
+				is(List.of(text2)));
+
+		// inserted entries move the positions of the later entries
+		defaultProtocolUnderTest.addEntry(text0);
+		assertThat(defaultProtocolUnderTest.getProtocolHistory(TextProtocolEntry.class),
+				is(List.of(text0, text1, text2)));
+		assertThat(defaultProtocolUnderTest.getEntries(now, text2.getDate(), TextProtocolEntry.class),
+				is(List.of(text1)));
+		assertThat(texts, is(List.of(text1)));
+	}
 }
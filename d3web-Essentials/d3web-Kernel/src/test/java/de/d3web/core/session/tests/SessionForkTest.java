@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.Rule;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.core.session.values.UndefinedValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Tests that forked sessions start with the state of their original session, but are independent of it afterwards.
+ *
+ * @created 18.10.2026
+ */
+public class SessionForkTest {
+
+	private KnowledgeBase kb;
+	private QuestionNum question1;
+	private QuestionNum question2;
+	private Solution solution;
+	private Rule rule;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		question1 = new QuestionNum(kb.getRootQASet(), "question1");
+		question2 = new QuestionNum(kb.getRootQASet(), "question2");
+		solution = new Solution(kb.getRootSolution(), "solution");
+		rule = RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(question2, 5.0));
+	}
+
+	@Test
+	public void inheritedState() {
+		Session session = SessionFactory.createSession(kb);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question1, new NumValue(1)));
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question2, new NumValue(10)));
+		assertTrue(rule.hasFired(session));
+
+		Session fork = session.fork();
+		assertNotSame(session.getBlackboard(), fork.getBlackboard());
+		assertEquals(new NumValue(1), fork.getBlackboard().getValue(question1));
+		assertEquals(new NumValue(10), fork.getBlackboard().getValue(question2));
+		assertTrue(fork.getBlackboard().getRating(solution).hasState(Rating.State.ESTABLISHED));
+		assertTrue(rule.hasFired(fork));
+		assertEquals(session.getProtocol().getProtocolHistory(), fork.getProtocol().getProtocolHistory());
+		assertEquals(session.getCreationDate(), fork.getCreationDate());
+	}
+
+	@Test
+	public void independentChanges() {
+		Session session = SessionFactory.createSession(kb);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question1, new NumValue(1)));
+		int protocolSize = session.getProtocol().getProtocolHistory().size();
+
+		// derive the solution in the fork only
+		Session fork = session.fork();
+		fork.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question2, new NumValue(10)));
+		fork.getBlackboard().removeValueFact(fork.getBlackboard().getValueFact(question1));
+		assertTrue(rule.hasFired(fork));
+		assertTrue(fork.getBlackboard().getRating(solution).hasState(Rating.State.ESTABLISHED));
+		assertEquals(UndefinedValue.getInstance(), fork.getBlackboard().getValue(question1));
+		assertFalse(fork.getBlackboard().getValuedObjects().contains(question1));
+
+		// the original session is not affected
+		assertFalse(rule.hasFired(session));
+		assertFalse(session.getBlackboard().getRating(solution).hasState(Rating.State.ESTABLISHED));
+		assertEquals(new NumValue(1), session.getBlackboard().getValue(question1));
+		assertEquals(UndefinedValue.getInstance(), session.getBlackboard().getValue(question2));
+		assertEquals(protocolSize, session.getProtocol().getProtocolHistory().size());
+		assertTrue(fork.getProtocol().getProtocolHistory().size() > protocolSize);
+	}
+
+	@Test
+	public void forkOfFork() {
+		Session session = SessionFactory.createSession(kb);
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question1, new NumValue(1)));
+
+		Session fork = session.fork();
+		fork.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question2, new NumValue(10)));
+		Session forkOfFork = fork.fork();
+		assertEquals(new NumValue(1), forkOfFork.getBlackboard().getValue(question1));
+		assertTrue(rule.hasFired(forkOfFork));
+
+		// retract the rule in the second fork only
+		forkOfFork.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question2, new NumValue(1)));
+		assertFalse(rule.hasFired(forkOfFork));
+		assertTrue(rule.hasFired(fork));
+		assertFalse(rule.hasFired(session));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void forkInPropagation() {
+		Session session = SessionFactory.createSession(kb);
+		session.getPropagationManager().openPropagation();
+		try {
+			session.fork();
+		}
+		finally {
+			session.getPropagationManager().commitPropagation();
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.session.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.Rule;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.SessionObjectSlot;
+import de.d3web.core.session.SessionObjectSource;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.blackboard.SessionObject;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Tests the slot based access of session objects and the fired states of rules.
+ *
+ * @created 18.10.2026
+ */
+public class SessionObjectSlotTest {
+
+	private KnowledgeBase kb;
+
+	private static class SlottedSource implements SessionObjectSource<SessionObject> {
+
+		private final SessionObjectSlot slot = new SessionObjectSlot();
+		private boolean slotted = true;
+
+		@Override
+		public SessionObject createSessionObject(Session session) {
+			return new ForkedObject(null);
+		}
+
+		@Override
+		public SessionObject forkSessionObject(Session fork, SessionObject original) {
+			return new ForkedObject(original);
+		}
+
+		@Override
+		public int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+			return slotted ? slot.get(knowledgeBase) : -1;
+		}
+	}
+
+	private static class ForkedObject implements SessionObject {
+
+		private final SessionObject original;
+
+		private ForkedObject(SessionObject original) {
+			this.original = original;
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+	}
+
+	@Test
+	public void slots() {
+		KnowledgeBase otherKB = KnowledgeBaseUtils.createKnowledgeBase();
+		SlottedSource source1 = new SlottedSource();
+		SlottedSource source2 = new SlottedSource();
+		int slot1 = source1.getSessionObjectSlot(kb);
+		int slot2 = source2.getSessionObjectSlot(kb);
+		assertNotEquals(slot1, slot2);
+		assertEquals(slot1, source1.getSessionObjectSlot(kb));
+		assertTrue(slot2 < kb.getSessionObjectSlotCount());
+		// other knowledge bases get their own stable slot
+		int otherSlot = source1.getSessionObjectSlot(otherKB);
+		assertTrue(otherSlot >= 0);
+		assertTrue(otherSlot < otherKB.getSessionObjectSlotCount());
+		assertEquals(otherSlot, source1.getSessionObjectSlot(otherKB));
+		assertEquals(slot1, source1.getSessionObjectSlot(kb));
+	}
+
+	@Test
+	public void sessionObjects() {
+		KnowledgeBase otherKB = KnowledgeBaseUtils.createKnowledgeBase();
+		SlottedSource source = new SlottedSource();
+		Session session1 = SessionFactory.createSession(kb);
+		Session session2 = SessionFactory.createSession(kb);
+		SessionObject object1 = session1.getSessionObject(source);
+		assertSame(object1, session1.getSessionObject(source));
+		assertNotSame(object1, session2.getSessionObject(source));
+
+		// sessions of other knowledge bases use their own slots
+		Session otherSession = SessionFactory.createSession(otherKB);
+		SessionObject otherObject = otherSession.getSessionObject(source);
+		assertSame(otherObject, otherSession.getSessionObject(source));
+		assertNotSame(object1, otherObject);
+	}
+
+	@Test
+	public void forkOtherKnowledgeBase() {
+		KnowledgeBase otherKB = KnowledgeBaseUtils.createKnowledgeBase();
+		SlottedSource source = new SlottedSource();
+		SessionFactory.createSession(kb).getSessionObject(source);
+
+		// the session objects of the second knowledge base are also forked
+		Session session = SessionFactory.createSession(otherKB);
+		SessionObject object = session.getSessionObject(source);
+		Session fork = session.fork();
+		assertSame(object, ((ForkedObject) fork.getSessionObject(source)).original);
+		assertSame(object, session.getSessionObject(source));
+	}
+
+	@Test
+	public void lateSlot() {
+		// a source that provides its slot only after its session object has been created
+		SlottedSource source = new SlottedSource();
+		source.slotted = false;
+		Session session = SessionFactory.createSession(kb);
+		SessionObject object = session.getSessionObject(source);
+		Session fork = session.fork();
+		source.slotted = true;
+		// the existing objects are kept instead of creating new ones
+		assertSame(object, session.getSessionObject(source));
+		assertSame(object, ((ForkedObject) fork.getSessionObject(source)).original);
+	}
+
+	@Test
+	public void firedRules() {
+		QuestionNum question = new QuestionNum(kb.getRootQASet(), "question");
+		Solution solution = new Solution(kb.getRootSolution(), "solution");
+		Rule rule = RuleFactory.createHeuristicPSRule(solution, Score.P7, new CondNumGreater(question, 5.0));
+		Session session1 = SessionFactory.createSession(kb);
+		Session session2 = SessionFactory.createSession(kb);
+
+		session1.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(10)));
+		assertTrue(rule.hasFired(session1));
+		assertFalse(rule.hasFired(session2));
+
+		session1.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, new NumValue(1)));
+		assertFalse(rule.hasFired(session1));
+	}
+}
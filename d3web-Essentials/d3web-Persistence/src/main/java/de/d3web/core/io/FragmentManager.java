@@ -19,14 +19,23 @@
 package de.d3web.core.io;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 import de.d3web.core.io.fragments.FragmentHandler;
+import de.d3web.core.io.utilities.XMLUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 import com.denkbares.plugin.Extension;
 import com.denkbares.plugin.PluginManager;
@@ -35,13 +44,46 @@ import com.denkbares.strings.Strings;
 /**
  * This is a utility class to write and read fragments to/from xml documents
  * using Extensions
+ * <p>
+ * The extensions may declare the elements they are able to read, using the
+ * parameters "element" and (optionally) "type" for the values of the type
+ * attribute, and the objects they are able to write, using the parameter
+ * "instanceof" for the names of the classes or interfaces. If declared, the
+ * handler is only asked for matching elements or objects, otherwise it is asked
+ * for every element or object. The declarations only preselect the handlers,
+ * {@link FragmentHandler#canRead(Element)} and
+ * {@link FragmentHandler#canWrite(Object)} still decide, so a declaration must
+ * cover everything the handler is able to handle.
  *
  * @author Markus Friedrich (denkbares GmbH)
  * @created 20.09.2010
  */
 public class FragmentManager<Artifact> {
 
+	private static final String PARAMETER_ELEMENT = "element";
+	private static final String PARAMETER_TYPE = "type";
+	private static final String PARAMETER_INSTANCEOF = "instanceof";
+
+	/**
+	 * A handler that may be able to read an element, restricted to the
+	 * specified values of the type attribute, if there are any.
+	 */
+	private static final class ReadCandidate {
+
+		private final Extension plugin;
+		private final Set<String> types;
+
+		private ReadCandidate(Extension plugin, @Nullable Set<String> types) {
+			this.plugin = plugin;
+			this.types = types;
+		}
+	}
+
 	private Extension[] fragmentPlugins;
+	private Map<String, ReadCandidate[]> readIndex;
+	private ReadCandidate[] readFallback;
+	private Extension[] writeFallback;
+	private ClassValue<Extension[]> writeIndex;
 
 	/**
 	 * This method is used to create an XML element ({@link Document})for the
@@ -55,7 +97,8 @@ public class FragmentManager<Artifact> {
 	 * @throws IOException                    if an error occurs during saving the specified object
 	 */
 	public Element writeFragment(Object object, Persistence<Artifact> persistence) throws IOException {
-		for (Extension plugin : fragmentPlugins) {
+		Extension[] candidates = (object == null) ? writeFallback : writeIndex.get(object.getClass());
+		for (Extension plugin : candidates) {
 			@SuppressWarnings("unchecked")
 			FragmentHandler<Artifact> handler = (FragmentHandler<Artifact>) plugin.getSingleton();
 			if (handler.canWrite(object)) {
@@ -80,9 +123,14 @@ public class FragmentManager<Artifact> {
 	 * @throws IOException                    if an IO error occurs during the read operation
 	 */
 	public Object readFragment(Element child, Persistence<Artifact> persistence) throws IOException {
-		for (Extension plugin : fragmentPlugins) {
+		String type = null;
+		for (ReadCandidate candidate : readIndex.getOrDefault(child.getNodeName(), readFallback)) {
+			if (candidate.types != null) {
+				if (type == null) type = child.getAttribute(XMLUtil.TYPE);
+				if (!candidate.types.contains(type)) continue;
+			}
 			@SuppressWarnings("unchecked")
-			FragmentHandler<Artifact> handler = (FragmentHandler<Artifact>) plugin.getSingleton();
+			FragmentHandler<Artifact> handler = (FragmentHandler<Artifact>) candidate.plugin.getSingleton();
 			if (handler.canRead(child)) {
 				return handler.read(child, persistence);
 			}
@@ -110,7 +158,8 @@ public class FragmentManager<Artifact> {
 
 	/**
 	 * Initializes this manager with all extensions of a specific plugin / point
-	 * id.
+	 * id. The elements and objects declared by the extensions are indexed, to
+	 * only ask the matching handlers when reading or writing a fragment.
 	 *
 	 * @param extendedPluginID the plugin id of the extensions point to get the
 	 *                         {@link FragmentHandler}s for
@@ -121,5 +170,68 @@ public class FragmentManager<Artifact> {
 	public void init(String extendedPluginID, String extendedPointID) {
 		PluginManager manager = PluginManager.getInstance();
 		this.fragmentPlugins = manager.getExtensions(extendedPluginID, extendedPointID);
+
+		// for each declared element name, the declaring handlers and the
+		// undeclared ones, both in the order of their priority
+		Set<String> elements = new HashSet<>();
+		for (Extension plugin : fragmentPlugins) {
+			elements.addAll(plugin.getParameters(PARAMETER_ELEMENT));
+		}
+		Map<String, ReadCandidate[]> index = new HashMap<>();
+		for (String element : elements) {
+			index.put(element, getReadCandidates(element));
+		}
+		this.readIndex = index;
+		this.readFallback = getReadCandidates(null);
+		this.writeFallback = getWriteCandidates(null);
+		this.writeIndex = new ClassValue<Extension[]>() {
+			@Override
+			protected Extension[] computeValue(Class<?> type) {
+				Set<String> names = new HashSet<>();
+				collectTypeNames(type, names);
+				return getWriteCandidates(names);
+			}
+		};
+	}
+
+	private ReadCandidate[] getReadCandidates(@Nullable String element) {
+		List<ReadCandidate> candidates = new ArrayList<>();
+		for (Extension plugin : fragmentPlugins) {
+			List<String> declared = plugin.getParameters(PARAMETER_ELEMENT);
+			if (declared.isEmpty()) {
+				candidates.add(new ReadCandidate(plugin, null));
+			}
+			else if (declared.contains(element)) {
+				List<String> types = plugin.getParameters(PARAMETER_TYPE);
+				candidates.add(new ReadCandidate(plugin, types.isEmpty() ? null : new HashSet<>(types)));
+			}
+		}
+		return candidates.toArray(new ReadCandidate[0]);
+	}
+
+	private Extension[] getWriteCandidates(@Nullable Set<String> typeNames) {
+		List<Extension> candidates = new ArrayList<>();
+		for (Extension plugin : fragmentPlugins) {
+			List<String> declared = plugin.getParameters(PARAMETER_INSTANCEOF);
+			if (declared.isEmpty() || (typeNames != null && containsAny(typeNames, declared))) {
+				candidates.add(plugin);
+			}
+		}
+		return candidates.toArray(new Extension[0]);
+	}
+
+	private static boolean containsAny(Set<String> set, Collection<String> items) {
+		for (String item : items) {
+			if (set.contains(item)) return true;
+		}
+		return false;
+	}
+
+	private static void collectTypeNames(@Nullable Class<?> type, Set<String> names) {
+		if (type == null || !names.add(type.getName())) return;
+		collectTypeNames(type.getSuperclass(), names);
+		for (Class<?> anInterface : type.getInterfaces()) {
+			collectTypeNames(anInterface, names);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,441 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import de.d3web.core.io.utilities.XMLUtil;
+
+/**
+ * Cache of the parsed xml documents of the entries of a knowledge base archive, stored as a sidecar file next to the
+ * archive. The documents are stored in a compact binary form, where all names and texts are stored only once per
+ * document and afterwards referenced by their index. Decoding such a document is considerably faster than inflating and
+ * parsing the xml again. Entries of streaming readers also keep their original content.
+ * <p>
+ * The cache only replaces the xml parsing of the entries. The decoded documents are still read by the registered
+ * readers and fragment handlers, so the objects are still resolved by their names and the rules are still registered
+ * in the knowledge base, exactly as when reading the archive itself.
+ * <p>
+ * The cache records the name, size and checksum of all entries of the archive it has been created for, so an outdated
+ * cache is detected and ignored. The cache itself is protected by a checksum, which is verified before the cache is
+ * used, so a truncated or otherwise corrupted cache is also ignored. If an entry nevertheless cannot be decoded, the
+ * entry is read from the archive instead.
+ *
+ * @created 18.10.2026
+ */
+final class KnowledgeBaseDocumentCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(KnowledgeBaseDocumentCache.class);
+
+	private static final String EXTENSION = ".documents";
+	private static final int MAGIC = 0x64337762;
+	private static final int VERSION = 2;
+
+	private static final byte END = 0;
+	private static final byte ELEMENT = 1;
+	private static final byte TEXT = 2;
+	private static final byte CDATA = 3;
+
+	private static final class Entry {
+		private final byte[] content;
+		private final byte[] document;
+
+		private Entry(@Nullable byte[] content, @Nullable byte[] document) {
+			this.content = content;
+			this.document = document;
+		}
+	}
+
+	private final Map<String, Entry> entries;
+
+	private KnowledgeBaseDocumentCache(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the document cache file for the specified knowledge base archive.
+	 */
+	static File getFile(File archive) {
+		return new File(archive.getPath() + EXTENSION);
+	}
+
+	/**
+	 * Reads the document cache of the specified knowledge base archive. If there is no document cache, or if the cache
+	 * does not match the archive, null is returned.
+	 *
+	 * @param archive the knowledge base archive file
+	 * @param zipFile the opened knowledge base archive
+	 * @return the document cache, or null if there is no valid document cache
+	 */
+	@Nullable
+	static KnowledgeBaseDocumentCache read(File archive, ZipFile zipFile) {
+		File file = getFile(archive);
+		if (!file.isFile()) return null;
+		try {
+			byte[] data = Files.readAllBytes(file.toPath());
+			if (!isChecksumValid(data)) {
+				LOGGER.warn("Ignoring corrupted document cache: " + file);
+				return null;
+			}
+			return read(file, zipFile, new DataInputStream(new ByteArrayInputStream(data, 0, data.length - Long.BYTES)));
+		}
+		catch (IOException | RuntimeException e) {
+			LOGGER.warn("Cannot read document cache " + file + ", the knowledge base is loaded without document cache", e);
+			return null;
+		}
+	}
+
+	@Nullable
+	private static KnowledgeBaseDocumentCache read(File file, ZipFile zipFile, DataInputStream in) throws IOException {
+		try (in) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				LOGGER.info("Ignoring document cache of incompatible version: " + file);
+				return null;
+			}
+			if (!readArchiveEntries(in).equals(getArchiveEntries(zipFile))) {
+				LOGGER.info("Ignoring outdated document cache: " + file);
+				return null;
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				entries.put(name, new Entry(readBytes(in), readBytes(in)));
+			}
+			if (in.available() != 0) throw new IOException("Corrupted document cache, unexpected data after the entries");
+			return new KnowledgeBaseDocumentCache(entries);
+		}
+	}
+
+	/**
+	 * Checks the checksum written as the last long value of the document cache data against the preceding data.
+	 */
+	private static boolean isChecksumValid(byte[] data) {
+		if (data.length < Long.BYTES) return false;
+		int length = data.length - Long.BYTES;
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, length);
+		long expected = 0;
+		for (int i = length; i < data.length; i++) {
+			expected = (expected << 8) | (data[i] & 0xFF);
+		}
+		return crc.getValue() == expected;
+	}
+
+	/**
+	 * Returns the prepared stream for the specified entry, or null if the entry is not contained in this document cache or
+	 * cannot be decoded. This method can be called concurrently for different entries.
+	 *
+	 * @param name the name of the entry
+	 * @return the stream, with the decoded document if available
+	 */
+	@Nullable
+	PreparedEntryStream getEntry(String name) {
+		Entry entry = entries.get(name);
+		if (entry == null) return null;
+		try {
+			Document document = (entry.document == null) ? null : decode(entry.document);
+			return new PreparedEntryStream((entry.content == null) ? new byte[0] : entry.content, document);
+		}
+		catch (IOException | RuntimeException e) {
+			LOGGER.warn("Cannot decode entry " + name + " of document cache, the entry is read from the archive", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a new builder for a document cache of the specified knowledge base archive.
+	 */
+	static Builder builder(ZipFile zipFile) {
+		return new Builder(getArchiveEntries(zipFile));
+	}
+
+	/**
+	 * Builder to collect the entries of a document cache while the knowledge base is loaded.
+	 */
+	static final class Builder {
+
+		private final Map<String, List<Long>> archiveEntries;
+		private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+		private Builder(Map<String, List<Long>> archiveEntries) {
+			this.archiveEntries = archiveEntries;
+		}
+
+		/**
+		 * Adds an entry to the document cache. At least the content or the document must be specified. This method can be
+		 * called concurrently for different entries.
+		 *
+		 * @param name     the name of the entry
+		 * @param content  the original content of the entry, if it is required
+		 * @param document the parsed document of the entry, if available
+		 */
+		void add(String name, @Nullable byte[] content, @Nullable Document document) throws IOException {
+			Entry entry = new Entry(content, (document == null) ? null : encode(document));
+			synchronized (entries) {
+				entries.put(name, entry);
+			}
+		}
+
+		/**
+		 * Writes the document cache for the specified archive. The cache is written to a temporary file first, and then
+		 * replaces the existing cache, if there is any.
+		 */
+		void write(File archive) throws IOException {
+			Path target = getFile(archive).toPath();
+			Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+			try {
+				CheckedOutputStream checked = new CheckedOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32());
+				try (DataOutputStream out = new DataOutputStream(checked)) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(archiveEntries.size());
+					for (Map.Entry<String, List<Long>> entry : archiveEntries.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeLong(entry.getValue().get(0));
+						out.writeLong(entry.getValue().get(1));
+					}
+					synchronized (entries) {
+						out.writeInt(entries.size());
+						for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+							out.writeUTF(entry.getKey());
+							writeBytes(out, entry.getValue().content);
+							writeBytes(out, entry.getValue().document);
+						}
+					}
+					out.writeLong(checked.getChecksum().getValue());
+				}
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	/**
+	 * Returns the size and checksum of all entries of the archive, in the order of the archive.
+	 */
+	private static Map<String, List<Long>> getArchiveEntries(ZipFile zipFile) {
+		Map<String, List<Long>> result = new LinkedHashMap<>();
+		Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+		while (enumeration.hasMoreElements()) {
+			ZipEntry entry = enumeration.nextElement();
+			if (entry.isDirectory()) continue;
+			result.put(entry.getName(), List.of(entry.getSize(), entry.getCrc()));
+		}
+		return result;
+	}
+
+	private static Map<String, List<Long>> readArchiveEntries(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		Map<String, List<Long>> result = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			String name = in.readUTF();
+			result.put(name, List.of(in.readLong(), in.readLong()));
+		}
+		return result;
+	}
+
+	private static void writeBytes(DataOutputStream out, @Nullable byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		}
+		else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	@Nullable
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) return null;
+		if (length > in.available()) throw new IOException("Corrupted document cache, invalid length " + length);
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Encodes the elements and texts of the specified document. Comments and processing instructions are not encoded.
+	 */
+	static byte[] encode(Document document) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		Map<String, Integer> strings = new HashMap<>();
+		for (Node child = document.getFirstChild(); child != null; child = child.getNextSibling()) {
+			encode(child, out, strings);
+		}
+		out.writeByte(END);
+		out.flush();
+		return buffer.toByteArray();
+	}
+
+	private static void encode(Node node, DataOutputStream out, Map<String, Integer> strings) throws IOException {
+		switch (node.getNodeType()) {
+			case Node.ELEMENT_NODE:
+				out.writeByte(ELEMENT);
+				writeString(out, node.getNodeName(), strings);
+				NamedNodeMap attributes = node.getAttributes();
+				writeNumber(out, attributes.getLength());
+				for (int i = 0; i < attributes.getLength(); i++) {
+					Node attribute = attributes.item(i);
+					writeString(out, attribute.getNodeName(), strings);
+					writeString(out, attribute.getNodeValue(), strings);
+				}
+				for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+					encode(child, out, strings);
+				}
+				out.writeByte(END);
+				break;
+			case Node.TEXT_NODE:
+				out.writeByte(TEXT);
+				writeString(out, node.getNodeValue(), strings);
+				break;
+			case Node.CDATA_SECTION_NODE:
+				out.writeByte(CDATA);
+				writeString(out, node.getNodeValue(), strings);
+				break;
+			default:
+				// comments and processing instructions are not required
+		}
+	}
+
+	/**
+	 * Decodes a document previously encoded by {@link #encode(Document)}.
+	 */
+	static Document decode(byte[] data) throws IOException {
+		Document document = XMLUtil.createEmptyDocument();
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		decodeChildren(document, document, in, new ArrayList<>());
+		return document;
+	}
+
+	private static void decodeChildren(Document document, Node parent, DataInputStream in, List<String> strings) throws IOException {
+		while (true) {
+			byte type = in.readByte();
+			switch (type) {
+				case END:
+					return;
+				case ELEMENT:
+					Element element = document.createElement(readString(in, strings));
+					int count = readNumber(in);
+					for (int i = 0; i < count; i++) {
+						element.setAttribute(readString(in, strings), readString(in, strings));
+					}
+					decodeChildren(document, element, in, strings);
+					parent.appendChild(element);
+					break;
+				case TEXT:
+					parent.appendChild(document.createTextNode(readString(in, strings)));
+					break;
+				case CDATA:
+					parent.appendChild(document.createCDATASection(readString(in, strings)));
+					break;
+				default:
+					throw new IOException("Corrupted document cache, unexpected node type " + type);
+			}
+		}
+	}
+
+	/**
+	 * Writes the index of an already written string, or the string itself for the first occurrence.
+	 */
+	private static void writeString(DataOutputStream out, String string, Map<String, Integer> strings) throws IOException {
+		Integer index = strings.get(string);
+		if (index != null) {
+			writeNumber(out, index + 1);
+		}
+		else {
+			strings.put(string, strings.size());
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			writeNumber(out, 0);
+			writeNumber(out, bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index = readNumber(in);
+		if (index > 0) {
+			if (index > strings.size()) throw new IOException("Corrupted document cache, invalid string index " + index);
+			return strings.get(index - 1);
+		}
+		int length = readNumber(in);
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Corrupted document cache, invalid length " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		String string = new String(bytes, StandardCharsets.UTF_8);
+		strings.add(string);
+		return string;
+	}
+
+	/**
+	 * Writes a non-negative number using as few bytes as possible, 7 bits per byte.
+	 */
+	private static void writeNumber(DataOutputStream out, int number) throws IOException {
+		while ((number & ~0x7F) != 0) {
+			out.writeByte((number & 0x7F) | 0x80);
+			number >>>= 7;
+		}
+		out.writeByte(number);
+	}
+
+	private static int readNumber(DataInputStream in) throws IOException {
+		int number = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			number |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return number;
+		}
+		throw new IOException("Corrupted document cache, invalid number");
+	}
+}
@@ -26,7 +26,28 @@ public class KnowledgeBasePersistence implements Persistence<KnowledgeBase> {
 	 *         stream
 	 */
 	public KnowledgeBasePersistence(PersistenceManager manager, KnowledgeBase knowledgeBase, InputStream stream) throws IOException {
-		this(manager, knowledgeBase, XMLUtil.streamToDocument(stream));
+		this(manager, knowledgeBase, toDocument(stream));
+	}
+
+	/**
+	 * Returns if the specified stream of a knowledge base entry has already been parsed into a xml document by the
+	 * persistence manager, e.g. when it has been taken from the document cache. In this case, creating a
+	 * {@link KnowledgeBasePersistence} for the stream is cheap, so streaming readers should prefer the document.
+	 *
+	 * @param stream the stream of the entry to be read
+	 * @return if the stream has already been parsed
+	 */
+	public static boolean isParsed(InputStream stream) {
+		return (stream instanceof PreparedEntryStream) && ((PreparedEntryStream) stream).getDocument() != null;
+	}
+
+	private static Document toDocument(InputStream stream) throws IOException {
+		// use the document if it has already been parsed by the persistence manager
+		if (stream instanceof PreparedEntryStream) {
+			Document document = ((PreparedEntryStream) stream).getDocument();
+			if (document != null) return document;
+		}
+		return XMLUtil.streamToDocument(stream);
 	}
 
 	/**
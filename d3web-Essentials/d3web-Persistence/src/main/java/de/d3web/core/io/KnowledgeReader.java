@@ -41,4 +41,16 @@ public interface KnowledgeReader {
 	 * @throws IOException when an IO errors occurs during reading the part of the knowledge base
 	 */
 	void read(PersistenceManager persistenceManager, KnowledgeBase knowledgeBase, InputStream stream, ProgressListener progress) throws IOException;
+
+	/**
+	 * Returns if this reader reads its entries as a stream of fragments for the specified persistence manager, instead
+	 * of parsing the whole entry into a DOM. The persistence manager parses the entries of all other readers in
+	 * advance, concurrently to the other entries. The default implementation returns false.
+	 *
+	 * @param persistenceManager the persistence manager responsible for reading
+	 * @return if the entries are read as a stream
+	 */
+	default boolean isStreaming(PersistenceManager persistenceManager) {
+		return false;
+	}
 }
@@ -20,17 +20,20 @@
 package de.d3web.core.io;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Enumeration;
@@ -38,6 +41,10 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -50,8 +57,10 @@ import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 
 import com.denkbares.plugin.Extension;
 import com.denkbares.plugin.Plugin;
@@ -61,6 +70,7 @@ import com.denkbares.progress.DummyProgressListener;
 import com.denkbares.progress.ProgressListener;
 import com.denkbares.strings.Strings;
 import com.denkbares.utils.Streams;
+import de.d3web.core.io.utilities.XMLUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.Resource;
 import de.d3web.core.knowledge.terminology.info.BasicProperties;
@@ -98,6 +108,30 @@ public final class PersistenceManager {
 	private Extension[] writerPlugins;
 	private final FragmentManager<KnowledgeBase> fragmentManager = new FragmentManager<>();
 	private final Cipher cipher;
+	private volatile boolean streaming = true;
+	private volatile boolean parallel = true;
+	private volatile boolean documentCache = false;
+
+	/**
+	 * Lazily created pool to prepare the entries of the knowledge bases to be loaded. The pool is shared by all
+	 * persistence managers, so loading multiple knowledge bases concurrently does not exceed the available processors.
+	 */
+	private static final class LoaderPool {
+		private static final int THREADS = Runtime.getRuntime().availableProcessors();
+		/**
+		 * Maximum number of entries prepared ahead of the entry currently read, so only a few of the entries are held
+		 * in memory (as raw bytes or parsed documents) at the same time.
+		 */
+		private static final int WINDOW = THREADS * 2;
+		private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, LoaderPool::newDaemon);
+
+		private static Thread newDaemon(Runnable runnable) {
+			Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+			thread.setName("KnowledgeBase-Loader-" + thread.getId());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
 
 	public final class KnowledgeBaseInfo {
 
@@ -223,6 +257,75 @@ public final class PersistenceManager {
 		return fragmentManager;
 	}
 
+	/**
+	 * Returns if the knowledge readers should read their entries as a stream of fragments (see {@link
+	 * de.d3web.core.io.utilities.XMLFragmentReader}), instead of parsing the whole entry into a DOM first. Readers
+	 * that do not support streaming always use the DOM. Streaming is enabled by default.
+	 *
+	 * @return if streaming is enabled
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * Specifies if the knowledge readers should read their entries as a stream of fragments, or if they should parse the
+	 * whole entry into a DOM first.
+	 *
+	 * @param streaming if streaming should be enabled
+	 * @see #isStreaming()
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Returns if the entries of a knowledge base are read and parsed concurrently, before they are added to the
+	 * knowledge base in the order of the reader priorities, as it would be done when loading sequentially. For
+	 * encrypted knowledge bases, the entries are always read sequentially, because the cipher cannot be shared between
+	 * multiple threads. Parallel loading is enabled by default.
+	 *
+	 * @return if parallel loading is enabled
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Specifies if the entries of a knowledge base should be read and parsed concurrently.
+	 *
+	 * @param parallel if parallel loading should be enabled
+	 * @see #isParallel()
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns if a document cache is used when loading knowledge base archives. The document cache is a sidecar file
+	 * next to the archive (with the additional extension ".documents"), containing the already parsed xml documents of
+	 * the archive entries in a binary form, that can be decoded considerably faster than parsing the xml entries. The
+	 * decoded documents are still read by the registered readers, so only the xml parsing is saved. If there is no
+	 * document cache, or if the cache is outdated, the cache is (re-)created while loading the archive. The document
+	 * cache is never used for encrypted knowledge bases, to not store the decrypted content. The document cache is
+	 * disabled by default.
+	 *
+	 * @return if the document cache is used
+	 */
+	public boolean isDocumentCache() {
+		return documentCache;
+	}
+
+	/**
+	 * Specifies if the document cache should be used (and created) when loading knowledge base archives.
+	 *
+	 * @param documentCache if the document cache should be used
+	 * @see #isDocumentCache()
+	 */
+	public void setDocumentCache(boolean documentCache) {
+		this.documentCache = documentCache;
+	}
+
 	/**
 	 * Method to force the plugins to be updated. Usually it is not required to call this method manually, because this
 	 * will done by the persistence manager of their own.
@@ -309,7 +412,7 @@ public final class PersistenceManager {
 			files.add(entry);
 		}
 		CombinedProgressListener cpl = new CombinedProgressListener(size, listener);
-		boolean parsedAnyFile = false;
+		List<EntryReader> readers = new ArrayList<>();
 		for (Extension plugin : readerPlugins) {
 			for (ZipEntry entry : new LinkedList<>(files)) {
 				String name = entry.getName();
@@ -328,25 +431,35 @@ public final class PersistenceManager {
 					}
 				}
 				if (canparse) {
-					// if we can parse this entry
-					// we prepare the progress for the next step
-					cpl.next(entry.getSize());
-					cpl.updateProgress(0, "Reading file " + name);
-					// initialize the reader
+					// if we can parse this entry, we initialize the reader
 					KnowledgeReader reader = (KnowledgeReader) plugin.getNewInstance();
-					reader.read(this, kb, createInputStream(zipfile, entry), cpl);
+					readers.add(new EntryReader(reader, name, entry.getSize(), () -> createInputStream(zipfile, entry)));
 					// and mark this as done
 					files.remove(entry);
-					parsedAnyFile = true;
 				}
 			}
 		}
 
 		// if we not have parsed at least one file
 		// we assume that this is no valid knowledge base
-		if (!parsedAnyFile) {
+		if (readers.isEmpty()) {
 			throw new IOException("The parsed file appears not to be a valid knowledge base");
 		}
+		KnowledgeBaseDocumentCache cache = null;
+		KnowledgeBaseDocumentCache.Builder builder = null;
+		if (documentCache && cipher == null) {
+			cache = KnowledgeBaseDocumentCache.read(file, zipfile);
+			if (cache == null) builder = KnowledgeBaseDocumentCache.builder(zipfile);
+		}
+		readEntries(kb, readers, cpl, cache, builder);
+		if (builder != null) {
+			try {
+				builder.write(file);
+			}
+			catch (IOException e) {
+				LOGGER.warn("Cannot write document cache for knowledge base " + file, e);
+			}
+		}
 
 		// finally scan all files in multimedia folder
 		// and add them to the knowledge base as resources
@@ -377,6 +490,132 @@ public final class PersistenceManager {
 		return kb;
 	}
 
+	/**
+	 * Reads the specified entries into the knowledge base. If parallel loading is enabled, the entries are read and
+	 * parsed concurrently ahead, as this is independent of the knowledge base. The entries are added to the knowledge
+	 * base by their readers, one after the other in the specified order (which is the order of the reader priorities),
+	 * so the dependencies between the entries are considered and the result is identical to sequential loading. Only a
+	 * small window of entries is prepared ahead of the entry currently read, to limit the memory held by prepared
+	 * entries.
+	 * <p>
+	 * If a document cache is specified, the parsed entries are taken from the cache, if they are available. If a cache
+	 * builder is specified, all entries are parsed and added to the builder.
+	 */
+	private void readEntries(KnowledgeBase kb, List<EntryReader> readers, CombinedProgressListener cpl, @Nullable KnowledgeBaseDocumentCache cache, @Nullable KnowledgeBaseDocumentCache.Builder builder) throws IOException {
+		boolean concurrent = parallel && cipher == null && readers.size() > 1;
+		boolean usePrepared = concurrent || cache != null || builder != null;
+		// sliding window of the entries prepared ahead, each future is released as soon as the entry is read
+		@SuppressWarnings("unchecked")
+		Future<InputStream>[] prepared = new Future[concurrent ? readers.size() : 0];
+		for (int i = 0; i < Math.min(prepared.length, LoaderPool.WINDOW); i++) {
+			prepared[i] = submitPrepare(readers.get(i), cache, builder);
+		}
+		try {
+			for (int i = 0; i < readers.size(); i++) {
+				EntryReader reader = readers.get(i);
+				// we prepare the progress for the next step
+				cpl.next(reader.size);
+				cpl.updateProgress(0, "Reading file " + reader.name);
+				InputStream stream;
+				if (concurrent) {
+					stream = getPrepared(prepared[i]);
+					prepared[i] = null;
+					int ahead = i + LoaderPool.WINDOW;
+					if (ahead < readers.size()) prepared[ahead] = submitPrepare(readers.get(ahead), cache, builder);
+				}
+				else {
+					stream = usePrepared ? reader.prepare(cache, builder) : reader.opener.open();
+				}
+				try (stream) {
+					reader.reader.read(this, kb, stream, cpl);
+				}
+			}
+		}
+		finally {
+			// if anything fails, we do not need the remaining entries
+			for (Future<InputStream> future : prepared) {
+				if (future != null) future.cancel(false);
+			}
+		}
+	}
+
+	private static Future<InputStream> submitPrepare(EntryReader reader, @Nullable KnowledgeBaseDocumentCache cache, @Nullable KnowledgeBaseDocumentCache.Builder builder) {
+		return LoaderPool.EXECUTOR.submit(() -> reader.prepare(cache, builder));
+	}
+
+	private static InputStream getPrepared(Future<InputStream> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while loading knowledge base");
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	@FunctionalInterface
+	private interface EntryOpener {
+		InputStream open() throws IOException;
+	}
+
+	/**
+	 * A knowledge base entry together with the reader to read the entry.
+	 */
+	private final class EntryReader {
+
+		private final KnowledgeReader reader;
+		private final String name;
+		private final long size;
+		private final EntryOpener opener;
+
+		private EntryReader(KnowledgeReader reader, String name, long size, EntryOpener opener) {
+			this.reader = reader;
+			this.name = name;
+			this.size = size;
+			this.opener = opener;
+		}
+
+		/**
+		 * Reads the entry into memory and parses the xml document, unless the reader streams the entry. If the entry
+		 * is available in the document cache, it is taken from the cache instead. If a cache builder is specified, the
+		 * document is always parsed and the entry is added to the builder. This method does not access the knowledge
+		 * base, so it can be called concurrently for multiple entries.
+		 */
+		private InputStream prepare(@Nullable KnowledgeBaseDocumentCache cache, @Nullable KnowledgeBaseDocumentCache.Builder builder) throws IOException {
+			if (cache != null) {
+				InputStream stream = cache.getEntry(name);
+				if (stream != null) return stream;
+			}
+			byte[] content;
+			try (InputStream stream = opener.open()) {
+				content = stream.readAllBytes();
+			}
+			boolean streaming = reader.isStreaming(PersistenceManager.this);
+			Document document = null;
+			if (!streaming || builder != null) {
+				try {
+					document = XMLUtil.streamToDocument(new ByteArrayInputStream(content));
+				}
+				catch (IOException e) {
+					// not a xml document, or an invalid one,
+					// so let the reader handle (or report) the original content
+				}
+			}
+			if (builder != null) {
+				// the original content is only required if the reader may read the stream
+				builder.add(name, (streaming || document == null) ? content : null, document);
+			}
+			return new PreparedEntryStream(content, document);
+		}
+	}
+
 	/**
 	 * Creates an input stream for a specified zip entry to handle decryption. If there is no request for decryption,
 	 * the original zip input stream for that entry is returned.
@@ -542,7 +781,7 @@ public final class PersistenceManager {
 
 		KnowledgeBase kb = new KnowledgeBase();
 		CombinedProgressListener cpl = new CombinedProgressListener(size, listener);
-		boolean parsedAnyFile = false;
+		List<EntryReader> readers = new ArrayList<>();
 		for (Extension plugin : readerPlugins) {
 			Iterator<Path> iterator = files.iterator();
 			while (iterator.hasNext()) {
@@ -555,27 +794,21 @@ public final class PersistenceManager {
 				boolean canParse = ((filePattern != null) && name.matches(filePattern))
 						|| ((fileName != null) && Strings.equalsIgnoreCase(name, fileName));
 				if (canParse) {
-					// if we can parse this entry
-					// we prepare the progress for the next step
-					cpl.next(Files.size(file));
-					cpl.updateProgress(0, "Reading file " + name);
-					// initialize the reader
+					// if we can parse this entry, we initialize the reader
 					KnowledgeReader reader = (KnowledgeReader) plugin.getNewInstance();
-					try (InputStream inputStream = createInputStream(file)) {
-						reader.read(this, kb, inputStream, cpl);
-					}
+					readers.add(new EntryReader(reader, name, Files.size(file), () -> createInputStream(file)));
 					// and mark this as done
 					iterator.remove();
-					parsedAnyFile = true;
 				}
 			}
 		}
 
 		// if we not have parsed at least one file
 		// we assume that this is no valid knowledge base
-		if (!parsedAnyFile) {
+		if (readers.isEmpty()) {
 			throw new IOException("The parsed file appears not to be a valid knowledge base: " + path);
 		}
+		readEntries(kb, readers, cpl, null, null);
 
 		// finally scan all files in multimedia folder
 		// and add them to the knowledge base as resources
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.io;
+
+import java.io.ByteArrayInputStream;
+
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+
+/**
+ * Stream of a knowledge base entry that has already been read into memory, and optionally has already been parsed into
+ * an xml document, before the entry is passed to its {@link KnowledgeReader}. If the document is available, it is used
+ * by {@link KnowledgeBasePersistence} instead of parsing the stream again.
+ * <p>
+ * Closing the stream releases the content and the document, so they are not held in memory by any remaining
+ * reference to the stream.
+ *
+ * @created 18.10.2026
+ */
+final class PreparedEntryStream extends ByteArrayInputStream {
+
+	private static final byte[] RELEASED = new byte[0];
+
+	private Document document;
+
+	PreparedEntryStream(byte[] content, @Nullable Document document) {
+		super(content);
+		this.document = document;
+	}
+
+	/**
+	 * Returns the parsed xml document of this entry, or null if the entry has not been parsed.
+	 */
+	@Nullable
+	Document getDocument() {
+		return document;
+	}
+
+	@Override
+	public void close() {
+		buf = RELEASED;
+		pos = 0;
+		count = 0;
+		mark = 0;
+		document = null;
+	}
+}
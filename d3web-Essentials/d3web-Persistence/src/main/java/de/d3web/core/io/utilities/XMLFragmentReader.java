@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.io.utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Streaming reader for large xml documents that consist of many independent fragments, e.g. the rules or models of a
+ * knowledge base. Instead of parsing the whole document into a DOM, the document is read event based, and only the
+ * requested fragments are created as (small) DOM elements, one after the other. So the fragments can be processed by
+ * the existing {@link de.d3web.core.io.fragments.FragmentHandler}s, while the memory of each fragment can be released
+ * as soon as the fragment has been processed.
+ * <p>
+ * The created elements are owned by {@link #getDocument()}, but they are not appended to that document.
+ *
+ * @created 18.10.2026
+ */
+public class XMLFragmentReader implements AutoCloseable {
+
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	private final XMLStreamReader reader;
+	private final Document document;
+	private final String rootName;
+	private final Map<String, String> rootAttributes = new LinkedHashMap<>();
+	private int depth = 0;
+
+	/**
+	 * Creates a new fragment reader for the specified stream and reads the root element of the document. The stream is
+	 * not closed by this reader.
+	 *
+	 * @param stream the stream to read the xml document from
+	 * @throws IOException if the stream cannot be read or does not contain a valid xml document
+	 */
+	public XMLFragmentReader(InputStream stream) throws IOException {
+		this.document = XMLUtil.createEmptyDocument();
+		try {
+			this.reader = FACTORY.createXMLStreamReader(stream);
+			while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+				// skip prolog, comments and processing instructions
+			}
+			if (!reader.isStartElement()) {
+				throw new IOException("Document has no root element.");
+			}
+			this.rootName = getName();
+			for (int i = 0; i < reader.getAttributeCount(); i++) {
+				rootAttributes.put(getAttributeName(i), reader.getAttributeValue(i));
+			}
+			this.depth = 1;
+		}
+		catch (XMLStreamException e) {
+			throw new IOException("Cannot read xml document", e);
+		}
+	}
+
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		return factory;
+	}
+
+	/**
+	 * Returns the document that owns the elements created by this reader.
+	 *
+	 * @return the owner document of the fragments
+	 */
+	@NotNull
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * Returns the tag name of the root element of the document.
+	 *
+	 * @return the root element's name
+	 */
+	@NotNull
+	public String getRootName() {
+		return rootName;
+	}
+
+	/**
+	 * Returns the value of the specified attribute of the root element, or null if there is no such attribute.
+	 *
+	 * @param name the name of the attribute
+	 * @return the attribute value
+	 */
+	@Nullable
+	public String getRootAttribute(String name) {
+		return rootAttributes.get(name);
+	}
+
+	/**
+	 * Reads the next child element of the root element and returns it as a DOM element, including all its
+	 * descendants. If there are no more child elements, null is returned.
+	 *
+	 * @return the next child of the root element
+	 * @throws IOException if the xml document cannot be read
+	 */
+	@Nullable
+	public Element nextChild() throws IOException {
+		return next(Collections.emptySet());
+	}
+
+	/**
+	 * Reads the next element with one of the specified names, at any depth below the root element, and returns it as a
+	 * DOM element, including all its descendants. The elements with other names are skipped, but their descendants are
+	 * searched for matching elements. If there are no more matching elements, null is returned.
+	 *
+	 * @param names the tag names of the elements to be read
+	 * @return the next element with any of the specified names
+	 * @throws IOException if the xml document cannot be read
+	 */
+	@Nullable
+	public Element nextElement(String... names) throws IOException {
+		if (names.length == 0) throw new IllegalArgumentException("no element names specified");
+		return next(new HashSet<>(Arrays.asList(names)));
+	}
+
+	private Element next(Collection<String> names) throws IOException {
+		try {
+			while (depth > 0 && reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					if (names.isEmpty() ? depth == 1 : names.contains(getName())) {
+						return readElement();
+					}
+					depth++;
+				}
+				else if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+				}
+			}
+			return null;
+		}
+		catch (XMLStreamException e) {
+			throw new IOException("Cannot read xml document", e);
+		}
+	}
+
+	/**
+	 * Creates the element the reader is currently positioned at, reading all its descendants. After this method, the
+	 * reader is positioned at the end of the element.
+	 */
+	private Element readElement() throws XMLStreamException {
+		Element element = document.createElement(getName());
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			element.setAttribute(getAttributeName(i), reader.getAttributeValue(i));
+		}
+		while (reader.hasNext()) {
+			int event = reader.next();
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT:
+					element.appendChild(readElement());
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.SPACE:
+					element.appendChild(document.createTextNode(reader.getText()));
+					break;
+				case XMLStreamConstants.CDATA:
+					element.appendChild(document.createCDATASection(reader.getText()));
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					return element;
+				default:
+					// ignore comments and processing instructions
+			}
+		}
+		throw new XMLStreamException("Unexpected end of document in element " + element.getTagName());
+	}
+
+	private String getName() {
+		String prefix = reader.getPrefix();
+		String localName = reader.getLocalName();
+		return (prefix == null || prefix.isEmpty()) ? localName : prefix + ":" + localName;
+	}
+
+	private String getAttributeName(int index) {
+		String prefix = reader.getAttributePrefix(index);
+		String localName = reader.getAttributeLocalName(index);
+		return (prefix == null || prefix.isEmpty()) ? localName : prefix + ":" + localName;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			reader.close();
+		}
+		catch (XMLStreamException e) {
+			throw new IOException("Cannot close xml document", e);
+		}
+	}
+}
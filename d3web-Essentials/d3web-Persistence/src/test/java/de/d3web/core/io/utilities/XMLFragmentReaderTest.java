@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.io.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the streaming access to the fragments of a xml document.
+ *
+ * @created 18.10.2026
+ */
+public class XMLFragmentReaderTest {
+
+	private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<KnowledgeBase system=\"d3web\" type=\"test\">\n"
+			+ "  <!-- comment -->\n"
+			+ "  <Slices>\n"
+			+ "    <Slice id=\"1\"><Condition type=\"equal\" name=\"q\" value=\"a &amp; b\"/></Slice>\n"
+			+ "    <Slice id=\"2\"><![CDATA[<text>]]></Slice>\n"
+			+ "  </Slices>\n"
+			+ "  <Other><Slice id=\"3\"/></Other>\n"
+			+ "</KnowledgeBase>\n";
+
+	private static XMLFragmentReader createReader() throws IOException {
+		return new XMLFragmentReader(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void children() throws IOException {
+		try (XMLFragmentReader reader = createReader()) {
+			assertEquals("KnowledgeBase", reader.getRootName());
+			assertEquals("test", reader.getRootAttribute("type"));
+			assertNull(reader.getRootAttribute("id"));
+
+			Element slices = reader.nextChild();
+			assertEquals("Slices", slices.getTagName());
+			assertEquals(2, XMLUtil.getElementList(slices.getChildNodes()).size());
+			assertEquals("Other", reader.nextChild().getTagName());
+			assertNull(reader.nextChild());
+		}
+	}
+
+	@Test
+	public void elements() throws IOException {
+		try (XMLFragmentReader reader = createReader()) {
+			Element first = reader.nextElement("Slice");
+			assertEquals("1", first.getAttribute("id"));
+			Element condition = XMLUtil.getElementList(first.getChildNodes()).get(0);
+			assertEquals("a & b", condition.getAttribute("value"));
+			assertEquals(first, condition.getParentNode());
+
+			Element second = reader.nextElement("Slice");
+			assertEquals("<text>", second.getTextContent());
+			assertEquals("3", reader.nextElement("Slice").getAttribute("id"));
+			assertNull(reader.nextElement("Slice"));
+		}
+	}
+}
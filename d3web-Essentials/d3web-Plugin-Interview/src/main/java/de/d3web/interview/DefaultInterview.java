@@ -83,6 +83,20 @@ public class DefaultInterview implements Interview {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Initializes an interview for a forked session, having a copy of the agenda and the same form strategy as the
+	 * interview of the session the fork has been created from.
+	 *
+	 * @param fork     the forked session
+	 * @param original the interview of the session the fork has been created from
+	 */
+	public DefaultInterview(Session fork, DefaultInterview original) {
+		this.session = fork;
+		this.agenda = original.agenda.copy();
+		this.formStrategy = original.formStrategy;
+		this.supports = original.supports;
+	}
+
 	@Override
 	public Form nextForm() {
 		return formStrategy.nextForm(this.agenda.getCurrentlyActiveObjects(), session);
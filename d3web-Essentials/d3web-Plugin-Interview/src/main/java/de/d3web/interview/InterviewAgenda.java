@@ -29,6 +29,7 @@ import de.d3web.core.knowledge.Indication;
 import de.d3web.core.knowledge.Indication.State;
 import de.d3web.core.knowledge.InterviewObject;
 import de.d3web.core.knowledge.terminology.QASet;
+import de.d3web.core.session.Copyable;
 import de.d3web.interview.indication.IndicationComparator;
 
 /**
@@ -36,7 +37,7 @@ import de.d3web.interview.indication.IndicationComparator;
  *
  * @author Joachim Baumeister (denkbares GmbH)
  */
-public final class InterviewAgenda implements de.d3web.core.session.interviewmanager.InterviewAgenda {
+public final class InterviewAgenda implements de.d3web.core.session.interviewmanager.InterviewAgenda, Copyable<InterviewAgenda> {
 
 	private final List<AgendaEntry> agenda;
 	private boolean sorted = true;
@@ -145,6 +146,16 @@ public final class InterviewAgenda implements de.d3web.core.session.interviewman
 		agenda = new ArrayList<>();
 	}
 
+	@Override
+	public synchronized InterviewAgenda copy() {
+		InterviewAgenda copy = new InterviewAgenda();
+		for (AgendaEntry entry : agenda) {
+			copy.agenda.add(new AgendaEntry(entry.interviewObject, entry.interviewState, entry.indication));
+		}
+		copy.sorted = sorted;
+		return copy;
+	}
+
 	/**
 	 * Appends an {@link InterviewObject} to the agenda
 	 *
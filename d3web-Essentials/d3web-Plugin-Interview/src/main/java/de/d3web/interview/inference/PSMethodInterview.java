@@ -29,8 +29,10 @@ import org.slf4j.LoggerFactory;
 import de.d3web.core.inference.PSMethodAdapter;
 import de.d3web.core.inference.PropagationEntry;
 import de.d3web.core.knowledge.InterviewObject;
+import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionObjectSlot;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.Blackboard;
 import de.d3web.core.session.blackboard.Fact;
@@ -49,6 +51,7 @@ public class PSMethodInterview extends PSMethodAdapter implements SessionObjectS
 	private static final Logger LOGGER = LoggerFactory.getLogger(PSMethodInterview.class);
 
 	private FormStrategy defaultFormStrategy;
+	private final SessionObjectSlot sessionObjectSlot = new SessionObjectSlot();
 
 	@Override
 	public void propagate(Session session, Collection<PropagationEntry> changes) {
@@ -116,6 +119,19 @@ public class PSMethodInterview extends PSMethodAdapter implements SessionObjectS
 		return interview;
 	}
 
+	@Override
+	public Interview forkSessionObject(Session fork, Interview original) {
+		if (original instanceof DefaultInterview) {
+			return new DefaultInterview(fork, (DefaultInterview) original);
+		}
+		return SessionObjectSource.super.forkSessionObject(fork, original);
+	}
+
+	@Override
+	public int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+		return sessionObjectSlot.get(knowledgeBase);
+	}
+
 	public FormStrategy getDefaultFormStrategy() {
 		return defaultFormStrategy;
 	}
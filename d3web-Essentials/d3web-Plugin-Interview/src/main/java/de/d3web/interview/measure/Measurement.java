@@ -36,6 +36,7 @@ import de.d3web.core.knowledge.terminology.QuestionNum;
 import de.d3web.core.knowledge.terminology.QuestionText;
 import de.d3web.core.knowledge.terminology.info.Property;
 import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.Value;
@@ -106,7 +107,7 @@ public class Measurement implements SessionObjectSource<Measurement.MeasurementS
 		NOT_MEASURING
 	}
 
-	public static class MeasurementSessionObject implements SessionObject {
+	public static class MeasurementSessionObject implements SessionObject, Copyable<MeasurementSessionObject> {
 		private static final Logger LOGGER = LoggerFactory.getLogger(MeasurementSessionObject.class);
 		private State state = State.NOT_MEASURING;
 		private Date started = new Date();
@@ -150,6 +151,14 @@ public class Measurement implements SessionObjectSource<Measurement.MeasurementS
 		public Date getStarted() {
 			return started;
 		}
+
+		@Override
+		public MeasurementSessionObject copy() {
+			MeasurementSessionObject copy = new MeasurementSessionObject();
+			copy.state = state;
+			copy.started = started;
+			return copy;
+		}
 	}
 
 	@Nullable
@@ -41,6 +41,7 @@ import de.d3web.core.io.KnowledgeReader;
 import de.d3web.core.io.KnowledgeWriter;
 import de.d3web.core.io.Persistence;
 import de.d3web.core.io.PersistenceManager;
+import de.d3web.core.io.utilities.XMLFragmentReader;
 import de.d3web.core.io.utilities.XMLUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 
@@ -93,6 +94,11 @@ public abstract class AbstractRulePersistenceHandler implements KnowledgeWriter,
 	@Override
 	public void read(PersistenceManager manager, KnowledgeBase kb, InputStream stream, ProgressListener listener) throws IOException {
 		listener.updateProgress(0, "Reading " + ruletype);
+		if (isStreaming(manager) && !KnowledgeBasePersistence.isParsed(stream)) {
+			readStreaming(manager, kb, stream);
+			listener.updateProgress(1);
+			return;
+		}
 		Persistence<KnowledgeBase> persistence = new KnowledgeBasePersistence(manager, kb, stream);
 		Document doc = persistence.getDocument();
 
@@ -119,6 +125,28 @@ public abstract class AbstractRulePersistenceHandler implements KnowledgeWriter,
 		listener.updateProgress(1);
 	}
 
+	@Override
+	public boolean isStreaming(PersistenceManager persistenceManager) {
+		return persistenceManager.isStreaming();
+	}
+
+	/**
+	 * Reads the rules one by one from the stream, without creating a DOM of the whole document.
+	 */
+	private void readStreaming(PersistenceManager manager, KnowledgeBase kb, InputStream stream) throws IOException {
+		try (XMLFragmentReader reader = new XMLFragmentReader(stream)) {
+			if (!reader.getRootName().equals("KnowledgeBase") || !ruletype.equals(reader.getRootAttribute("type"))) {
+				throw new IOException();
+			}
+			Persistence<KnowledgeBase> persistence = new KnowledgeBasePersistence(manager, kb, reader.getDocument());
+			Element child;
+			while ((child = reader.nextChild()) != null) {
+				Rule rule = (Rule) persistence.readFragment(child);
+				rule.setProblemsolverContext(getProblemSolverContent());
+			}
+		}
+	}
+
 	@Override
 	public int getEstimatedSize(KnowledgeBase kb) {
 		return getRules(kb).size();
@@ -88,6 +88,12 @@ public class MMInfoPersistenceHandler implements KnowledgeReader, KnowledgeWrite
 		}
 	}
 
+	@Override
+	public boolean isStreaming(PersistenceManager persistenceManager) {
+		// the entry is always read with a sax parser
+		return true;
+	}
+
 	@Override
 	public void write(PersistenceManager manager, KnowledgeBase kb, OutputStream stream, ProgressListener listener) throws IOException {
 		listener.updateProgress(0, "Saving multimedia");
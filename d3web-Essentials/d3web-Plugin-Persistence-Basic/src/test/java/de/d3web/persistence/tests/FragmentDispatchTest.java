@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.persistence.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.io.KnowledgeBasePersistence;
+import de.d3web.core.io.NoSuchFragmentHandlerException;
+import de.d3web.core.io.Persistence;
+import de.d3web.core.io.PersistenceManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.QuestionYN;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.values.ChoiceValue;
+
+/**
+ * Checks that the fragments are dispatched to the right handlers, both for the
+ * handlers declaring their elements and objects and for the ones that do not.
+ *
+ * @created 18.10.2026
+ */
+public class FragmentDispatchTest {
+
+	private KnowledgeBase kb;
+	private Persistence<KnowledgeBase> persistence;
+
+	@Before
+	public void setUp() throws IOException {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		persistence = new KnowledgeBasePersistence(PersistenceManager.getInstance(), kb);
+	}
+
+	@Test
+	public void declaredHandlers() throws IOException {
+		QuestionNum num = new QuestionNum(kb, "num");
+		QuestionYN yn = new QuestionYN(kb, "yn");
+		Condition condition = new CondAnd(
+				new CondNumGreater(num, 5.0),
+				new CondEqual(yn, new ChoiceValue(yn.getAnswerChoiceYes())));
+
+		Element element = persistence.writeFragment(condition);
+		assertEquals("Condition", element.getNodeName());
+		assertEquals("and", element.getAttribute("type"));
+		assertEquals(condition, persistence.readFragment(element));
+	}
+
+	@Test
+	public void undeclaredHandlers() throws IOException {
+		Date date = new Date(1234567890L);
+		assertEquals(date, persistence.readFragment(persistence.writeFragment(date)));
+		assertNull(persistence.readFragment(persistence.writeFragment(null)));
+	}
+
+	@Test(expected = NoSuchFragmentHandlerException.class)
+	public void undeclaredType() throws IOException {
+		Element element = persistence.getDocument().createElement("Condition");
+		element.setAttribute("type", "noSuchCondition");
+		persistence.readFragment(element);
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.persistence.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.abstraction.formula.FormulaNumber;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.CondNumLess;
+import de.d3web.core.io.PersistenceManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.scoring.Score;
+
+/**
+ * Checks that a knowledge base loaded in parallel, with or without streaming, or using the document cache, is identical
+ * to the sequentially loaded one, by comparing the saved knowledge base entries.
+ *
+ * @created 18.10.2026
+ */
+public class KnowledgeBaseLoadTest {
+
+	private final PersistenceManager manager = PersistenceManager.getInstance();
+
+	@After
+	public void tearDown() {
+		manager.setParallel(true);
+		manager.setStreaming(true);
+		manager.setDocumentCache(false);
+	}
+
+	@Test
+	public void sameKnowledgeBase() throws IOException {
+		InitPluginManager.init();
+		File folder = new File("target/kbs");
+		folder.mkdirs();
+		File original = new File(folder, "parallel.d3web");
+		manager.save(createKnowledgeBase(), original);
+
+		Map<String, String> sequential = reload(original, false, false);
+		assertFalse(sequential.isEmpty());
+		assertEquals(sequential, reload(original, true, false));
+		assertEquals(sequential, reload(original, true, true));
+		assertEquals(sequential, reload(original, false, true));
+	}
+
+	@Test
+	public void documentCache() throws IOException {
+		InitPluginManager.init();
+		File folder = new File("target/kbs");
+		folder.mkdirs();
+		File original = new File(folder, "documents.d3web");
+		File cache = new File(folder, "documents.d3web.documents");
+		cache.delete();
+		manager.save(createKnowledgeBase(), original);
+		Map<String, String> expected = reload(original, false, false);
+
+		// the first load creates the document cache, the second one uses it
+		manager.setDocumentCache(true);
+		assertEquals(expected, reload(original, true, true));
+		assertTrue(cache.isFile());
+		long modified = cache.lastModified();
+		assertEquals(expected, reload(original, true, true));
+		assertEquals(expected, reload(original, false, false));
+		assertEquals(modified, cache.lastModified());
+
+		// if the archive changes, the outdated document cache is ignored
+		KnowledgeBase changed = createKnowledgeBase();
+		new QuestionNum(changed.getRootQASet(), "changed");
+		manager.save(changed, original);
+		manager.setDocumentCache(false);
+		Map<String, String> changedExpected = reload(original, false, false);
+		manager.setDocumentCache(true);
+		assertEquals(changedExpected, reload(original, true, true));
+		assertEquals(changedExpected, reload(original, true, true));
+	}
+
+	@Test
+	public void corruptDocumentCache() throws IOException {
+		InitPluginManager.init();
+		File folder = new File("target/kbs");
+		folder.mkdirs();
+		File original = new File(folder, "corrupt.d3web");
+		File cache = new File(folder, "corrupt.d3web.documents");
+		cache.delete();
+		manager.save(createKnowledgeBase(), original);
+		Map<String, String> expected = reload(original, false, false);
+		manager.setDocumentCache(true);
+		assertEquals(expected, reload(original, true, true));
+		byte[] data = Files.readAllBytes(cache.toPath());
+
+		// a truncated document cache is ignored and rewritten (the entries may be written in a different order)
+		Files.write(cache.toPath(), Arrays.copyOf(data, data.length / 2));
+		assertEquals(expected, reload(original, true, true));
+		assertEquals(data.length, cache.length());
+
+		// as well as a document cache with modified content
+		byte[] modified = data.clone();
+		modified[modified.length / 2] ^= 0x55;
+		Files.write(cache.toPath(), modified);
+		assertEquals(expected, reload(original, true, true));
+		assertEquals(data.length, cache.length());
+	}
+
+	private Map<String, String> reload(File file, boolean parallel, boolean streaming) throws IOException {
+		manager.setParallel(parallel);
+		manager.setStreaming(streaming);
+		KnowledgeBase kb = manager.load(file);
+		File saved = new File(file.getParentFile(), "parallel-" + parallel + "-" + streaming + ".d3web");
+		manager.save(kb, saved);
+
+		// collect the contents of the knowledge entries, the other ones (e.g. the manifest) contain the save date
+		Map<String, String> result = new TreeMap<>();
+		try (ZipFile zip = new ZipFile(saved)) {
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				if (entry.getName().startsWith("kb/")) {
+					result.put(entry.getName(), new String(zip.getInputStream(entry).readAllBytes()));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static KnowledgeBase createKnowledgeBase() {
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		QuestionNum abstraction = new QuestionNum(kb.getRootQASet(), "abstraction");
+		for (int i = 0; i < 20; i++) {
+			QuestionNum question = new QuestionNum(kb.getRootQASet(), "question" + i);
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			RuleFactory.createHeuristicPSRule(solution, Score.P5, new CondAnd(
+					new CondNumGreater(question, (double) i), new CondNumLess(abstraction, (double) i)));
+			RuleFactory.createSetValueRule(abstraction, new FormulaNumber((double) i), new CondNumGreater(question, 5.0));
+			RuleFactory.createIndicationRule(question, new CondNumLess(abstraction, (double) i));
+		}
+		return kb;
+	}
+}
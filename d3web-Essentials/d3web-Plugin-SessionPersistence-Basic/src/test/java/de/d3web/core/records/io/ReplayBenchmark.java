@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.records.SessionConversionFactory;
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.scoring.Score;
+
+/**
+ * Simple benchmark reporting the throughput of restoring archived sessions, both by replaying their protocol and by
+ * copying their facts, for a knowledge base with 2k questions and 20k rules. This is not a unit test, run the main
+ * method manually.
+ *
+ * @created 18.10.2026
+ */
+public class ReplayBenchmark {
+
+	private static final int QUESTIONS = 2_000;
+	private static final int RULES = 20_000;
+	private static final int SESSIONS = 10_000;
+	private static final int ANSWERS = 50;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<QuestionNum> questions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			questions.add(new QuestionNum(kb.getRootQASet(), "question" + i));
+		}
+		for (int i = 0; i < RULES; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			QuestionNum question = questions.get(i % QUESTIONS);
+			RuleFactory.createHeuristicPSRule(solution, Score.P3, new CondNumGreater(question, 5.0));
+		}
+
+		// archive the sessions, answering some questions at different dates each
+		List<SessionRecord> records = new ArrayList<>(SESSIONS);
+		for (int s = 0; s < SESSIONS; s++) {
+			long time = 1_000_000_000L + s * 1000L;
+			Session session = SessionFactory.createSession(kb, new Date(time));
+			for (int a = 0; a < ANSWERS; a++) {
+				session.getPropagationManager().openPropagation(time + a);
+				try {
+					QuestionNum question = questions.get((s * 31 + a * 17) % QUESTIONS);
+					session.getBlackboard().addValueFact(
+							FactFactory.createUserEnteredFact(question, new NumValue(a % 10)));
+				}
+				finally {
+					session.getPropagationManager().commitPropagation();
+				}
+			}
+			records.add(SessionConversionFactory.copyToSessionRecord(session));
+		}
+		ByteArrayOutputStream archive = new ByteArrayOutputStream();
+		SessionPersistenceManager.getInstance().saveSessions(archive, records);
+		Collection<SessionRecord> restored = SessionPersistenceManager.getInstance()
+				.loadSessions(new ByteArrayInputStream(archive.toByteArray()));
+
+		for (int run = 0; run < 3; run++) {
+			long start = System.nanoTime();
+			for (SessionRecord record : restored) {
+				SessionConversionFactory.replayToSession(kb, record);
+			}
+			double replay = (System.nanoTime() - start) / 1e9;
+
+			start = System.nanoTime();
+			for (SessionRecord record : restored) {
+				SessionConversionFactory.copyToSession(kb, record);
+			}
+			double copy = (System.nanoTime() - start) / 1e9;
+			System.out.printf("replay: %,d sessions/s, copy: %,d sessions/s%n",
+					(long) (SESSIONS / replay), (long) (SESSIONS / copy));
+		}
+	}
+}
@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -65,6 +66,10 @@ import de.d3web.core.records.FactRecord;
 import de.d3web.core.records.SessionConversionFactory;
 import de.d3web.core.records.SessionRecord;
 import de.d3web.core.records.SessionRepository;
+import de.d3web.core.records.filter.NameFilter;
+import de.d3web.core.records.filter.PropertyFilter;
+import de.d3web.core.records.index.NameIndex;
+import de.d3web.core.records.index.PropertyIndex;
 import de.d3web.core.records.io.fragments.DateValueHandler;
 import de.d3web.core.records.io.fragments.UndefinedHandler;
 import de.d3web.core.session.DefaultSession;
@@ -84,7 +89,9 @@ import de.d3web.core.session.values.UndefinedValue;
 import de.d3web.core.session.values.Unknown;
 import de.d3web.file.records.io.SingleXMLSessionRepository;
 import de.d3web.folder.records.io.MultipleXMLSessionRepository;
+import de.d3web.folder.records.io.TransferStatistics;
 import de.d3web.indication.inference.PSMethodStrategic;
+import de.d3web.journal.records.io.JournalSessionRepository;
 import de.d3web.scoring.HeuristicRating;
 import de.d3web.scoring.Score;
 
@@ -285,7 +292,7 @@ public class SessionPersistenceTest {
 		error = false;
 	}
 
-	private void testIterator(SingleXMLSessionRepository reloadedRepository) throws IOException {
+	private void testIterator(SessionRepository reloadedRepository) throws IOException {
 		Iterator<SessionRecord> iterator = reloadedRepository.iterator();
 		SessionRecord record1 = iterator.next();
 		SessionRecord record2 = iterator.next();
@@ -301,6 +308,120 @@ public class SessionPersistenceTest {
 		}
 	}
 
+	@Test
+	public void testJournalPersistence() throws Exception {
+		File folder = new File(targetFolder, "journal");
+		folder.mkdirs();
+		clearDirectory(folder);
+		JournalSessionRepository sessionRepository = new JournalSessionRepository();
+		sessionRepository.add(sessionRecord);
+		sessionRepository.add(sessionRecord2);
+		sessionRepository.save(folder);
+
+		try (JournalSessionRepository reloadedRepository = new JournalSessionRepository()) {
+			reloadedRepository.load(folder);
+			testIterator(reloadedRepository);
+
+			// saving without changes does not write anything
+			File[] segments = folder.listFiles();
+			assertEquals(1, segments.length);
+			long length = segments[0].length();
+			reloadedRepository.save(folder);
+			assertEquals(length, segments[0].length());
+
+			// changes and removals are appended
+			SessionRecord record = reloadedRepository.getSessionRecordById(sessionID);
+			record.setName("renamed");
+			record.touch();
+			reloadedRepository.remove(reloadedRepository.getSessionRecordById(session2ID));
+			reloadedRepository.save(folder);
+			assertTrue(segments[0].length() > length);
+		}
+
+		try (JournalSessionRepository reloadedRepository = new JournalSessionRepository()) {
+			reloadedRepository.load(folder);
+			assertEquals(1, reloadedRepository.size());
+			assertEquals("renamed", reloadedRepository.getSessionRecordById(sessionID).getName());
+			assertNull(reloadedRepository.getSessionRecordById(session2ID));
+		}
+	}
+
+	@Test
+	public void testJournalCompaction() throws Exception {
+		File folder = new File(targetFolder, "journalCompaction");
+		folder.mkdirs();
+		clearDirectory(folder);
+		// every appended record starts a new segment
+		try (JournalSessionRepository sessionRepository = new JournalSessionRepository(1)) {
+			sessionRepository.load(folder);
+			sessionRepository.add(sessionRecord);
+			sessionRepository.add(sessionRecord2);
+			for (int i = 0; i < 5; i++) {
+				sessionRepository.getSessionRecordById(sessionID).setName("name " + i);
+				sessionRepository.save(folder);
+			}
+			// the first compaction may already have been started in the background while saving
+			sessionRepository.compact().get();
+			sessionRepository.compact().get();
+			assertTrue(folder.listFiles().length <= 2);
+			assertEquals("name 4", sessionRepository.getSessionRecordById(sessionID).getName());
+		}
+		try (JournalSessionRepository reloadedRepository = new JournalSessionRepository()) {
+			reloadedRepository.load(folder);
+			assertEquals(2, reloadedRepository.size());
+			assertEquals("name 4", reloadedRepository.getSessionRecordById(sessionID).getName());
+			assertEquals(sessionRecord2.getValueFacts().size(),
+					reloadedRepository.getSessionRecordById(session2ID).getValueFacts().size());
+		}
+	}
+
+	@Test
+	public void testIndexingUnparsedRecords() throws Exception {
+		File folder = new File(targetFolder, "journalIndexing");
+		folder.mkdirs();
+		clearDirectory(folder);
+		JournalSessionRepository sessionRepository = new JournalSessionRepository();
+		sessionRepository.add(sessionRecord);
+		sessionRepository.add(sessionRecord2);
+		sessionRepository.save(folder);
+		try (JournalSessionRepository reloadedRepository = new JournalSessionRepository()) {
+			reloadedRepository.load(folder);
+			reloadedRepository.addIndex(new PropertyIndex(MMInfo.DESCRIPTION));
+			reloadedRepository.addIndex(new NameIndex());
+			// indexing does not pin the records in memory
+			assertEquals(0, reloadedRepository.getPinnedCount());
+			assertEquals(1, reloadedRepository.getSessionRecords(
+					new PropertyFilter<>(MMInfo.DESCRIPTION, "First test session")).size());
+			assertEquals(1, reloadedRepository.getSessionRecords(new NameFilter(TESTNAME)).size());
+
+			// only the modified record is indexed again
+			reloadedRepository.getSessionRecordById(sessionRecord2.getId()).touch();
+			reloadedRepository.getSessionRecordById(sessionRecord2.getId()).setName("renamed");
+			assertEquals(1, reloadedRepository.getSessionRecords(new NameFilter("renamed")).size());
+			assertEquals(1, reloadedRepository.getPinnedCount());
+		}
+
+		File indexFolder = new File(targetFolder, "folderIndexing");
+		indexFolder.mkdirs();
+		clearDirectory(indexFolder);
+		MultipleXMLSessionRepository folderRepository = new MultipleXMLSessionRepository();
+		folderRepository.add(sessionRecord);
+		folderRepository.add(sessionRecord2);
+		folderRepository.save(indexFolder);
+		MultipleXMLSessionRepository reloadedRepository = new MultipleXMLSessionRepository();
+		reloadedRepository.load(indexFolder);
+		reloadedRepository.addIndex(new PropertyIndex(MMInfo.DESCRIPTION));
+		reloadedRepository.addIndex(new NameIndex());
+		// the records are parsed transiently for indexing
+		assertEquals(0, reloadedRepository.getParsedCount());
+		assertEquals(1, reloadedRepository.getSessionRecords(new NameFilter(TESTNAME)).size());
+
+		// only the modified record is indexed again, the other records are not parsed by the query
+		reloadedRepository.getSessionRecordById(sessionRecord2.getId()).setName("renamed");
+		assertEquals(1, reloadedRepository.getSessionRecords(new NameFilter("renamed")).size());
+		assertEquals(1, reloadedRepository.getParsedCount());
+	}
+
 	@Test
 	public void testMultiXMLPersistence() throws IOException, InterruptedException, ParseException {
 		MultipleXMLSessionRepository sessionRepository = new MultipleXMLSessionRepository();
@@ -420,6 +541,33 @@ public class SessionPersistenceTest {
 	 * @throws IOException
 	 * @throws FileNotFoundException
 	 */
+	@Test
+	public void testParallelMultiXMLPersistence() throws IOException, ParseException {
+		File folder = new File(targetFolder, "parallel");
+		folder.mkdirs();
+		clearDirectory(folder);
+		MultipleXMLSessionRepository sessionRepository = new MultipleXMLSessionRepository();
+		sessionRepository.add(sessionRecord);
+		sessionRepository.add(sessionRecord2);
+		TransferStatistics statistics = sessionRepository.save(folder, 4, new DummyProgressListener());
+		assertEquals(2, statistics.getRecords());
+		assertEquals(2, statistics.getProcessed());
+		// the temporary files have been renamed
+		assertEquals(2, folder.listFiles().length);
+
+		MultipleXMLSessionRepository reloadedRepository = new MultipleXMLSessionRepository();
+		reloadedRepository.load(folder);
+		List<String> ids = new ArrayList<>();
+		statistics = reloadedRepository.forEachParsed(4,
+				record -> ids.add(record.getId() + ":" + record.getValueFacts().size()),
+				new DummyProgressListener());
+		assertEquals(2, statistics.getProcessed());
+		assertTrue(ids.contains(sessionID + ":" + sessionRecord.getValueFacts().size()));
+		assertTrue(ids.contains(session2ID + ":" + sessionRecord2.getValueFacts().size()));
+		// the released records are parsed again when accessed
+		testIterator(reloadedRepository);
+	}
+
 	private void markXMLFile(File f) throws IOException {
 		try (FileInputStream istream = new FileInputStream(f)) {
 			Document doc = XMLUtil.streamToDocument(istream);
@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import de.d3web.core.knowledge.InfoStore;
@@ -59,6 +61,9 @@ public class DefaultSessionRecord implements SessionRecord {
 
 	private final InfoStore infoStore = new SessionInfoStore(this);
 
+	// notified about the modifications of this record, created on demand
+	private volatile List<Consumer<SessionRecord>> modificationListeners = null;
+
 	public DefaultSessionRecord() {
 		this(UUID.randomUUID().toString());
 	}
@@ -80,6 +85,7 @@ public class DefaultSessionRecord implements SessionRecord {
 	@Override
 	public void addValueFact(FactRecord fact) {
 		valueFacts.add(fact);
+		fireModified();
 	}
 
 	@Override
@@ -95,6 +101,7 @@ public class DefaultSessionRecord implements SessionRecord {
 	@Override
 	public void touch(Date lastEditDate) {
 		this.lastEditDate = lastEditDate;
+		fireModified();
 	}
 
 	@Override
@@ -120,6 +127,7 @@ public class DefaultSessionRecord implements SessionRecord {
 	@Override
 	public void addInterviewFact(FactRecord fact) {
 		interviewFacts.add(fact);
+		fireModified();
 	}
 
 	@Override
@@ -135,6 +143,7 @@ public class DefaultSessionRecord implements SessionRecord {
 	@Override
 	public void setName(String name) {
 		this.name = name;
+		fireModified();
 	}
 
 	@Override
@@ -142,6 +151,38 @@ public class DefaultSessionRecord implements SessionRecord {
 		return infoStore;
 	}
 
+	/**
+	 * Adds a listener, that is notified each time the facts, the name or the
+	 * last change date of this record are modified. Modifications of the
+	 * InfoStore are notified as well, as they touch this record. The
+	 * modifications of the protocol are not notified.
+	 *
+	 * @param listener the listener to be added
+	 * @created 18.10.2026
+	 */
+	public synchronized void addModificationListener(Consumer<SessionRecord> listener) {
+		if (modificationListeners == null) modificationListeners = new CopyOnWriteArrayList<>();
+		modificationListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added by {@link #addModificationListener(Consumer)}.
+	 *
+	 * @param listener the listener to be removed
+	 * @created 18.10.2026
+	 */
+	public synchronized void removeModificationListener(Consumer<SessionRecord> listener) {
+		if (modificationListeners != null) modificationListeners.remove(listener);
+	}
+
+	private void fireModified() {
+		List<Consumer<SessionRecord>> listeners = modificationListeners;
+		if (listeners == null) return;
+		for (Consumer<SessionRecord> listener : listeners) {
+			listener.accept(this);
+		}
+	}
+
 	public List<String> getSolutions(State... states) {
 		HashMap<String, FactRecord> map = new HashMap<>();
 		for (FactRecord fact : valueFacts) {
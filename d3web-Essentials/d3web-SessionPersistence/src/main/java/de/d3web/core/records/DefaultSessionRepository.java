@@ -18,6 +18,9 @@
  */
 package de.d3web.core.records;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,17 +28,29 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import de.d3web.core.records.filter.AndFilter;
 import de.d3web.core.records.filter.CreationDateFilter;
 import de.d3web.core.records.filter.Filter;
 import de.d3web.core.records.filter.OrFilter;
+import de.d3web.core.records.index.SessionRecordIndex;
+import de.d3web.core.records.index.SessionRecordIndexes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Default Implementation of the SessionRepository Interface (@link
  * SessionRepository). This implementation cannot persist the SessionRecords
+ * <p>
+ * Indexes can be added to the repository (see {@link #addIndex}), the filters
+ * of a query are planned against them, so only the records that may match are
+ * checked by the filters. The indexes are updated when records are added or
+ * removed. The repository is notified about the modifications of its records
+ * (see {@link #observe(SessionRecord)}), only these modified records are
+ * indexed again before the next query is planned.
  * 
  * @author Sebastian Furth (denkbares GmbH)‚
  * 
@@ -44,6 +59,10 @@ public class DefaultSessionRepository implements SessionRepository {
 	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSessionRepository.class);
 
 	protected final Map<String, SessionRecord> sessionRecords = new HashMap<>();
+	private final SessionRecordIndexes indexes = new SessionRecordIndexes(this::getIndexedRecord);
+	// ids of the records that have been modified since they have been indexed
+	private final Set<String> modifiedRecords = new HashSet<>();
+	private final Consumer<SessionRecord> modificationListener = this::recordModified;
 
 	@Override
 	public boolean add(SessionRecord sessionRecord) {
@@ -52,6 +71,7 @@ public class DefaultSessionRepository implements SessionRepository {
 		SessionRecord oldRecord = sessionRecords.get(sessionRecord.getId());
 		if (oldRecord == null) {
 			sessionRecords.put(sessionRecord.getId(), sessionRecord);
+			indexRecord(sessionRecord);
 			return true;
 		}
 		else {
@@ -65,11 +85,19 @@ public class DefaultSessionRepository implements SessionRepository {
 			else {
 				// replace record with new one
 				sessionRecords.put(sessionRecord.getId(), sessionRecord);
+				unobserve(oldRecord);
+				indexRecord(sessionRecord);
 				return true;
 			}
 		}
 	}
 
+	private void indexRecord(SessionRecord sessionRecord) {
+		observe(sessionRecord);
+		modifiedRecords.remove(sessionRecord.getId());
+		indexes.add(sessionRecord, this::getIndexStamp);
+	}
+
 	@Override
 	public Iterator<SessionRecord> iterator() {
 		return sessionRecords.values().iterator();
@@ -88,7 +116,11 @@ public class DefaultSessionRepository implements SessionRepository {
 		if (storedRecord == null || !storedRecord.equals(sessionRecord)) {
 			return false;
 		}
-		return (sessionRecords.remove(sessionRecord.getId()) != null);
+		if (sessionRecords.remove(sessionRecord.getId()) == null) return false;
+		unobserve(storedRecord);
+		modifiedRecords.remove(sessionRecord.getId());
+		indexes.remove(sessionRecord.getId());
+		return true;
 	}
 
 	@Override
@@ -104,9 +136,20 @@ public class DefaultSessionRepository implements SessionRepository {
 	@Override
 	public Collection<SessionRecord> getSessionRecords(Filter filter) {
 		if (filter == null) return sessionRecords.values();
-		// to enable recursive calls with a subset of the sessionRecords, the
-		// method is extracted
-		return getSessionRecords(sessionRecords.values(), filter);
+		// only the records found by the indexes may match the filter
+		updateModifiedRecords();
+		Set<String> candidates = indexes.getCandidates(filter);
+		if (candidates == null) {
+			// to enable recursive calls with a subset of the sessionRecords, the
+			// method is extracted
+			return getSessionRecords(sessionRecords.values(), filter);
+		}
+		Collection<SessionRecord> records = new ArrayList<>(candidates.size());
+		for (String id : candidates) {
+			SessionRecord record = sessionRecords.get(id);
+			if (record != null) records.add(record);
+		}
+		return getSessionRecords(records, filter);
 	}
 
 	private Collection<SessionRecord> getSessionRecords(Collection<SessionRecord> sessionRecords, Filter filter) {
@@ -190,6 +233,163 @@ public class DefaultSessionRepository implements SessionRepository {
 	 * @created 24.05.2012
 	 */
 	public void clear() {
+		for (SessionRecord sessionRecord : sessionRecords.values()) {
+			unobserve(sessionRecord);
+		}
 		sessionRecords.clear();
+		modifiedRecords.clear();
+		indexes.clear();
+	}
+
+	/**
+	 * Adds an index to this repository and indexes all records of the
+	 * repository. The filters of the subsequent queries will be planned
+	 * against the index.
+	 * 
+	 * @created 18.10.2026
+	 * @param index the index to be added
+	 * @throws IllegalArgumentException if there is already an index with the
+	 *         same name
+	 */
+	public void addIndex(SessionRecordIndex index) {
+		updateModifiedRecords();
+		indexes.addIndex(index, sessionRecords.values(), this::getIndexStamp);
+	}
+
+	/**
+	 * Returns the indexes of this repository.
+	 * 
+	 * @created 18.10.2026
+	 * @return the indexes in the order they have been added
+	 */
+	public List<SessionRecordIndex> getIndexes() {
+		return indexes.getIndexes();
+	}
+
+	/**
+	 * Updates the indexes for the specified record. The records notifying
+	 * their modifications are indexed again before the next query anyway, but
+	 * this method must be called after modifying a record that does not
+	 * notify its modifications (see {@link #observe(SessionRecord)}).
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the modified record
+	 */
+	public void updateIndexes(SessionRecord sessionRecord) {
+		if (sessionRecords.get(sessionRecord.getId()) == sessionRecord) {
+			modifiedRecords.remove(sessionRecord.getId());
+			indexes.update(sessionRecord);
+		}
+	}
+
+	/**
+	 * Indexes the records again, that have been modified since they have been
+	 * indexed. Only the modified records are accessed.
+	 */
+	private void updateModifiedRecords() {
+		if (modifiedRecords.isEmpty()) return;
+		for (String id : modifiedRecords) {
+			SessionRecord sessionRecord = sessionRecords.get(id);
+			if (sessionRecord != null) indexes.update(sessionRecord);
+		}
+		modifiedRecords.clear();
+	}
+
+	/**
+	 * Marks the specified record as modified, so it is indexed again before
+	 * the next query is planned. This method is called by the records
+	 * observed by this repository.
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the modified record
+	 */
+	protected void recordModified(SessionRecord sessionRecord) {
+		modifiedRecords.add(sessionRecord.getId());
+	}
+
+	/**
+	 * Starts observing the modifications of the specified record, which has
+	 * been added to this repository. The modifications have to be reported by
+	 * calling {@link #recordModified(SessionRecord)}. This implementation
+	 * observes instances of {@link DefaultSessionRecord}, repositories with
+	 * their own record implementations should overwrite this method.
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the record to be observed
+	 */
+	protected void observe(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof DefaultSessionRecord) {
+			((DefaultSessionRecord) sessionRecord).addModificationListener(modificationListener);
+		}
+	}
+
+	/**
+	 * Stops observing the modifications of the specified record, which has
+	 * been removed from this repository, see {@link #observe(SessionRecord)}.
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the record no longer to be observed
+	 */
+	protected void unobserve(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof DefaultSessionRecord) {
+			((DefaultSessionRecord) sessionRecord).removeModificationListener(modificationListener);
+		}
+	}
+
+	/**
+	 * Returns the record to compute the index keys of the specified record
+	 * from. Repositories that parse their records lazily may return a
+	 * transiently parsed copy of a record that is not held in memory, so
+	 * indexing does not keep all records in memory. This implementation
+	 * returns the record itself.
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the record to be indexed
+	 * @return the record to compute the index keys from
+	 */
+	protected SessionRecord getIndexedRecord(SessionRecord sessionRecord) {
+		return sessionRecord;
+	}
+
+	/**
+	 * Returns a stamp identifying the stored version of the record, e.g. the
+	 * size and modification time of its file. Persisted index keys are only
+	 * used for a record, if its stamp equals the stamp the keys have been
+	 * written with. If the record may have been modified since it has been
+	 * stored, null must be returned. This implementation cannot persist the
+	 * records and returns null.
+	 * 
+	 * @created 18.10.2026
+	 * @param sessionRecord the record to get the stamp for
+	 * @return the stamp of the record or null
+	 */
+	protected String getIndexStamp(SessionRecord sessionRecord) {
+		return null;
+	}
+
+	/**
+	 * Reads the persisted index keys from the specified file. The keys are
+	 * used for the records added afterwards, if their stamps match. Must be
+	 * called before the records are added.
+	 * 
+	 * @created 18.10.2026
+	 * @param file the file the keys have been saved to
+	 */
+	protected void loadIndexes(File file) {
+		indexes.read(file);
+	}
+
+	/**
+	 * Writes the index keys of all records to the specified file, if this
+	 * repository has any indexes.
+	 * 
+	 * @created 18.10.2026
+	 * @param file the file to save the keys to
+	 * @param stamps provides the stamps of the records as they are stored,
+	 *        records without stamps are not saved
+	 * @throws IOException if the file cannot be written
+	 */
+	protected void saveIndexes(File file, Function<SessionRecord, String> stamps) throws IOException {
+		indexes.write(file, sessionRecords.values(), stamps);
 	}
 }
\ No newline at end of file
@@ -19,8 +19,8 @@
 package de.d3web.core.records;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -111,7 +111,7 @@ public final class SessionConversionFactory {
 	}
 
 	private static List<Fact> getFacts(KnowledgeBase kb, List<FactRecord> factRecords, PSMethodMapping psMethods) throws IOException {
-		List<Fact> resultFacts = new LinkedList<>();
+		List<Fact> resultFacts = new ArrayList<>(factRecords.size());
 		for (FactRecord factRecord : factRecords) {
 			// ignore merged facts
 			String psm = factRecord.getPSM();
@@ -148,13 +148,20 @@ public final class SessionConversionFactory {
 	 * @return true if the fact record should be restored "as source fact"
 	 */
 	public static boolean isReplaySolver(PSMethod psm) {
-		//noinspection unchecked
-		return psm.hasType(Type.source) ||
-				REPLAY_SOLVERS.stream().anyMatch(plugged -> plugged.isAssignableFrom(psm.getClass()));
+		return psm.hasType(Type.source) || PLUGGED_REPLAY_SOLVERS.get(psm.getClass());
 	}
 
 	private static final List<Class> REPLAY_SOLVERS = detectReplaySolvers();
 
+	// the check is done for each fact record, so remember the result for each solver class
+	private static final ClassValue<Boolean> PLUGGED_REPLAY_SOLVERS = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			//noinspection unchecked
+			return REPLAY_SOLVERS.stream().anyMatch(plugged -> plugged.isAssignableFrom(type));
+		}
+	};
+
 	private static List<Class> detectReplaySolvers() {
 		return Stream.of(PluginManager.getInstance()
 				.getExtensions(KernelExtensionPoints.PLUGIN_ID, KernelExtensionPoints.EXTENSIONPOINT_PROTOCOL_EXECUTOR))
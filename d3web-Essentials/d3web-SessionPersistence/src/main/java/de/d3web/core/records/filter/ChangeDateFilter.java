@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.filter;
+
+import java.util.Date;
+
+import de.d3web.core.records.SessionRecord;
+
+/**
+ * Enables filtering of SessionRecords by their last change date
+ *
+ * @created 18.10.2026
+ */
+public class ChangeDateFilter extends DateFilter {
+
+	/**
+	 * Creates a ChangeDateFilter
+	 *
+	 * @param startDate Filters Sessionrecords with a last change date after
+	 *        startDate, ignored if null
+	 * @param endDate Filters Sessionrecords with a last change date before
+	 *        endDate, ignored if null
+	 * @param includingStartDate when set to true, the filter also fits when the
+	 *        last change date equals the startDate
+	 * @param includingEndDate when set to true, the filter also fits when the
+	 *        last change date equals the endDate
+	 * @throws IllegalArgumentException when both dates are null or startDate is
+	 *         after endDate
+	 */
+	public ChangeDateFilter(Date startDate, Date endDate, boolean includingStartDate, boolean includingEndDate) {
+		super(startDate, endDate, includingStartDate, includingEndDate);
+	}
+
+	@Override
+	protected Date getDate(SessionRecord record) {
+		return record.getLastChangeDate();
+	}
+}
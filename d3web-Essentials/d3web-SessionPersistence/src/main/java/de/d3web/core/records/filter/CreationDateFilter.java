@@ -28,12 +28,7 @@ import de.d3web.core.records.SessionRecord;
  * @author Markus Friedrich (denkbares GmbH)
  * @created 07.03.2011
  */
-public class CreationDateFilter implements Filter {
-
-	private final Date startDate;
-	private final Date endDate;
-	private final boolean includingStartDate;
-	private final boolean includingEndDate;
+public class CreationDateFilter extends DateFilter {
 
 	/**
 	 * Creates a CreationDateFilter
@@ -50,35 +45,11 @@ public class CreationDateFilter implements Filter {
 	 *         after endDate
 	 */
 	public CreationDateFilter(Date startDate, Date endDate, boolean includingStartDate, boolean includingEndDate) {
-		if (startDate == null && endDate == null) {
-			throw new IllegalArgumentException("One date argument must not be null");
-		}
-		else if (startDate != null && endDate != null && startDate.after(endDate)) {
-			throw new IllegalArgumentException("startDate must be before endDate.");
-		}
-		this.startDate = startDate;
-		this.endDate = endDate;
-		this.includingStartDate = includingStartDate;
-		this.includingEndDate = includingEndDate;
+		super(startDate, endDate, includingStartDate, includingEndDate);
 	}
 
 	@Override
-	public boolean accept(SessionRecord record) {
-		Date creationDate = record.getCreationDate();
-		if (creationDate.equals(startDate) && includingStartDate) {
-			return true;
-		}
-		else if (creationDate.equals(endDate) && includingEndDate) {
-			return true;
-		}
-		else if (startDate != null && endDate == null) {
-			return creationDate.after(startDate);
-		}
-		else if (startDate == null && endDate != null) {
-			return creationDate.before(endDate);
-		}
-		else {
-			return creationDate.after(startDate) && creationDate.before(endDate);
-		}
+	protected Date getDate(SessionRecord record) {
+		return record.getCreationDate();
 	}
 }
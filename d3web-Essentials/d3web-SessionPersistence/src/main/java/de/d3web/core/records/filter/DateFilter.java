@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.filter;
+
+import java.util.Date;
+
+import de.d3web.core.records.SessionRecord;
+
+/**
+ * Base class of the filters matching SessionRecords by a date within a range
+ *
+ * @created 18.10.2026
+ */
+public abstract class DateFilter implements Filter {
+
+	private final Date startDate;
+	private final Date endDate;
+	private final boolean includingStartDate;
+	private final boolean includingEndDate;
+
+	/**
+	 * Creates a DateFilter
+	 *
+	 * @param startDate Filters Sessionrecords with a date after startDate,
+	 *        ignored if null
+	 * @param endDate Filters Sessionrecords with a date before endDate,
+	 *        ignored if null
+	 * @param includingStartDate when set to true, the filter also fits when the
+	 *        date equals the startDate
+	 * @param includingEndDate when set to true, the filter also fits when the
+	 *        date equals the endDate
+	 * @throws IllegalArgumentException when both dates are null or startDate is
+	 *         after endDate
+	 */
+	protected DateFilter(Date startDate, Date endDate, boolean includingStartDate, boolean includingEndDate) {
+		if (startDate == null && endDate == null) {
+			throw new IllegalArgumentException("One date argument must not be null");
+		}
+		else if (startDate != null && endDate != null && startDate.after(endDate)) {
+			throw new IllegalArgumentException("startDate must be before endDate.");
+		}
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.includingStartDate = includingStartDate;
+		this.includingEndDate = includingEndDate;
+	}
+
+	/**
+	 * Returns the date of the record this filter matches the range against.
+	 *
+	 * @param record the record to get the date of
+	 * @return the date of the record
+	 */
+	protected abstract Date getDate(SessionRecord record);
+
+	@Override
+	public boolean accept(SessionRecord record) {
+		Date date = getDate(record);
+		if (date.equals(startDate) && includingStartDate) {
+			return true;
+		}
+		else if (date.equals(endDate) && includingEndDate) {
+			return true;
+		}
+		else if (startDate != null && endDate == null) {
+			return date.after(startDate);
+		}
+		else if (startDate == null && endDate != null) {
+			return date.before(endDate);
+		}
+		else {
+			return date.after(startDate) && date.before(endDate);
+		}
+	}
+
+	public Date getStartDate() {
+		return startDate;
+	}
+
+	public Date getEndDate() {
+		return endDate;
+	}
+
+	public boolean isIncludingStartDate() {
+		return includingStartDate;
+	}
+
+	public boolean isIncludingEndDate() {
+		return includingEndDate;
+	}
+}
@@ -43,4 +43,8 @@ public class NameFilter implements Filter {
 		return p.matcher(name).matches();
 	}
 
+	public Pattern getPattern() {
+		return p;
+	}
+
 }
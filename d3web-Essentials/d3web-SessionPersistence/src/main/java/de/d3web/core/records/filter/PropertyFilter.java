@@ -65,4 +65,16 @@ public class PropertyFilter<T> implements Filter {
 		}
 	}
 
+	public Property<T> getProperty() {
+		return property;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	public T getValue() {
+		return value;
+	}
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.filter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.d3web.core.knowledge.terminology.Rating.State;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.records.SessionRecord;
+
+/**
+ * Matches SessionRecords in which a solution has one of the specified states
+ *
+ * @created 18.10.2026
+ */
+public class SolutionStateFilter implements Filter {
+
+	private final Solution solution;
+	private final State[] states;
+
+	public SolutionStateFilter(Solution solution, State... states) {
+		this.solution = solution;
+		this.states = states.clone();
+	}
+
+	@Override
+	public boolean accept(SessionRecord record) {
+		return record.getSolutions(solution.getKnowledgeBase(), states).contains(solution);
+	}
+
+	public Solution getSolution() {
+		return solution;
+	}
+
+	public List<State> getStates() {
+		return Collections.unmodifiableList(Arrays.asList(states));
+	}
+}
@@ -52,4 +52,16 @@ public class StringPropertyFilter implements Filter {
 		String value = record.getInfoStore().entries(property).get(locale);
 		return value != null && p.matcher(value).matches();
 	}
+
+	public Property<String> getProperty() {
+		return property;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	public Pattern getPattern() {
+		return p;
+	}
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.DateFilter;
+import de.d3web.core.records.filter.Filter;
+
+/**
+ * Base class of the sorted indexes of a date of the SessionRecords. The index
+ * answers the date filters of the specified class by a range query.
+ *
+ * @created 18.10.2026
+ */
+public abstract class DateIndex extends SessionRecordIndex {
+
+	private final Class<? extends DateFilter> filterClass;
+
+	protected DateIndex(Class<? extends DateFilter> filterClass) {
+		this.filterClass = filterClass;
+	}
+
+	/**
+	 * Returns the date of the record to be indexed.
+	 */
+	protected abstract Date getDate(SessionRecord record);
+
+	@NotNull
+	@Override
+	protected Collection<String> getKeys(SessionRecord record) {
+		Date date = getDate(record);
+		return (date == null) ? Collections.emptyList() : Collections.singletonList(toKey(date));
+	}
+
+	@Nullable
+	@Override
+	protected Set<String> getCandidates(Filter filter) {
+		if (!filterClass.isInstance(filter)) return null;
+		DateFilter dateFilter = (DateFilter) filter;
+		return getIds(toKey(dateFilter.getStartDate()), dateFilter.isIncludingStartDate(),
+				toKey(dateFilter.getEndDate()), dateFilter.isIncludingEndDate());
+	}
+
+	/**
+	 * Creates a key of fixed length, that sorts the same way as the dates do.
+	 */
+	private static String toKey(Date date) {
+		if (date == null) return null;
+		return String.format("%016x", date.getTime() ^ Long.MIN_VALUE);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.Filter;
+import de.d3web.core.records.filter.NameFilter;
+
+/**
+ * Index of the names of the SessionRecords, answering the {@link NameFilter}s.
+ * The regular expression of the filter is only matched once against each
+ * distinct name.
+ *
+ * @created 18.10.2026
+ */
+public class NameIndex extends SessionRecordIndex {
+
+	@Override
+	public String getName() {
+		return "name";
+	}
+
+	@NotNull
+	@Override
+	protected Collection<String> getKeys(SessionRecord record) {
+		String name = record.getName();
+		return (name == null) ? Collections.emptyList() : Collections.singletonList(name);
+	}
+
+	@Nullable
+	@Override
+	protected Set<String> getCandidates(Filter filter) {
+		if (!(filter instanceof NameFilter)) return null;
+		Pattern pattern = ((NameFilter) filter).getPattern();
+		return getIds(name -> pattern.matcher(name).matches());
+	}
+}
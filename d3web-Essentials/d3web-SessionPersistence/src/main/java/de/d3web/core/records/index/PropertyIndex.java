@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.knowledge.InfoStore;
+import de.d3web.core.knowledge.terminology.info.Property;
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.Filter;
+import de.d3web.core.records.filter.PropertyFilter;
+import de.d3web.core.records.filter.StringPropertyFilter;
+
+/**
+ * Index of the value of a property (optionally specified with a locale) of the
+ * InfoStores of the SessionRecords. The index answers the
+ * {@link PropertyFilter}s and {@link StringPropertyFilter}s of the same
+ * property and locale.
+ *
+ * @created 18.10.2026
+ */
+public class PropertyIndex extends SessionRecordIndex {
+
+	// prefixes of the keys for the values, as accessed by the different filters
+	private static final String NO_VALUE = "v";
+	private static final String VALUE = "v=";
+	private static final String ENTRY = "e=";
+
+	private final Property<?> property;
+	private final Locale locale;
+
+	public PropertyIndex(Property<?> property) {
+		this(property, null);
+	}
+
+	public PropertyIndex(Property<?> property, Locale locale) {
+		this.property = Objects.requireNonNull(property);
+		this.locale = locale;
+	}
+
+	public Property<?> getProperty() {
+		return property;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	@Override
+	public String getName() {
+		return "property:" + property.getName() + ((locale == null) ? "" : "@" + locale.toLanguageTag());
+	}
+
+	@NotNull
+	@Override
+	protected Collection<String> getKeys(SessionRecord record) {
+		InfoStore infoStore = record.getInfoStore();
+		List<String> keys = new ArrayList<>(2);
+		Object value = (locale == null)
+				? infoStore.getValue(property)
+				: infoStore.getValue(property, locale);
+		keys.add((value == null) ? NO_VALUE : VALUE + value);
+		Object entry = infoStore.entries(property).get(locale);
+		if (entry != null) keys.add(ENTRY + entry);
+		return keys;
+	}
+
+	@Nullable
+	@Override
+	protected Set<String> getCandidates(Filter filter) {
+		if (filter instanceof PropertyFilter) {
+			PropertyFilter<?> propertyFilter = (PropertyFilter<?>) filter;
+			if (!matches(propertyFilter.getProperty(), propertyFilter.getLocale())) return null;
+			Object value = propertyFilter.getValue();
+			return getIds((value == null) ? NO_VALUE : VALUE + value);
+		}
+		if (filter instanceof StringPropertyFilter) {
+			StringPropertyFilter stringFilter = (StringPropertyFilter) filter;
+			if (!matches(stringFilter.getProperty(), stringFilter.getLocale())) return null;
+			Pattern pattern = stringFilter.getPattern();
+			return getIds(key -> key.startsWith(ENTRY)
+					&& pattern.matcher(key.substring(ENTRY.length())).matches());
+		}
+		return null;
+	}
+
+	private boolean matches(Property<?> property, Locale locale) {
+		return this.property.equals(property) && Objects.equals(this.locale, locale);
+	}
+}
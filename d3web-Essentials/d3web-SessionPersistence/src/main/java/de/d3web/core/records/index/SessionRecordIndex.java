@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.Filter;
+
+/**
+ * An index of the SessionRecords of a repository. Each record is mapped to some
+ * string keys, the index maintains the sorted keys and the ids of the records
+ * mapped to each key. The keys are stored next to the records by persistent
+ * repositories, so the index can be built without parsing the records again.
+ * <p>
+ * The index is used to plan the filters of a query: for each filter the index
+ * can answer, it returns the records that may match the filter, so all other
+ * records do not need to be accessed at all.
+ *
+ * @created 18.10.2026
+ */
+public abstract class SessionRecordIndex {
+
+	// the values are either a single id or a set of ids
+	private final NavigableMap<String, Object> idsByKey = new TreeMap<>();
+	private final Map<String, List<String>> keysById = new HashMap<>();
+
+	/**
+	 * Returns the name of this index. The name must be unique within a
+	 * repository, it is used to identify the persisted keys of this index.
+	 *
+	 * @return the name of the index
+	 */
+	public abstract String getName();
+
+	/**
+	 * Returns the keys the specified record is mapped to by this index.
+	 *
+	 * @param record the record to get the keys for
+	 * @return the keys of the record
+	 */
+	@NotNull
+	protected abstract Collection<String> getKeys(SessionRecord record);
+
+	/**
+	 * Returns the ids of the records that may be accepted by the specified
+	 * filter. The returned set must contain all ids of the records accepted
+	 * by the filter, but may also contain some further ids. If this index
+	 * cannot answer the filter, null is returned.
+	 *
+	 * @param filter the filter to get the candidates for
+	 * @return a new, modifiable set of the candidate ids, or null if the filter
+	 * is not supported by this index
+	 */
+	@Nullable
+	protected abstract Set<String> getCandidates(Filter filter);
+
+	/**
+	 * Returns the ids of the records mapped to the specified key.
+	 */
+	@NotNull
+	protected Set<String> getIds(String key) {
+		Set<String> ids = new HashSet<>();
+		addIds(ids, idsByKey.get(key));
+		return ids;
+	}
+
+	/**
+	 * Returns the ids of the records mapped to any key of the specified range.
+	 * If a bound is null, the range is open on that side.
+	 */
+	@NotNull
+	protected Set<String> getIds(@Nullable String fromKey, boolean fromInclusive, @Nullable String toKey, boolean toInclusive) {
+		NavigableMap<String, Object> range = idsByKey;
+		if (fromKey != null) range = range.tailMap(fromKey, fromInclusive);
+		if (toKey != null) range = range.headMap(toKey, toInclusive);
+		Set<String> ids = new HashSet<>();
+		for (Object value : range.values()) {
+			addIds(ids, value);
+		}
+		return ids;
+	}
+
+	/**
+	 * Returns the ids of the records mapped to any key accepted by the
+	 * specified predicate. The predicate is tested only once for each distinct
+	 * key.
+	 */
+	@NotNull
+	protected Set<String> getIds(Predicate<String> keyFilter) {
+		Set<String> ids = new HashSet<>();
+		for (Map.Entry<String, Object> entry : idsByKey.entrySet()) {
+			if (keyFilter.test(entry.getKey())) addIds(ids, entry.getValue());
+		}
+		return ids;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addIds(Set<String> ids, Object value) {
+		if (value instanceof String) {
+			ids.add((String) value);
+		}
+		else if (value != null) {
+			ids.addAll((Set<String>) value);
+		}
+	}
+
+	/**
+	 * Returns the keys the record with the specified id is currently mapped
+	 * to, or null if the record is not indexed.
+	 */
+	@Nullable
+	List<String> getIndexedKeys(String id) {
+		return keysById.get(id);
+	}
+
+	@SuppressWarnings("unchecked")
+	void put(String id, Collection<String> keys) {
+		remove(id);
+		List<String> copy = List.copyOf(new LinkedHashSet<>(keys));
+		keysById.put(id, copy);
+		for (String key : copy) {
+			Object value = idsByKey.get(key);
+			if (value == null) {
+				idsByKey.put(key, id);
+			}
+			else if (value instanceof String) {
+				Set<String> ids = new HashSet<>(4);
+				ids.add((String) value);
+				ids.add(id);
+				idsByKey.put(key, ids);
+			}
+			else {
+				((Set<String>) value).add(id);
+			}
+		}
+	}
+
+	void remove(String id) {
+		List<String> keys = keysById.remove(id);
+		if (keys == null) return;
+		for (String key : keys) {
+			Object value = idsByKey.get(key);
+			if (value instanceof Set) {
+				Set<?> ids = (Set<?>) value;
+				ids.remove(id);
+				if (ids.size() == 1) idsByKey.put(key, ids.iterator().next());
+			}
+			else if (id.equals(value)) {
+				idsByKey.remove(key);
+			}
+		}
+	}
+
+	void clear() {
+		idsByKey.clear();
+		keysById.clear();
+	}
+}
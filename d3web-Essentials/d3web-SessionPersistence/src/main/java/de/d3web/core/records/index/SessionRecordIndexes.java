@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.AndFilter;
+import de.d3web.core.records.filter.Filter;
+import de.d3web.core.records.filter.OrFilter;
+
+/**
+ * Manages the indexes of a repository. Plans the filters of a query against the
+ * indexes, and reads and writes the keys of the indexed records, so the
+ * indexes of a persistent repository can be built without parsing the
+ * records.
+ * <p>
+ * The persisted keys of a record are only used, if the record is unchanged
+ * since the keys have been written. Therefore, the repository provides a
+ * stamp for each record (e.g. the size and modification time of its file),
+ * the persisted keys are ignored if the stamp differs.
+ * <p>
+ * If there are no persisted keys, the keys are computed from the contents of
+ * the record, accessed by the parser specified for the repository. Persistent
+ * repositories use a transiently parsed copy of records that are not held in
+ * memory, so indexing a large repository does not load all records into
+ * memory.
+ * <p>
+ * The repository is responsible to index the records again, that have been
+ * modified after they have been indexed (see {@link #update(SessionRecord)}),
+ * e.g. before the next query is planned.
+ *
+ * @created 18.10.2026
+ */
+public final class SessionRecordIndexes {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SessionRecordIndexes.class);
+
+	private static final int MAGIC = 0x64334958;
+	private static final int VERSION = 1;
+
+	private final List<SessionRecordIndex> indexes = new ArrayList<>();
+	// ids of the records that could not be indexed, they are candidates of every filter
+	private final Set<String> unindexed = new HashSet<>();
+	private final Map<String, PersistedKeys> persisted = new HashMap<>();
+	private final Function<SessionRecord, SessionRecord> parser;
+
+	private static final class PersistedKeys {
+
+		private final String stamp;
+		private final Map<String, List<String>> keys = new HashMap<>();
+
+		private PersistedKeys(String stamp) {
+			this.stamp = stamp;
+		}
+	}
+
+	/**
+	 * Creates a new instance, computing the keys from the records provided by
+	 * the specified parser. The parser may return a transiently parsed copy of
+	 * the record, which is released after the keys have been computed.
+	 *
+	 * @param parser provides the record to compute the keys of a record from
+	 */
+	public SessionRecordIndexes(Function<SessionRecord, SessionRecord> parser) {
+		this.parser = parser;
+	}
+
+	/**
+	 * Adds an index and indexes the specified records.
+	 *
+	 * @param index   the index to be added
+	 * @param records the records currently contained in the repository
+	 * @param stamps  provides the stamps of the records, null for records
+	 *                that may have been modified
+	 * @throws IllegalArgumentException if there is already an index with the
+	 *                                  same name
+	 */
+	public void addIndex(SessionRecordIndex index, Collection<SessionRecord> records, Function<SessionRecord, String> stamps) {
+		for (SessionRecordIndex other : indexes) {
+			if (other.getName().equals(index.getName())) {
+				throw new IllegalArgumentException("There is already an index named " + index.getName());
+			}
+		}
+		indexes.add(index);
+		List<SessionRecordIndex> added = Collections.singletonList(index);
+		for (SessionRecord record : records) {
+			index(added, record, getPersistedKeys(record, stamps));
+		}
+	}
+
+	/**
+	 * Returns the indexes managed by this instance.
+	 */
+	public List<SessionRecordIndex> getIndexes() {
+		return Collections.unmodifiableList(indexes);
+	}
+
+	/**
+	 * Adds or replaces the record in all indexes, using the persisted keys if
+	 * the record is unchanged.
+	 *
+	 * @param record the record to be indexed
+	 * @param stamps provides the stamp of the record, null if the record may
+	 *               have been modified
+	 */
+	public void add(SessionRecord record, Function<SessionRecord, String> stamps) {
+		unindexed.remove(record.getId());
+		if (indexes.isEmpty()) return;
+		index(indexes, record, getPersistedKeys(record, stamps));
+	}
+
+	/**
+	 * Updates the keys of the record in all indexes, e.g. after the record has
+	 * been modified.
+	 *
+	 * @param record the record to be indexed
+	 */
+	public void update(SessionRecord record) {
+		persisted.remove(record.getId());
+		add(record, r -> null);
+	}
+
+	/**
+	 * Removes the record with the specified id from all indexes.
+	 */
+	public void remove(String id) {
+		unindexed.remove(id);
+		persisted.remove(id);
+		for (SessionRecordIndex index : indexes) {
+			index.remove(id);
+		}
+	}
+
+	/**
+	 * Removes all records from the indexes and forgets the persisted keys. The
+	 * indexes themselves remain.
+	 */
+	public void clear() {
+		unindexed.clear();
+		persisted.clear();
+		for (SessionRecordIndex index : indexes) {
+			index.clear();
+		}
+	}
+
+	/**
+	 * Returns the persisted keys of the record, if the record is unchanged
+	 * since they have been written, or null otherwise.
+	 */
+	private PersistedKeys getPersistedKeys(SessionRecord record, Function<SessionRecord, String> stamps) {
+		PersistedKeys persistedKeys = persisted.get(record.getId());
+		if (persistedKeys == null || !persistedKeys.stamp.equals(stamps.apply(record))) return null;
+		return persistedKeys;
+	}
+
+	private void index(List<SessionRecordIndex> targets, SessionRecord record, @Nullable PersistedKeys persistedKeys) {
+		String id = record.getId();
+		// the record is parsed at most once, and only if any keys are not persisted
+		SessionRecord parsed = null;
+		for (SessionRecordIndex index : targets) {
+			List<String> keys = (persistedKeys == null) ? null : persistedKeys.keys.get(index.getName());
+			if (keys == null) {
+				try {
+					if (parsed == null) parsed = parser.apply(record);
+					keys = new ArrayList<>(index.getKeys(parsed));
+				}
+				catch (RuntimeException e) {
+					LOGGER.warn("Cannot index session record " + id + ", it will be checked by each query", e);
+					index.remove(id);
+					unindexed.add(id);
+					continue;
+				}
+			}
+			index.put(id, keys);
+		}
+	}
+
+	/**
+	 * Plans the specified filter against the indexes and returns the ids of
+	 * the records that may be accepted by the filter. The returned ids contain
+	 * all ids of the accepted records, so only these records have to be
+	 * checked by the filter. If the filter cannot be answered by the indexes,
+	 * null is returned and all records have to be checked.
+	 *
+	 * @param filter the filter to be planned
+	 * @return the ids of the candidate records or null, if all records are
+	 * candidates
+	 */
+	@Nullable
+	public Set<String> getCandidates(Filter filter) {
+		if (indexes.isEmpty()) return null;
+		Set<String> candidates = plan(filter);
+		if (candidates != null) candidates.addAll(unindexed);
+		return candidates;
+	}
+
+	private Set<String> plan(Filter filter) {
+		if (filter instanceof AndFilter) {
+			Set<String> ids1 = plan(((AndFilter) filter).getF1());
+			Set<String> ids2 = plan(((AndFilter) filter).getF2());
+			if (ids1 == null) return ids2;
+			if (ids2 == null) return ids1;
+			if (ids1.size() > ids2.size()) {
+				ids2.retainAll(ids1);
+				return ids2;
+			}
+			ids1.retainAll(ids2);
+			return ids1;
+		}
+		if (filter instanceof OrFilter) {
+			Set<String> ids1 = plan(((OrFilter) filter).getF1());
+			if (ids1 == null) return null;
+			Set<String> ids2 = plan(((OrFilter) filter).getF2());
+			if (ids2 == null) return null;
+			ids1.addAll(ids2);
+			return ids1;
+		}
+		for (SessionRecordIndex index : indexes) {
+			Set<String> ids = index.getCandidates(filter);
+			if (ids != null) return ids;
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the persisted keys from the specified file. They will be used when
+	 * records with the same stamp are indexed. If the file does not exist or
+	 * cannot be read, the records will be indexed by accessing them.
+	 *
+	 * @param file the file to read the keys from
+	 */
+	public void read(File file) {
+		persisted.clear();
+		if (!file.isFile()) return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new IOException("Unknown index format");
+			}
+			String[] names = new String[in.readInt()];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = readString(in);
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String id = readString(in);
+				PersistedKeys keys = new PersistedKeys(readString(in));
+				for (String name : names) {
+					int size = in.readInt();
+					if (size < 0) throw new IOException("Invalid key count " + size);
+					List<String> list = new ArrayList<>(size);
+					for (int k = 0; k < size; k++) {
+						list.add(readString(in));
+					}
+					keys.keys.put(name, list);
+				}
+				persisted.put(id, keys);
+			}
+		}
+		catch (IOException e) {
+			LOGGER.warn("Cannot read session record index " + file.getAbsolutePath() + ", it will be rebuilt", e);
+			persisted.clear();
+		}
+	}
+
+	/**
+	 * Writes the keys of the specified records to the specified file. Records
+	 * without a stamp are skipped. If there are no indexes, nothing is written.
+	 *
+	 * @param file    the file to write the keys to
+	 * @param records the records to write the keys of
+	 * @param stamps  provides the stamps of the records as they are stored
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(File file, Collection<SessionRecord> records, Function<SessionRecord, String> stamps) throws IOException {
+		if (indexes.isEmpty()) return;
+		File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(indexes.size());
+			for (SessionRecordIndex index : indexes) {
+				writeString(out, index.getName());
+			}
+			List<SessionRecord> stamped = new ArrayList<>(records.size());
+			List<String> recordStamps = new ArrayList<>(records.size());
+			for (SessionRecord record : records) {
+				if (unindexed.contains(record.getId())) continue;
+				String stamp = stamps.apply(record);
+				if (stamp == null) continue;
+				stamped.add(record);
+				recordStamps.add(stamp);
+			}
+			out.writeInt(stamped.size());
+			for (int i = 0; i < stamped.size(); i++) {
+				String id = stamped.get(i).getId();
+				writeString(out, id);
+				writeString(out, recordStamps.get(i));
+				for (SessionRecordIndex index : indexes) {
+					List<String> keys = index.getIndexedKeys(id);
+					if (keys == null) keys = Collections.emptyList();
+					out.writeInt(keys.size());
+					for (String key : keys) {
+						writeString(out, key);
+					}
+				}
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) throw new IOException("Invalid string length " + length);
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length) throw new IOException("Unexpected end of index file");
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
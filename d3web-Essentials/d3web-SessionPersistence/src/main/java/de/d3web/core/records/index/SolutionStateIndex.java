@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.index;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.knowledge.terminology.Rating.State;
+import de.d3web.core.records.FactRecord;
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.filter.Filter;
+import de.d3web.core.records.filter.SolutionStateFilter;
+
+/**
+ * Index of the states of the solutions of the SessionRecords, answering the
+ * {@link SolutionStateFilter}s. The solutions are indexed by their names, so
+ * the index does not depend on a specific knowledge base.
+ *
+ * @created 18.10.2026
+ */
+public class SolutionStateIndex extends SessionRecordIndex {
+
+	@Override
+	public String getName() {
+		return "solutionState";
+	}
+
+	@NotNull
+	@Override
+	protected Collection<String> getKeys(SessionRecord record) {
+		// all rating facts are indexed, not only the merged ones, so the
+		// candidates of a filter are always complete
+		Set<String> keys = new LinkedHashSet<>();
+		for (FactRecord fact : record.getValueFacts()) {
+			if (!(fact.getValue() instanceof Rating)) continue;
+			Rating rating = (Rating) fact.getValue();
+			for (State state : State.values()) {
+				if (rating.hasState(state)) keys.add(toKey(fact.getObjectName(), state));
+			}
+		}
+		return keys;
+	}
+
+	@Nullable
+	@Override
+	protected Set<String> getCandidates(Filter filter) {
+		if (!(filter instanceof SolutionStateFilter)) return null;
+		SolutionStateFilter stateFilter = (SolutionStateFilter) filter;
+		Set<String> ids = new LinkedHashSet<>();
+		for (State state : stateFilter.getStates()) {
+			ids.addAll(getIds(toKey(stateFilter.getSolution().getName(), state)));
+		}
+		return ids;
+	}
+
+	private static String toKey(String solution, State state) {
+		return state.name() + ":" + solution;
+	}
+}
@@ -58,6 +58,7 @@ public final class SessionPersistenceManager {
 
 	private static SessionPersistenceManager manager;
 	private Extension[] handler;
+	private Extension[] fragmentHandler;
 	private final FragmentManager<SessionRecord> fragmentManager = new FragmentManager<>();
 
 	private static final String REPOSITORY_TAG = "repository";
@@ -66,7 +67,7 @@ public final class SessionPersistenceManager {
 	private SessionPersistenceManager() {
 	}
 
-	public static SessionPersistenceManager getInstance() {
+	public static synchronized SessionPersistenceManager getInstance() {
 		if (manager == null) {
 			manager = new SessionPersistenceManager();
 		}
@@ -77,10 +78,21 @@ public final class SessionPersistenceManager {
 		return fragmentManager;
 	}
 
-	private void updateHandler() {
+	/**
+	 * Updates the handlers, if the extensions have changed since the last call,
+	 * and returns the persistence handlers to be used. Records may be written
+	 * and read concurrently, so the handlers are only updated under the lock.
+	 */
+	private synchronized Extension[] updateHandler() {
 		PluginManager theManager = PluginManager.getInstance();
-		handler = theManager.getExtensions(EXTENDED_PLUGIN_ID, EXTENDED_POINT_PERSISTENCEHANDLER);
-		getFragmentManager().init(EXTENDED_PLUGIN_ID, EXTENDED_POINT_FRAGMENTHANDLER);
+		Extension[] handler = theManager.getExtensions(EXTENDED_PLUGIN_ID, EXTENDED_POINT_PERSISTENCEHANDLER);
+		Extension[] fragmentHandler = theManager.getExtensions(EXTENDED_PLUGIN_ID, EXTENDED_POINT_FRAGMENTHANDLER);
+		if (!Arrays.equals(handler, this.handler) || !Arrays.equals(fragmentHandler, this.fragmentHandler)) {
+			getFragmentManager().init(EXTENDED_PLUGIN_ID, EXTENDED_POINT_FRAGMENTHANDLER);
+			this.handler = handler;
+			this.fragmentHandler = fragmentHandler;
+		}
+		return this.handler;
 	}
 
 	/**
@@ -152,7 +164,7 @@ public final class SessionPersistenceManager {
 	 * @created 19.05.2011
 	 */
 	public void saveSessions(OutputStream stream, Collection<SessionRecord> sessionRecords, ProgressListener listener) throws IOException {
-		updateHandler();
+		Extension[] handler = updateHandler();
 		Document doc = XMLUtil.createEmptyDocument();
 		Element repElement = doc.createElement(REPOSITORY_TAG);
 		doc.appendChild(repElement);
@@ -236,7 +248,7 @@ public final class SessionPersistenceManager {
 	 * @created 31.08.2011
 	 */
 	public Collection<SessionRecord> loadSessions(InputStream inputStream, ProgressListener listener) throws IOException {
-		updateHandler();
+		Extension[] handler = updateHandler();
 		Collection<SessionRecord> sessionRecords = new ArrayList<>();
 		listener.updateProgress(0.0f, "reading file from disc");
 		Document doc = XMLUtil.streamToDocument(inputStream);
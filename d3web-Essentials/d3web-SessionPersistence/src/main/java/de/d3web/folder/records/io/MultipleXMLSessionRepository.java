@@ -22,14 +22,32 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.denkbares.progress.DummyProgressListener;
 import com.denkbares.progress.ProgressListener;
@@ -37,6 +55,7 @@ import de.d3web.core.knowledge.InfoStore;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.terminology.Rating.State;
 import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.records.DefaultSessionRecord;
 import de.d3web.core.records.DefaultSessionRepository;
 import de.d3web.core.records.FactRecord;
 import de.d3web.core.records.SessionRecord;
@@ -47,16 +66,25 @@ import com.denkbares.utils.Streams;
 /**
  * This implementation of the SessionRepositoryPersistenceHandler interface can
  * handle multiple XML files. The SessionRecord in the SessionRepository
- * committed for saving will be saved to separate XML files.
+ * committed for saving will be saved to separate XML files. The keys of the
+ * indexes of the repository are saved to an additional file in the folder, so
+ * the indexes can be rebuilt without parsing the unchanged files.
  *
  * @author Sebastian Furth & Markus Friedrich (both denkbares GmbH)
  */
 public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(MultipleXMLSessionRepository.class);
+
 	// to allow broader support in file systems, we don't use colons but dots in the date pattern
 	public static final SimpleDateFormat FILE_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH.mm.ss.SS Z");
 	public static final SimpleDateFormat FILE_DATE_FORMAT_COMPATIBILITY = new SimpleDateFormat("yyyy-MM-dd HH.mm.ss.SS");
 
+	/**
+	 * Name of the file the index keys of the records are saved to.
+	 */
+	public static final String INDEX_FILENAME = "records.index";
+
 	/**
 	 * Loads the Session Records from a folder. The files are not parsed
 	 * immediately, they will be parsed when someone accesses them. Files not
@@ -93,6 +121,7 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 			throw new IllegalArgumentException(
 					"This implementation of the SessionRepositoryPersistenceHandler requires a directory.");
 		}
+		loadIndexes(new File(folder, INDEX_FILENAME));
 		File[] listFiles = folder.listFiles();
 		int counter = 0;
 		for (File file : listFiles) {
@@ -138,6 +167,28 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 	 * @created 20.09.2010
 	 */
 	public void save(File folder, ProgressListener listener) throws IOException {
+		save(folder, 1, listener);
+	}
+
+	/**
+	 * Saves the SessionRepository to a Folder, serializing the records with
+	 * the specified number of threads. For each session, an xml File will be
+	 * created (Filename: id.xml). If there is a file with the same name, it
+	 * will be replaced. Each file is written to a temporary file first and
+	 * then renamed, so a file is never left half written.
+	 * <p>
+	 * At most twice as many records as threads are serialized at the same
+	 * time, so the memory needed for the xml documents is bounded, regardless
+	 * of the size of the repository.
+	 *
+	 * @param folder   Folder where this Repository should be saved to
+	 * @param threads  the number of threads to serialize the records
+	 * @param listener the progress listener to observe the progress of writing
+	 * @return the statistics of the written records
+	 * @throws IOException if any record cannot be written
+	 * @created 18.10.2026
+	 */
+	public TransferStatistics save(File folder, int threads, ProgressListener listener) throws IOException {
 		if (folder == null) {
 			throw new NullPointerException(
 					"File is null. Unable to save SessionRepository.");
@@ -147,31 +198,332 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 					"This implementation of the SessionRepositoryPersistenceHandler requires a directory.");
 		}
 		folder.mkdirs();
-		SessionPersistenceManager spm = SessionPersistenceManager.getInstance();
-		Collection<SessionRecord> records = sessionRecords.values();
-		int counter = 0;
-		for (SessionRecord record : records) {
-			float percent = records.size() / (float) counter++;
-			listener.updateProgress(percent, record.getId());
-			String filename = getRecordFilename(record);
-			File file = new File(folder, filename);
-			if (record instanceof FileRecord && !((FileRecord) record).modified) {
-				FileRecord fileRecord = (FileRecord) record;
-				if (fileRecord.file.getCanonicalPath().equals(file.getCanonicalPath())) {
-					// SessionRecord was not changed and should be saved to the
-					// same directory -> nothing to do
+		long start = System.nanoTime();
+		Collection<SessionRecord> records = new ArrayList<>(sessionRecords.values());
+		Map<String, String> stamps = new HashMap<>();
+		boolean indexed = !getIndexes().isEmpty();
+		int[] counter = { 0, 0 };
+		long[] bytes = { 0 };
+		Iterator<SessionRecord> iterator = records.iterator();
+		execute(threads, new Iterator<Callable<WrittenFile>>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Callable<WrittenFile> next() {
+				// the filename is created on the calling thread, the date format is not thread-safe
+				SessionRecord record = iterator.next();
+				File file = new File(folder, getRecordFilename(record));
+				return () -> writeRecord(record, file);
+			}
+		}, written -> {
+			listener.updateProgress(counter[0]++ / (float) records.size(), written.record.getId());
+			if (written.serialized) {
+				counter[1]++;
+				bytes[0] += written.file.length();
+				updateIndexes(written.record);
+			}
+			if (indexed) stamps.put(written.record.getId(), getStamp(written.file));
+		});
+		saveIndexes(new File(folder, INDEX_FILENAME), record -> stamps.get(record.getId()));
+		TransferStatistics statistics = new TransferStatistics(
+				records.size(), counter[1], bytes[0], System.nanoTime() - start);
+		LOGGER.debug("Saved session records to " + folder.getAbsolutePath() + ": " + statistics);
+		listener.updateProgress(1f, "writing session records to disc done");
+		return statistics;
+	}
+
+	/**
+	 * Result of writing a record, created by a worker thread.
+	 */
+	private static final class WrittenFile {
+
+		private final SessionRecord record;
+		private final File file;
+		private final boolean serialized;
+
+		private WrittenFile(SessionRecord record, File file, boolean serialized) {
+			this.record = record;
+			this.file = file;
+			this.serialized = serialized;
+		}
+	}
+
+	private static WrittenFile writeRecord(SessionRecord record, File file) throws IOException {
+		if (record instanceof FileRecord && !((FileRecord) record).modified) {
+			FileRecord fileRecord = (FileRecord) record;
+			if (!fileRecord.file.getCanonicalPath().equals(file.getCanonicalPath())) {
+				File temp = getTempFile(file);
+				try {
+					copyFile(fileRecord.file, temp);
+					replace(temp, file);
 				}
-				else {
-					copyFile(fileRecord.file, file);
+				finally {
+					Files.deleteIfExists(temp.toPath());
 				}
 			}
-			else {
-				List<SessionRecord> templist = new LinkedList<>();
-				templist.add(record);
-				spm.saveSessions(file, templist, new DummyProgressListener());
+			// otherwise the SessionRecord was not changed and should be saved
+			// to the same directory -> nothing to do
+			return new WrittenFile(record, file, false);
+		}
+		File temp = getTempFile(file);
+		try {
+			SessionPersistenceManager.getInstance().saveSessions(
+					temp, Collections.singletonList(record), new DummyProgressListener());
+			replace(temp, file);
+		}
+		finally {
+			// the temporary file only remains if anything has failed
+			Files.deleteIfExists(temp.toPath());
+		}
+		return new WrittenFile(record, file, true);
+	}
+
+	private static File getTempFile(File file) {
+		return new File(file.getParentFile(), file.getName() + ".tmp");
+	}
+
+	private static void replace(File temp, File file) throws IOException {
+		Files.move(temp.toPath(), file.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Passes all records of this repository to the specified action, reading
+	 * the files of the records not parsed yet with the specified number of
+	 * threads. The action is called on the calling thread, in the order of the
+	 * records in this repository.
+	 * <p>
+	 * At most twice as many records as threads are parsed ahead of the action.
+	 * The records parsed for the action are released again after the action
+	 * has been called, unless they have been modified, so the memory needed
+	 * is bounded, regardless of the size of the repository.
+	 *
+	 * @param threads  the number of threads to parse the records
+	 * @param action   the action to be called for each record
+	 * @param listener the progress listener to observe the progress of reading
+	 * @return the statistics of the read records
+	 * @throws IOException if any record cannot be read
+	 * @created 18.10.2026
+	 */
+	public TransferStatistics forEachParsed(int threads, Consumer<SessionRecord> action, ProgressListener listener) throws IOException {
+		long start = System.nanoTime();
+		Collection<SessionRecord> records = new ArrayList<>(sessionRecords.values());
+		int[] counter = { 0, 0 };
+		long[] bytes = { 0 };
+		Iterator<SessionRecord> iterator = records.iterator();
+		execute(threads, new Iterator<Callable<SessionRecord[]>>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Callable<SessionRecord[]> next() {
+				SessionRecord record = iterator.next();
+				if (record instanceof FileRecord && ((FileRecord) record).realRecord == null) {
+					FileRecord fileRecord = (FileRecord) record;
+					return () -> new SessionRecord[] { record, fileRecord.read() };
+				}
+				return () -> new SessionRecord[] { record, null };
+			}
+		}, parsed -> {
+			SessionRecord record = parsed[0];
+			listener.updateProgress(counter[0]++ / (float) records.size(), record.getId());
+			// the parsed records are only assigned on the calling thread
+			FileRecord fileRecord = null;
+			if (parsed[1] != null && ((FileRecord) record).realRecord == null) {
+				fileRecord = (FileRecord) record;
+				fileRecord.realRecord = parsed[1];
+				counter[1]++;
+				bytes[0] += fileRecord.file.length();
+			}
+			action.accept(record);
+			if (fileRecord != null && !fileRecord.modified) {
+				fileRecord.realRecord = null;
+			}
+		});
+		TransferStatistics statistics = new TransferStatistics(
+				records.size(), counter[1], bytes[0], System.nanoTime() - start);
+		LOGGER.debug("Read session records: " + statistics);
+		listener.updateProgress(1f, "reading session records done");
+		return statistics;
+	}
+
+	/**
+	 * Handles the result of a task on the calling thread.
+	 */
+	private interface Completion<T> {
+
+		void completed(T result) throws IOException;
+	}
+
+	/**
+	 * Executes the tasks with the specified number of threads and passes the
+	 * results to the completion on the calling thread, in the order of the
+	 * tasks. At most twice as many tasks as threads are executed ahead of the
+	 * completion. If a task fails, no further tasks are started, the remaining
+	 * tasks are cancelled and the exception is thrown.
+	 */
+	private static <T> void execute(int threads, Iterator<Callable<T>> tasks, Completion<T> completion) throws IOException {
+		if (threads < 1) throw new IllegalArgumentException("At least one thread is required");
+		if (threads == 1) {
+			while (tasks.hasNext()) {
+				completion.completed(call(tasks.next()));
 			}
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "session-record-transfer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicBoolean failed = new AtomicBoolean(false);
+		try {
+			Deque<Future<T>> window = new ArrayDeque<>();
+			while ((tasks.hasNext() && !failed.get()) || !window.isEmpty()) {
+				while (tasks.hasNext() && !failed.get() && window.size() < threads * 2) {
+					window.add(executor.submit(guard(tasks.next(), failed)));
+				}
+				T result;
+				try {
+					result = get(window.poll());
+				}
+				catch (SkippedTaskException e) {
+					// an other task has failed, its exception is thrown when it is reached
+					continue;
+				}
+				completion.completed(result);
+			}
+		}
+		finally {
+			executor.shutdownNow();
 		}
-		listener.updateProgress(1f, "writing session records to disc done");
+	}
+
+	/**
+	 * Signals that a task has not been started, because an other task has
+	 * already failed.
+	 */
+	private static final class SkippedTaskException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private SkippedTaskException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * Wraps the task, so that it is skipped if any task has failed before,
+	 * and marks the failure if the task itself fails.
+	 */
+	private static <T> Callable<T> guard(Callable<T> task, AtomicBoolean failed) {
+		return () -> {
+			if (failed.get()) throw new SkippedTaskException();
+			try {
+				return task.call();
+			}
+			catch (Exception | Error e) {
+				failed.set(true);
+				throw e;
+			}
+		};
+	}
+
+	private static <T> T call(Callable<T> task) throws IOException {
+		try {
+			return task.call();
+		}
+		catch (IOException | RuntimeException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static <T> T get(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the session records");
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Returns the number of records that have been parsed and are held in
+	 * memory.
+	 *
+	 * @return the number of parsed records
+	 * @created 18.10.2026
+	 */
+	public int getParsedCount() {
+		int count = 0;
+		for (SessionRecord record : sessionRecords.values()) {
+			if (!(record instanceof FileRecord) || ((FileRecord) record).realRecord != null) count++;
+		}
+		return count;
+	}
+
+	@Override
+	protected SessionRecord getIndexedRecord(SessionRecord sessionRecord) {
+		// records not parsed yet are parsed transiently, the parsed record is released after indexing
+		if (sessionRecord instanceof FileRecord && ((FileRecord) sessionRecord).realRecord == null) {
+			FileRecord fileRecord = (FileRecord) sessionRecord;
+			try {
+				return fileRecord.read();
+			}
+			catch (IOException e) {
+				throw new IllegalStateException("cannot parse record xml file: "
+						+ fileRecord.file.getAbsolutePath(), e);
+			}
+		}
+		return sessionRecord;
+	}
+
+	@Override
+	protected void observe(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof FileRecord) {
+			// records that are not parsed yet cannot be modified, the parsed record notifies its file record
+			((FileRecord) sessionRecord).listener = this::recordModified;
+		}
+		else {
+			super.observe(sessionRecord);
+		}
+	}
+
+	@Override
+	protected void unobserve(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof FileRecord) {
+			((FileRecord) sessionRecord).listener = null;
+		}
+		else {
+			super.unobserve(sessionRecord);
+		}
+	}
+
+	@Override
+	protected String getIndexStamp(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof FileRecord && !((FileRecord) sessionRecord).modified) {
+			return getStamp(((FileRecord) sessionRecord).file);
+		}
+		return null;
+	}
+
+	private static String getStamp(File file) {
+		return file.length() + ":" + file.lastModified();
 	}
 
 	/**
@@ -215,6 +567,8 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 		private final String id;
 		private final Date created;
 		private SessionRecord realRecord = null;
+		// notified about the modifications of the parsed record
+		private Consumer<SessionRecord> listener = null;
 
 		public FileRecord(String id, Date date, File f) {
 			this.id = id;
@@ -238,20 +592,10 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 		 * @created 20.09.2010
 		 */
 		private void parseSessionRecord() {
-			Collection<SessionRecord> loadedSessions;
 			try {
-				loadedSessions = SessionPersistenceManager.getInstance().loadSessions(
-						file, new DummyProgressListener());
-				if (loadedSessions.size() > 1) {
-					throw new IOException("The file " + file.getCanonicalPath()
-							+ " contains more than one sessionrecord.");
-				}
-				else if (loadedSessions.isEmpty()) {
-					throw new IOException("The file " + file.getCanonicalPath()
-							+ " contains no sessionrecord.");
-				}
-				else {
-					realRecord = loadedSessions.iterator().next();
+				realRecord = read();
+				if (realRecord instanceof DefaultSessionRecord) {
+					((DefaultSessionRecord) realRecord).addModificationListener(record -> fireModified());
 				}
 			}
 			catch (Exception e) {
@@ -260,6 +604,24 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 			}
 		}
 
+		/**
+		 * Reads the record from the file, without modifying this instance, so
+		 * it can be called by any thread.
+		 */
+		private SessionRecord read() throws IOException {
+			Collection<SessionRecord> loadedSessions = SessionPersistenceManager.getInstance().loadSessions(
+					file, new DummyProgressListener());
+			if (loadedSessions.size() > 1) {
+				throw new IOException("The file " + file.getCanonicalPath()
+						+ " contains more than one sessionrecord.");
+			}
+			else if (loadedSessions.isEmpty()) {
+				throw new IOException("The file " + file.getCanonicalPath()
+						+ " contains no sessionrecord.");
+			}
+			return loadedSessions.iterator().next();
+		}
+
 		@Override
 		public String getId() {
 			return id;
@@ -297,6 +659,11 @@ public class MultipleXMLSessionRepository extends DefaultSessionRepository {
 			return Collections.unmodifiableList(realRecord.getValueFacts());
 		}
 
+		private void fireModified() {
+			Consumer<SessionRecord> listener = this.listener;
+			if (listener != null) listener.accept(this);
+		}
+
 		private void parseIfNecessary() {
 			if (realRecord == null) {
 				parseSessionRecord();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.folder.records.io;
+
+import java.util.Locale;
+
+/**
+ * Statistics of a bulk operation writing or reading session records, to report
+ * the throughput of the operation.
+ *
+ * @created 18.10.2026
+ */
+public final class TransferStatistics {
+
+	private final int records;
+	private final int processed;
+	private final long bytes;
+	private final long nanos;
+
+	TransferStatistics(int records, int processed, long bytes, long nanos) {
+		this.records = records;
+		this.processed = processed;
+		this.bytes = bytes;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Returns the number of records handled by the operation.
+	 */
+	public int getRecords() {
+		return records;
+	}
+
+	/**
+	 * Returns the number of records that have actually been serialized or
+	 * parsed, the others have been copied or have not needed any work.
+	 */
+	public int getProcessed() {
+		return processed;
+	}
+
+	/**
+	 * Returns the number of bytes of the files of the processed records.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the duration of the operation in milliseconds.
+	 */
+	public long getMillis() {
+		return nanos / 1_000_000;
+	}
+
+	/**
+	 * Returns the number of records handled per second.
+	 */
+	public double getRecordsPerSecond() {
+		return (nanos == 0) ? 0 : records * 1e9 / nanos;
+	}
+
+	/**
+	 * Returns the number of bytes written or read per second.
+	 */
+	public double getBytesPerSecond() {
+		return (nanos == 0) ? 0 : bytes * 1e9 / nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "%d records (%d processed, %.1f MB) in %.1f s, %.0f records/s, %.1f MB/s",
+				records, processed, bytes / 1e6, nanos / 1e9, getRecordsPerSecond(), getBytesPerSecond() / 1e6);
+	}
+}
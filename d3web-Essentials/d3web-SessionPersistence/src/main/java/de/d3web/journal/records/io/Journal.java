@@ -0,0 +1,553 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.journal.records.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.denkbares.progress.ProgressListener;
+
+/**
+ * Append-only storage of binary session record entries in a folder. The entries are stored in numbered segment files,
+ * new or modified entries are appended to the latest segment, removals are appended as removal entries. If the latest
+ * segment exceeds the segment size, a new segment is started. The offsets of the current entries are kept in memory
+ * and rebuilt when opening the journal, by only reading the entry headers.
+ * <p>
+ * Compaction rewrites the current entries of all segments except the latest one into a single segment, replacing the
+ * newest of the compacted segments. The segment header notes the lowest segment number it covers, so covered segments
+ * left over by an interrupted compaction are ignored and deleted when opening the journal.
+ *
+ * @created 18.10.2026
+ */
+final class Journal implements Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(Journal.class);
+
+	private static final int SEGMENT_MAGIC = 0x644A524E;
+	private static final int SEGMENT_VERSION = 1;
+	private static final int SEGMENT_HEADER_SIZE = 12;
+	private static final int ENTRY_MAGIC = 0x52454352;
+	private static final int ENTRY_HEADER_SIZE = 33;
+	private static final byte KIND_RECORD = 1;
+	private static final byte KIND_REMOVAL = 2;
+	private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d+)\\.seg");
+
+	private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "d3web-Journal-Compactor");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The position and header information of a stored record entry.
+	 */
+	static final class Location {
+
+		private final String id;
+		private final long created;
+		private final long changed;
+		private final Segment segment;
+		private final long offset;
+		private final int size;
+		private final int length;
+		private final int crc;
+
+		private Location(String id, long created, long changed, Segment segment, long offset, int size, int length, int crc) {
+			this.id = id;
+			this.created = created;
+			this.changed = changed;
+			this.segment = segment;
+			this.offset = offset;
+			this.size = size;
+			this.length = length;
+			this.crc = crc;
+		}
+
+		String getId() {
+			return id;
+		}
+
+		long getCreated() {
+			return created;
+		}
+
+		long getChanged() {
+			return changed;
+		}
+
+		private long getPayloadOffset() {
+			return offset + size - length;
+		}
+	}
+
+	private static final class Segment {
+
+		private final int number;
+		private final int coveredFrom;
+		private final File file;
+		private long size;
+		private long live = 0;
+		private RandomAccessFile access = null;
+
+		private Segment(int number, int coveredFrom, File file, long size) {
+			this.number = number;
+			this.coveredFrom = coveredFrom;
+			this.file = file;
+			this.size = size;
+		}
+
+		private RandomAccessFile getAccess() throws IOException {
+			if (access == null) access = new RandomAccessFile(file, "rw");
+			return access;
+		}
+
+		private long getGarbage() {
+			return size - SEGMENT_HEADER_SIZE - live;
+		}
+
+		private void close() throws IOException {
+			if (access != null) {
+				access.close();
+				access = null;
+			}
+		}
+	}
+
+	private final File folder;
+	private final long segmentSize;
+	private final List<Segment> segments = new ArrayList<>();
+	private final Map<String, Location> index = new HashMap<>();
+	private Future<?> compaction = null;
+	private boolean closed = false;
+
+	private Journal(File folder, long segmentSize) {
+		this.folder = folder;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Opens the journal stored in the specified folder, creating the folder if it does not exist.
+	 *
+	 * @param folder      the folder of the journal
+	 * @param segmentSize the size in bytes after which a new segment is started
+	 * @param listener    the progress listener to indicate the progress
+	 * @return the opened journal
+	 * @throws IOException if the journal cannot be read
+	 */
+	static Journal open(File folder, long segmentSize, ProgressListener listener) throws IOException {
+		if (!folder.isDirectory() && !folder.mkdirs()) {
+			throw new IOException("Cannot create journal folder " + folder.getAbsolutePath());
+		}
+		Journal journal = new Journal(folder, segmentSize);
+		journal.scan(listener);
+		return journal;
+	}
+
+	File getFolder() {
+		return folder;
+	}
+
+	boolean isFolder(File folder) throws IOException {
+		return this.folder.getCanonicalFile().equals(folder.getCanonicalFile());
+	}
+
+	private void scan(ProgressListener listener) throws IOException {
+		List<Segment> found = new ArrayList<>();
+		File[] files = folder.listFiles();
+		if (files == null) throw new IOException("Cannot list journal folder " + folder.getAbsolutePath());
+		for (File file : files) {
+			if (file.getName().endsWith(".seg.tmp")) {
+				// left over by an interrupted compaction
+				Files.delete(file.toPath());
+				continue;
+			}
+			Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+			if (!matcher.matches()) continue;
+			int number = Integer.parseInt(matcher.group(1));
+			int coveredFrom = readSegmentHeader(file, number);
+			found.add(new Segment(number, coveredFrom, file, file.length()));
+		}
+		found.sort(Comparator.comparingInt(segment -> segment.number));
+
+		// drop the segments already covered by a compacted segment
+		for (Segment segment : found) {
+			boolean covered = false;
+			for (Segment other : found) {
+				if (other.number > segment.number && other.coveredFrom <= segment.number) {
+					covered = true;
+					break;
+				}
+			}
+			if (covered) {
+				LOGGER.info("Deleting journal segment " + segment.file + ", it has already been compacted");
+				Files.deleteIfExists(segment.file.toPath());
+			}
+			else {
+				segments.add(segment);
+			}
+		}
+
+		for (int i = 0; i < segments.size(); i++) {
+			listener.updateProgress(i / (float) segments.size(), "reading journal segment " + (i + 1));
+			scan(segments.get(i), i == segments.size() - 1);
+		}
+		listener.updateProgress(1f, "reading journal done");
+	}
+
+	private static int readSegmentHeader(File file, int number) throws IOException {
+		try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+			if (in.readInt() != SEGMENT_MAGIC) throw new IOException("Not a journal segment: " + file);
+			int version = in.readInt();
+			if (version != SEGMENT_VERSION) {
+				throw new IOException("Unsupported version " + version + " of journal segment: " + file);
+			}
+			int coveredFrom = in.readInt();
+			if (coveredFrom > number) throw new IOException("Corrupted journal segment: " + file);
+			return coveredFrom;
+		}
+		catch (EOFException e) {
+			throw new IOException("Truncated journal segment: " + file, e);
+		}
+	}
+
+	private void scan(Segment segment, boolean latest) throws IOException {
+		long position = SEGMENT_HEADER_SIZE;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(segment.file), 1 << 16))) {
+			in.skipNBytes(SEGMENT_HEADER_SIZE);
+			while (position < segment.size) {
+				try {
+					if (in.readInt() != ENTRY_MAGIC) throw new IOException("invalid entry");
+					byte kind = in.readByte();
+					int idLength = in.readInt();
+					if (idLength < 0 || position + ENTRY_HEADER_SIZE + idLength > segment.size) throw new EOFException();
+					byte[] id = new byte[idLength];
+					in.readFully(id);
+					long created = in.readLong();
+					long changed = in.readLong();
+					int length = in.readInt();
+					int crc = in.readInt();
+					int size = ENTRY_HEADER_SIZE + id.length + length;
+					if (length < 0 || position + size > segment.size) throw new EOFException();
+					in.skipNBytes(length);
+					apply(kind, new Location(new String(id, StandardCharsets.UTF_8),
+							created, changed, segment, position, size, length, crc));
+					position += size;
+				}
+				catch (IOException e) {
+					if (!latest) throw new IOException("Corrupted journal segment: " + segment.file, e);
+					break;
+				}
+			}
+		}
+		if (position < segment.size) {
+			// the last write has been interrupted, so we drop the incomplete entry
+			LOGGER.warn("Truncating incomplete entry at the end of journal segment " + segment.file);
+			try (RandomAccessFile file = new RandomAccessFile(segment.file, "rw")) {
+				file.setLength(position);
+			}
+			segment.size = position;
+		}
+	}
+
+	private void apply(byte kind, Location location) {
+		Location previous = (kind == KIND_RECORD)
+				? index.put(location.id, location)
+				: index.remove(location.id);
+		if (previous != null) previous.segment.live -= previous.size;
+		if (kind == KIND_RECORD) location.segment.live += location.size;
+	}
+
+	/**
+	 * Returns the locations of all records currently stored in this journal.
+	 */
+	synchronized Collection<Location> getLocations() {
+		return new ArrayList<>(index.values());
+	}
+
+	/**
+	 * Returns the ids of all records currently stored in this journal.
+	 */
+	synchronized Set<String> getIds() {
+		return new HashSet<>(index.keySet());
+	}
+
+	/**
+	 * Returns a stamp identifying the stored payload of the record with the
+	 * specified id, or null if there is no such record. The stamp does not
+	 * change when the journal is compacted.
+	 */
+	synchronized String getStamp(String id) {
+		Location location = index.get(id);
+		return (location == null) ? null : Integer.toHexString(location.crc) + ":" + location.length;
+	}
+
+	/**
+	 * Reads the payload of the record with the specified id, or returns null if there is no such record.
+	 */
+	synchronized byte[] read(String id) throws IOException {
+		checkOpen();
+		Location location = index.get(id);
+		if (location == null) return null;
+		byte[] payload = new byte[location.length];
+		RandomAccessFile access = location.segment.getAccess();
+		access.seek(location.getPayloadOffset());
+		access.readFully(payload);
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		if ((int) crc.getValue() != location.crc) {
+			throw new IOException("Checksum error of record " + id + " in journal segment " + location.segment.file);
+		}
+		return payload;
+	}
+
+	/**
+	 * Appends the record with the specified id and payload, replacing the record previously stored for this id.
+	 */
+	synchronized void append(String id, long created, long changed, byte[] payload) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		append(KIND_RECORD, id, created, changed, payload, (int) crc.getValue());
+	}
+
+	/**
+	 * Appends the removal of the record with the specified id.
+	 */
+	synchronized void appendRemoval(String id) throws IOException {
+		append(KIND_REMOVAL, id, 0, 0, new byte[0], 0);
+	}
+
+	private void append(byte kind, String id, long created, long changed, byte[] payload, int crc) throws IOException {
+		checkOpen();
+		byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(ENTRY_HEADER_SIZE + idBytes.length + payload.length);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(ENTRY_MAGIC);
+		out.writeByte(kind);
+		out.writeInt(idBytes.length);
+		out.write(idBytes);
+		out.writeLong(created);
+		out.writeLong(changed);
+		out.writeInt(payload.length);
+		out.writeInt(crc);
+		out.write(payload);
+		out.flush();
+
+		Segment segment = getAppendSegment();
+		RandomAccessFile access = segment.getAccess();
+		access.seek(segment.size);
+		access.write(bytes.toByteArray());
+		Location location = new Location(id, created, changed, segment, segment.size, bytes.size(), payload.length, crc);
+		segment.size += bytes.size();
+		apply(kind, location);
+	}
+
+	private Segment getAppendSegment() throws IOException {
+		Segment latest = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (latest != null && latest.size < segmentSize) return latest;
+
+		int number = (latest == null) ? 1 : latest.number + 1;
+		Segment segment = createSegment(number, number, getSegmentFile(number));
+		segments.add(segment);
+		if (latest != null && isCompactionRecommended()) compactInBackground();
+		return segment;
+	}
+
+	private static Segment createSegment(int number, int coveredFrom, File file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+			out.writeInt(SEGMENT_MAGIC);
+			out.writeInt(SEGMENT_VERSION);
+			out.writeInt(coveredFrom);
+		}
+		return new Segment(number, coveredFrom, file, SEGMENT_HEADER_SIZE);
+	}
+
+	private File getSegmentFile(int number) {
+		return new File(folder, String.format("journal-%08d.seg", number));
+	}
+
+	private boolean isCompactionRecommended() {
+		long size = 0;
+		long garbage = 0;
+		for (Segment segment : getSealedSegments()) {
+			size += segment.size;
+			garbage += segment.getGarbage();
+		}
+		return garbage > size / 2;
+	}
+
+	private List<Segment> getSealedSegments() {
+		return segments.isEmpty() ? new ArrayList<>() : new ArrayList<>(segments.subList(0, segments.size() - 1));
+	}
+
+	/**
+	 * Forces the appended entries to be written to the storage device.
+	 */
+	synchronized void flush() throws IOException {
+		checkOpen();
+		if (segments.isEmpty()) return;
+		Segment latest = segments.get(segments.size() - 1);
+		if (latest.access != null) latest.access.getChannel().force(false);
+	}
+
+	/**
+	 * Starts the compaction of this journal in the background, if it is not already running.
+	 *
+	 * @return the future of the running compaction
+	 */
+	synchronized Future<?> compactInBackground() {
+		if (compaction == null || compaction.isDone()) {
+			compaction = COMPACTOR.submit(() -> {
+				try {
+					compact();
+				}
+				catch (IOException e) {
+					LOGGER.error("Cannot compact journal " + folder, e);
+					throw e;
+				}
+				return null;
+			});
+		}
+		return compaction;
+	}
+
+	/**
+	 * Rewrites the current records of all segments except the latest one into a single segment. The records are copied
+	 * without holding the lock of this journal, so records may be added, read or removed concurrently.
+	 */
+	private void compact() throws IOException {
+		List<Segment> sealed;
+		List<Location> locations = new ArrayList<>();
+		synchronized (this) {
+			if (closed) return;
+			sealed = getSealedSegments();
+			if (sealed.isEmpty()) return;
+			if (sealed.size() == 1 && sealed.get(0).getGarbage() == 0) return;
+			for (Location location : index.values()) {
+				if (sealed.contains(location.segment)) locations.add(location);
+			}
+		}
+		locations.sort(Comparator.<Location>comparingInt(location -> location.segment.number)
+				.thenComparingLong(location -> location.offset));
+
+		// the sealed segments are never modified, so they can be read without the lock
+		Segment newest = sealed.get(sealed.size() - 1);
+		File temp = new File(folder, newest.file.getName() + ".tmp");
+		Segment target = new Segment(newest.number, sealed.get(0).coveredFrom, newest.file, SEGMENT_HEADER_SIZE);
+		List<Location> copied = new ArrayList<>(locations.size());
+		Map<Segment, RandomAccessFile> sources = new HashMap<>();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+			out.writeInt(SEGMENT_MAGIC);
+			out.writeInt(SEGMENT_VERSION);
+			out.writeInt(target.coveredFrom);
+			long position = SEGMENT_HEADER_SIZE;
+			for (Location location : locations) {
+				RandomAccessFile source = sources.get(location.segment);
+				if (source == null) {
+					source = new RandomAccessFile(location.segment.file, "r");
+					sources.put(location.segment, source);
+				}
+				byte[] entry = new byte[location.size];
+				source.seek(location.offset);
+				source.readFully(entry);
+				out.write(entry);
+				copied.add(new Location(location.id, location.created, location.changed,
+						target, position, location.size, location.length, location.crc));
+				position += location.size;
+			}
+			target.size = position;
+		}
+		finally {
+			for (RandomAccessFile source : sources.values()) {
+				source.close();
+			}
+		}
+		try (FileOutputStream sync = new FileOutputStream(temp, true)) {
+			sync.getChannel().force(true);
+		}
+
+		synchronized (this) {
+			if (closed) {
+				Files.deleteIfExists(temp.toPath());
+				return;
+			}
+			for (Segment segment : sealed) {
+				segment.close();
+			}
+			Files.move(temp.toPath(), newest.file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			for (Segment segment : sealed) {
+				if (segment != newest) Files.deleteIfExists(segment.file.toPath());
+			}
+			segments.removeAll(sealed);
+			segments.add(0, target);
+
+			// only use the copies of records that have not been changed in the meantime
+			for (int i = 0; i < copied.size(); i++) {
+				Location copy = copied.get(i);
+				if (index.get(copy.id) == locations.get(i)) {
+					index.put(copy.id, copy);
+					target.live += copy.size;
+				}
+			}
+		}
+	}
+
+	private void checkOpen() throws IOException {
+		if (closed) throw new IOException("The journal " + folder + " has already been closed");
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		for (Segment segment : segments) {
+			segment.close();
+		}
+	}
+}
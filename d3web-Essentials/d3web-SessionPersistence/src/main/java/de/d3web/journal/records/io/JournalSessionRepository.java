@@ -0,0 +1,483 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.journal.records.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.denkbares.progress.DummyProgressListener;
+import com.denkbares.progress.ProgressListener;
+import de.d3web.core.knowledge.InfoStore;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.Rating.State;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.records.DefaultSessionRecord;
+import de.d3web.core.records.DefaultSessionRepository;
+import de.d3web.core.records.FactRecord;
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.io.SessionPersistenceManager;
+import de.d3web.core.session.protocol.Protocol;
+
+/**
+ * This implementation of a SessionRepository stores the SessionRecords in an
+ * append-only journal in a folder. Saving the repository to the folder it has
+ * been loaded from only appends the new and modified records and the removals,
+ * without rewriting the already stored records. Loading the repository only
+ * reads the ids and dates of the records, each record is parsed when it is
+ * accessed the first time. Records that have been parsed but not modified are
+ * only softly referenced, so large repositories can be iterated without
+ * keeping all records in memory.
+ * <p>
+ * The journal is compacted in the background, when the stored records are
+ * outdated to a large extent, or on request by calling {@link #compact()}. The
+ * repository keeps the journal open until it is closed. The keys of the
+ * indexes of the repository are saved next to the journal, so the indexes can
+ * be rebuilt without parsing the records.
+ *
+ * @created 18.10.2026
+ */
+public class JournalSessionRepository extends DefaultSessionRepository implements Closeable {
+
+	/**
+	 * The default size in bytes after which a new segment of the journal is
+	 * started.
+	 */
+	public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+	/**
+	 * Name of the file the index keys of the records are saved to.
+	 */
+	public static final String INDEX_FILENAME = "records.index";
+
+	private final long segmentSize;
+	private Journal journal = null;
+
+	public JournalSessionRepository() {
+		this(DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Creates a new repository, using segments of the specified size.
+	 *
+	 * @param segmentSize the size in bytes after which a new segment of the
+	 *                    journal is started
+	 */
+	public JournalSessionRepository(long segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Loads the Session Records from a journal folder. The records are not
+	 * parsed immediately, they will be parsed when someone accesses them. If
+	 * this repository has already been loaded from an other folder, it is
+	 * closed and cleared before.
+	 *
+	 * @param folder Folder which contains the journal
+	 * @throws IOException if the journal cannot be read
+	 * @created 18.10.2026
+	 */
+	public void load(File folder) throws IOException {
+		this.load(folder, new DummyProgressListener());
+	}
+
+	/**
+	 * Loads the Session Records from a journal folder. The records are not
+	 * parsed immediately, they will be parsed when someone accesses them. If
+	 * this repository has already been loaded from an other folder, it is
+	 * closed and cleared before.
+	 *
+	 * @param folder   Folder which contains the journal
+	 * @param listener the progress listener to observe the progress of reading
+	 * @throws IOException if the journal cannot be read
+	 * @created 18.10.2026
+	 */
+	public void load(File folder, ProgressListener listener) throws IOException {
+		checkFolder(folder, "load");
+		close();
+		journal = Journal.open(folder, segmentSize, listener);
+		loadIndexes(new File(folder, INDEX_FILENAME));
+		for (Journal.Location location : journal.getLocations()) {
+			add(new JournalRecord(journal, location.getId(),
+					new Date(location.getCreated()), new Date(location.getChanged())));
+		}
+	}
+
+	/**
+	 * Saves the SessionRepository to a journal folder. After saving, the
+	 * journal contains exactly the records of this repository. If the folder
+	 * is the one this repository has been loaded from, only the new or
+	 * modified records and the removals are appended to the journal.
+	 *
+	 * @param folder Folder where this Repository should be saved to
+	 * @throws IOException if the journal cannot be written
+	 * @created 18.10.2026
+	 */
+	public void save(File folder) throws IOException {
+		this.save(folder, new DummyProgressListener());
+	}
+
+	/**
+	 * Saves the SessionRepository to a journal folder. After saving, the
+	 * journal contains exactly the records of this repository. If the folder
+	 * is the one this repository has been loaded from, only the new or
+	 * modified records and the removals are appended to the journal.
+	 *
+	 * @param folder   Folder where this Repository should be saved to
+	 * @param listener the progress listener to observe the progress of writing
+	 * @throws IOException if the journal cannot be written
+	 * @created 18.10.2026
+	 */
+	public void save(File folder, ProgressListener listener) throws IOException {
+		checkFolder(folder, "save");
+		if (journal != null && journal.isFolder(folder)) {
+			save(journal, listener);
+		}
+		else {
+			try (Journal target = Journal.open(folder, segmentSize, new DummyProgressListener())) {
+				save(target, listener);
+			}
+		}
+	}
+
+	private void save(Journal target, ProgressListener listener) throws IOException {
+		Set<String> removed = target.getIds();
+		Collection<SessionRecord> records = new ArrayList<>(sessionRecords.values());
+		int counter = 0;
+		for (SessionRecord record : records) {
+			listener.updateProgress(counter++ / (float) records.size(), record.getId());
+			String id = record.getId();
+			boolean stored = removed.remove(id);
+			long created = record.getCreationDate().getTime();
+			long changed = record.getLastChangeDate().getTime();
+			JournalRecord journalRecord = (record instanceof JournalRecord) ? (JournalRecord) record : null;
+			SessionRecord content = null;
+			if (journalRecord != null && !journalRecord.modified) {
+				if (journalRecord.journal == target && stored) continue;
+				// copy the unmodified record without parsing it
+				byte[] payload = journalRecord.journal.read(id);
+				if (payload == null) throw new IOException("The record " + id + " is no longer stored in the journal.");
+				target.append(id, created, changed, payload);
+			}
+			else {
+				content = (journalRecord == null) ? record : journalRecord.getRecord();
+				target.append(id, created, changed, encode(content));
+			}
+			if (target != journal) {
+				if (content != null) updateIndexes(record);
+				continue;
+			}
+
+			// from now on, the appended record is only softly referenced
+			if (journalRecord == null || journalRecord.journal != journal) {
+				journalRecord = new JournalRecord(journal, id, record.getCreationDate(), record.getLastChangeDate());
+				sessionRecords.put(id, journalRecord);
+				observe(journalRecord);
+			}
+			if (content != null) {
+				journalRecord.saved(content);
+				updateIndexes(journalRecord);
+			}
+		}
+		for (String id : removed) {
+			target.appendRemoval(id);
+		}
+		target.flush();
+		saveIndexes(new File(target.getFolder(), INDEX_FILENAME), record -> target.getStamp(record.getId()));
+		listener.updateProgress(1f, "writing session records to disc done");
+	}
+
+	/**
+	 * Starts the compaction of the journal this repository has been loaded
+	 * from in the background, if it is not already running. The compaction
+	 * removes the outdated records from the journal files.
+	 *
+	 * @return the future to wait for the compaction to be completed
+	 * @throws IllegalStateException if the repository has not been loaded
+	 * @created 18.10.2026
+	 */
+	public Future<?> compact() {
+		if (journal == null) throw new IllegalStateException("The repository has not been loaded from a journal");
+		return journal.compactInBackground();
+	}
+
+	/**
+	 * Closes the journal this repository has been loaded from and removes all
+	 * records from this repository, because the records not parsed yet cannot
+	 * be accessed any longer.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (journal != null) {
+			clear();
+			journal.close();
+			journal = null;
+		}
+	}
+
+	/**
+	 * Returns the number of records that are strongly held in memory, because
+	 * they have been modified or their mutable parts have been accessed. All
+	 * other records are only softly referenced, if they have been parsed at
+	 * all.
+	 *
+	 * @return the number of records held in memory
+	 * @created 18.10.2026
+	 */
+	public int getPinnedCount() {
+		int count = 0;
+		for (SessionRecord record : sessionRecords.values()) {
+			if (!(record instanceof JournalRecord) || ((JournalRecord) record).pinned != null) count++;
+		}
+		return count;
+	}
+
+	@Override
+	protected SessionRecord getIndexedRecord(SessionRecord sessionRecord) {
+		// the keys are computed from the softly referenced record, without pinning it
+		if (sessionRecord instanceof JournalRecord) return ((JournalRecord) sessionRecord).getRecord();
+		return sessionRecord;
+	}
+
+	@Override
+	protected void observe(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof JournalRecord) {
+			// the decoded records notify their journal record
+			((JournalRecord) sessionRecord).listener = this::recordModified;
+		}
+		else {
+			super.observe(sessionRecord);
+		}
+	}
+
+	@Override
+	protected void unobserve(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof JournalRecord) {
+			((JournalRecord) sessionRecord).listener = null;
+		}
+		else {
+			super.unobserve(sessionRecord);
+		}
+	}
+
+	@Override
+	protected String getIndexStamp(SessionRecord sessionRecord) {
+		if (sessionRecord instanceof JournalRecord) {
+			JournalRecord journalRecord = (JournalRecord) sessionRecord;
+			if (!journalRecord.modified && journalRecord.journal == journal) {
+				return journal.getStamp(journalRecord.getId());
+			}
+		}
+		return null;
+	}
+
+	private static void checkFolder(File folder, String operation) {
+		if (folder == null) {
+			throw new NullPointerException("File is null. Unable to " + operation + " SessionRepository.");
+		}
+		if (folder.exists() && !folder.isDirectory()) {
+			throw new IllegalArgumentException(
+					"This implementation of the SessionRepository requires a directory.");
+		}
+	}
+
+	private static byte[] encode(SessionRecord record) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream stream = new GZIPOutputStream(bytes)) {
+			SessionPersistenceManager.getInstance().saveSessions(stream, record);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static SessionRecord decode(byte[] payload) throws IOException {
+		Collection<SessionRecord> records;
+		try (InputStream stream = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+			records = SessionPersistenceManager.getInstance().loadSessions(stream);
+		}
+		if (records.size() != 1) {
+			throw new IOException("The journal entry contains " + records.size() + " session records.");
+		}
+		return records.iterator().next();
+	}
+
+	/**
+	 * Special implementation of a Session Record. This record has a reference
+	 * to the journal, if some information other than the id or the dates is
+	 * asked, the record will be parsed. This Record also remembers, if
+	 * something could have been modified since it was loaded.
+	 *
+	 * @created 18.10.2026
+	 */
+	private static class JournalRecord implements SessionRecord {
+
+		private final Journal journal;
+		private final String id;
+		private final Date created;
+		private Date changed;
+		private boolean modified = false;
+		// strongly referenced, if modified or if mutable parts have been accessed
+		private SessionRecord pinned = null;
+		private SoftReference<SessionRecord> cached = null;
+		// notified about the modifications of the decoded records
+		private Consumer<SessionRecord> listener = null;
+
+		private JournalRecord(Journal journal, String id, Date created, Date changed) {
+			this.journal = journal;
+			this.id = id;
+			this.created = created;
+			this.changed = changed;
+		}
+
+		private SessionRecord getRecord() {
+			if (pinned != null) return pinned;
+			SessionRecord record = (cached == null) ? null : cached.get();
+			if (record == null) {
+				try {
+					byte[] payload = journal.read(id);
+					if (payload == null) throw new IOException("The record is no longer stored in the journal.");
+					record = decode(payload);
+					if (record instanceof DefaultSessionRecord) {
+						((DefaultSessionRecord) record).addModificationListener(modified -> fireModified());
+					}
+				}
+				catch (IOException e) {
+					throw new IllegalStateException("cannot parse record " + id
+							+ " of journal " + journal.getFolder().getAbsolutePath(), e);
+				}
+				cached = new SoftReference<>(record);
+			}
+			return record;
+		}
+
+		private void fireModified() {
+			Consumer<SessionRecord> listener = this.listener;
+			if (listener != null) listener.accept(this);
+		}
+
+		private SessionRecord pin() {
+			pinned = getRecord();
+			return pinned;
+		}
+
+		private SessionRecord modify() {
+			modified = true;
+			return pin();
+		}
+
+		private void saved(SessionRecord record) {
+			modified = false;
+			pinned = null;
+			cached = new SoftReference<>(record);
+			changed = record.getLastChangeDate();
+		}
+
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public Date getCreationDate() {
+			return created;
+		}
+
+		@Override
+		public Date getLastChangeDate() {
+			return (pinned == null) ? changed : pinned.getLastChangeDate();
+		}
+
+		@Override
+		public void touch() {
+			touch(new Date());
+		}
+
+		@Override
+		public void touch(Date lastEditDate) {
+			modify().touch(lastEditDate);
+		}
+
+		@Override
+		public void addValueFact(FactRecord fact) {
+			if (!getRecord().getValueFacts().contains(fact)) {
+				modify().addValueFact(fact);
+				touch();
+			}
+		}
+
+		@Override
+		public void addInterviewFact(FactRecord fact) {
+			if (!getRecord().getInterviewFacts().contains(fact)) {
+				modify().addInterviewFact(fact);
+				touch();
+			}
+		}
+
+		@Override
+		public List<FactRecord> getValueFacts() {
+			return Collections.unmodifiableList(getRecord().getValueFacts());
+		}
+
+		@Override
+		public List<FactRecord> getInterviewFacts() {
+			return Collections.unmodifiableList(getRecord().getInterviewFacts());
+		}
+
+		@Override
+		public Protocol getProtocol() {
+			// if something gets a reference to the Protocol, something could be
+			// changed, so we must not lose it
+			return pin().getProtocol();
+		}
+
+		@Override
+		public InfoStore getInfoStore() {
+			return pin().getInfoStore();
+		}
+
+		@Override
+		public String getName() {
+			return getRecord().getName();
+		}
+
+		@Override
+		public void setName(String name) {
+			modify().setName(name);
+		}
+
+		@Override
+		public List<Solution> getSolutions(KnowledgeBase kb, State... states) {
+			return getRecord().getSolutions(kb, states);
+		}
+	}
+}
@@ -53,7 +53,7 @@ public class FilterTest {
 	public void setUp() throws IOException {
 		InitPluginManager.init();
 		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
-		repository = new DefaultSessionRepository();
+		repository = createRepository();
 		time = System.currentTimeMillis();
 		DefaultSession session1 = SessionFactory.createSession(
 				"session1", kb, new Date(time));
@@ -70,6 +70,14 @@ public class FilterTest {
 		repository.add(SessionConversionFactory.copyToSessionRecord(session3));
 	}
 
+	protected SessionRepository createRepository() {
+		return new DefaultSessionRepository();
+	}
+
+	protected SessionRepository getRepository() {
+		return repository;
+	}
+
 	@Test
 	public void testCreationDate() {
 		Collection<SessionRecord> records = repository.getSessionRecords(new CreationDateFilter(
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.core.records.filter;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.d3web.core.knowledge.terminology.info.MMInfo;
+import de.d3web.core.records.DefaultSessionRepository;
+import de.d3web.core.records.SessionRecord;
+import de.d3web.core.records.SessionRepository;
+import de.d3web.core.records.index.ChangeDateIndex;
+import de.d3web.core.records.index.CreationDateIndex;
+import de.d3web.core.records.index.NameIndex;
+import de.d3web.core.records.index.PropertyIndex;
+import de.d3web.core.records.index.SolutionStateIndex;
+
+/**
+ * Runs the filter tests against a repository with indexes, so the filters are
+ * planned against the indexes.
+ *
+ * @created 18.10.2026
+ */
+public class IndexedFilterTest extends FilterTest {
+
+	@Override
+	protected SessionRepository createRepository() {
+		DefaultSessionRepository repository = new DefaultSessionRepository();
+		repository.addIndex(new CreationDateIndex());
+		repository.addIndex(new ChangeDateIndex());
+		repository.addIndex(new NameIndex());
+		repository.addIndex(new PropertyIndex(MMInfo.DESCRIPTION));
+		repository.addIndex(new PropertyIndex(MMInfo.DESCRIPTION, Locale.GERMAN));
+		repository.addIndex(new SolutionStateIndex());
+		return repository;
+	}
+
+	@Test
+	public void testChangeDate() {
+		Collection<SessionRecord> records = getRepository().getSessionRecords(
+				new ChangeDateFilter(new Date(0), null, false, false));
+		Assert.assertEquals(3, records.size());
+		records = getRepository().getSessionRecords(
+				new ChangeDateFilter(null, new Date(0), false, true));
+		Assert.assertEquals(0, records.size());
+	}
+
+	@Test
+	public void testUpdateIndexes() {
+		DefaultSessionRepository repository = (DefaultSessionRepository) getRepository();
+		SessionRecord record = repository.getSessionRecordById("session1");
+		record.setName("Session 1");
+		repository.updateIndexes(record);
+		Assert.assertEquals(1, repository.getSessionRecords(new NameFilter("Session 1")).size());
+		Assert.assertEquals(2, repository.getSessionRecords(new NameFilter("Session \\d")).size());
+	}
+
+	@Test
+	public void testModifiedRecords() {
+		// the records are modified without updating the indexes explicitly
+		SessionRepository repository = getRepository();
+		repository.getSessionRecordById("session1").setName("Session 1");
+		Assert.assertEquals(1, repository.getSessionRecords(new NameFilter("Session 1")).size());
+		Assert.assertEquals(2, repository.getSessionRecords(new NameFilter("Session \\d")).size());
+
+		repository.getSessionRecordById("session3").getInfoStore().addValue(MMInfo.DESCRIPTION, "third");
+		Collection<SessionRecord> records = repository.getSessionRecords(
+				new PropertyFilter<>(MMInfo.DESCRIPTION, "third"));
+		Assert.assertEquals(1, records.size());
+		Assert.assertEquals("session3", records.iterator().next().getId());
+		Date future = new Date(System.currentTimeMillis() + 3_600_000);
+		repository.getSessionRecordById("session2").touch(future);
+		records = repository.getSessionRecords(new ChangeDateFilter(future, null, true, false));
+		Assert.assertEquals(1, records.size());
+		Assert.assertEquals("session2", records.iterator().next().getId());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateIndex() {
+		((DefaultSessionRepository) getRepository()).addIndex(new NameIndex());
+	}
+}
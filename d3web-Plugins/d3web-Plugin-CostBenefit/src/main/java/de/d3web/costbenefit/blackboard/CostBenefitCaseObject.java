@@ -89,6 +89,33 @@ public class CostBenefitCaseObject implements SessionObject {
 		this.session = session;
 	}
 
+	/**
+	 * Creates a case object for a forked session, having the state of the specified case object of
+	 * the session the fork has been created from. The search model of the most recent calculation
+	 * is shared, because it is only read until a new calculation is started in the fork.
+	 *
+	 * @param fork     the forked session
+	 * @param original the case object of the session the fork has been created from
+	 * @created 18.10.2026
+	 */
+	public CostBenefitCaseObject(Session fork, CostBenefitCaseObject original) {
+		this.session = fork;
+		this.currentSequence = original.currentSequence;
+		this.searchModel = original.searchModel;
+		this.indicatedFacts = new LinkedList<>(original.indicatedFacts);
+		this.currentPathIndex = original.currentPathIndex;
+		this.undiscriminatedSolutions = (original.undiscriminatedSolutions == null)
+				? null : new HashSet<>(original.undiscriminatedSolutions);
+		this.discriminatingTargets.addAll(original.discriminatingTargets);
+		this.abortedManuallySetTarget = original.abortedManuallySetTarget;
+		this.manualMode = original.manualMode;
+		this.conflictingObjects = new HashSet<>(original.conflictingObjects);
+		this.unreachedTarget = original.unreachedTarget;
+		this.watchedQContainers.addAll(original.watchedQContainers);
+		this.answeredCBInitQContainers.addAll(original.answeredCBInitQContainers);
+		this.replayingSession = original.replayingSession;
+	}
+
 	/**
 	 * Reduce/increase logging output
 	 */
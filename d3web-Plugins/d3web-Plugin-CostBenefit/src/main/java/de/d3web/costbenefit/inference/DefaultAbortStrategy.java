@@ -18,6 +18,7 @@
  */
 package de.d3web.costbenefit.inference;
 
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.SessionObject;
@@ -155,10 +156,19 @@ public class DefaultAbortStrategy implements AbortStrategy, SessionObjectSource<
 		return new DefaultAbortStrategySessionObject();
 	}
 
-	public static class DefaultAbortStrategySessionObject implements SessionObject {
+	public static class DefaultAbortStrategySessionObject implements SessionObject, Copyable<DefaultAbortStrategySessionObject> {
 
 		private long steps;
 		private SearchModel model;
 		private boolean abort;
+
+		@Override
+		public DefaultAbortStrategySessionObject copy() {
+			DefaultAbortStrategySessionObject copy = new DefaultAbortStrategySessionObject();
+			copy.steps = steps;
+			copy.model = model;
+			copy.abort = abort;
+			return copy;
+		}
 	}
 }
@@ -100,14 +100,23 @@ public class ExpertMode implements SessionObject {
 	static final Comparator<Target> BENEFIT_COMPARATOR = (target1, target2) ->
 			Double.compare(target2.getBenefit(), target1.getBenefit());
 
-	private final static SessionObjectSource<ExpertMode> EXPERT_MODE_SOURCE = session -> {
-		// check if it is allowed to create such an object
-		PSMethodCostBenefit psm = session.getPSMethodInstance(PSMethodCostBenefit.class);
-		if (psm == null) {
-			throw new IllegalStateException(
-					"ExpertMode cannot be used if session does not contain the cost benefit strategic solver");
+	private final static SessionObjectSource<ExpertMode> EXPERT_MODE_SOURCE = new SessionObjectSource<>() {
+		@Override
+		public ExpertMode createSessionObject(Session session) {
+			// check if it is allowed to create such an object
+			PSMethodCostBenefit psm = session.getPSMethodInstance(PSMethodCostBenefit.class);
+			if (psm == null) {
+				throw new IllegalStateException(
+						"ExpertMode cannot be used if session does not contain the cost benefit strategic solver");
+			}
+			return new ExpertMode(session, psm);
+		}
+
+		@Override
+		public ExpertMode forkSessionObject(Session fork, ExpertMode original) {
+			// the expert mode only caches knowledge of the knowledge base, so we simply create a new one
+			return createSessionObject(fork);
 		}
-		return new ExpertMode(session, psm);
 	};
 
 	private ExpertMode(Session session, PSMethodCostBenefit psm) {
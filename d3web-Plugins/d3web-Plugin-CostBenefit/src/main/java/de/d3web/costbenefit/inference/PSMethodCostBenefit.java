@@ -785,6 +785,11 @@ public class PSMethodCostBenefit extends PSMethodAdapter implements SessionObjec
 		return new CostBenefitCaseObject(session);
 	}
 
+	@Override
+	public CostBenefitCaseObject forkSessionObject(Session fork, CostBenefitCaseObject original) {
+		return new CostBenefitCaseObject(fork, original);
+	}
+
 	@Override
 	public boolean hasType(Type type) {
 		return type == Type.strategic;
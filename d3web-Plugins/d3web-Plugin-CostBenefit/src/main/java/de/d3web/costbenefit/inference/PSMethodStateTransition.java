@@ -35,6 +35,7 @@ import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.knowledge.terminology.QASet;
 import de.d3web.core.knowledge.terminology.QContainer;
 import de.d3web.core.knowledge.terminology.Question;
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.Value;
@@ -245,7 +246,7 @@ public final class PSMethodStateTransition extends PSMethodAdapter implements Se
 		return 5.5;
 	}
 
-	public static class StateTransitionSessionObject implements SessionObject {
+	public static class StateTransitionSessionObject implements SessionObject, Copyable<StateTransitionSessionObject> {
 
 		private List<Fact> facts = new LinkedList<>();
 		private QContainer qContainer = null;
@@ -256,6 +257,17 @@ public final class PSMethodStateTransition extends PSMethodAdapter implements Se
 				if (container instanceof QContainer) activeInitContainers.add((QContainer) container);
 			}
 		}
+
+		private StateTransitionSessionObject(StateTransitionSessionObject original) {
+			this.facts = new LinkedList<>(original.facts);
+			this.qContainer = original.qContainer;
+			this.activeInitContainers.addAll(original.activeInitContainers);
+		}
+
+		@Override
+		public StateTransitionSessionObject copy() {
+			return new StateTransitionSessionObject(this);
+		}
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 
 import com.denkbares.utils.Stopwatch;
 import de.d3web.core.knowledge.terminology.QContainer;
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.SessionObject;
@@ -105,7 +106,7 @@ public class PathExtender implements SearchAlgorithm, SessionObjectSource<PathEx
 		return new PathExtenderInfo();
 	}
 
-	public static class PathExtenderInfo implements SessionObject {
+	public static class PathExtenderInfo implements SessionObject, Copyable<PathExtenderInfo> {
 		private Path pathBeforeModification = null;
 		private Path pathAfterModification = null;
 
@@ -122,5 +123,13 @@ public class PathExtender implements SearchAlgorithm, SessionObjectSource<PathEx
 		public Path getPathAfterModification() {
 			return pathAfterModification;
 		}
+
+		@Override
+		public PathExtenderInfo copy() {
+			PathExtenderInfo copy = new PathExtenderInfo();
+			copy.pathBeforeModification = pathBeforeModification;
+			copy.pathAfterModification = pathAfterModification;
+			return copy;
+		}
 	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.costbenefit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.PSConfig;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.CondNot;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QContainer;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.costbenefit.inference.PSMethodCostBenefit;
+import de.d3web.xcl.XCLModel;
+import de.d3web.xcl.XCLRelationType;
+import de.d3web.xcl.inference.PSMethodXCL;
+import de.d3web.xcl.inference.StrategicSupportXCLCached;
+
+/**
+ * Simple benchmark measuring the selection of the cost benefit targets, that calculates the information gain of each
+ * target, for a synthetic knowledge base of 200 questionnaires and 2k XCL models. The targets are selected repeatedly
+ * for the same solutions (as done for each propagation not changing the undiscriminated solutions), once with the
+ * memoized information gains cleared before each selection and once reusing them. This is not a unit test, run the
+ * main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class TargetSelectionBenchmark {
+
+	private static final int CONTAINERS = 200;
+	private static final int QUESTIONS_PER_CONTAINER = 5;
+	private static final int SOLUTIONS = 2_000;
+	private static final int RELATIONS_PER_SOLUTION = 20;
+	private static final int SELECTIONS = 20;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		PSMethodCostBenefit costBenefit = new PSMethodCostBenefit();
+		kb.addPSConfig(new PSConfig(PSConfig.PSState.active, costBenefit, "PSMethodCostBenefit",
+				"d3web-CostBenefit", 6));
+		Random random = new Random(42);
+		List<QuestionOC> questions = new ArrayList<>();
+		for (int c = 0; c < CONTAINERS; c++) {
+			QContainer container = new QContainer(kb.getRootQASet(), "container" + c);
+			for (int q = 0; q < QUESTIONS_PER_CONTAINER; q++) {
+				questions.add(new QuestionOC(container, "question" + c + "_" + q, "a", "b", "c"));
+			}
+		}
+		for (int i = 0; i < SOLUTIONS; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			for (int r = 0; r < RELATIONS_PER_SOLUTION; r++) {
+				QuestionOC question = questions.get(random.nextInt(questions.size()));
+				CondEqual condition = new CondEqual(question,
+						new ChoiceValue(question.getAllAlternatives().get(random.nextInt(3))));
+				if (r == 0) {
+					XCLModel.insertXCLRelation(kb, new CondNot(condition), solution, XCLRelationType.contradicted);
+				}
+				else {
+					XCLModel.insertXCLRelation(kb, condition, solution, XCLRelationType.explains);
+				}
+			}
+		}
+
+		Session session = SessionFactory.createSession(kb);
+		StrategicSupportXCLCached support = session.getPSMethodInstance(PSMethodXCL.class).getStrategicSupport();
+		for (int run = 0; run < 3; run++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < SELECTIONS; i++) {
+				support.clearCache();
+				costBenefit.initSearchModel(session);
+			}
+			double uncached = (System.nanoTime() - start) / 1e9;
+
+			support.clearCache();
+			support.resetCounters();
+			start = System.nanoTime();
+			for (int i = 0; i < SELECTIONS; i++) {
+				costBenefit.initSearchModel(session);
+			}
+			double memoized = (System.nanoTime() - start) / 1e9;
+			System.out.printf("uncached: %,d selections/s, memoized: %,d selections/s (hit rate %.1f%%)%n",
+					(long) (SELECTIONS / uncached), (long) (SELECTIONS / memoized), support.getHitRate() * 100);
+		}
+	}
+}
@@ -21,6 +21,7 @@
 package de.d3web.diaFlux.flow;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -49,6 +50,8 @@ public abstract class AbstractNode implements Node {
 	private Flow flow;
 	private final Set<Edge> outgoing = new MinimizedLinkedHashSet<>();
 	private final Set<Edge> incoming = new MinimizedLinkedHashSet<>();
+	// compiled lazily from the outgoing edges, null if not compiled yet
+	private volatile Set<Edge> unindexed = null;
 
 	public AbstractNode(String id, String name) {
 		this.id = id;
@@ -58,11 +61,13 @@ public abstract class AbstractNode implements Node {
 	protected void addOutgoingEdge(@NotNull Edge edge) {
 		checkStartNode(edge);
 		outgoing.add(edge);
+		unindexed = null;
 	}
 
 	protected void removeOutgoingEdge(@NotNull Edge edge) {
 		checkStartNode(edge);
 		outgoing.remove(edge);
+		unindexed = null;
 	}
 
 	protected void addIncomingEdge(@NotNull Edge edge) {
@@ -92,6 +97,29 @@ public abstract class AbstractNode implements Node {
 		return outgoing;
 	}
 
+	@Override
+	public Set<Edge> getUnindexedEdges() {
+		Set<Edge> edges = unindexed;
+		if (edges == null) {
+			if (getEdgePrecondition() instanceof ConditionTrue) {
+				edges = new LinkedHashSet<>();
+				for (Edge edge : outgoing) {
+					Condition condition = edge.getCondition();
+					if (condition == null || !condition.isCacheable()) {
+						edges.add(edge);
+					}
+				}
+				edges = edges.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(edges);
+			}
+			else {
+				// the terminal objects of the precondition are not indexed, so check all edges
+				edges = Collections.unmodifiableSet(new LinkedHashSet<>(outgoing));
+			}
+			unindexed = edges;
+		}
+		return edges;
+	}
+
 	@Override
 	public Set<Edge> getIncomingEdges() {
 		return incoming;
@@ -81,6 +81,24 @@ public class DiaFluxCaseObject implements SessionObject {
 		this.fluxSolver = fluxSolver;
 	}
 
+	/**
+	 * Creates a case object for a forked session, having copies of the flow runs and the states of
+	 * the specified case object of the session the fork has been created from.
+	 *
+	 * @param fork     the forked session
+	 * @param original the case object of the session the fork has been created from
+	 * @created 18.10.2026
+	 */
+	public DiaFluxCaseObject(Session fork, DiaFluxCaseObject original) {
+		this(fork, original.fluxSolver);
+		for (FlowRun run : original.runs) {
+			this.runs.add(run.copy());
+		}
+		this.latestSnapshotTime.putAll(original.latestSnapshotTime);
+		this.undefinedEdges.addAll(original.undefinedEdges);
+		this.suspectedSolutions = original.suspectedSolutions;
+	}
+
 	/**
 	 * Updates the set of undefined edges, after a node has been updated and is active. The method
 	 * ensures that all undefined edges of the particular node are used as sources for suggesting
@@ -93,7 +111,7 @@ public class DiaFluxCaseObject implements SessionObject {
 		// check all outgoing edges whether they are "undefined" or not
 		for (Edge edge : node.getOutgoingEdges()) {
 			Condition condition = edge.getCondition();
-			if ((condition != null && Conditions.isUndefined(condition, session)) ||
+			if ((condition != null && Conditions.isUndefined(condition, session.getConditionCache())) ||
 					(node instanceof ActionNode && ((ActionNode) node).getAction() instanceof ActionRepeatedIndication)) {
 				undefinedEdges.add(edge);
 			}
@@ -351,7 +369,7 @@ public class DiaFluxCaseObject implements SessionObject {
 					Condition condition = edge.getCondition();
 					// if the edge has a condition and the condition is false,
 					// skip it
-					if (condition != null && Conditions.isFalse(condition, session)) {
+					if (condition != null && Conditions.isFalse(condition, session.getConditionCache())) {
 						continue;
 					}
 				}
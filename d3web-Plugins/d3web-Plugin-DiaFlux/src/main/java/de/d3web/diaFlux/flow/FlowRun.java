@@ -26,13 +26,14 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 
 /**
  * @author Reinhard Hatko
  * @created 17.02.2011
  */
-public class FlowRun {
+public class FlowRun implements Copyable<FlowRun> {
 
 	private final Map<Node, Set<DiaFluxElement>> nodeSupports = new LinkedHashMap<>();
 	private final Set<Node> startNodes = new LinkedHashSet<>();
@@ -40,6 +41,16 @@ public class FlowRun {
 	private Set<SnapshotNode> blockedSnapshots = null;
 	private long blockedTime = Long.MIN_VALUE;
 
+	@Override
+	public FlowRun copy() {
+		FlowRun copy = new FlowRun();
+		nodeSupports.forEach((node, supports) -> copy.nodeSupports.put(node, new HashSet<>(supports)));
+		copy.startNodes.addAll(startNodes);
+		copy.blockedSnapshots = (blockedSnapshots == null) ? null : new HashSet<>(blockedSnapshots);
+		copy.blockedTime = blockedTime;
+		return copy;
+	}
+
 	public void addBlockedSnapshot(SnapshotNode node, Session session) {
 		check(session);
 		blockedSnapshots.add(node);
@@ -99,6 +99,17 @@ public interface Node extends DiaFluxElement {
 	 */
 	Condition getEdgePrecondition();
 
+	/**
+	 * Returns the outgoing edges that may change their state without any terminal object of their condition being
+	 * changed. These are the edges with a condition that is not {@link Condition#isCacheable() cacheable}, or all
+	 * outgoing edges, if the node has an edge precondition. These edges have to be checked each time any other outgoing
+	 * edge of this node is checked.
+	 *
+	 * @return the outgoing edges that are not indexed by the terminal objects of their condition
+	 * @created 18.10.2026
+	 */
+	Set<Edge> getUnindexedEdges();
+
 	/**
 	 * Redoes the action of a node if necessary. This method is called if the node remains active, but its result may
 	 * have changed due to new facts. Should be implemented if the result depends on the forward objects.
@@ -20,11 +20,14 @@
 
 package de.d3web.diaFlux.inference;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +39,7 @@ import de.d3web.core.inference.PostHookablePSMethod;
 import de.d3web.core.inference.PropagationEntry;
 import de.d3web.core.inference.StrategicSupport;
 import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.inference.condition.ConditionCache;
 import de.d3web.core.inference.condition.Conditions;
 import de.d3web.core.knowledge.Indication;
 import de.d3web.core.knowledge.KnowledgeBase;
@@ -46,6 +50,7 @@ import de.d3web.core.knowledge.terminology.Question;
 import de.d3web.core.knowledge.terminology.Solution;
 import de.d3web.core.manage.KnowledgeBaseUtils;
 import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionObjectSlot;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.Fact;
 import de.d3web.core.session.blackboard.Facts;
@@ -111,6 +116,7 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 	public static final Object SUGGEST_SOURCE = SuggestMode.class;
 
 	private SuggestMode suggestMode = SuggestMode.ignore;
+	private final SessionObjectSlot sessionObjectSlot = new SessionObjectSlot();
 
 	public SuggestMode getSuggestMode() {
 		return suggestMode;
@@ -154,7 +160,8 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 
 		DiaFluxCaseObject caseObject = DiaFluxUtils.getDiaFluxCaseObject(session);
 		List<FlowRun> runs = caseObject.getRuns();
-		Set<Node> changedNodes = new LinkedHashSet<>();
+		// collect the edges that depend on the changed objects, grouped by their start nodes
+		Map<Node, Set<Edge>> changedEdges = new LinkedHashMap<>();
 		for (PropagationEntry propagationEntry : changes) {
 
 			// strategic entries do not matter so far...
@@ -170,12 +177,21 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 
 			// iterate over all edges that contain the changed TO
 			for (Edge edge : slice.getEdges()) {
-				changedNodes.add(edge.getStartNode());
+				changedEdges.computeIfAbsent(edge.getStartNode(), node -> new HashSet<>()).add(edge);
 			}
 		}
-		for (Node changedNode : changedNodes) {
+		for (Map.Entry<Node, Set<Edge>> entry : changedEdges.entrySet()) {
+			Node changedNode = entry.getKey();
+			// only check the edges that may have changed, not all outgoing edges of the node
+			Collection<Edge> edges = getEdgesToCheck(changedNode, entry.getValue());
+			if (caseObject.isActiveNode(changedNode)) {
+				caseObject.addUndefinedEdges(changedNode);
+			}
+			else {
+				caseObject.removeUndefinedEdges(changedNode);
+			}
 			for (FlowRun flowRun : runs) {
-				checkSuccessors(changedNode, flowRun, session);
+				checkEdges(changedNode, edges, flowRun, session);
 			}
 		}
 		// check backward knowledge:
@@ -245,9 +261,22 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 	 */
 	public static void checkSuccessors(Node node, FlowRun run, Session session) {
 		DiaFluxCaseObject caseObject = DiaFluxUtils.getDiaFluxCaseObject(session);
-		if (run.isActive(node)) { // node is active...
+		if (run.isActive(node)) {
 			caseObject.addUndefinedEdges(node);
-			for (Edge edge : node.getOutgoingEdges()) {
+		}
+		else {
+			caseObject.removeUndefinedEdges(node);
+		}
+		checkEdges(node, node.getOutgoingEdges(), run, session);
+	}
+
+	/**
+	 * Checks, if the states of the specified outgoing edges of the node are correct. If the node is
+	 * not active, all outgoing edges are deactivated.
+	 */
+	private static void checkEdges(Node node, Collection<Edge> edges, FlowRun run, Session session) {
+		if (run.isActive(node)) { // node is active...
+			for (Edge edge : edges) {
 				// ...now check inactive edges, that eval to true
 				if (!run.isActivated(edge) && evalEdge(session, edge)) {
 					activateEdge(edge, run, session);
@@ -258,7 +287,6 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 			}
 		}
 		else {// node is inactive...
-			caseObject.removeUndefinedEdges(node);
 			for (Edge edge : node.getOutgoingEdges()) {
 				// ...deactivate all edges
 				if (run.isActivated(edge)) {
@@ -268,11 +296,39 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 		}
 	}
 
+	/**
+	 * Returns the outgoing edges of the node that have to be checked, if the specified edges
+	 * depend on changed objects. These are the changed edges and the edges that are not indexed by
+	 * their terminal objects, in the order of the outgoing edges.
+	 */
+	private static Collection<Edge> getEdgesToCheck(Node node, Set<Edge> changedEdges) {
+		Set<Edge> outgoing = node.getOutgoingEdges();
+		Set<Edge> unindexed = node.getUnindexedEdges();
+		if (unindexed.size() == outgoing.size() || changedEdges.size() == outgoing.size()) return outgoing;
+		List<Edge> edges = new ArrayList<>(changedEdges.size() + unindexed.size());
+		for (Edge edge : outgoing) {
+			if (changedEdges.contains(edge) || unindexed.contains(edge)) {
+				edges.add(edge);
+			}
+		}
+		return edges;
+	}
+
 	@Override
 	public DiaFluxCaseObject createSessionObject(Session session) {
 		return new DiaFluxCaseObject(session, this);
 	}
 
+	@Override
+	public DiaFluxCaseObject forkSessionObject(Session fork, DiaFluxCaseObject original) {
+		return new DiaFluxCaseObject(fork, original);
+	}
+
+	@Override
+	public int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+		return sessionObjectSlot.get(knowledgeBase);
+	}
+
 	private static void activateEdge(Edge edge, FlowRun flowRun, Session session) {
 		addSupport(edge.getEndNode(), edge, flowRun, session);
 	}
@@ -310,8 +366,9 @@ public class FluxSolver implements PostHookablePSMethod, StrategicSupport, Sessi
 	}
 
 	public static boolean evalEdge(Session session, Edge edge) {
-		return Conditions.isTrue(edge.getStartNode().getEdgePrecondition(), session)
-				&& Conditions.isTrue(edge.getCondition(), session);
+		ConditionCache cache = session.getConditionCache();
+		return Conditions.isTrue(edge.getStartNode().getEdgePrecondition(), cache)
+				&& Conditions.isTrue(edge.getCondition(), cache);
 	}
 
 	@Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.diaFlux.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.ConditionTrue;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.diaFlux.flow.CommentNode;
+import de.d3web.diaFlux.flow.Edge;
+import de.d3web.diaFlux.flow.FlowFactory;
+import de.d3web.diaFlux.flow.Node;
+import de.d3web.diaFlux.flow.StartNode;
+
+/**
+ * Simple benchmark measuring the propagation of single changed questions through a flowchart, having a node with 1k
+ * outgoing edges, each depending on another question, that is active in 10 flow runs. Each propagation only has to
+ * check the edge of the changed question in each flow run. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class ChangedEdgesBenchmark {
+
+	private static final int EDGES = 1_000;
+	private static final int RUNS = 10;
+	private static final int ITERATIONS = 10;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		List<QuestionOC> questions = new ArrayList<>();
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		Node split = new CommentNode("split", "split");
+		nodes.add(split);
+		for (int i = 0; i < RUNS; i++) {
+			// each autostart node creates its own flow run
+			Node start = new StartNode("start" + i, "start" + i);
+			nodes.add(start);
+			edges.add(FlowFactory.createEdge("startEdge" + i, start, split, ConditionTrue.INSTANCE));
+		}
+		for (int i = 0; i < EDGES; i++) {
+			QuestionOC question = new QuestionOC(kb.getRootQASet(), "question" + i, "a", "b");
+			Node node = new CommentNode("node" + i, "node" + i);
+			questions.add(question);
+			nodes.add(node);
+			edges.add(FlowFactory.createEdge("edge" + i, split, node,
+					new CondEqual(question, new ChoiceValue(question.getAllAlternatives().get(0)))));
+		}
+		FlowFactory.createFlow(kb, "flow", nodes, edges).setAutostart(true);
+
+		Session session = SessionFactory.createSession(kb);
+		for (int run = 0; run < 3; run++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				for (QuestionOC question : questions) {
+					ChoiceValue value = new ChoiceValue(question.getAllAlternatives().get(i % 2));
+					session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, value));
+				}
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%,d propagations/s%n", (long) (ITERATIONS * EDGES / seconds));
+		}
+	}
+}
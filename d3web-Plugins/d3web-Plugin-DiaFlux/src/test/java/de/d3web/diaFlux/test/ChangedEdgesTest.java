@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.diaFlux.test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.ConditionTrue;
+import de.d3web.core.inference.condition.TerminalCondition;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.diaFlux.flow.CommentNode;
+import de.d3web.diaFlux.flow.Edge;
+import de.d3web.diaFlux.flow.FlowFactory;
+import de.d3web.diaFlux.flow.Node;
+import de.d3web.diaFlux.flow.StartNode;
+import de.d3web.diaFlux.inference.FluxSolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that only the outgoing edges depending on the changed objects are checked by the {@link FluxSolver}, and that
+ * the edges that are not indexed by their terminal objects are still checked if any other outgoing edge is checked.
+ *
+ * @created 18.10.2026
+ */
+public class ChangedEdgesTest {
+
+	private KnowledgeBase kb;
+	private QuestionOC question1;
+	private QuestionOC question2;
+	private QuestionOC question3;
+	private Node split;
+	private Node node1;
+	private Node node2;
+	private Node node3;
+	private Edge edge3;
+	private CountingCondition counting;
+
+	/**
+	 * Condition that is not cacheable, that counts how often it is evaluated.
+	 */
+	private static class CountingCondition extends TerminalCondition {
+
+		private int evaluations = 0;
+		private boolean result = false;
+
+		public CountingCondition() {
+			super(Collections.emptyList());
+		}
+
+		@Override
+		public boolean eval(Session session) {
+			evaluations++;
+			return result;
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		question1 = new QuestionOC(kb.getRootQASet(), "question1", "a", "b");
+		question2 = new QuestionOC(kb.getRootQASet(), "question2", "a", "b");
+		question3 = new QuestionOC(kb.getRootQASet(), "question3", "a", "b");
+		Node start = new StartNode("start", "start");
+		split = new CommentNode("split", "split");
+		node1 = new CommentNode("node1", "node1");
+		node2 = new CommentNode("node2", "node2");
+		node3 = new CommentNode("node3", "node3");
+		counting = new CountingCondition();
+		Edge edge0 = FlowFactory.createEdge("edge0", start, split, ConditionTrue.INSTANCE);
+		Edge edge1 = FlowFactory.createEdge("edge1", split, node1, new CondEqual(question1, value(question1, 0)));
+		Edge edge2 = FlowFactory.createEdge("edge2", split, node2, new CondEqual(question2, value(question2, 0)));
+		edge3 = FlowFactory.createEdge("edge3", split, node3, counting);
+		FlowFactory.createFlow(kb, "flow", Arrays.asList(start, split, node1, node2, node3),
+				Arrays.asList(edge0, edge1, edge2, edge3)).setAutostart(true);
+	}
+
+	@Test
+	public void unindexedEdges() {
+		Set<Edge> unindexed = split.getUnindexedEdges();
+		assertEquals(Collections.singleton(edge3), unindexed);
+		// the compiled edges are updated if the outgoing edges are changed
+		FlowFactory.removeEdge(edge3);
+		assertTrue(split.getUnindexedEdges().isEmpty());
+		FlowFactory.addEdge(edge3);
+		assertEquals(Collections.singleton(edge3), split.getUnindexedEdges());
+	}
+
+	@Test
+	public void changedEdges() {
+		Session session = SessionFactory.createSession(kb);
+		assertTrue(FluxSolver.isActiveNode(split, session));
+		assertFalse(FluxSolver.isActiveNode(node1, session));
+		int evaluations = counting.evaluations;
+
+		// the unindexed edge is checked together with the changed edge
+		setValue(session, question1, 0);
+		assertTrue(FluxSolver.isActiveNode(node1, session));
+		assertFalse(FluxSolver.isActiveNode(node2, session));
+		assertEquals(evaluations + 1, counting.evaluations);
+
+		// objects that are not used by the edges do not check any edge
+		setValue(session, question3, 0);
+		assertEquals(evaluations + 1, counting.evaluations);
+
+		// the changed result of the unindexed edge is considered if any other edge is changed
+		counting.result = true;
+		setValue(session, question2, 0);
+		assertTrue(FluxSolver.isActiveNode(node1, session));
+		assertTrue(FluxSolver.isActiveNode(node2, session));
+		assertTrue(FluxSolver.isActiveNode(node3, session));
+		assertEquals(evaluations + 2, counting.evaluations);
+
+		// changed edges are also deactivated
+		setValue(session, question1, 1);
+		assertFalse(FluxSolver.isActiveNode(node1, session));
+		assertTrue(FluxSolver.isActiveNode(node2, session));
+	}
+
+	private static ChoiceValue value(QuestionOC question, int index) {
+		return new ChoiceValue(question.getAllAlternatives().get(index));
+	}
+
+	private static void setValue(Session session, QuestionOC question, int index) {
+		session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, value(question, index)));
+	}
+}
@@ -19,13 +19,19 @@
 
 package de.d3web.xcl;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
+import de.d3web.core.inference.PropagationEntry;
 import de.d3web.core.inference.condition.ConditionCache;
+import de.d3web.core.inference.condition.ConditionCache.ConditionResult;
 import de.d3web.core.knowledge.terminology.Rating;
+import de.d3web.core.session.Copyable;
 
-public class DefaultInferenceTrace implements InferenceTrace {
+public class DefaultInferenceTrace implements InferenceTrace, Copyable<DefaultInferenceTrace> {
 
 	private final Collection<XCLRelation> posRelations = new HashSet<>();
 	private final Collection<XCLRelation> negRelations = new HashSet<>();
@@ -39,6 +45,20 @@ public class DefaultInferenceTrace implements InferenceTrace {
 	private double score = 0;
 	private double support = 0;
 
+	// exact running sums of the weights of the relations in the particular sets, so that adding and removing
+	// fractional weights does not accumulate rounding errors and the sums do not depend on the order of the updates
+	private BigDecimal posWeight = BigDecimal.ZERO;
+	private BigDecimal negWeight = BigDecimal.ZERO;
+	private BigDecimal reqPosWeight = BigDecimal.ZERO;
+	private BigDecimal reqNegWeight = BigDecimal.ZERO;
+
+	/**
+	 * The modification count of the model when all relations of the model have been evaluated, so that further updates
+	 * may be applied incrementally as long as the relations of the model are not modified, or -1 if the relations have
+	 * not been evaluated yet.
+	 */
+	private long modelModifications = -1;
+
 	@Override
 	public Rating getState() {
 		return state;
@@ -96,20 +116,146 @@ public class DefaultInferenceTrace implements InferenceTrace {
 		this.support = support;
 	}
 
+	@Override
+	public DefaultInferenceTrace copy() {
+		DefaultInferenceTrace copy = new DefaultInferenceTrace();
+		copy.posRelations.addAll(posRelations);
+		copy.negRelations.addAll(negRelations);
+		copy.contrRelations.addAll(contrRelations);
+		copy.reqPosRelations.addAll(reqPosRelations);
+		copy.reqNegRelations.addAll(reqNegRelations);
+		copy.suffRelations.addAll(suffRelations);
+		copy.state = state;
+		copy.score = score;
+		copy.support = support;
+		copy.posWeight = posWeight;
+		copy.negWeight = negWeight;
+		copy.reqPosWeight = reqPosWeight;
+		copy.reqNegWeight = reqNegWeight;
+		copy.modelModifications = modelModifications;
+		return copy;
+	}
+
+	/**
+	 * Returns the sum of the weights of the explaining and the required relations that are currently matching.
+	 *
+	 * @return the weight of the positive relations
+	 * @created 18.10.2026
+	 */
+	public double getPositiveWeight() {
+		return posWeight.add(reqPosWeight).doubleValue();
+	}
+
+	/**
+	 * Returns the sum of the weights of the explaining and the required relations that are currently not matching.
+	 *
+	 * @return the weight of the negative relations
+	 * @created 18.10.2026
+	 */
+	public double getNegativeWeight() {
+		return negWeight.add(reqNegWeight).doubleValue();
+	}
+
 	@Override
 	public void refreshRelations(XCLModel xclModel, ConditionCache cache) {
 		evalRelations(cache, xclModel.getRelations(), posRelations, negRelations);
 		evalRelations(cache, xclModel.getNecessaryRelations(), reqPosRelations, reqNegRelations);
 		evalRelations(cache, xclModel.getContradictingRelations(), contrRelations, null);
 		evalRelations(cache, xclModel.getSufficientRelations(), suffRelations, null);
+		posWeight = weightedSumOf(posRelations);
+		negWeight = weightedSumOf(negRelations);
+		reqPosWeight = weightedSumOf(reqPosRelations);
+		reqNegWeight = weightedSumOf(reqNegRelations);
+		modelModifications = xclModel.getModificationCount();
 	}
 
-	private void evalRelations(ConditionCache cache, Collection<XCLRelation> source, Collection<XCLRelation> trueSet, Collection<XCLRelation> falseSet) {
-		if (source.isEmpty()) return;
+	/**
+	 * Updates the relations of this trace for the specified changes. Only the relations covering the changed objects
+	 * are evaluated again, all other relations keep their state. If the trace has not been refreshed before, or if the
+	 * relations of the model have been modified since then, all relations of the model are evaluated.
+	 *
+	 * @param xclModel the model of this trace
+	 * @param changes  the changes of the terminology objects covered by the model
+	 * @param cache    the condition cache of the session to evaluate the relations
+	 * @created 18.10.2026
+	 */
+	public void updateRelations(XCLModel xclModel, Collection<PropagationEntry> changes, ConditionCache cache) {
+		if (!isUpToDate(xclModel)) {
+			refreshRelations(xclModel, cache);
+			return;
+		}
+		// evaluating a relation twice (for multiple changed objects) does not change the sets, so no need to check
+		for (PropagationEntry change : changes) {
+			for (XCLRelation relation : xclModel.getCoveringRelations(change.getObject())) {
+				updateRelation(relation, cache.getResult(relation.getConditionedFinding()));
+			}
+		}
+	}
+
+	/**
+	 * Returns the relations that will be evaluated by {@link #updateRelations(XCLModel, Collection, ConditionCache)}
+	 * for the specified changes. The returned collection may contain a relation multiple times.
+	 *
+	 * @param xclModel the model of this trace
+	 * @param changes  the changes of the terminology objects covered by the model
+	 * @return the relations to be evaluated for the changes
+	 * @created 18.10.2026
+	 */
+	public Collection<XCLRelation> getAffectedRelations(XCLModel xclModel, Collection<PropagationEntry> changes) {
+		if (!isUpToDate(xclModel)) return xclModel.getAllRelations();
+		if (changes.size() == 1) return xclModel.getCoveringRelations(changes.iterator().next().getObject());
+		List<XCLRelation> result = new ArrayList<>();
+		for (PropagationEntry change : changes) {
+			result.addAll(xclModel.getCoveringRelations(change.getObject()));
+		}
+		return result;
+	}
+
+	private boolean isUpToDate(XCLModel xclModel) {
+		return modelModifications == xclModel.getModificationCount();
+	}
 
+	private void updateRelation(XCLRelation relation, ConditionResult result) {
+		boolean isTrue = result == ConditionResult.TRUE;
+		boolean isFalse = result == ConditionResult.FALSE;
+		switch (relation.getType()) {
+			case explains -> {
+				posWeight = updateSet(posRelations, relation, isTrue, posWeight);
+				negWeight = updateSet(negRelations, relation, isFalse, negWeight);
+			}
+			case requires -> {
+				reqPosWeight = updateSet(reqPosRelations, relation, isTrue, reqPosWeight);
+				reqNegWeight = updateSet(reqNegRelations, relation, isFalse, reqNegWeight);
+			}
+			case contradicted -> updateSet(contrRelations, relation, isTrue, BigDecimal.ZERO);
+			case sufficiently -> updateSet(suffRelations, relation, isTrue, BigDecimal.ZERO);
+		}
+	}
+
+	/**
+	 * Adds or removes the relation to/from the set and returns the updated weight of the set.
+	 */
+	private static BigDecimal updateSet(Collection<XCLRelation> set, XCLRelation relation, boolean contained, BigDecimal weight) {
+		if (contained) {
+			return set.add(relation) ? weight.add(new BigDecimal(relation.getWeight())) : weight;
+		}
+		return set.remove(relation) ? weight.subtract(new BigDecimal(relation.getWeight())) : weight;
+	}
+
+	private static BigDecimal weightedSumOf(Collection<XCLRelation> relations) {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (XCLRelation relation : relations) {
+			sum = sum.add(new BigDecimal(relation.getWeight()));
+		}
+		return sum;
+	}
+
+	private void evalRelations(ConditionCache cache, Collection<XCLRelation> source, Collection<XCLRelation> trueSet, Collection<XCLRelation> falseSet) {
 		// clear result sets
 		trueSet.clear();
 		if (falseSet != null) falseSet.clear();
+		if (source.isEmpty()) return;
+
 		// eval all relations
 		for (XCLRelation rel : source) {
 			switch (cache.getResult(rel.getConditionedFinding())) {
@@ -19,10 +19,19 @@
 
 package de.d3web.xcl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import de.d3web.core.inference.PropagationEntry;
+import de.d3web.core.inference.condition.Condition;
 import de.d3web.core.inference.condition.ConditionCache;
+import de.d3web.core.inference.condition.ConditionCache.ConditionResult;
+import de.d3web.core.inference.condition.NoAnswerException;
+import de.d3web.core.inference.condition.UnknownAnswerException;
 import de.d3web.core.knowledge.terminology.OrderedRating;
 import de.d3web.core.knowledge.terminology.Rating;
 import de.d3web.core.knowledge.terminology.info.BasicProperties;
@@ -76,23 +85,88 @@ public class DefaultScoreAlgorithm implements ScoreAlgorithm {
 		for (XCLModel model : updatedModels) {
 			DefaultInferenceTrace trace = (DefaultInferenceTrace) model.getInferenceTrace(session);
 			Rating oldState = model.getState(session);
-			// calculate scores
-			// and the calculate states (based on that scores)
-			double currentScore = computeScore(trace);
-			double currentSupport = computeSupport(model, trace);
-			Rating currentState = computeState(model, trace, currentScore,
-					currentSupport);
-			trace.setScore(currentScore);
-			trace.setSupport(currentSupport);
-			trace.setState(currentState);
+			Rating currentState = refreshState(model, trace);
 			if (!oldState.equals(currentState)) {
-				session.getBlackboard().addValueFact(
-						FactFactory.createFact(model.getSolution(), currentState,
-								model, session.getPSMethodInstance(PSMethodXCL.class)));
+				addRatingFact(model, currentState, session);
 			}
 		}
 	}
 
+	/**
+	 * Updates the specified models with their changes and recalculates their states, using multiple threads of the
+	 * common fork-join pool. The relations affected by the changes are evaluated first on the calling thread, because
+	 * the blackboard of the session must not be accessed concurrently. Afterwards the inference traces are updated and
+	 * scored in parallel, based on these (read-only) results. Finally the changed ratings are added to the blackboard on
+	 * the calling thread, in the order of the specified map.
+	 * <p>
+	 * The result is the same as calling {@link #update(XCLModel, Collection, ConditionCache)} for each model, followed
+	 * by {@link #refreshStates(Collection, Session)}.
+	 *
+	 * @param modelsToUpdate the models to be updated, with the changes relevant for each model
+	 * @param session        the current case
+	 * @created 18.10.2026
+	 */
+	public void updateParallel(Map<XCLModel, ? extends Collection<PropagationEntry>> modelsToUpdate, Session session) {
+		// access the session objects and the blackboard sequentially
+		int count = modelsToUpdate.size();
+		XCLModel[] models = new XCLModel[count];
+		DefaultInferenceTrace[] traces = new DefaultInferenceTrace[count];
+		List<Collection<PropagationEntry>> changes = new ArrayList<>(count);
+		Map<Condition, ConditionResult> results = new HashMap<>();
+		ConditionCache cache = session.getConditionCache();
+		int index = 0;
+		for (Map.Entry<XCLModel, ? extends Collection<PropagationEntry>> entry : modelsToUpdate.entrySet()) {
+			XCLModel model = entry.getKey();
+			DefaultInferenceTrace trace = (DefaultInferenceTrace) model.getInferenceTrace(session);
+			for (XCLRelation relation : trace.getAffectedRelations(model, entry.getValue())) {
+				results.computeIfAbsent(relation.getConditionedFinding(), cache::getResult);
+			}
+			// also initialize the cached weight of the model before accessing it concurrently
+			model.getRelationsWeight();
+			models[index] = model;
+			traces[index] = trace;
+			changes.add(entry.getValue());
+			index++;
+		}
+
+		// update and score the independent traces in parallel
+		ConditionCache snapshot = new SnapshotConditionCache(session, results);
+		Rating[] oldStates = new Rating[count];
+		Rating[] newStates = new Rating[count];
+		IntStream.range(0, count).parallel().forEach(i -> {
+			oldStates[i] = traces[i].getState();
+			traces[i].updateRelations(models[i], changes.get(i), snapshot);
+			newStates[i] = refreshState(models[i], traces[i]);
+		});
+
+		// and apply the changed ratings in a deterministic order
+		for (int i = 0; i < count; i++) {
+			if (!oldStates[i].equals(newStates[i])) {
+				addRatingFact(models[i], newStates[i], session);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the score, the support and then the state of the specified model, and stores them in the trace.
+	 */
+	private Rating refreshState(XCLModel model, DefaultInferenceTrace trace) {
+		double currentScore = computeScore(trace);
+		double currentSupport = computeSupport(model, trace);
+		Rating currentState = computeState(model, trace, currentScore,
+				currentSupport);
+		trace.setScore(currentScore);
+		trace.setSupport(currentSupport);
+		trace.setState(currentState);
+		return currentState;
+	}
+
+	private void addRatingFact(XCLModel model, Rating state, Session session) {
+		session.getBlackboard().addValueFact(
+				FactFactory.createFact(model.getSolution(), state,
+						model, session.getPSMethodInstance(PSMethodXCL.class)));
+	}
+
 	private Rating computeState(XCLModel model, InferenceTrace trace, double score, double support) {
 
 		boolean hasContradiction = !trace.getContrRelations().isEmpty();
@@ -129,32 +203,33 @@ public class DefaultScoreAlgorithm implements ScoreAlgorithm {
 	@Override
 	public void update(XCLModel xclModel, Collection<PropagationEntry> entries, ConditionCache cache) {
 		InferenceTrace trace = xclModel.getInferenceTrace(cache.getSession());
-		trace.refreshRelations(xclModel, cache);
+		if (trace instanceof DefaultInferenceTrace) {
+			// only re-evaluate the relations covering the changed objects
+			((DefaultInferenceTrace) trace).updateRelations(xclModel, entries, cache);
+		}
+		else {
+			trace.refreshRelations(xclModel, cache);
+		}
 	}
 
-	private double computeScore(InferenceTrace trace) {
+	private double computeScore(DefaultInferenceTrace trace) {
 
 		// score is the sum of matching relations compared to evaluated
 		// relations
-		double posSum = weightedSumOf(trace.getPosRelations())
-				+ weightedSumOf(trace.getReqPosRelations());
+		double posSum = trace.getPositiveWeight();
 		if (posSum <= 0) {
 			return 0;
 		}
-		double negSum = weightedSumOf(trace.getNegRelations())
-				+ weightedSumOf(trace.getReqNegRelations());
+		double negSum = trace.getNegativeWeight();
 
 		return posSum / (negSum + posSum);
 	}
 
-	private double computeSupport(XCLModel model, InferenceTrace trace) {
+	private double computeSupport(XCLModel model, DefaultInferenceTrace trace) {
 		// support is the sum of evaluated relations compared to all relations
-		double posSum = weightedSumOf(trace.getPosRelations())
-				+ weightedSumOf(trace.getReqPosRelations());
-		double negSum = weightedSumOf(trace.getNegRelations())
-				+ weightedSumOf(trace.getReqNegRelations());
-		double allSum = weightedSumOf(model.getRelations())
-				+ weightedSumOf(model.getNecessaryRelations());
+		double posSum = trace.getPositiveWeight();
+		double negSum = trace.getNegativeWeight();
+		double allSum = model.getRelationsWeight();
 
 		if (allSum == 0) { // happens if there are only sufficient relations
 			return 0; // then the formula below would return NaN
@@ -164,12 +239,42 @@ public class DefaultScoreAlgorithm implements ScoreAlgorithm {
 		}
 	}
 
-	private double weightedSumOf(Collection<XCLRelation> relations) {
-		double sum = 0;
-		for (XCLRelation relation : relations) {
-			sum += relation.getWeight();
+	/**
+	 * Read-only condition cache providing the results that have been evaluated in advance, to be used concurrently.
+	 */
+	private static class SnapshotConditionCache implements ConditionCache {
+
+		private final Session session;
+		private final Map<Condition, ConditionResult> results;
+
+		private SnapshotConditionCache(Session session, Map<Condition, ConditionResult> results) {
+			this.session = session;
+			this.results = results;
+		}
+
+		@Override
+		public Session getSession() {
+			return session;
+		}
+
+		@Override
+		public boolean eval(Condition condition) throws NoAnswerException, UnknownAnswerException {
+			return switch (getResult(condition)) {
+				case TRUE -> true;
+				case FALSE -> false;
+				case UNDEFINED -> throw NoAnswerException.getInstance();
+				case UNKNOWN -> throw UnknownAnswerException.getInstance();
+			};
+		}
+
+		@Override
+		public ConditionResult getResult(Condition condition) {
+			ConditionResult result = results.get(condition);
+			if (result == null) {
+				throw new IllegalStateException("condition has not been evaluated in advance: " + condition);
+			}
+			return result;
 		}
-		return sum;
 	}
 
 	@Override
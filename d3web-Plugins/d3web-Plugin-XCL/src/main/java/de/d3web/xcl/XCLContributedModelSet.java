@@ -43,6 +43,8 @@ public class XCLContributedModelSet implements KnowledgeSlice {
 	public final static KnowledgeKind<XCLContributedModelSet> KNOWLEDGE_KIND = new KnowledgeKind<>(
 			"XCLContributedModelSet", XCLContributedModelSet.class);
 	private final LinkedHashSet<XCLModel> models = new LinkedHashSet<>();
+	// immutable copy of the models, created when the knowledge base is frozen
+	private List<XCLModel> frozenModels = null;
 
 	/**
 	 * Returns the XCL models that covers the specified value object, usually a {@link Question}. This means it returns
@@ -58,15 +60,26 @@ public class XCLContributedModelSet implements KnowledgeSlice {
 	}
 
 	public void addModel(XCLModel model) {
+		checkNotFrozen();
 		models.add(model);
 	}
 
 	public boolean removeModel(XCLModel model) {
+		checkNotFrozen();
 		return models.remove(model);
 	}
 
 	public List<XCLModel> getModels() {
-		return List.copyOf(models);
+		return (frozenModels != null) ? frozenModels : List.copyOf(models);
+	}
+
+	@Override
+	public void freeze() {
+		if (frozenModels == null) frozenModels = List.copyOf(models);
+	}
+
+	private void checkNotFrozen() {
+		if (frozenModels != null) throw new IllegalStateException("model set is frozen and cannot be modified");
 	}
 
 	public boolean isEmpty() {
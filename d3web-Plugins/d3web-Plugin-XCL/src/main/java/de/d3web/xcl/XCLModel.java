@@ -36,7 +36,9 @@ import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.knowledge.terminology.Rating;
 import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionObjectSlot;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.blackboard.SessionObject;
 import de.d3web.xcl.XCLModel.XCLCaseModel;
@@ -53,17 +55,21 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 	private Double suggestedThreshold = null;
 	private Double minSupport = null;
 
-	private final Collection<XCLRelation> relations;
-	private final Collection<XCLRelation> necessaryRelations;
-	private final Collection<XCLRelation> sufficientRelations;
-	private final Collection<XCLRelation> contradictingRelations;
+	private Collection<XCLRelation> relations;
+	private Collection<XCLRelation> necessaryRelations;
+	private Collection<XCLRelation> sufficientRelations;
+	private Collection<XCLRelation> contradictingRelations;
 	public final static String DEFAULT_SOLUTION = "default_solution";
 
 	private boolean considerOnlyRelevantRelations = true;
 	// TODO: store these information in the NamedObjects, also required for
 	// efficient propagation
-	private transient final Map<TerminologyObject, Set<XCLRelation>> coveringRelations = new HashMap<>();
-	private transient final Set<TerminologyObject> positiveCoveredSymptoms = new HashSet<>();
+	private transient Map<TerminologyObject, Set<XCLRelation>> coveringRelations = new HashMap<>();
+	private transient Set<TerminologyObject> positiveCoveredSymptoms = new HashSet<>();
+	private transient boolean frozen = false;
+	private transient double relationsWeight = Double.NaN;
+	private transient long modifications = 0;
+	private transient final SessionObjectSlot sessionObjectSlot = new SessionObjectSlot();
 
 	public XCLModel(Solution solution) {
 		this.solution = solution;
@@ -164,10 +170,15 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 
 	public void setConsiderOnlyRelevantRelations(
 			boolean considerOnlyRelevantRelations) {
+		checkNotFrozen();
 		this.considerOnlyRelevantRelations = considerOnlyRelevantRelations;
 	}
 
 	public boolean addRelation(XCLRelation relation) {
+		checkNotFrozen();
+		relationsWeight = Double.NaN;
+		modifications++;
+		solution.getKnowledgeBase().knowledgeModified();
 		// add backward references from the terminal objects to this model
 		for (TerminologyObject nob : relation.getConditionedFinding().getTerminalObjects()) {
 			nob.getKnowledgeStore()
@@ -184,6 +195,10 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 	}
 
 	public void removeRelation(XCLRelation rel) {
+		checkNotFrozen();
+		relationsWeight = Double.NaN;
+		modifications++;
+		solution.getKnowledgeBase().knowledgeModified();
 		for (TerminologyObject nob : rel.getConditionedFinding().getTerminalObjects()) {
 			XCLContributedModelSet set = nob.getKnowledgeStore().getKnowledge(XCLContributedModelSet.KNOWLEDGE_KIND);
 			if (set != null) {
@@ -233,6 +248,28 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 		return !relation.hasType(XCLRelationType.contradicted);
 	}
 
+	/**
+	 * Replaces the relation collections and the covering maps by compact immutable copies, and rejects any further
+	 * modification of this model.
+	 */
+	@Override
+	public void freeze() {
+		if (frozen) return;
+		relations = List.copyOf(relations);
+		necessaryRelations = List.copyOf(necessaryRelations);
+		sufficientRelations = List.copyOf(sufficientRelations);
+		contradictingRelations = List.copyOf(contradictingRelations);
+		// keep the iteration order of the hash based collections, only make them unmodifiable
+		coveringRelations.replaceAll((object, set) -> Collections.unmodifiableSet(set));
+		coveringRelations = Collections.unmodifiableMap(coveringRelations);
+		positiveCoveredSymptoms = Collections.unmodifiableSet(positiveCoveredSymptoms);
+		frozen = true;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) throw new IllegalStateException("XCL model is frozen and cannot be modified: " + solution);
+	}
+
 	@Override
 	public String toString() {
 		return "XCLModel [" + getSolution().getName() + ": " + getAllRelations()
@@ -263,6 +300,7 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 	 * @created 25.06.2010
 	 */
 	public void setEstablishedThreshold(double establishedThreshold) {
+		checkNotFrozen();
 		if (establishedThreshold >= 0) {
 			this.establishedThreshold = establishedThreshold;
 		}
@@ -289,6 +327,7 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 	 * @created 25.06.2010
 	 */
 	public void setSuggestedThreshold(double suggestedThreshold) {
+		checkNotFrozen();
 		if (suggestedThreshold >= 0) {
 			this.suggestedThreshold = suggestedThreshold;
 		}
@@ -315,6 +354,7 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 	 * @created 25.06.2010
 	 */
 	public void setMinSupport(double minSupport) {
+		checkNotFrozen();
 		if (minSupport >= 0) {
 			this.minSupport = minSupport;
 		}
@@ -323,6 +363,17 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 		}
 	}
 
+	/**
+	 * Returns the number of modifications of the relations of this model. If the count has not changed, no relation
+	 * has been added to or removed from this model in the meantime.
+	 *
+	 * @return the modification count of this model
+	 * @created 18.10.2026
+	 */
+	public long getModificationCount() {
+		return modifications;
+	}
+
 	public List<XCLRelation> getAllRelations() {
 		List<XCLRelation> allRels = new ArrayList<>();
 		allRels.addAll(relations);
@@ -336,6 +387,30 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 		return relations;
 	}
 
+	/**
+	 * Returns the sum of the weights of the explaining and the necessary relations of this model. The sum is calculated
+	 * once and cached until the relations of this model are modified.
+	 *
+	 * @return the weight of all explaining and necessary relations
+	 * @created 18.10.2026
+	 */
+	public double getRelationsWeight() {
+		double weight = relationsWeight;
+		if (Double.isNaN(weight)) {
+			weight = 0;
+			for (XCLRelation relation : relations) {
+				weight += relation.getWeight();
+			}
+			double necessaryWeight = 0;
+			for (XCLRelation relation : necessaryRelations) {
+				necessaryWeight += relation.getWeight();
+			}
+			weight += necessaryWeight;
+			relationsWeight = weight;
+		}
+		return weight;
+	}
+
 	public Collection<XCLRelation> getNecessaryRelations() {
 		return necessaryRelations;
 	}
@@ -361,6 +436,10 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 			ScoreAlgorithm scoreAlgorithm = session.getPSMethodInstance(PSMethodXCL.class).getScoreAlgorithm();
 			this.inferenceTrace = scoreAlgorithm.createInferenceTrace(model);
 		}
+
+		private XCLCaseModel(InferenceTrace inferenceTrace) {
+			this.inferenceTrace = inferenceTrace;
+		}
 	}
 
 	@Override
@@ -368,6 +447,20 @@ public final class XCLModel implements KnowledgeSlice, Comparable<XCLModel>, Ses
 		return new XCLCaseModel(this, session);
 	}
 
+	@Override
+	public XCLCaseModel forkSessionObject(Session fork, XCLCaseModel original) {
+		if (original.inferenceTrace instanceof Copyable) {
+			Object copy = ((Copyable<?>) original.inferenceTrace).copy();
+			return new XCLCaseModel((InferenceTrace) copy);
+		}
+		return SessionObjectSource.super.forkSessionObject(fork, original);
+	}
+
+	@Override
+	public int getSessionObjectSlot(KnowledgeBase knowledgeBase) {
+		return sessionObjectSlot.get(knowledgeBase);
+	}
+
 	public InferenceTrace getInferenceTrace(Session session) {
 		return getXCLCaseModel(session).inferenceTrace;
 	}
@@ -23,6 +23,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import de.d3web.core.knowledge.terminology.Solution;
 import de.d3web.core.knowledge.terminology.info.BasicProperties;
@@ -32,46 +34,26 @@ import de.d3web.core.knowledge.terminology.info.BasicProperties;
  * Map<List<K>, V>, it allows to use also different types of Collections (Set,
  * List, ...). Please note that the iteration order is also relevant. This Map
  * also allows to specify iteratively the keys and finally gets the value.
+ * <p>
+ * Internally the keys are interned to small integers, and each pot is stored as
+ * a tuple of these integers in an open addressing hash table, together with its
+ * accumulated weight. So enumerating the pots does not create any objects.
  *
  * @author volker_belli
  * @created 30.05.2012
  */
 public class InformationPots<K> {
 
-	private static class WeightSum {
-		private float value = 0f;
-	}
-
-	private static final class MultiKey<K> {
-
-		private K[] keys;
-		private final int hashCode;
-
-		public MultiKey(K[] keys) { // NOSONAR
-			this.keys = keys;
-			this.hashCode = Arrays.hashCode(keys);
-		}
-
-		public void makePersistent() {
-			this.keys = Arrays.copyOf(this.keys, this.keys.length);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (obj instanceof MultiKey<?> other) {
-				return (hashCode == other.hashCode)
-						&& Arrays.equals(keys, other.keys);
-			}
-			return false;
-		}
+	/**
+	 * Minimum number of pots to be enumerated by {@link #addWeights(List, List)},
+	 * before the solutions are distributed to multiple threads.
+	 */
+	private static final long PARALLEL_THRESHOLD = 200_000;
 
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-	}
+	private static final double LN_2 = Math.log(2);
 
-	private final Map<MultiKey<K>, WeightSum> map = new HashMap<>();
+	private final Map<K, Integer> ids = new HashMap<>();
+	private final PotTable pots = new PotTable();
 	private float totalWeight = 0;
 
 	/**
@@ -86,7 +68,7 @@ public class InformationPots<K> {
 	 * @created 01.06.2012
 	 */
 	public void addWeights(Solution solution, List<? extends Collection<K>> answers) {
-		addWeights(solution.getInfoStore().getValue(BasicProperties.APRIORI), answers);
+		addWeights(getWeight(solution), answers);
 	}
 
 	/**
@@ -103,38 +85,94 @@ public class InformationPots<K> {
 	public void addWeights(float weight, List<? extends Collection<K>> answers) {
 		if (weight == 0f) return;
 		totalWeight += weight;
-		int size = answers.size();
-		@SuppressWarnings("unchecked")
-		K[] keys = (K[]) new Object[size];
-		addWeights(weight, answers, size - 1, keys);
+		pots.addWeights(weight, intern(answers));
 	}
 
 	/**
-	 * Recursively creates all combinations of answers into the specified array
-	 * and adds the weight to the resulting pots.
+	 * Adds multiple solutions to all their possible pots, see
+	 * {@link #addWeights(Solution, List)}. The answers of the solution are
+	 * specified at the same index as the solution. The result is the same as
+	 * adding the solutions one by one, but if there are many pots to be
+	 * enumerated, the solutions are added in parallel. In this case the weights
+	 * of the pots may differ in the order of the float precision, because they
+	 * are summed up in a different order.
 	 *
-	 * @param weight     the weight to be added
-	 * @param allAnswers all possible answers for each question
-	 * @param index      the current index to be processed
-	 * @param result     the array to be used destructively
-	 * @created 30.05.2012
+	 * @param solutions the solutions to add to the pots
+	 * @param answers   all answers for all relevant questions, for each of the
+	 *                  solutions
+	 * @created 18.10.2026
 	 */
-	private void addWeights(float weight, List<? extends Collection<K>> allAnswers, int index, K[] result) {
-		if (index == -1) {
-			MultiKey<K> key = new MultiKey<>(result);
-			WeightSum weightSum = map.get(key);
-			if (weightSum == null) {
-				weightSum = new WeightSum();
-				key.makePersistent(); // require persistent copy
-				map.put(key, weightSum);
+	public void addWeights(List<Solution> solutions, List<? extends List<? extends Collection<K>>> answers) {
+		// intern the answers and calculate the weights sequentially
+		int count = solutions.size();
+		float[] weights = new float[count];
+		int[][][] keys = new int[count][][];
+		long potCount = 0;
+		for (int i = 0; i < count; i++) {
+			float weight = getWeight(solutions.get(i));
+			if (weight == 0f) continue;
+			totalWeight += weight;
+			weights[i] = weight;
+			keys[i] = intern(answers.get(i));
+			potCount += getPotCount(keys[i]);
+		}
+
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		if (potCount < PARALLEL_THRESHOLD || parallelism <= 1 || count <= 1) {
+			for (int i = 0; i < count; i++) {
+				if (weights[i] != 0f) pots.addWeights(weights[i], keys[i]);
 			}
-			weightSum.value += weight;
 			return;
 		}
-		for (K answer : allAnswers.get(index)) {
-			result[index] = answer;
-			addWeights(weight, allAnswers, index - 1, result);
+
+		// enumerate the pots of multiple chunks of the solutions in parallel, and merge them afterwards
+		int chunks = Math.min(count, parallelism * 4);
+		PotTable[] tables = new PotTable[chunks];
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			PotTable table = new PotTable();
+			for (int i = chunk * count / chunks; i < (chunk + 1) * count / chunks; i++) {
+				if (weights[i] != 0f) table.addWeights(weights[i], keys[i]);
+			}
+			tables[chunk] = table;
+		});
+		for (PotTable table : tables) {
+			pots.addAll(table);
+		}
+	}
+
+	private static float getWeight(Solution solution) {
+		return solution.getInfoStore().getValue(BasicProperties.APRIORI);
+	}
+
+	/**
+	 * Replaces the answers by their interned ids, preserving the order (and
+	 * duplicates) of each collection.
+	 */
+	private int[][] intern(List<? extends Collection<K>> answers) {
+		int[][] result = new int[answers.size()][];
+		for (int index = 0; index < result.length; index++) {
+			Collection<K> keys = answers.get(index);
+			int[] keyIds = new int[keys.size()];
+			int i = 0;
+			for (K key : keys) {
+				Integer id = ids.get(key);
+				if (id == null) {
+					id = ids.size();
+					ids.put(key, id);
+				}
+				keyIds[i++] = id;
+			}
+			result[index] = keyIds;
+		}
+		return result;
+	}
+
+	private static long getPotCount(int[][] keys) {
+		long count = 1;
+		for (int[] keyIds : keys) {
+			count *= keyIds.length;
 		}
+		return count;
 	}
 
 	public double getInformationGain() {
@@ -142,14 +180,15 @@ public class InformationPots<K> {
 		// Russel & Norvig p. 805
 		double sum = 0;
 		double all = 0;
-		for (WeightSum weight : map.values()) {
-			double p = (double) weight.value / totalWeight;
-			sum += (-1) * p * Math.log10(p) / Math.log10(2);
-			all += weight.value;
+		for (int pot = 0; pot < pots.size; pot++) {
+			float weight = pots.weights[pot];
+			double p = (double) weight / totalWeight;
+			sum -= p * Math.log(p);
+			all += weight;
 		}
 		// because the pots are not disjoint (if excluding relations),
 		// we have to normalize to the total value of all pots (because probability does not sum to 1.0)
-		return sum * (totalWeight / all);
+		return sum / LN_2 * (totalWeight / all);
 	}
 
 	/**
@@ -162,4 +201,136 @@ public class InformationPots<K> {
 	public float getTotalWeight() {
 		return totalWeight;
 	}
+
+	/**
+	 * Open addressing hash table of the pots, each identified by a tuple of key
+	 * ids. The tuples are stored consecutively in a single int array, the pots
+	 * are numbered in the order of their creation.
+	 */
+	private static final class PotTable {
+
+		private int size = 0;
+		private float[] weights = new float[16];
+		private int[] hashes = new int[16];
+		private int[] offsets = new int[16];
+		private int[] lengths = new int[16];
+		private int[] tuples = new int[64];
+		private int tuplesSize = 0;
+		// the slots contain the pot number + 1, 0 for an empty slot
+		private int[] slots = new int[32];
+
+		/**
+		 * Iterates all combinations of the specified key ids and adds the
+		 * weight to the resulting pots. The hash of the tuple prefixes is
+		 * updated incrementally, so only the changed positions are hashed
+		 * again.
+		 */
+		void addWeights(float weight, int[][] keys) {
+			int length = keys.length;
+			// skip solutions without any pot, because any of the answers is empty
+			for (int[] keyIds : keys) {
+				if (keyIds.length == 0) return;
+			}
+			int[] tuple = new int[length];
+			int[] positions = new int[length];
+			int[] prefixHashes = new int[length + 1];
+			prefixHashes[0] = 1;
+			for (int i = 0; i < length; i++) {
+				tuple[i] = keys[i][0];
+				prefixHashes[i + 1] = (prefixHashes[i] + tuple[i]) * 0x9E3779B1;
+			}
+			while (true) {
+				add(tuple, 0, length, prefixHashes[length], weight);
+				// advance the last position, with carry to the previous ones
+				int index = length - 1;
+				while (index >= 0 && ++positions[index] == keys[index].length) {
+					positions[index] = 0;
+					index--;
+				}
+				if (index < 0) return;
+				for (int i = index; i < length; i++) {
+					tuple[i] = keys[i][positions[i]];
+					prefixHashes[i + 1] = (prefixHashes[i] + tuple[i]) * 0x9E3779B1;
+				}
+			}
+		}
+
+		/**
+		 * Adds the weights of all pots of the specified table to this table.
+		 * Both tables must use the same key ids.
+		 */
+		void addAll(PotTable other) {
+			for (int pot = 0; pot < other.size; pot++) {
+				add(other.tuples, other.offsets[pot], other.lengths[pot], other.hashes[pot], other.weights[pot]);
+			}
+		}
+
+		/**
+		 * Adds the weight to the pot of the tuple, stored in the specified
+		 * array at the specified offset.
+		 */
+		private void add(int[] source, int offset, int length, int hash, float weight) {
+			int mask = slots.length - 1;
+			int slot = mix(hash) & mask;
+			while (true) {
+				int entry = slots[slot];
+				if (entry == 0) break;
+				int pot = entry - 1;
+				if (hashes[pot] == hash && matches(pot, source, offset, length)) {
+					weights[pot] += weight;
+					return;
+				}
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = create(source, offset, length, hash, weight) + 1;
+			if (size * 2 > slots.length) rehash();
+		}
+
+		private boolean matches(int pot, int[] source, int offset, int length) {
+			if (lengths[pot] != length) return false;
+			int potOffset = offsets[pot];
+			for (int i = 0; i < length; i++) {
+				if (tuples[potOffset + i] != source[offset + i]) return false;
+			}
+			return true;
+		}
+
+		private int create(int[] source, int offset, int length, int hash, float weight) {
+			if (size == weights.length) {
+				int capacity = size * 2;
+				weights = Arrays.copyOf(weights, capacity);
+				hashes = Arrays.copyOf(hashes, capacity);
+				offsets = Arrays.copyOf(offsets, capacity);
+				lengths = Arrays.copyOf(lengths, capacity);
+			}
+			if (tuplesSize + length > tuples.length) {
+				tuples = Arrays.copyOf(tuples, Math.max(tuples.length * 2, tuplesSize + length));
+			}
+			System.arraycopy(source, offset, tuples, tuplesSize, length);
+			int pot = size++;
+			weights[pot] = weight;
+			hashes[pot] = hash;
+			offsets[pot] = tuplesSize;
+			lengths[pot] = length;
+			tuplesSize += length;
+			return pot;
+		}
+
+		private void rehash() {
+			slots = new int[slots.length * 2];
+			int mask = slots.length - 1;
+			for (int pot = 0; pot < size; pot++) {
+				int slot = mix(hashes[pot]) & mask;
+				while (slots[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				slots[slot] = pot + 1;
+			}
+		}
+
+		private static int mix(int hash) {
+			int h = hash * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
 }
@@ -23,8 +23,8 @@ package de.d3web.xcl.inference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,13 +34,13 @@ import de.d3web.core.inference.PropagationEntry;
 import de.d3web.core.inference.StrategicSupport;
 import de.d3web.core.inference.condition.Condition;
 import de.d3web.core.inference.condition.ConditionCache;
-import de.d3web.core.inference.condition.DefaultConditionCache;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.knowledge.terminology.QASet;
 import de.d3web.core.knowledge.terminology.Question;
 import de.d3web.core.knowledge.terminology.Solution;
 import de.d3web.core.knowledge.terminology.info.BasicProperties;
 import de.d3web.core.knowledge.terminology.info.abnormality.Abnormality;
+import de.d3web.core.session.Copyable;
 import de.d3web.core.session.Session;
 import de.d3web.core.session.SessionObjectSource;
 import de.d3web.core.session.Value;
@@ -62,7 +62,8 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 	public static final String EXTENSION_ID = "PSMethodXCL";
 
 	private ScoreAlgorithm scoreAlgorithm = new DefaultScoreAlgorithm();
-	private final StrategicSupport strategicSupport = new StrategicSupportXCLCached(1000);
+	private final StrategicSupportXCLCached strategicSupport = new StrategicSupportXCLCached(1000);
+	private int parallelThreshold = Integer.MAX_VALUE;
 
 	public PSMethodXCL() {
 		super();
@@ -72,7 +73,7 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 	public void propagate(Session session, Collection<PropagationEntry> changes) {
 
 		// find xcl models to be updated (and remember affecting changes)
-		Map<XCLModel, List<PropagationEntry>> modelsToUpdate = new HashMap<>();
+		Map<XCLModel, List<PropagationEntry>> modelsToUpdate = new LinkedHashMap<>();
 		List<PropagationEntry> answerChanges = new ArrayList<>();
 		for (PropagationEntry change : changes) {
 			// do not handle strategic changes
@@ -94,8 +95,14 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 		// update total weight of answers
 		updateAnsweredWeight(session, answerChanges);
 
+		// update the models in parallel if there are many of them
+		if (modelsToUpdate.size() >= parallelThreshold && scoreAlgorithm instanceof DefaultScoreAlgorithm) {
+			((DefaultScoreAlgorithm) scoreAlgorithm).updateParallel(modelsToUpdate, session);
+			return;
+		}
+
 		// update required xcl models / inference traces
-		ConditionCache cache = new DefaultConditionCache(session);
+		ConditionCache cache = session.getConditionCache();
 		for (XCLModel model : modelsToUpdate.keySet()) {
 			List<PropagationEntry> entries = modelsToUpdate.get(model);
 			this.scoreAlgorithm.update(model, entries, cache);
@@ -160,10 +167,18 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 	public void init(Session session) {
 	}
 
-	public static class XCLCaseObject implements SessionObject {
+	public static class XCLCaseObject implements SessionObject, Copyable<XCLCaseObject> {
 
 		private final Set<Question> answeredQuestions = new HashSet<>();
 		private double totalAnsweredAbnormality = 0.0;
+
+		@Override
+		public XCLCaseObject copy() {
+			XCLCaseObject copy = new XCLCaseObject();
+			copy.answeredQuestions.addAll(answeredQuestions);
+			copy.totalAnsweredAbnormality = totalAnsweredAbnormality;
+			return copy;
+		}
 	}
 
 	@Override
@@ -197,6 +212,28 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 		return scoreAlgorithm;
 	}
 
+	/**
+	 * Sets the number of models that must be affected by a propagation, before the models are updated in parallel,
+	 * see {@link DefaultScoreAlgorithm#updateParallel(Map, Session)}. The parallel update is only available for the
+	 * {@link DefaultScoreAlgorithm}. By default, the models are always updated sequentially.
+	 *
+	 * @param parallelThreshold the minimum number of affected models to update them in parallel
+	 * @created 18.10.2026
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Returns the number of models that must be affected by a propagation, before the models are updated in parallel.
+	 *
+	 * @return the minimum number of affected models to update them in parallel
+	 * @created 18.10.2026
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
 	@Override
 	public Fact mergeFacts(Fact[] facts) {
 		return Facts.mergeSolutionFacts(facts);
@@ -213,6 +250,17 @@ public final class PSMethodXCL implements PSMethod, StrategicSupport,
 		return 5;
 	}
 
+	/**
+	 * Returns the strategic support this problem solver delegates to, e.g. to access the metrics of its memoized
+	 * information gains.
+	 *
+	 * @return the strategic support of this problem solver
+	 * @created 18.10.2026
+	 */
+	public StrategicSupportXCLCached getStrategicSupport() {
+		return strategicSupport;
+	}
+
 	@Override
 	public Collection<Solution> getUndiscriminatedSolutions(Session session) {
 		return strategicSupport.getUndiscriminatedSolutions(session);
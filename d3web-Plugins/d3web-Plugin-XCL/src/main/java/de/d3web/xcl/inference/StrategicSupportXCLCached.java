@@ -23,11 +23,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -39,6 +42,7 @@ import de.d3web.core.inference.condition.CondNot;
 import de.d3web.core.inference.condition.CondOr;
 import de.d3web.core.inference.condition.Condition;
 import de.d3web.core.inference.condition.ConditionTrue;
+import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.TerminologyObject;
 import de.d3web.core.knowledge.terminology.Choice;
 import de.d3web.core.knowledge.terminology.QASet;
@@ -64,13 +68,42 @@ import de.d3web.xcl.XCLRelation;
 import de.d3web.xcl.XCLRelationType;
 
 /**
+ * Strategic support for the XCL models, memoizing the calculated information gains. The information gain of some
+ * qasets only depends on the relevant (active) questions of the qasets and on the solutions to be discriminated, so
+ * the results are cached by the qasets, the solution set and the relevant questions, and are shared by all sessions
+ * of the knowledge base. The parts only depending on the knowledge base (e.g. the extracted conditions of the
+ * relations) are cached independently of any session. All cached values are dropped if the knowledge base has been
+ * modified (see {@link KnowledgeBase#getModificationCount()}), other changes of the knowledge (e.g. the abnormalities
+ * of the questions) require {@link #clearCache()} to be called.
+ *
  * @author volker_belli
  * @created 27.05.2012
  */
 public class StrategicSupportXCLCached implements StrategicSupport {
 
+	/**
+	 * Maximum number of memoized information gains, before the least recently used ones are dropped.
+	 */
+	private static final int MAX_CACHED_GAINS = 10_000;
+
 	private final int maxBenefitPots;
 
+	private final Map<GainKey, Double> gainCache = Collections.synchronizedMap(
+			new LinkedHashMap<>(256, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<GainKey, Double> eldest) {
+					return size() > MAX_CACHED_GAINS;
+				}
+			});
+	// increased (guarded by the gain cache) each time the cache is cleared, to detect outdated calculations
+	private long cacheGeneration = 0;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	// the knowledge base and its modification count, the cached values have been created for
+	private volatile KnowledgeBase cachedKnowledgeBase = null;
+	private volatile long cachedModificationCount = -1;
+
 	public StrategicSupportXCLCached(int maxBenefitPots) {
 		this.maxBenefitPots = maxBenefitPots;
 	}
@@ -136,7 +169,7 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 		return (store != null) && (store.getValue(condEqual.getValue()) == Abnormality.A0);
 	}
 
-	private static Collection<Question> getRelevantQuestions(Collection<? extends QASet> qasets, Session session) {
+	private static Set<Question> getRelevantQuestions(Collection<? extends QASet> qasets, Session session) {
 		Interview interview = Interview.get(session);
 		FormStrategy formStrategy = interview.getFormStrategy();
 		Set<Question> result = new HashSet<>();
@@ -173,18 +206,10 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 	private Map<Question, Set<XCLRelation>> getExcludingQuestion(Collection<Solution> solutions, Collection<Question> questions) {
 		Map<Question, Set<XCLRelation>> excludingQuestions = new HashMap<>();
 		for (Question q : questions) {
-			XCLContributedModelSet knowledge = q.getKnowledgeStore().getKnowledge(
-					XCLContributedModelSet.KNOWLEDGE_KIND);
-			if (knowledge != null) {
-				for (XCLModel model : knowledge.getModels()) {
-					if (solutions.contains(model.getSolution())) {
-						for (XCLRelation relation : model.getCoveringRelations(q)) {
-							if (relation.hasType(XCLRelationType.contradicted)) {
-								Set<XCLRelation> conditions = excludingQuestions.computeIfAbsent(q, k -> new HashSet<>());
-								conditions.add(relation);
-							}
-						}
-					}
+			for (ContradictingRelation contradicting : getContradictingRelations(q)) {
+				if (solutions.contains(contradicting.model().getSolution())) {
+					Set<XCLRelation> conditions = excludingQuestions.computeIfAbsent(q, k -> new HashSet<>());
+					conditions.add(contradicting.relation());
 				}
 			}
 		}
@@ -192,13 +217,47 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 		return excludingQuestions;
 	}
 
+	private record ContradictingRelation(XCLModel model, XCLRelation relation) {
+	}
+
+	private final Map<Question, List<ContradictingRelation>> contradictingRelationCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the contradicting relations of all models covering the specified question, together with their models.
+	 * It is only created on demand, otherwise a cached value is returned.
+	 */
+	private List<ContradictingRelation> getContradictingRelations(Question question) {
+		return contradictingRelationCache.computeIfAbsent(question, q -> {
+			XCLContributedModelSet knowledge = q.getKnowledgeStore().getKnowledge(
+					XCLContributedModelSet.KNOWLEDGE_KIND);
+			if (knowledge == null) return List.of();
+			List<ContradictingRelation> result = new ArrayList<>();
+			for (XCLModel model : knowledge.getModels()) {
+				for (XCLRelation relation : model.getCoveringRelations(q)) {
+					if (relation.hasType(XCLRelationType.contradicted)) {
+						result.add(new ContradictingRelation(model, relation));
+					}
+				}
+			}
+			return result.isEmpty() ? List.of() : result;
+		});
+	}
+
 	@Override
 	public boolean hasGroupInformationGain(Collection<? extends QASet> qaSets, Collection<Solution> solutions, Session session) {
-		Collection<Question> questions = getRelevantQuestions(qaSets, session);
+		Set<Question> questions = getRelevantQuestions(qaSets, session);
 		if (questions.isEmpty()) return false;
 
+		validateCache(session.getKnowledgeBase());
+		SolutionSet solutionSet = new SolutionSet(solutions);
+		GainKey key = new GainKey(List.copyOf(qaSets), solutionSet, questions, true);
+		return getMemoized(key,
+				() -> computeGroupInformationGain(questions, solutions, solutionSet.solutions) ? 1 : 0) != 0;
+	}
+
+	private boolean computeGroupInformationGain(Collection<Question> questions, Collection<Solution> solutions, Set<Solution> solutionSet) {
 		Map<List<Set<Condition>>, Set<Solution>> groupPots = new HashMap<>();
-		Map<Question, Set<XCLRelation>> excludingQuestions = getExcludingQuestion(solutions, questions);
+		Map<Question, Set<XCLRelation>> excludingQuestions = getExcludingQuestion(solutionSet, questions);
 
 		MultiMap<Solution, Solution> groupToSolutionsOfGroup = KnowledgeBaseUtils.groupSolutions(solutions);
 
@@ -236,13 +295,20 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 
 	@Override
 	public double getInformationGain(Collection<? extends QASet> qaSets, Collection<Solution> solutions, Session session) {
-		Collection<Question> questions = getRelevantQuestions(qaSets, session);
+		Set<Question> questions = getRelevantQuestions(qaSets, session);
 		if (questions.isEmpty()) return 0;
 
-		Map<Question, Set<XCLRelation>> excludingQuestions = getExcludingQuestion(solutions, questions);
-		Set<XCLModel> coveringModels = getCoveringModels(questions, solutions);
+		validateCache(session.getKnowledgeBase());
+		SolutionSet solutionSet = new SolutionSet(solutions);
+		GainKey key = new GainKey(List.copyOf(qaSets), solutionSet, questions, false);
+		return getMemoized(key, () -> computeInformationGain(questions, solutions, solutionSet));
+	}
+
+	private double computeInformationGain(Collection<Question> questions, Collection<Solution> solutions, SolutionSet solutionSet) {
+		Map<Question, Set<XCLRelation>> excludingQuestions = getExcludingQuestion(solutionSet.solutions, questions);
+		Set<XCLModel> coveringModels = getCoveringModels(questions, solutionSet.solutions);
 
-		InformationPots<Condition> pots = getInformationPots(solutions, coveringModels, questions, excludingQuestions);
+		InformationPots<Condition> pots = getInformationPots(solutionSet.weight, coveringModels, questions, excludingQuestions);
 		if (pots == null) {
 			// if information pots would get to big use another heuristic for calculating the benefit
 			pots = getEstimatedInformationPots(solutions, coveringModels);
@@ -273,18 +339,21 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 		return pots;
 	}
 
-	private InformationPots<Condition> getInformationPots(Collection<Solution> solutions, Set<XCLModel> coveringModels, Collection<Question> questions, Map<Question, Set<XCLRelation>> excludingQuestions) {
+	private InformationPots<Condition> getInformationPots(float totalWeight, Set<XCLModel> coveringModels, Collection<Question> questions, Map<Question, Set<XCLRelation>> excludingQuestions) {
 		InformationPots<Condition> pots = new InformationPots<>();
+		List<Solution> coveringSolutions = new ArrayList<>(coveringModels.size());
+		List<ArrayList<Set<Condition>>> coveringConditions = new ArrayList<>(coveringModels.size());
 		for (XCLModel model : coveringModels) {
-			// multiply possible value sets to get pots
-			// and add solution probabilities to these pots
 			ArrayList<Set<Condition>> conditionsForQuestions = getConditionsForQuestions(questions, excludingQuestions, model);
 			if (exceedsPotsSize(conditionsForQuestions)) {
 				return null;
 			}
-
-			pots.addWeights(model.getSolution(), conditionsForQuestions);
+			coveringSolutions.add(model.getSolution());
+			coveringConditions.add(conditionsForQuestions);
 		}
+		// multiply possible value sets to get pots
+		// and add solution probabilities to these pots
+		pots.addWeights(coveringSolutions, coveringConditions);
 
 		// finally, we add all the solutions that are not covered at all
 		ArrayList<Set<Condition>> conditionsOfUncoveredSolutions = getConditionsOfUncoveredSolutions(questions, excludingQuestions);
@@ -292,7 +361,7 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 			return null;
 		}
 
-		pots.addWeights(getTotalWeight(solutions) - pots.getTotalWeight(),
+		pots.addWeights(totalWeight - pots.getTotalWeight(),
 				conditionsOfUncoveredSolutions);
 		return pots;
 	}
@@ -312,7 +381,7 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 			Set<XCLRelation> excludingRelations = excludingQuestions.get(q);
 			if (excludingRelations != null) {
 				for (XCLRelation r : excludingRelations) {
-					set = lazyAddAll(set, filterForeignConditions(q, getExtractedOrs(r)));
+					set = lazyAddAll(set, getOwnExtractedOrs(q, r));
 				}
 			}
 			conditionsForQuestions.add(set);
@@ -329,8 +398,8 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 			Set<Condition> forbiddenSet = null;
 			for (XCLRelation r : coveringRelations) {
 				if (r.hasType(XCLRelationType.contradicted)) {
-					set = lazyAddAll(set, filterForeignConditions(q, getNegatedExtractedOrs(r)));
-					forbiddenSet = lazyAddAll(forbiddenSet, filterForeignConditions(q, getExtractedOrs(r)));
+					set = lazyAddAll(set, getOwnNegatedExtractedOrs(q, r));
+					forbiddenSet = lazyAddAll(forbiddenSet, getOwnExtractedOrs(q, r));
 				}
 				else {
 					set = lazyAddAll(set, getExtractedOrs(r));
@@ -347,8 +416,11 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 					if (coveringRelations.contains(r)) {
 						continue;
 					}
-					Collection<Condition> conditions = filterForeignConditions(q, getExtractedOrs(r));
-					if (forbiddenSet != null) conditions.removeAll(forbiddenSet);
+					Collection<Condition> conditions = getOwnExtractedOrs(q, r);
+					if (forbiddenSet != null) {
+						conditions = new HashSet<>(conditions);
+						conditions.removeAll(forbiddenSet);
+					}
 					set = lazyAddAll(set, conditions);
 				}
 			}
@@ -384,25 +456,147 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 		return filteredExtractedOrs;
 	}
 
-	// use come cache mechanism to avoid multiple calculation
-	private record SolutionsWeight(Collection<Solution> solutions, float weight) {
+	/**
+	 * Immutable copy of the solutions to be discriminated, with a precomputed hash code and total weight. It is used
+	 * as a stable key of the memoized information gains, independent of the order and the implementation of the
+	 * specified solution collection, and without referencing the (potentially modified) specified collection.
+	 */
+	private static final class SolutionSet {
+
+		private final Set<Solution> solutions;
+		private final int hash;
+		private final float weight;
+
+		private SolutionSet(Collection<Solution> source) {
+			this.solutions = Collections.unmodifiableSet(new HashSet<>(source));
+			this.hash = solutions.hashCode();
+			// calculate the total weight
+			float totalWeight = 0;
+			for (Solution solution : source) {
+				totalWeight += solution.getInfoStore().getValue(BasicProperties.APRIORI);
+			}
+			this.weight = totalWeight;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			return (o instanceof SolutionSet other) && hash == other.hash && solutions.equals(other.solutions);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
 	}
 
-	private transient SolutionsWeight lastSolutionsWeight = null;
+	/**
+	 * Key of the memoized information gains. It contains the relevant questions of the qasets, so that sessions with
+	 * different active questions (e.g. because of contra-indications) have their own entries.
+	 */
+	private record GainKey(List<QASet> qaSets, SolutionSet solutions, Set<Question> questions, boolean group) {
+	}
 
-	private float getTotalWeight(Collection<Solution> solutions) {
-		SolutionsWeight last = lastSolutionsWeight;
-		if (last != null && last.solutions == solutions) return last.weight;
+	/**
+	 * Returns the memoized information gain of the specified key, if it has been calculated before. Otherwise the
+	 * information gain is calculated and memoized for the specified key. The calculated gain is not memoized, if the
+	 * cache has been cleared during the calculation, because it may be based on the outdated knowledge.
+	 */
+	private double getMemoized(GainKey key, DoubleSupplier calculation) {
+		long generation;
+		synchronized (gainCache) {
+			Double memoized = gainCache.get(key);
+			if (memoized != null) {
+				hits.increment();
+				return memoized;
+			}
+			generation = cacheGeneration;
+		}
+		misses.increment();
+		double gain = calculation.getAsDouble();
+		synchronized (gainCache) {
+			if (generation == cacheGeneration) {
+				gainCache.put(key, gain);
+			}
+		}
+		return gain;
+	}
 
-		// calculate the total weight
-		float totalWeight = 0;
-		for (Solution solution : solutions) {
-			totalWeight += solution.getInfoStore().getValue(BasicProperties.APRIORI);
+	/**
+	 * Drops all cached values, if they have been created for another knowledge base, or if the knowledge base has been
+	 * modified since then.
+	 */
+	private void validateCache(KnowledgeBase knowledgeBase) {
+		long modificationCount = knowledgeBase.getModificationCount();
+		if (cachedKnowledgeBase == knowledgeBase && cachedModificationCount == modificationCount) return;
+		synchronized (this) {
+			if (cachedKnowledgeBase == knowledgeBase && cachedModificationCount == modificationCount) return;
+			clearCache();
+			cachedKnowledgeBase = knowledgeBase;
+			cachedModificationCount = modificationCount;
 		}
+	}
+
+	/**
+	 * Returns the number of requested information gains, that have been answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 * @created 18.10.2026
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of requested information gains, that required the information gain to be calculated,
+	 * because it has not been calculated before for the relevant questions of the qasets.
+	 *
+	 * @return the number of cache misses
+	 * @created 18.10.2026
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the ratio of the cache hits to all requested information gains, or 0 if there was no such request.
+	 *
+	 * @return the hit rate, between 0 and 1
+	 * @created 18.10.2026
+	 */
+	public double getHitRate() {
+		long hitCount = getHitCount();
+		long requests = hitCount + getMissCount();
+		return (requests == 0) ? 0 : hitCount / (double) requests;
+	}
+
+	/**
+	 * Resets the hit and miss counters of this cache, the cached results are not affected.
+	 *
+	 * @created 18.10.2026
+	 */
+	public void resetCounters() {
+		hits.reset();
+		misses.reset();
+	}
 
-		// use cache and return
-		lastSolutionsWeight = new SolutionsWeight(solutions, totalWeight);
-		return totalWeight;
+	/**
+	 * Removes all memoized information gains and all cached parts of the knowledge base. Modifications of the knowledge
+	 * base that are counted by {@link KnowledgeBase#knowledgeModified()} are detected automatically, this method must
+	 * be called for any other modification of the knowledge after this instance has been used.
+	 *
+	 * @created 18.10.2026
+	 */
+	public void clearCache() {
+		synchronized (gainCache) {
+			cacheGeneration++;
+			gainCache.clear();
+		}
+		contradictingRelationCache.clear();
+		extractedOrCache.clear();
+		negatedExtractedOrCache.clear();
+		ownExtractedOrCache.clear();
+		ownNegatedExtractedOrCache.clear();
 	}
 
 	private static final Set<Condition> NULL_SET = Collections.unmodifiableSet(new HashSet<>(
@@ -461,42 +655,65 @@ public class StrategicSupportXCLCached implements StrategicSupport {
 	 * otherwise a cached value is returned.
 	 */
 	private Collection<Condition> getNegatedExtractedOrs(XCLRelation r) {
-//		return negatedExtractedOrCache.computeIfAbsent(r.getConditionedFinding(), c -> {
-		Condition c = r.getConditionedFinding();
-		Set<Condition> ors = new HashSet<>(getExtractedOrs(r));
-		boolean coversNormal = ors.remove(null);
-
-		// add all non-covered choices (as CondEquals) that are NOT (!) in the extracted ORs
-		Set<Condition> result = new HashSet<>();
-		c.getTerminalObjects().stream()
-				.filter(QuestionChoice.class::isInstance).map(QuestionChoice.class::cast).forEach(question -> {
-					for (Choice choice : question.getAllAlternatives()) {
-						// skip if choice is in or (use all non-covered choices to create negated covering)
-						CondEqual cond = new CondEqual(question, new ChoiceValue(choice));
-						if (ors.remove(cond)) continue;
-						// skip if normal values are covered and the choice is normal (to create negated covering)
-						boolean normalCovering = isNormalCovering(cond);
-						if (coversNormal && normalCovering) continue;
-						if (normalCovering) cond = null;
-						// otherwise add the choice to the negated covering
-						result.add(cond);
-					}
-				});
+		return negatedExtractedOrCache.computeIfAbsent(r.getConditionedFinding(), c -> {
+			Set<Condition> ors = new HashSet<>(getExtractedOrs(r));
+			boolean coversNormal = ors.remove(null);
+
+			// add all non-covered choices (as CondEquals) that are NOT (!) in the extracted ORs
+			Set<Condition> result = new HashSet<>();
+			c.getTerminalObjects().stream()
+					.filter(QuestionChoice.class::isInstance).map(QuestionChoice.class::cast).forEach(question -> {
+						for (Choice choice : question.getAllAlternatives()) {
+							// skip if choice is in or (use all non-covered choices to create negated covering)
+							CondEqual cond = new CondEqual(question, new ChoiceValue(choice));
+							if (ors.remove(cond)) continue;
+							// skip if normal values are covered and the choice is normal (to create negated covering)
+							boolean normalCovering = isNormalCovering(cond);
+							if (coversNormal && normalCovering) continue;
+							if (normalCovering) cond = null;
+							// otherwise add the choice to the negated covering
+							result.add(cond);
+						}
+					});
 
-		// additionally add all remaining negated extracted ORs that are not CondEquals of any choices
-		// Killt das den fix von 2018 ?!
-		for (Condition other : ors) {
-			if (other instanceof CondNot) {
-				result.add(((CondNot) other).getOperand());
-			}
-			else {
-				result.add(new CondNot(other));
+			// additionally add all remaining negated extracted ORs that are not CondEquals of any choices
+			// Killt das den fix von 2018 ?!
+			for (Condition other : ors) {
+				if (other instanceof CondNot) {
+					result.add(((CondNot) other).getOperand());
+				}
+				else {
+					result.add(new CondNot(other));
+				}
 			}
-		}
 
-		if (result.isEmpty() && coversNormal) result.add(new CondNot(ConditionTrue.INSTANCE));
-		return Collections.unmodifiableCollection(result);
-//		});
+			if (result.isEmpty() && coversNormal) result.add(new CondNot(ConditionTrue.INSTANCE));
+			return Collections.unmodifiableCollection(result);
+		});
+	}
+
+	private final Map<Question, Map<Condition, Collection<Condition>>> ownExtractedOrCache = new ConcurrentHashMap<>();
+	private final Map<Question, Map<Condition, Collection<Condition>>> ownNegatedExtractedOrCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the extracted ors of the specified xcl relation, that are referring to the specified question (or are
+	 * covering the normal values). It is only created on demand, otherwise a cached value is returned.
+	 */
+	private Collection<Condition> getOwnExtractedOrs(Question q, XCLRelation r) {
+		return ownExtractedOrCache.computeIfAbsent(q, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(r.getConditionedFinding(),
+						c -> Collections.unmodifiableCollection(filterForeignConditions(q, getExtractedOrs(r))));
+	}
+
+	/**
+	 * Returns the extracted ors for the negated condition of the specified xcl relation, that are referring to the
+	 * specified question (or are covering the normal values). It is only created on demand, otherwise a cached value
+	 * is returned.
+	 */
+	private Collection<Condition> getOwnNegatedExtractedOrs(Question q, XCLRelation r) {
+		return ownNegatedExtractedOrCache.computeIfAbsent(q, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(r.getConditionedFinding(),
+						c -> Collections.unmodifiableCollection(filterForeignConditions(q, getNegatedExtractedOrs(r))));
 	}
 
 	@Override
@@ -40,6 +40,7 @@ import de.d3web.core.io.KnowledgeReader;
 import de.d3web.core.io.KnowledgeWriter;
 import de.d3web.core.io.Persistence;
 import de.d3web.core.io.PersistenceManager;
+import de.d3web.core.io.utilities.XMLFragmentReader;
 import de.d3web.core.io.utilities.XMLUtil;
 import de.d3web.core.knowledge.KnowledgeBase;
 import de.d3web.core.knowledge.terminology.Solution;
@@ -74,6 +75,10 @@ public class XCLModelPersistenceHandler implements KnowledgeReader, KnowledgeWri
 
 	@Override
 	public void read(PersistenceManager manager, KnowledgeBase kb, InputStream stream, ProgressListener listener) throws IOException {
+		if (isStreaming(manager) && !KnowledgeBasePersistence.isParsed(stream)) {
+			readStreaming(manager, kb, stream, listener);
+			return;
+		}
 		Persistence<KnowledgeBase> persistence = new KnowledgeBasePersistence(manager, kb, stream);
 		parseModels(persistence, listener);
 	}
@@ -220,6 +225,27 @@ public class XCLModelPersistenceHandler implements KnowledgeReader, KnowledgeWri
 		listener.updateProgress(1);
 	}
 
+	@Override
+	public boolean isStreaming(PersistenceManager persistenceManager) {
+		return persistenceManager.isStreaming();
+	}
+
+	/**
+	 * Reads the models one by one from the stream, without creating a DOM of the whole document.
+	 */
+	private void readStreaming(PersistenceManager manager, KnowledgeBase kb, InputStream stream, ProgressListener listener) throws IOException {
+		listener.updateProgress(0, "Reading XCL models");
+		try (XMLFragmentReader reader = new XMLFragmentReader(stream)) {
+			Persistence<KnowledgeBase> persistence = new KnowledgeBasePersistence(manager, kb, reader.getDocument());
+			RelationPool pool = new RelationPool();
+			Element model;
+			while ((model = reader.nextElement(ELEMENT_XCL_MODEL)) != null) {
+				parseModel(persistence, model, pool);
+			}
+		}
+		listener.updateProgress(1);
+	}
+
 	private void parseModel(Persistence<KnowledgeBase> persistence, Node current, RelationPool pool) throws IOException {
 		String solutionName = getAttribute(ATTRIBUTE_SOLUTION_ID, current);
 		String minSupport = getAttribute(ATTRIBUTE_MIN_SUPPORT, current);
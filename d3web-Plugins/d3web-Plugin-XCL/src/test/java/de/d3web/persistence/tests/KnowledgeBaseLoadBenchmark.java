@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.persistence.tests;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondAnd;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.io.PersistenceManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.Choice;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.manage.RuleFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.scoring.Score;
+import de.d3web.xcl.XCLModel;
+import de.d3web.xcl.XCLRelationType;
+
+/**
+ * Simple benchmark comparing the load time and the peak heap usage of a large generated knowledge base, when the rules
+ * and XCL models are read using the DOM or streamed fragment by fragment, when the entries are loaded sequentially or
+ * in parallel, and when the parsed entries are taken from the document cache. This is not a unit test, run the main
+ * method manually.
+ *
+ * @created 18.10.2026
+ */
+public class KnowledgeBaseLoadBenchmark {
+
+	private static final int QUESTIONS = 2_000;
+	private static final int SOLUTIONS = 5_000;
+	private static final int RULES_PER_SOLUTION = 20;
+	private static final int RELATIONS_PER_SOLUTION = 20;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		File file = File.createTempFile("benchmark", ".d3web");
+		file.deleteOnExit();
+		PersistenceManager manager = PersistenceManager.getInstance();
+		manager.save(createKnowledgeBase(), file);
+		System.out.printf("knowledge base size: %,d bytes%n", file.length());
+
+		// load once to create the document cache
+		File cache = new File(file.getPath() + ".documents");
+		cache.deleteOnExit();
+		manager.setDocumentCache(true);
+		manager.load(file);
+		manager.setDocumentCache(false);
+		System.out.printf("document cache size: %,d bytes%n", cache.length());
+
+		for (int run = 0; run < 3; run++) {
+			benchmark("dom,       sequential", false, false, manager, file);
+			benchmark("streaming, sequential", true, false, manager, file);
+			benchmark("dom,       parallel  ", false, true, manager, file);
+			benchmark("streaming, parallel  ", true, true, manager, file);
+			manager.setDocumentCache(true);
+			benchmark("documents, parallel  ", true, true, manager, file);
+			manager.setDocumentCache(false);
+		}
+	}
+
+	private static void benchmark(String name, boolean streaming, boolean parallel, PersistenceManager manager, File file) throws Exception {
+		manager.setStreaming(streaming);
+		manager.setParallel(parallel);
+		System.gc();
+		List<MemoryPoolMXBean> pools = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+				pools.add(pool);
+			}
+		}
+		long start = System.nanoTime();
+		KnowledgeBase kb = manager.load(file);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		long peak = 0;
+		for (MemoryPoolMXBean pool : pools) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+		System.out.printf("%s: %.2f s, peak heap %,d MB (%,d objects)%n", name, seconds, peak >> 20,
+				kb.getManager().getAllTerminologyObjects().size());
+	}
+
+	private static KnowledgeBase createKnowledgeBase() {
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		Random random = new Random(42);
+		List<Condition> conditions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			if (i % 2 == 0) {
+				QuestionNum question = new QuestionNum(kb.getRootQASet(), "num" + i);
+				conditions.add(new CondNumGreater(question, (double) random.nextInt(10)));
+			}
+			else {
+				QuestionOC question = new QuestionOC(kb.getRootQASet(), "oc" + i, "yes", "no");
+				for (Choice choice : question.getAllAlternatives()) {
+					conditions.add(new CondEqual(question, new ChoiceValue(choice)));
+				}
+			}
+		}
+		for (int i = 0; i < SOLUTIONS; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			for (int r = 0; r < RULES_PER_SOLUTION; r++) {
+				Condition condition = new CondAnd(conditions.get(random.nextInt(conditions.size())),
+						conditions.get(random.nextInt(conditions.size())));
+				RuleFactory.createHeuristicPSRule(solution, Score.P3, condition);
+			}
+			for (int r = 0; r < RELATIONS_PER_SOLUTION; r++) {
+				XCLModel.insertXCLRelation(kb, conditions.get(random.nextInt(conditions.size())), solution,
+						r == 0 ? XCLRelationType.requires : XCLRelationType.explains);
+			}
+		}
+		return kb;
+	}
+}
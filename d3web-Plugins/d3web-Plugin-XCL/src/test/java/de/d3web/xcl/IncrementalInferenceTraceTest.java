@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.xcl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.CondNumGreater;
+import de.d3web.core.inference.condition.CondOr;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.inference.condition.ConditionCache;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.TerminologyObject;
+import de.d3web.core.knowledge.terminology.Choice;
+import de.d3web.core.knowledge.terminology.Question;
+import de.d3web.core.knowledge.terminology.QuestionNum;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.Value;
+import de.d3web.core.session.blackboard.Fact;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.ChoiceID;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.core.session.values.NumValue;
+import de.d3web.xcl.inference.PSMethodXCL;
+
+/**
+ * Tests that the incrementally (and in parallel) updated inference traces are always equal to the traces that
+ * evaluate all relations of the models again.
+ *
+ * @created 18.10.2026
+ */
+public class IncrementalInferenceTraceTest {
+
+	// weights that are not exactly representable, so adding and removing them in different orders would round
+	private static final double[] FRACTIONS = { 0.1, 0.2, 0.3, 0.7, 1.1, 1.0 / 3 };
+
+	private KnowledgeBase kb;
+	private final List<Question> questions = new ArrayList<>();
+	private final List<XCLModel> models = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		createKnowledgeBase(false);
+	}
+
+	private void createKnowledgeBase(boolean fractional) {
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		questions.clear();
+		models.clear();
+		Random random = new Random(7);
+		List<Condition> conditions = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			if (i % 3 == 0) {
+				QuestionNum question = new QuestionNum(kb.getRootQASet(), "num" + i);
+				questions.add(question);
+				conditions.add(new CondNumGreater(question, 5.0));
+			}
+			else {
+				QuestionOC question = new QuestionOC(kb.getRootQASet(), "oc" + i, "a", "b", "c");
+				questions.add(question);
+				for (Choice choice : question.getAllAlternatives()) {
+					conditions.add(new CondEqual(question, new ChoiceValue(choice)));
+				}
+			}
+		}
+		XCLRelationType[] types = XCLRelationType.values();
+		for (int i = 0; i < 50; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			for (int r = 0; r < 20; r++) {
+				Condition condition = conditions.get(random.nextInt(conditions.size()));
+				if (r % 4 == 0) {
+					condition = new CondOr(condition, conditions.get(random.nextInt(conditions.size())));
+				}
+				// mostly explaining relations, but also some of the other types
+				XCLRelationType type = (r % 5 == 0) ? types[random.nextInt(types.length)] : XCLRelationType.explains;
+				double weight = fractional ? FRACTIONS[random.nextInt(FRACTIONS.length)] : 1 + random.nextInt(3);
+				XCLModel.insertXCLRelation(kb, condition, solution, type, weight);
+			}
+			models.add(solution.getKnowledgeStore().getKnowledge(XCLModel.KNOWLEDGE_KIND));
+		}
+	}
+
+	@Test
+	public void randomAnswers() {
+		Session session = SessionFactory.createSession(kb);
+		Random random = new Random(11);
+		for (int step = 0; step < 300; step++) {
+			Question question = questions.get(random.nextInt(questions.size()));
+			Fact fact = session.getBlackboard().getValueFact(question);
+			if (fact != null && random.nextInt(4) == 0) {
+				session.getBlackboard().removeValueFact(fact);
+			}
+			else {
+				session.getBlackboard().addValueFact(
+						FactFactory.createUserEnteredFact(question, randomValue(question, random)));
+			}
+			assertTraces(session);
+		}
+	}
+
+	@Test
+	public void fractionalWeights() {
+		createKnowledgeBase(true);
+		Session session = SessionFactory.createSession(kb);
+		Random random = new Random(17);
+		for (int step = 0; step < 3000; step++) {
+			Question question = questions.get(random.nextInt(questions.size()));
+			Fact fact = session.getBlackboard().getValueFact(question);
+			if (fact != null && random.nextInt(3) == 0) {
+				session.getBlackboard().removeValueFact(fact);
+			}
+			else {
+				session.getBlackboard().addValueFact(
+						FactFactory.createUserEnteredFact(question, randomValue(question, random)));
+			}
+			assertTraces(session);
+		}
+	}
+
+	@Test
+	public void modifiedModel() {
+		Session session = SessionFactory.createSession(kb);
+		Random random = new Random(19);
+		for (Question question : questions) {
+			session.getBlackboard().addValueFact(
+					FactFactory.createUserEnteredFact(question, randomValue(question, random)));
+		}
+		assertTraces(session);
+
+		// add a matching relation of an already answered question and remove an existing relation
+		XCLModel model = models.get(0);
+		QuestionOC answered = (QuestionOC) questions.get(1);
+		Value value = session.getBlackboard().getValue(answered);
+		XCLModel.insertXCLRelation(kb, new CondEqual(answered, value), model.getSolution(), XCLRelationType.explains, 2);
+		model.removeRelation(model.getRelations().iterator().next());
+
+		// the next change of any covered question evaluates all relations of the modified model again
+		for (TerminologyObject object : model.getCoveredSymptoms()) {
+			if (object == answered || !(object instanceof QuestionOC question)) continue;
+			ChoiceValue current = (ChoiceValue) session.getBlackboard().getValue(question);
+			for (Choice choice : question.getAllAlternatives()) {
+				if (!current.getChoiceID().equals(new ChoiceID(choice))) {
+					session.getBlackboard().addValueFact(
+							FactFactory.createUserEnteredFact(question, new ChoiceValue(choice)));
+					break;
+				}
+			}
+			break;
+		}
+		assertTraces(session);
+	}
+
+	@Test
+	public void parallelUpdates() {
+		Session sequential = SessionFactory.createSession(kb);
+		Session parallel = SessionFactory.createSession(kb);
+		PSMethodXCL xcl = parallel.getPSMethodInstance(PSMethodXCL.class);
+		Random random = new Random(13);
+		for (int step = 0; step < 100; step++) {
+			Question question = questions.get(random.nextInt(questions.size()));
+			Value value = randomValue(question, random);
+			sequential.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, value));
+			xcl.setParallelThreshold(1);
+			try {
+				parallel.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question, value));
+			}
+			finally {
+				xcl.setParallelThreshold(Integer.MAX_VALUE);
+			}
+			for (XCLModel model : models) {
+				assertEquals(sequential.getBlackboard().getRating(model.getSolution()),
+						parallel.getBlackboard().getRating(model.getSolution()));
+				assertEquals(model.getInferenceTrace(sequential).getScore(),
+						model.getInferenceTrace(parallel).getScore(), 0);
+			}
+			assertTraces(parallel);
+		}
+	}
+
+	private static Value randomValue(Question question, Random random) {
+		if (question instanceof QuestionOC) {
+			List<Choice> choices = ((QuestionOC) question).getAllAlternatives();
+			return new ChoiceValue(choices.get(random.nextInt(choices.size())));
+		}
+		return new NumValue(random.nextInt(10));
+	}
+
+	private void assertTraces(Session session) {
+		ConditionCache cache = session.getConditionCache();
+		for (XCLModel model : models) {
+			DefaultInferenceTrace trace = (DefaultInferenceTrace) model.getInferenceTrace(session);
+			DefaultInferenceTrace expected = new DefaultInferenceTrace();
+			expected.refreshRelations(model, cache);
+			assertEquals(expected.getPosRelations(), trace.getPosRelations());
+			assertEquals(expected.getNegRelations(), trace.getNegRelations());
+			assertEquals(expected.getReqPosRelations(), trace.getReqPosRelations());
+			assertEquals(expected.getReqNegRelations(), trace.getReqNegRelations());
+			assertEquals(expected.getContrRelations(), trace.getContrRelations());
+			assertEquals(expected.getSuffRelations(), trace.getSuffRelations());
+			assertEquals(expected.getPositiveWeight(), trace.getPositiveWeight(), 0);
+			assertEquals(expected.getNegativeWeight(), trace.getNegativeWeight(), 0);
+			assertEquals(trace.getState().getState(),
+					session.getBlackboard().getRating(model.getSolution()).getState());
+		}
+	}
+}
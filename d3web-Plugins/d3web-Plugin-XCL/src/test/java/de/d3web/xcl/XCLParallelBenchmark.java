@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.xcl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.Choice;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.xcl.inference.PSMethodXCL;
+
+/**
+ * Simple benchmark reporting how the update of the XCL models scales with the number of threads, for a synthetic
+ * knowledge base where each answer affects thousands of models. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class XCLParallelBenchmark {
+
+	private static final int QUESTIONS = 20;
+	private static final int SOLUTIONS = 5_000;
+	private static final int RELATIONS_PER_SOLUTION = 300;
+	private static final int ANSWERS = 100;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		Random random = new Random(42);
+		List<QuestionOC> questions = new ArrayList<>();
+		List<Condition> conditions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			QuestionOC question = new QuestionOC(kb.getRootQASet(), "question" + i, "yes", "no", "maybe");
+			questions.add(question);
+			for (Choice choice : question.getAllAlternatives()) {
+				conditions.add(new CondEqual(question, new ChoiceValue(choice)));
+			}
+		}
+		// few common symptoms, so each answer affects most of the models
+		for (int i = 0; i < SOLUTIONS; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			for (int r = 0; r < RELATIONS_PER_SOLUTION; r++) {
+				XCLModel.insertXCLRelation(kb, conditions.get(random.nextInt(conditions.size())), solution,
+						XCLRelationType.explains, 1 + random.nextInt(3));
+			}
+		}
+
+		PSMethodXCL xcl = SessionFactory.createSession(kb).getPSMethodInstance(PSMethodXCL.class);
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int run = 0; run < 3; run++) {
+			xcl.setParallelThreshold(Integer.MAX_VALUE);
+			System.out.printf("sequential: %,d answers/s%n", (long) (ANSWERS / benchmark(kb, questions)));
+			xcl.setParallelThreshold(1);
+			for (int threads = 1; threads <= processors; threads *= 2) {
+				// the parallel stream uses the pool of the task it is running in
+				ForkJoinPool pool = new ForkJoinPool(threads);
+				try {
+					double seconds = pool.submit(() -> benchmark(kb, questions)).get();
+					System.out.printf("parallel, %2d threads: %,d answers/s%n", threads, (long) (ANSWERS / seconds));
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+	}
+
+	private static double benchmark(KnowledgeBase kb, List<QuestionOC> questions) {
+		Random random = new Random(7);
+		Session session = SessionFactory.createSession(kb);
+		long start = System.nanoTime();
+		for (int a = 0; a < ANSWERS; a++) {
+			QuestionOC question = questions.get(random.nextInt(questions.size()));
+			List<Choice> choices = question.getAllAlternatives();
+			session.getBlackboard().addValueFact(FactFactory.createUserEnteredFact(question,
+					new ChoiceValue(choices.get(random.nextInt(choices.size())))));
+		}
+		return (System.nanoTime() - start) / 1e9;
+	}
+}
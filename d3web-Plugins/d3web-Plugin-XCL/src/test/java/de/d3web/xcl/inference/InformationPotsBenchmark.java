@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.xcl.inference;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.Condition;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.values.ChoiceValue;
+
+/**
+ * Simple benchmark comparing the calculation of the information gain by the previous and the current {@link
+ * InformationPots}, for 2k solutions of a discriminating questionnaire with 10 questions and up to 1000 pots per
+ * solution. This is not a unit test, run the main method manually.
+ *
+ * @created 18.10.2026
+ */
+public class InformationPotsBenchmark {
+
+	private static final int SOLUTIONS = 2_000;
+	private static final int QUESTIONS = 10;
+	private static final int MAX_POTS = 1_000;
+	private static final int ITERATIONS = 10;
+
+	public static void main(String[] args) throws Exception {
+		InitPluginManager.init();
+		KnowledgeBase kb = KnowledgeBaseUtils.createKnowledgeBase();
+		Random random = new Random(42);
+		List<QuestionOC> questions = new ArrayList<>();
+		for (int q = 0; q < QUESTIONS; q++) {
+			questions.add(new QuestionOC(kb.getRootQASet(), "question" + q, "a", "b", "c", "d"));
+		}
+		List<Solution> solutions = new ArrayList<>();
+		List<List<Set<Condition>>> answers = new ArrayList<>();
+		long pots = 0;
+		while (solutions.size() < SOLUTIONS) {
+			List<Set<Condition>> answer = new ArrayList<>();
+			long count = 1;
+			for (QuestionOC question : questions) {
+				Set<Condition> conditions = new LinkedHashSet<>();
+				for (int i = random.nextInt(3); i >= 0; i--) {
+					// null represents the normal values
+					conditions.add(random.nextInt(5) == 0 ? null : new CondEqual(question,
+							new ChoiceValue(question.getAllAlternatives().get(random.nextInt(4)))));
+				}
+				answer.add(conditions);
+				count *= conditions.size();
+			}
+			// skip the solutions that would exceed the pots, as done by the strategic support
+			if (count > MAX_POTS) continue;
+			solutions.add(new Solution(kb.getRootSolution(), "solution" + solutions.size()));
+			answers.add(answer);
+			pots += count;
+		}
+		System.out.printf("%,d pots for %,d solutions%n", pots, solutions.size());
+
+		for (int run = 0; run < 3; run++) {
+			long start = System.nanoTime();
+			double legacyGain = 0;
+			for (int i = 0; i < ITERATIONS; i++) {
+				LegacyInformationPots<Condition> legacy = new LegacyInformationPots<>();
+				for (int s = 0; s < solutions.size(); s++) {
+					legacy.addWeights(solutions.get(s), answers.get(s));
+				}
+				legacyGain = legacy.getInformationGain();
+			}
+			double legacyTime = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+			start = System.nanoTime();
+			double gain = 0;
+			for (int i = 0; i < ITERATIONS; i++) {
+				InformationPots<Condition> current = new InformationPots<>();
+				for (int s = 0; s < solutions.size(); s++) {
+					current.addWeights(solutions.get(s), answers.get(s));
+				}
+				gain = current.getInformationGain();
+			}
+			double currentTime = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+			start = System.nanoTime();
+			double bulkGain = 0;
+			for (int i = 0; i < ITERATIONS; i++) {
+				InformationPots<Condition> bulk = new InformationPots<>();
+				bulk.addWeights(solutions, answers);
+				bulkGain = bulk.getInformationGain();
+			}
+			double bulkTime = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+			System.out.printf("previous: %.1f ms (%.6f), current: %.1f ms (%.6f), bulk: %.1f ms (%.6f)%n",
+					legacyTime, legacyGain, currentTime, gain, bulkTime, bulkGain);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.xcl.inference;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.knowledge.terminology.info.BasicProperties;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+
+/**
+ * Tests that the {@link InformationPots} calculate the same information gain as the previous implementation.
+ *
+ * @created 18.10.2026
+ */
+public class InformationPotsTest {
+
+	private KnowledgeBase kb;
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+	}
+
+	@Test
+	public void singleWeights() {
+		Random random = new Random(3);
+		for (int test = 0; test < 50; test++) {
+			InformationPots<String> pots = new InformationPots<>();
+			LegacyInformationPots<String> expected = new LegacyInformationPots<>();
+			for (int i = 0; i < 20; i++) {
+				// also use different numbers of questions and zero weights
+				List<Set<String>> answers = randomAnswers(random, 1 + random.nextInt(5), 4);
+				float weight = random.nextInt(5) == 0 ? 0f : random.nextFloat();
+				pots.addWeights(weight, answers);
+				expected.addWeights(weight, answers);
+			}
+			assertEquals(expected.getTotalWeight(), pots.getTotalWeight(), 0);
+			assertEquals(expected.getInformationGain(), pots.getInformationGain(), 1e-9);
+		}
+	}
+
+	@Test
+	public void emptyAnswers() {
+		InformationPots<String> pots = new InformationPots<>();
+		LegacyInformationPots<String> expected = new LegacyInformationPots<>();
+		List<List<Set<String>>> answers = List.of(
+				List.of(), List.of(Set.of("a")), List.of(Set.of("a"), Set.of()), List.of(Set.of("b")));
+		for (List<Set<String>> answer : answers) {
+			pots.addWeights(0.5f, answer);
+			expected.addWeights(0.5f, answer);
+		}
+		assertEquals(expected.getTotalWeight(), pots.getTotalWeight(), 0);
+		assertEquals(expected.getInformationGain(), pots.getInformationGain(), 1e-9);
+	}
+
+	@Test
+	public void bulkWeights() {
+		Random random = new Random(5);
+		// use enough solutions and pots to add the weights in parallel
+		List<Solution> solutions = new ArrayList<>();
+		List<List<Set<String>>> answers = new ArrayList<>();
+		LegacyInformationPots<String> expected = new LegacyInformationPots<>();
+		for (int i = 0; i < 1000; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			solution.getInfoStore().addValue(BasicProperties.APRIORI, random.nextFloat());
+			List<Set<String>> answer = randomAnswers(random, 10, 3);
+			solutions.add(solution);
+			answers.add(answer);
+			expected.addWeights(solution, answer);
+		}
+		InformationPots<String> pots = new InformationPots<>();
+		pots.addWeights(solutions, answers);
+		assertEquals(expected.getTotalWeight(), pots.getTotalWeight(), 0);
+		assertEquals(expected.getInformationGain(), pots.getInformationGain(), 1e-5);
+	}
+
+	private static List<Set<String>> randomAnswers(Random random, int questions, int maxAnswers) {
+		List<Set<String>> answers = new ArrayList<>();
+		for (int q = 0; q < questions; q++) {
+			Set<String> set = new LinkedHashSet<>();
+			int count = 1 + random.nextInt(maxAnswers);
+			for (int a = 0; a < count; a++) {
+				// null represents the normal values
+				set.add(random.nextInt(6) == 0 ? null : "q" + q + "a" + random.nextInt(4));
+			}
+			answers.add(set);
+		}
+		return answers;
+	}
+}
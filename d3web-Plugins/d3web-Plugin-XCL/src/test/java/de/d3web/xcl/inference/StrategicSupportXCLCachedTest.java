@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 denkbares GmbH, Germany
+ *
+ * This is free software; you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This software is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this software; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA, or see the FSF
+ * site: http://www.fsf.org.
+ */
+package de.d3web.xcl.inference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.denkbares.plugin.test.InitPluginManager;
+import de.d3web.core.inference.condition.CondEqual;
+import de.d3web.core.inference.condition.CondNot;
+import de.d3web.core.knowledge.Indication;
+import de.d3web.core.knowledge.KnowledgeBase;
+import de.d3web.core.knowledge.terminology.QContainer;
+import de.d3web.core.knowledge.terminology.QuestionOC;
+import de.d3web.core.knowledge.terminology.Solution;
+import de.d3web.core.manage.KnowledgeBaseUtils;
+import de.d3web.core.session.Session;
+import de.d3web.core.session.SessionFactory;
+import de.d3web.core.session.blackboard.FactFactory;
+import de.d3web.core.session.values.ChoiceValue;
+import de.d3web.indication.inference.PSMethodUserSelected;
+import de.d3web.xcl.XCLModel;
+import de.d3web.xcl.XCLRelationType;
+
+/**
+ * Tests that the memoized information gains of {@link StrategicSupportXCLCached} are equal to the calculated ones,
+ * and that they are calculated again if the active questions or the knowledge base are changed.
+ *
+ * @created 18.10.2026
+ */
+public class StrategicSupportXCLCachedTest {
+
+	private KnowledgeBase kb;
+	private QContainer container;
+	private QuestionOC question1;
+	private final List<Solution> solutions = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		InitPluginManager.init();
+		kb = KnowledgeBaseUtils.createKnowledgeBase();
+		container = new QContainer(kb.getRootQASet(), "container");
+		question1 = new QuestionOC(container, "question1", "a", "b", "c");
+		QuestionOC question2 = new QuestionOC(container, "question2", "a", "b", "c");
+		for (int i = 0; i < 6; i++) {
+			Solution solution = new Solution(kb.getRootSolution(), "solution" + i);
+			QuestionOC question = (i % 2 == 0) ? question1 : question2;
+			ChoiceValue value = new ChoiceValue(question.getAllAlternatives().get(i % 3));
+			XCLModel.insertXCLRelation(kb, new CondEqual(question, value), solution, XCLRelationType.explains);
+			if (i == 5) {
+				XCLModel.insertXCLRelation(kb, new CondNot(new CondEqual(question1, value)), solution,
+						XCLRelationType.contradicted);
+			}
+			solutions.add(solution);
+		}
+	}
+
+	@Test
+	public void memoizedGain() {
+		Session session = SessionFactory.createSession(kb);
+		StrategicSupportXCLCached support = new StrategicSupportXCLCached(1000);
+		double gain = support.getInformationGain(List.of(container), solutions, session);
+		assertTrue(gain > 0);
+		assertEquals(0, support.getHitCount());
+		assertEquals(1, support.getMissCount());
+
+		// the order and the instance of the solutions collection is not relevant
+		List<Solution> reversed = new ArrayList<>(solutions);
+		Collections.reverse(reversed);
+		assertEquals(gain, support.getInformationGain(List.of(container), reversed, session), 0);
+		assertEquals(gain, support.getInformationGain(List.of(container), new HashSet<>(solutions), session), 0);
+		assertEquals(2, support.getHitCount());
+		assertEquals(1, support.getMissCount());
+
+		// the group information gain is memoized independently
+		boolean groupGain = new StrategicSupportXCLCached(1000).hasGroupInformationGain(List.of(container), solutions, session);
+		assertEquals(groupGain, support.hasGroupInformationGain(List.of(container), solutions, session));
+		assertEquals(groupGain, support.hasGroupInformationGain(List.of(container), solutions, session));
+		assertEquals(3, support.getHitCount());
+		assertEquals(2, support.getMissCount());
+		assertEquals(0.6, support.getHitRate(), 1e-9);
+
+		// other solutions are a different key
+		List<Solution> fewer = solutions.subList(0, 4);
+		assertEquals(new StrategicSupportXCLCached(1000).getInformationGain(List.of(container), fewer, session),
+				support.getInformationGain(List.of(container), fewer, session), 0);
+		assertEquals(3, support.getMissCount());
+
+		support.resetCounters();
+		assertEquals(0, support.getHitCount());
+		assertEquals(0, support.getHitRate(), 0);
+	}
+
+	@Test
+	public void reusedSolutionCollection() {
+		Session session = SessionFactory.createSession(kb);
+		StrategicSupportXCLCached support = new StrategicSupportXCLCached(1000);
+		List<Solution> reused = new ArrayList<>(solutions.subList(0, 3));
+		support.getInformationGain(List.of(container), reused, session);
+
+		// refilling the same collection with the same number of other solutions is a different key
+		reused.clear();
+		reused.addAll(solutions.subList(3, 6));
+		double gain = support.getInformationGain(List.of(container), reused, session);
+		assertEquals(0, support.getHitCount());
+		assertEquals(2, support.getMissCount());
+		assertEquals(new StrategicSupportXCLCached(1000).getInformationGain(List.of(container), solutions.subList(3, 6), session),
+				gain, 0);
+	}
+
+	@Test
+	public void changedActiveQuestions() {
+		Session session = SessionFactory.createSession(kb);
+		StrategicSupportXCLCached support = new StrategicSupportXCLCached(1000);
+		double gain = support.getInformationGain(List.of(container), solutions, session);
+
+		// a contra-indicated question is no longer active, so the gain has to be calculated again
+		session.getBlackboard().addInterviewFact(FactFactory.createIndicationFact(question1,
+				new Indication(Indication.State.CONTRA_INDICATED, 0),
+				PSMethodUserSelected.getInstance(), PSMethodUserSelected.getInstance()));
+		double changed = support.getInformationGain(List.of(container), solutions, session);
+		assertEquals(0, support.getHitCount());
+		assertEquals(2, support.getMissCount());
+		assertNotEquals(gain, changed, 0);
+		assertEquals(new StrategicSupportXCLCached(1000).getInformationGain(List.of(container), solutions, session),
+				changed, 0);
+
+		// the memoized gain is reused as long as the active questions are not changed again
+		assertEquals(changed, support.getInformationGain(List.of(container), solutions, session), 0);
+		assertEquals(1, support.getHitCount());
+
+		// sessions with different active questions do not evict the memoized gains of each other
+		Session other = SessionFactory.createSession(kb);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(gain, support.getInformationGain(List.of(container), solutions, other), 0);
+			assertEquals(changed, support.getInformationGain(List.of(container), solutions, session), 0);
+		}
+		assertEquals(7, support.getHitCount());
+		assertEquals(2, support.getMissCount());
+	}
+
+	@Test
+	public void modifiedKnowledgeBase() {
+		Session session = SessionFactory.createSession(kb);
+		StrategicSupportXCLCached support = new StrategicSupportXCLCached(1000);
+		double gain = support.getInformationGain(List.of(container), solutions, session);
+		assertEquals(gain, support.getInformationGain(List.of(container), solutions, session), 0);
+		assertEquals(1, support.getMissCount());
+
+		// a new relation makes the memoized gains outdated
+		ChoiceValue value = new ChoiceValue(question1.getAllAlternatives().get(1));
+		XCLModel.insertXCLRelation(kb, new CondEqual(question1, value), solutions.get(0), XCLRelationType.explains);
+		double modified = support.getInformationGain(List.of(container), solutions, session);
+		assertEquals(2, support.getMissCount());
+		assertNotEquals(gain, modified, 0);
+		assertEquals(new StrategicSupportXCLCached(1000).getInformationGain(List.of(container), solutions, session),
+				modified, 0);
+	}
+}